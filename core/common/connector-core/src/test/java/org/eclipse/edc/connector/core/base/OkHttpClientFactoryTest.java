@@ -91,6 +91,18 @@ class OkHttpClientFactoryTest {
         });
     }
 
+    @Test
+    void shouldConfigureDispatcher_whenMaxRequestsAreSet() {
+        var configuration = mock(OkHttpClientConfiguration.class);
+        when(configuration.getMaxRequests()).thenReturn(128);
+        when(configuration.getMaxRequestsPerHost()).thenReturn(32);
+
+        var okHttpClient = OkHttpClientFactory.create(configuration, eventListener, monitor);
+
+        assertThat(okHttpClient.dispatcher().getMaxRequests()).isEqualTo(128);
+        assertThat(okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(32);
+    }
+
     @NotNull
     private Interceptor dummySuccessfulResponse() {
         return it -> new Response.Builder()
@@ -58,7 +58,10 @@ public interface ApiCoreSchema {
             int limit,
             SortOrder sortOrder,
             String sortField,
-            List<CriterionSchema> filterExpression
+            List<CriterionSchema> filterExpression,
+            @Schema(description = "Enables keyset pagination: empty for the first page, then the token returned in the " +
+                    "response header of the previous page. Cannot be used together with offset")
+            String continuationToken
     ) {
         public static final String QUERY_SPEC_EXAMPLE = """
                 {
@@ -15,6 +15,7 @@
 package org.eclipse.edc.http.client;
 
 import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.edc.api.auth.spi.ControlClientAuthenticationProvider;
 import org.eclipse.edc.http.spi.ControlApiHttpClient;
 import org.eclipse.edc.http.spi.EdcHttpClient;
@@ -24,6 +25,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusIsNotIn;
@@ -46,20 +49,46 @@ public class ControlApiHttpClientImpl implements ControlApiHttpClient {
     @Override
     public ServiceResult<String> request(Request.Builder requestBuilder) {
         authenticationProvider.authenticationHeaders().forEach(requestBuilder::header);
-        try (
-                var response = httpClient.execute(requestBuilder.build(), List.of(retryWhenStatusIsNotIn(200, 204)));
-                var responseBody = response.body();
-        ) {
+        try (var response = httpClient.execute(requestBuilder.build(), List.of(retryWhenStatusIsNotIn(200, 204)))) {
+            return toResult(response);
+        } catch (IOException exception) {
+            return ServiceResult.unexpected("Unexpected IOException. " + exception.getMessage());
+        } catch (EdcHttpClientException exception) {
+            return mapToFailure(exception.getStatusCode(), exception.getResponseBody());
+        }
+    }
+
+    @Override
+    public CompletableFuture<ServiceResult<String>> requestAsync(Request.Builder requestBuilder) {
+        authenticationProvider.authenticationHeaders().forEach(requestBuilder::header);
+        var call = httpClient.executeAsync(requestBuilder.build(), List.of(retryWhenStatusIsNotIn(200, 204)));
+        var result = call.handle((response, throwable) -> {
+            if (throwable == null) {
+                try (response) {
+                    return toResult(response);
+                } catch (IOException exception) {
+                    return ServiceResult.unexpected("Unexpected IOException. " + exception.getMessage());
+                }
+            }
+            var cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (cause instanceof EdcHttpClientException exception) {
+                return mapToFailure(exception.getStatusCode(), exception.getResponseBody());
+            }
+            return ServiceResult.unexpected("Unexpected %s. %s".formatted(cause.getClass().getSimpleName(), cause.getMessage()));
+        });
+        // stops the http call when the result is completed before it, e.g. cancelled or timed out by the caller
+        result.whenComplete((r, throwable) -> call.cancel(true));
+        return result;
+    }
+
+    private ServiceResult<String> toResult(Response response) throws IOException {
+        try (var responseBody = response.body()) {
             var bodyAsString = responseBody == null ? null : responseBody.string();
             if (response.isSuccessful()) {
                 return ServiceResult.success(bodyAsString);
             } else {
                 return mapToFailure(response.code(), bodyAsString);
             }
-        } catch (IOException exception) {
-            return ServiceResult.unexpected("Unexpected IOException. " + exception.getMessage());
-        } catch (EdcHttpClientException exception) {
-            return mapToFailure(exception.getStatusCode(), exception.getResponseBody());
         }
     }
 
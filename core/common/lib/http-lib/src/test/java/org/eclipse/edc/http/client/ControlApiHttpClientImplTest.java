@@ -31,8 +31,11 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockserver.integration.ClientAndServer;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
@@ -42,6 +45,7 @@ import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNAUTHORIZED;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNEXPECTED;
 import static org.eclipse.edc.util.io.Ports.getFreePort;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockserver.model.HttpRequest.request;
@@ -181,4 +185,60 @@ class ControlApiHttpClientImplTest {
 
     }
 
+    @Nested
+    class RequestAsync {
+
+        @Test
+        void shouldSucceed_whenServerResponseIsSuccessful() {
+            server.when(request()).respond(response().withStatusCode(200).withBody("response body"));
+
+            var request = new Request.Builder()
+                    .url("http://localhost:" + port);
+
+            var result = client.requestAsync(request);
+
+            assertThat(result).succeedsWithin(5, SECONDS).satisfies(it -> assertThat(it).isSucceeded().isEqualTo("response body"));
+        }
+
+        @Test
+        void shouldIncludeAuthenticationHeaders() {
+            server.when(request()).respond(response().withStatusCode(204));
+            when(authenticationProvider.authenticationHeaders()).thenReturn(Map.of("Authorization", "authToken"));
+
+            var request = new Request.Builder()
+                    .url("http://localhost:" + port);
+
+            client.requestAsync(request).join();
+
+            server.verify(request().withHeader("Authorization", "authToken"));
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(Response.FailingResponses.class)
+        void shouldFail_whenServerResponseIsNotSuccessful(int statusCode, ServiceFailure.Reason reason) {
+            server.when(request()).respond(response().withStatusCode(statusCode));
+
+            var request = new Request.Builder()
+                    .url("http://localhost:" + port);
+
+            var result = client.requestAsync(request);
+
+            assertThat(result).succeedsWithin(5, SECONDS)
+                    .satisfies(it -> assertThat(it).isFailed().extracting(ServiceFailure::getReason).isEqualTo(reason));
+        }
+
+        @Test
+        void shouldCancelCall_whenResultIsCancelled() {
+            EdcHttpClient pendingHttp = mock();
+            var call = new CompletableFuture<okhttp3.Response>();
+            when(pendingHttp.executeAsync(any(), any())).thenReturn(call);
+            var request = new Request.Builder()
+                    .url("http://localhost:" + port);
+
+            new ControlApiHttpClientImpl(pendingHttp, authenticationProvider).requestAsync(request).cancel(true);
+
+            assertThat(call).isCancelled();
+        }
+    }
+
 }
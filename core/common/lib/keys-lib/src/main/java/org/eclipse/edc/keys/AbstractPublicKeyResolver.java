@@ -17,34 +17,60 @@ package org.eclipse.edc.keys;
 import org.eclipse.edc.keys.spi.KeyParserRegistry;
 import org.eclipse.edc.keys.spi.PublicKeyResolver;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
 
 import java.security.PublicKey;
+import java.util.Map;
 
 /**
  * Base class for public key resolvers, that handles the parsing of the key, but still leaves the actual resolution (e.g.
  * from a DID document, or a URL) up to the inheritor.
+ * Parsed keys are cached by their encoded form, so a rotated key is parsed again as soon as the inheritor resolves it.
  */
 public abstract class AbstractPublicKeyResolver implements PublicKeyResolver {
+    public static final int DEFAULT_PARSED_KEY_CACHE_SIZE = 100;
+
     private final KeyParserRegistry registry;
+    private final Map<String, PublicKey> parsedKeys;
 
     public AbstractPublicKeyResolver(KeyParserRegistry registry) {
+        this(registry, DEFAULT_PARSED_KEY_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param registry           the key parser registry.
+     * @param parsedKeyCacheSize the maximum number of parsed keys kept, 0 disables the cache.
+     */
+    public AbstractPublicKeyResolver(KeyParserRegistry registry, int parsedKeyCacheSize) {
         this.registry = registry;
+        this.parsedKeys = new ConcurrentLruCache<>(parsedKeyCacheSize);
     }
 
     @Override
     public Result<PublicKey> resolveKey(String id) {
         var encodedKeyResult = resolveInternal(id);
         return encodedKeyResult
-                .compose(encodedKey ->
-                        registry.parse(encodedKey).compose(pk -> {
-                            if (pk instanceof PublicKey publicKey) {
-                                return Result.success(publicKey);
-                            } else return Result.failure("The specified resource did not contain public key material.");
-                        }))
+                .compose(this::parse)
                 .recover(f -> Result.failure("No public key could be resolved for key-ID '%s': %s".formatted(id, f.getFailureDetail())));
 
     }
 
     protected abstract Result<String> resolveInternal(String id);
 
+    private Result<PublicKey> parse(String encodedKey) {
+        var cached = parsedKeys.get(encodedKey);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+
+        return registry.parse(encodedKey).compose(pk -> {
+            if (pk instanceof PublicKey publicKey) {
+                parsedKeys.put(encodedKey, publicKey);
+                return Result.success(publicKey);
+            } else return Result.failure("The specified resource did not contain public key material.");
+        });
+    }
+
 }
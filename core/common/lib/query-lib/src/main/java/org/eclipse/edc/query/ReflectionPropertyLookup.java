@@ -15,14 +15,20 @@
 package org.eclipse.edc.query;
 
 import org.eclipse.edc.spi.query.PropertyLookup;
+import org.eclipse.edc.util.reflection.CachedFieldValueResolver;
 import org.eclipse.edc.util.reflection.ReflectionException;
-import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+/**
+ * Looks up properties through reflection. Parsed paths and field getters are cached and shared by all the instances.
+ */
 public class ReflectionPropertyLookup implements PropertyLookup {
+
+    private static final CachedFieldValueResolver RESOLVER = new CachedFieldValueResolver();
+
     @Override
     public Object getProperty(String key, Object object) {
         try {
-            return ReflectionUtil.getFieldValue(key, object);
+            return RESOLVER.getFieldValue(key, object);
         } catch (ReflectionException e) {
             return null;
         }
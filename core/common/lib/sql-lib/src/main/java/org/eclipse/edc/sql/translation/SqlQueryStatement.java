@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 
@@ -35,6 +36,8 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String KEYSET_ORDER_BY_TOKEN = "ORDER BY %s %s NULLS LAST, %s %s";
+    private static final String KEYSET_TIEBREAKER_FIELD = "id";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
@@ -43,6 +46,7 @@ public class SqlQueryStatement {
     private final int offset;
     private CriterionToWhereClauseConverter criterionToWhereConditionConverter;
     private SortFieldConverter sortFieldConverter;
+    private TranslationMapping rootModel;
     private String orderByClause = "";
 
     /**
@@ -71,6 +75,7 @@ public class SqlQueryStatement {
         this(selectStatement, query.getLimit(), query.getOffset());
         this.criterionToWhereConditionConverter = criterionToWhereClauseConverter;
         this.sortFieldConverter = new SortFieldConverterImpl(rootModel);
+        this.rootModel = rootModel;
         initialize(query);
     }
 
@@ -136,7 +141,56 @@ public class SqlQueryStatement {
                     parameters.addAll(whereClause.parameters());
                 });
 
-        orderByClause = parseSortField(query);
+        if (query.isKeysetPagination()) {
+            initializeKeyset(query);
+        } else {
+            orderByClause = parseSortField(query);
+        }
+    }
+
+    /**
+     * Keyset pagination: rows are ordered by sort field and then by id, the tiebreaker, and only the rows that come
+     * after the continuation position are selected. Rows with a null sort field come last in both directions, as in
+     * {@link ContinuationToken#compare}. Offset is always 0.
+     */
+    private void initializeKeyset(QuerySpec query) {
+        var idColumn = sortFieldConverter.convert(KEYSET_TIEBREAKER_FIELD);
+        if (idColumn == null) {
+            throw new IllegalArgumentException("Cannot use keyset pagination because the id field does not exist");
+        }
+
+        var ascending = query.getSortOrder() == SortOrder.ASC;
+        var order = ascending ? "ASC" : "DESC";
+        var comparison = ascending ? ">" : "<";
+        var position = query.getContinuationPosition();
+
+        if (query.getSortField() == null) {
+            orderByClause = format(ORDER_BY_TOKEN + " ", idColumn, order);
+            if (position != null) {
+                addWhereClause(format("%s %s ?", idColumn, comparison), position.getId());
+            }
+            return;
+        }
+
+        var sortFieldTranslator = rootModel.getFieldTranslator(query.getSortField());
+        if (sortFieldTranslator == null) {
+            throw new IllegalArgumentException(format("Cannot sort by %s because the field does not exist", query.getSortField()));
+        }
+        var sortField = sortFieldTranslator.apply(String.class);
+        orderByClause = format(KEYSET_ORDER_BY_TOKEN + " ", sortField, order, idColumn, order);
+
+        if (position != null) {
+            var sortValue = position.getSortValue();
+            if (sortValue == null) {
+                // the position is already in the trailing rows with null sort value
+                addWhereClause(format("(%s IS NULL AND %s %s ?)", sortField, idColumn, comparison), position.getId());
+                return;
+            }
+            // json fields are compared as text, consistently with the ORDER BY clause
+            var parameter = sortField.equals(sortFieldTranslator.apply(sortValue.getClass())) ? sortValue : sortValue.toString();
+            addWhereClause(format("(%s %s ? OR (%s = ? AND %s %s ?) OR %s IS NULL)", sortField, comparison, sortField, idColumn, comparison, sortField),
+                    parameter, parameter, position.getId());
+        }
     }
 
     private String parseSortField(QuerySpec query) {
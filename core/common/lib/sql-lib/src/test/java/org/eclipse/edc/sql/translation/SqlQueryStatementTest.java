@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -114,6 +115,60 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void keyset_firstPage_shouldOrderByIdAsTiebreaker() {
+        var query = queryBuilder().sortField("description").continuationToken("").limit(10).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description ASC NULLS LAST, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly(10, 0);
+    }
+
+    @Test
+    void keyset_shouldSelectRowsAfterPosition() {
+        var token = ContinuationToken.of("description", SortOrder.DESC, "last description", "last-id").encode();
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).continuationToken(token).limit(10).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description < ? OR (edc_description = ? AND edc_id < ?) OR edc_description IS NULL)" +
+                " ORDER BY edc_description DESC NULLS LAST, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last description", "last description", "last-id", 10, 0);
+    }
+
+    @Test
+    void keyset_shouldSelectRowsWithNullSortValueAfterPosition_whenPositionHasNullSortValue() {
+        var token = ContinuationToken.of("description", SortOrder.ASC, null, "last-id").encode();
+        var query = queryBuilder().sortField("description").continuationToken(token).limit(10).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description IS NULL AND edc_id > ?) ORDER BY edc_description ASC NULLS LAST, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-id", 10, 0);
+    }
+
+    @Test
+    void keyset_withoutSortField_shouldSelectRowsAfterId() {
+        var token = ContinuationToken.of(null, SortOrder.ASC, null, "last-id").encode();
+        var query = queryBuilder().continuationToken(token).limit(10).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id > ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-id", 10, 0);
+    }
+
+    @Test
+    void keyset_shouldThrow_whenIdFieldDoesNotExist() {
+        var query = queryBuilder().continuationToken("").build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping.ComplexMapping(), criterionToWhereClauseConverter))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.store;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.CriteriaToPredicate;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
@@ -23,6 +24,7 @@ import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Comparator;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -34,6 +36,8 @@ import static java.lang.String.format;
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final String KEYSET_TIEBREAKER_FIELD = "id";
+
     private final Class<T> typeParameterClass;
     private final CriteriaToPredicate<T> criteriaToPredicate;
 
@@ -57,6 +61,8 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
      * Converts the criterion into 'and' predicate.
      * Applies sorting. When sort field is not found returns empty stream.
      * Applies offset and limit on the query result.
+     * In case of keyset pagination, the id is used as tiebreaker for the sorting, elements with a null sort value come
+     * last and only the elements that come after the continuation position are returned.
      *
      * @param stream      stream to be queried.
      * @param spec        query specification.
@@ -71,10 +77,15 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         // sort
         var sortField = spec.getSortField();
 
+        if (sortField != null && ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
+            throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
+        }
+
+        if (spec.isKeysetPagination()) {
+            return keysetPage(filteredStream, spec);
+        }
+
         if (sortField != null) {
-            if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
-                throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
-            }
             var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
             filteredStream = filteredStream.sorted(comparator);
         }
@@ -83,6 +94,22 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private Stream<T> keysetPage(Stream<T> stream, QuerySpec spec) {
+        var sortField = spec.getSortField();
+        var sortOrder = spec.getSortOrder();
+        Function<T, Object> sortValue = sortField == null ? obj -> null : obj -> ReflectionUtil.getFieldValue(sortField, obj);
+        Function<T, String> id = obj -> String.valueOf((Object) ReflectionUtil.getFieldValue(KEYSET_TIEBREAKER_FIELD, obj));
+
+        var position = spec.getContinuationPosition();
+        if (position != null) {
+            stream = stream.filter(obj -> ContinuationToken.compare(sortOrder, sortValue.apply(obj), id.apply(obj), position.getSortValue(), position.getId()) > 0);
+        }
+
+        return stream
+                .sorted((obj1, obj2) -> ContinuationToken.compare(sortOrder, sortValue.apply(obj1), id.apply(obj1), sortValue.apply(obj2), id.apply(obj2)))
+                .limit(spec.getLimit());
+    }
+
     @NotNull
     private Comparator<T> propertyComparator(boolean isAscending, String property) {
         return (obj1, obj2) -> {
@@ -15,12 +15,16 @@
 package org.eclipse.edc.store;
 
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -100,6 +104,63 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(1, 2);
     }
 
+    @Test
+    void verifyQuery_keysetPagination() {
+        var items = Stream.concat(
+                IntStream.range(0, 5).mapToObj(i -> new FakeItem(i, "Bob")),
+                IntStream.range(5, 10).mapToObj(i -> new FakeItem(i, "Alice"))).toList();
+
+        var result = new ArrayList<FakeItem>();
+        var token = "";
+        while (token != null) {
+            var spec = QuerySpec.Builder.newInstance().sortField("name").continuationToken(token).limit(3).build();
+            var page = queryResolver.query(items.stream(), spec).toList();
+            result.addAll(page);
+            token = ContinuationToken.next(spec, page, item -> String.valueOf(item.getId()), FakeItem::getName);
+        }
+
+        assertThat(result).extracting(FakeItem::getId).containsExactly(5, 6, 7, 8, 9, 0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void verifyQuery_keysetPaginationDesc() {
+        var items = IntStream.range(0, 10).mapToObj(FakeItem::new).toList();
+        var token = ContinuationToken.of(null, SortOrder.DESC, null, "6").encode();
+
+        var spec = QuerySpec.Builder.newInstance().sortOrder(SortOrder.DESC).continuationToken(token).limit(3).build();
+
+        assertThat(queryResolver.query(items.stream(), spec)).extracting(FakeItem::getId).containsExactly(5, 4, 3);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortOrder.class)
+    void verifyQuery_keysetPagination_shouldReturnNullSortValuesLast(SortOrder sortOrder) {
+        var items = List.of(new FakeItem(1, null), new FakeItem(2, "Bob"), new FakeItem(3, null), new FakeItem(4, "Alice"));
+
+        var result = new ArrayList<FakeItem>();
+        var token = "";
+        while (token != null) {
+            var spec = QuerySpec.Builder.newInstance().sortField("name").sortOrder(sortOrder).continuationToken(token).limit(1).build();
+            var page = queryResolver.query(items.stream(), spec).toList();
+            result.addAll(page);
+            token = ContinuationToken.next(spec, page, item -> String.valueOf(item.getId()), FakeItem::getName);
+        }
+
+        var expected = sortOrder == SortOrder.ASC ? List.of(4, 2, 1, 3) : List.of(2, 4, 3, 1);
+        assertThat(result).extracting(FakeItem::getId).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void verifyQuery_keysetPagination_shouldCompareSortValueWithTokenOfDifferentType() {
+        var items = List.of(new FakeItem(1, "Bob"), new FakeItem(2, "Alice"), new FakeItem(3, null));
+        var token = ContinuationToken.of("name", SortOrder.ASC, 5L, "4").encode();
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").continuationToken(token).limit(10).build();
+
+        // numbers come before strings, null names come last
+        assertThat(queryResolver.query(items.stream(), spec)).extracting(FakeItem::getId).containsExactly(2, 1, 3);
+    }
+
     @Test
     void verifyQuery_allFilters() {
         var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
@@ -15,6 +15,7 @@
 package org.eclipse.edc.token;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.keys.spi.PublicKeyResolver;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
@@ -24,13 +25,35 @@ import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
 
+import java.security.PublicKey;
 import java.text.ParseException;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Default {@link TokenValidationService}, it keeps the {@link JWSVerifier}s created for the most recently used public
+ * keys, as the same keys are used to verify most of the tokens.
+ * Keys are compared by their material, so a rotated key gets a new verifier.
+ */
 public class TokenValidationServiceImpl implements TokenValidationService {
 
+    public static final int DEFAULT_VERIFIER_CACHE_SIZE = 100;
+
+    private final Map<PublicKey, JWSVerifier> verifiers;
+
     public TokenValidationServiceImpl() {
+        this(DEFAULT_VERIFIER_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param verifierCacheSize the maximum number of verifiers kept, 0 disables the cache.
+     */
+    public TokenValidationServiceImpl(int verifierCacheSize) {
+        this.verifiers = new ConcurrentLruCache<>(verifierCacheSize);
     }
 
     @Override
@@ -47,9 +70,9 @@ public class TokenValidationServiceImpl implements TokenValidationService {
                 return publicKeyResolutionResult.mapFailure();
             }
 
-            var verifierCreationResult = CryptoConverter.createVerifierFor(publicKeyResolutionResult.getContent());
+            var verifier = verifierFor(publicKeyResolutionResult.getContent());
 
-            if (!signedJwt.verify(verifierCreationResult)) {
+            if (!signedJwt.verify(verifier)) {
                 return Result.failure("Token verification failed");
             }
 
@@ -83,4 +106,12 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         }
     }
 
+    private JWSVerifier verifierFor(PublicKey publicKey) {
+        var verifier = verifiers.get(publicKey);
+        if (verifier == null) {
+            verifier = CryptoConverter.createVerifierFor(publicKey);
+            verifiers.put(publicKey, verifier);
+        }
+        return verifier;
+    }
 }
@@ -19,6 +19,7 @@ plugins {
 
 dependencies {
     testImplementation(libs.junit.pioneer)
+    testImplementation(project(":core:common:junit"))
 }
 
 
@@ -12,14 +12,24 @@
  *
  */
 
+
 package org.eclipse.edc.util.collection;
 
 import java.time.Clock;
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import static java.util.Optional.ofNullable;
 
@@ -30,14 +40,34 @@ import static java.util.Optional.ofNullable;
  * Values are not stored directly, but are wrapped in a {@link TimestampedValue}. When getting values from the cache, one has to provide
  * a {@code cacheEntryUpdateFunction}, which encapsulates the re-fetching of the expired value.
  * <p>
- * This cache is thread-safe.
+ * This cache is thread-safe: reads of valid entries take no lock, and a value is fetched only once for concurrent
+ * readers of the same key, while readers of other keys are not blocked. Optionally, the cache can be bounded, evicting
+ * approximately the least recently used entries, values can be re-fetched in the background shortly before they
+ * expire, and expired values can still be served for a limited time while they are re-fetched.
+ * <p>
+ * The eviction follows the second chance (CLOCK) approximation of LRU: reads only mark the entry as used, and when the
+ * cache is full the eldest inserted entry is evicted, unless it is marked, in which case it gets unmarked and goes
+ * back to the end of the queue. This keeps both reads and evictions constant time.
  */
 public class Cache<K, V> {
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Map<K, TimestampedValue<V>> cache = new HashMap<>();
+    private final Map<K, Entry<V>> cache = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Set<K> evictionQueue = new LinkedHashSet<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadTimeNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
     private final Function<K, V> cacheEntryUpdateFunction;
-    private final long validity;
     private final Clock clock;
+    private ToLongFunction<V> validity;
+    private int maximumSize = Integer.MAX_VALUE;
+    private Executor refreshExecutor;
+    private long refreshAheadMillis;
+    private long maxStaleMillis;
 
     public Cache(Function<K, V> cacheEntryUpdateFunction, long validity) {
         this(cacheEntryUpdateFunction, validity, Clock.systemUTC());
@@ -45,7 +75,7 @@ public class Cache<K, V> {
 
     public Cache(Function<K, V> cacheEntryUpdateFunction, long validity, Clock clock) {
         this.cacheEntryUpdateFunction = cacheEntryUpdateFunction;
-        this.validity = validity;
+        this.validity = value -> validity;
         this.clock = clock;
     }
 
@@ -56,28 +86,75 @@ public class Cache<K, V> {
      * @return the value
      */
     public V get(K key) {
-        V value;
-        lock.readLock().lock();
+        var entry = cache.get(key);
+        if (entry != null && !entry.value.isExpired(clock)) {
+            hits.increment();
+            markUsed(entry);
+            if (refreshExecutor != null && isRefreshDue(entry.value)) {
+                refresh(key);
+            }
+            return entry.value.value();
+        }
+        if (entry != null && isStaleServable(entry.value)) {
+            staleHits.increment();
+            markUsed(entry);
+            refresh(key);
+            return entry.value.value();
+        }
+
+        misses.increment();
         try {
-            if (isEntryExpired(key)) {
-                lock.readLock().unlock(); // unlock read, acquire write -> "upgrade" lock
-                lock.writeLock().lock();
-                try {
-                    if (isEntryExpired(key)) {
-                        var newEntry = cacheEntryUpdateFunction.apply(key);
-                        cache.put(key, new TimestampedValue<>(newEntry, Instant.now(), validity));
-                    }
-                } finally {
-                    lock.readLock().lock(); // downgrade lock
-                    lock.writeLock().unlock();
-                }
+            return load(key, Runnable::run).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
 
-            value = cache.get(key).value();
-        } finally {
-            lock.readLock().unlock();
+    /**
+     * Gets the value that the cache would serve without fetching it, if any. It does not count in the stats and does
+     * not trigger any refresh.
+     *
+     * @param key The key of the value to get.
+     * @return the value, null if there's none that can be served.
+     */
+    public V getIfPresent(K key) {
+        var entry = cache.get(key);
+        if (entry != null && (!entry.value.isExpired(clock) || isStaleServable(entry.value))) {
+            return entry.value.value();
+        }
+        return null;
+    }
+
+    /**
+     * Explicitly puts an entry in the cache, replacing the current one. Useful to refresh a value ahead of its expiry
+     * without blocking the readers. A value whose validity is not positive is not stored, and the current one is
+     * removed.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        var validityMillis = validity.applyAsLong(value);
+        if (validityMillis <= 0) {
+            evict(key);
+            return;
+        }
+        cache.put(key, new Entry<>(new TimestampedValue<>(value, Instant.now(clock), validityMillis)));
+        if (isBounded()) {
+            evictionLock.lock();
+            try {
+                evictionQueue.add(key);
+                evictIfNeeded();
+            } finally {
+                evictionLock.unlock();
+            }
         }
-        return value;
     }
 
     /**
@@ -87,19 +164,186 @@ public class Cache<K, V> {
      * @return the value previously associated with "key", or null if no value was associated with the key
      */
     public V evict(K key) {
-        lock.writeLock().lock();
+        if (isBounded()) {
+            evictionLock.lock();
+            try {
+                evictionQueue.remove(key);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return ofNullable(cache.remove(key)).map(entry -> entry.value.value()).orElse(null);
+    }
+
+    /**
+     * Returns the counters of the cache since its creation.
+     *
+     * @return the stats.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), staleHits.sum(), misses.sum(), loads.sum(), loadFailures.sum(), loadTimeNanos.sum(), evictions.sum());
+    }
+
+    private void markUsed(Entry<V> entry) {
+        if (isBounded() && !entry.used) {
+            entry.used = true;
+        }
+    }
+
+    private boolean isStaleServable(TimestampedValue<V> value) {
+        if (refreshExecutor == null || maxStaleMillis <= 0) {
+            return false;
+        }
+        var servableUntil = value.lastUpdatedAt().plusMillis(value.validityMillis() + maxStaleMillis);
+        return !servableUntil.isBefore(Instant.now(clock));
+    }
+
+    private boolean isRefreshDue(TimestampedValue<V> value) {
+        var refreshAt = value.lastUpdatedAt().plusMillis(value.validityMillis() - refreshAheadMillis);
+        return !refreshAt.isAfter(Instant.now(clock));
+    }
+
+    private void refresh(K key) {
+        if (loading.containsKey(key)) {
+            return;
+        }
+        // a failed refresh leaves the current entry in place until it expires
+        load(key, refreshExecutor);
+    }
+
+    private CompletableFuture<V> load(K key, Executor executor) {
+        var future = new CompletableFuture<V>();
+        var existing = loading.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
         try {
-            return ofNullable(cache.remove(key)).map(TimestampedValue::value).orElse(null);
-        } finally {
-            lock.writeLock().unlock();
+            executor.execute(() -> {
+                var start = System.nanoTime();
+                try {
+                    var value = cacheEntryUpdateFunction.apply(key);
+                    put(key, value);
+                    future.complete(value);
+                } catch (Throwable e) {
+                    loadFailures.increment();
+                    future.completeExceptionally(e);
+                } finally {
+                    loads.increment();
+                    loadTimeNanos.add(System.nanoTime() - start);
+                    loading.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            loading.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private boolean isBounded() {
+        return maximumSize != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Evicts entries until the maximum size is respected, must be called holding the eviction lock. Concurrent reads
+     * can mark entries again, so after a full round the eldest entry is evicted anyway.
+     */
+    private void evictIfNeeded() {
+        var secondChances = evictionQueue.size();
+        while (cache.size() > maximumSize && !evictionQueue.isEmpty()) {
+            var key = evictionQueue.iterator().next();
+            evictionQueue.remove(key);
+            var entry = cache.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.used && secondChances-- > 0) {
+                entry.used = false;
+                evictionQueue.add(key);
+            } else if (cache.remove(key, entry)) {
+                evictions.increment();
+            }
         }
     }
 
-    private boolean isEntryExpired(K key) {
-        var timestampedValue = cache.get(key);
-        if (timestampedValue == null) return true;
-        return timestampedValue.isExpired(clock);
+    /**
+     * Counters of the cache.
+     *
+     * @param hits          lookups served with a valid value.
+     * @param staleHits     lookups served with an expired value while it was re-fetched.
+     * @param misses        lookups that had to wait for the value to be fetched.
+     * @param loads         fetches of values, including the background ones.
+     * @param loadFailures  fetches that failed.
+     * @param loadTimeNanos total time spent fetching values, in nanoseconds.
+     * @param evictions     entries evicted because the cache was full.
+     */
+    public record Stats(long hits, long staleHits, long misses, long loads, long loadFailures, long loadTimeNanos, long evictions) {
+    }
+
+    private static final class Entry<V> {
+        private final TimestampedValue<V> value;
+        private volatile boolean used;
+
+        private Entry(TimestampedValue<V> value) {
+            this.value = value;
+        }
     }
 
+    public static class Builder<K, V> {
+        private final Cache<K, V> cache;
+
+        private Builder(Function<K, V> cacheEntryUpdateFunction, long validity, Clock clock) {
+            cache = new Cache<>(cacheEntryUpdateFunction, validity, clock);
+        }
+
+        public static <K, V> Builder<K, V> newInstance(Function<K, V> cacheEntryUpdateFunction, long validity) {
+            return newInstance(cacheEntryUpdateFunction, validity, Clock.systemUTC());
+        }
+
+        public static <K, V> Builder<K, V> newInstance(Function<K, V> cacheEntryUpdateFunction, long validity, Clock clock) {
+            return new Builder<>(cacheEntryUpdateFunction, validity, clock);
+        }
+
+        /**
+         * Maximum number of entries, approximately the least recently used ones are evicted when it is exceeded.
+         * Unbounded by default.
+         */
+        public Builder<K, V> maximumSize(int maximumSize) {
+            cache.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Re-fetches the values on the passed executor when they are read during the last {@code refreshAheadMillis} of
+         * their validity, so that readers don't wait for the fetch. Disabled by default.
+         */
+        public Builder<K, V> refreshAhead(Executor refreshExecutor, long refreshAheadMillis) {
+            cache.refreshExecutor = Objects.requireNonNull(refreshExecutor, "refreshExecutor");
+            cache.refreshAheadMillis = refreshAheadMillis;
+            return this;
+        }
+
+        /**
+         * Validity in milliseconds of each value, that overrides the one passed at construction. Values whose validity
+         * is not positive are not stored.
+         */
+        public Builder<K, V> validity(ToLongFunction<V> validity) {
+            cache.validity = Objects.requireNonNull(validity, "validity");
+            return this;
+        }
+
+        /**
+         * Maximum time in milliseconds after their expiry during which values are still served while they are
+         * re-fetched in the background. Requires {@link #refreshAhead(Executor, long)}, disabled by default.
+         */
+        public Builder<K, V> maxStale(long maxStaleMillis) {
+            cache.maxStaleMillis = maxStaleMillis;
+            return this;
+        }
 
+        public Cache<K, V> build() {
+            return cache;
+        }
+    }
 }
@@ -16,24 +16,28 @@ package org.eclipse.edc.util.collection;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
- * A thread-safe LRU cache with a specified capacity.
+ * A thread-safe, approximate LRU cache with a specified capacity.
  * <p>
- * This class extends {@link LinkedHashMap} and adds concurrency using a ReentrantReadWriteLock.
- * The cache uses a LinkedHashMap to store the entries and automatically evicts the least recently used entry
- * when the capacity is reached.
+ * This class extends {@link LinkedHashMap} and adds concurrency using a ReentrantReadWriteLock. The entries are kept in
+ * insertion order, so that lookups do not modify the map and only need the read lock, and a lookup just marks the
+ * entry as recently used. When the capacity is reached, the eldest entry is evicted unless it is marked, in which case
+ * it is unmarked and moved to the tail, like the second chance (CLOCK) approximation of LRU does.
  *
  * @param <K> the type of keys maintained by this cache
  * @param <V> the type of mapped values
  */
 public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Object> recentlyUsed = ConcurrentHashMap.newKeySet();
     private final int capacity;
 
     public ConcurrentLruCache(int capacity) {
-        super(capacity + 1, 1, true);
+        super(capacity + 1, 1, false);
         this.capacity = capacity;
     }
 
@@ -41,7 +45,9 @@ public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
     public V put(K key, V value) {
         lock.writeLock().lock();
         try {
-            return super.put(key, value);
+            var previous = super.put(key, value);
+            evictIfNeeded();
+            return previous;
         } finally {
             lock.writeLock().unlock();
         }
@@ -51,6 +57,7 @@ public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
     public V remove(Object key) {
         lock.writeLock().lock();
         try {
+            recentlyUsed.remove(key);
             return super.remove(key);
         } finally {
             lock.writeLock().unlock();
@@ -61,7 +68,11 @@ public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
     public boolean remove(Object key, Object value) {
         lock.writeLock().lock();
         try {
-            return super.remove(key, value);
+            var removed = super.remove(key, value);
+            if (removed) {
+                recentlyUsed.remove(key);
+            }
+            return removed;
         } finally {
             lock.writeLock().unlock();
         }
@@ -76,7 +87,11 @@ public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
     public V get(Object key) {
         lock.readLock().lock();
         try {
-            return super.get(key);
+            var value = super.get(key);
+            if (value != null) {
+                recentlyUsed.add(key);
+            }
+            return value;
         } finally {
             lock.readLock().unlock();
         }
@@ -86,14 +101,29 @@ public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
     public void clear() {
         lock.writeLock().lock();
         try {
+            recentlyUsed.clear();
             super.clear();
         } finally {
             lock.writeLock().unlock();
         }
     }
 
-    @Override
-    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-        return size() > capacity;
+    /**
+     * Evict entries until the capacity is respected, giving a second chance to the recently used ones. Concurrent
+     * lookups can mark entries again, so after a full round the eldest entry is evicted anyway.
+     */
+    private void evictIfNeeded() {
+        var secondChances = size();
+        while (size() > capacity) {
+            var eldest = entrySet().iterator().next();
+            var key = eldest.getKey();
+            if (recentlyUsed.remove(key) && secondChances-- > 0) {
+                var value = eldest.getValue();
+                super.remove(key);
+                super.put(key, value);
+            } else {
+                super.remove(key);
+            }
+        }
     }
 }
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Resolves field values the same way {@link ReflectionUtil#getFieldValue(String, Object)} does, but it caches the parsed
+ * property paths and compiles a {@link MethodHandle} getter for every (class, field) pair only once, so that repeated
+ * lookups, e.g. the evaluation of the same criteria against every entity of an in-memory store, skip the field scanning
+ * and the access checks.
+ */
+public class CachedFieldValueResolver {
+
+    private static final Pattern ARRAY_INDEXER = Pattern.compile("(.*)\\[([0-9]+)]");
+    private static final int DEFAULT_MAX_CACHED_PATHS = 1024;
+
+    private final int maxCachedPaths;
+    private final Map<String, List<Segment>> paths = new ConcurrentHashMap<>();
+    private final ClassValue<Map<String, Optional<MethodHandle>>> getters = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public CachedFieldValueResolver() {
+        this(DEFAULT_MAX_CACHED_PATHS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxCachedPaths the maximum number of parsed property paths that will be cached, further paths will be parsed
+     *                       at every lookup.
+     */
+    public CachedFieldValueResolver(int maxCachedPaths) {
+        this.maxCachedPaths = maxCachedPaths;
+    }
+
+    /**
+     * Get the value of a field from an object, see {@link ReflectionUtil#getFieldValue(String, Object)}.
+     *
+     * @param propertyName the name of the field, dot notation and array indexers are supported.
+     * @param object       the object.
+     * @return the field's value.
+     * @throws ReflectionException if the field does not exist or is not accessible
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getFieldValue(String propertyName, Object object) {
+        Objects.requireNonNull(propertyName, "propertyName");
+        Objects.requireNonNull(object, "object");
+
+        var current = object;
+        for (var segment : segments(propertyName)) {
+            if (current == null) {
+                return null;
+            }
+            current = segment.resolve(current);
+        }
+        return (T) current;
+    }
+
+    private List<Segment> segments(String propertyName) {
+        var cached = paths.get(propertyName);
+        if (cached != null) {
+            return cached;
+        }
+
+        var segments = PathItem.parse(propertyName).stream().map(PathItem::toString).map(this::segment).toList();
+        if (paths.size() < maxCachedPaths) {
+            paths.putIfAbsent(propertyName, segments);
+        }
+        return segments;
+    }
+
+    private Segment segment(String name) {
+        var matcher = ARRAY_INDEXER.matcher(name);
+        if (matcher.matches()) {
+            var index = Integer.parseInt(matcher.group(2));
+            return new Segment(matcher.group(1), index);
+        }
+        return new Segment(name, -1);
+    }
+
+    private Object getRecursiveValue(String fieldName, Object object) {
+        var getter = getters.get(object.getClass())
+                .computeIfAbsent(fieldName, name -> compileGetter(object.getClass(), name))
+                .orElseThrow(() -> new ReflectionException(fieldName));
+
+        try {
+            return getter.invokeExact(object);
+        } catch (Throwable e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private Optional<MethodHandle> compileGetter(Class<?> type, String fieldName) {
+        var field = ReflectionUtil.getFieldRecursive(type, fieldName);
+        if (field == null) {
+            return Optional.empty();
+        }
+
+        field.setAccessible(true);
+        try {
+            var getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter.asType(methodType(Object.class)), 0, Object.class);
+            } else {
+                getter = getter.asType(methodType(Object.class, Object.class));
+            }
+            return Optional.of(getter);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private final class Segment {
+        private final String name;
+        private final int index;
+
+        private Segment(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+
+        Object resolve(Object object) {
+            if (index >= 0) {
+                var list = (List<?>) resolveSingle(name, object);
+                return list.get(index);
+            }
+            return resolveSingle(name, object);
+        }
+
+        private Object resolveSingle(String name, Object object) {
+            if (object instanceof Map<?, ?> map) {
+                return map.get(name);
+            } else if (object instanceof List<?> list) {
+                return list.stream().filter(Objects::nonNull).map(it -> getRecursiveValue(name, it)).toList();
+            } else {
+                return getRecursiveValue(name, object);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.util.collection;
+
+import org.eclipse.edc.junit.annotations.NightlyTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the read throughput of a warm {@link Cache} with an increasing number of reader threads, to verify that
+ * readers don't contend on a lock.
+ */
+@NightlyTest
+class CacheContentionBenchmarkTest {
+
+    private static final int KEYS = 1_000;
+    private static final Duration MEASUREMENT = Duration.ofSeconds(2);
+
+    private final Cache<Integer, String> cache = Cache.Builder.<Integer, String>newInstance(String::valueOf, 60 * 60 * 1000)
+            .maximumSize(KEYS)
+            .build();
+
+    @Test
+    void readThroughputShouldScaleWithThreads() {
+        var threads = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        assumeTrue(threads >= 4, "At least 4 processors are needed to measure the scaling");
+        IntStream.range(0, KEYS).forEach(cache::get);
+
+        measure(threads); // warmup
+        var singleThread = measure(1);
+        var multipleThreads = measure(threads);
+
+        assertThat(multipleThreads)
+                .as("%d reads/s with 1 thread, %d reads/s with %d threads", singleThread, multipleThreads, threads)
+                .isGreaterThan(singleThread * 2);
+    }
+
+    private long measure(int threads) {
+        var executor = Executors.newFixedThreadPool(threads);
+        var reads = new LongAdder();
+        var deadline = System.nanoTime() + MEASUREMENT.toNanos();
+        try {
+            var readers = IntStream.range(0, threads)
+                    .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                        var key = thread;
+                        var count = 0L;
+                        while (System.nanoTime() < deadline) {
+                            cache.get(key);
+                            key = (key + 1) % KEYS;
+                            count++;
+                        }
+                        reads.add(count);
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(readers).join();
+            return reads.sum() / MEASUREMENT.toSeconds();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -17,14 +17,22 @@ package org.eclipse.edc.util.collection;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -100,6 +108,196 @@ class CacheTest {
         verify(updateFunction, times(1)).apply(anyString());
     }
 
+    @Test
+    void put_shouldReplaceValue() {
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42));
+        cache.get("foo");
+
+        cache.put("foo", new TestObject(43));
+
+        assertThat(cache.get("foo").value()).isEqualTo(43);
+        verify(updateFunction, times(1)).apply(anyString());
+    }
+
+    @Test
+    void put_whenNotPresent() {
+        cache.put("foo", new TestObject(43));
+
+        assertThat(cache.get("foo").value()).isEqualTo(43);
+        verify(updateFunction, never()).apply(anyString());
+    }
+
+    @Test
+    void get_shouldFetchOnce_whenConcurrentReadersOfSameKey() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        when(updateFunction.apply(anyString())).thenAnswer(i -> {
+            release.await();
+            return new TestObject(42);
+        });
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var readers = IntStream.range(0, 4)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.get("foo"), executor))
+                    .toList();
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(readers).allSatisfy(reader -> assertThat(reader).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(new TestObject(42)));
+            verify(updateFunction, times(1)).apply("foo");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_shouldNotBlockOtherKeys_whenFetching() {
+        var release = new CountDownLatch(1);
+        when(updateFunction.apply("slow")).thenAnswer(i -> {
+            release.await();
+            return new TestObject(1);
+        });
+        when(updateFunction.apply("fast")).thenReturn(new TestObject(2));
+
+        try {
+            var slow = CompletableFuture.supplyAsync(() -> cache.get("slow"));
+
+            assertThat(CompletableFuture.supplyAsync(() -> cache.get("fast"))).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(new TestObject(2));
+            assertThat(slow).isNotDone();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void get_whenUpdateThrows() {
+        when(updateFunction.apply(anyString())).thenThrow(new IllegalStateException("failure"));
+
+        assertThatThrownBy(() -> cache.get("foo")).isInstanceOf(IllegalStateException.class).hasMessage("failure");
+        assertThat(cache.stats().loadFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsed_whenMaximumSizeExceeded() {
+        cache = Cache.Builder.newInstance(updateFunction, VALIDITY).maximumSize(2).build();
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42));
+
+        cache.get("foo");
+        cache.get("bar");
+        cache.get("foo");
+        cache.get("baz");
+        cache.get("foo");
+        cache.get("bar");
+
+        verify(updateFunction, times(1)).apply("foo");
+        verify(updateFunction, times(2)).apply("bar");
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void put_shouldTimestampValueWithClock() {
+        var clock = Clock.fixed(Instant.now().plus(1, ChronoUnit.DAYS), ZoneId.systemDefault());
+        cache = new Cache<>(updateFunction, VALIDITY, clock);
+
+        cache.put("foo", new TestObject(42));
+
+        assertThat(cache.get("foo").value()).isEqualTo(42);
+        verify(updateFunction, never()).apply(anyString());
+    }
+
+    @Test
+    void get_shouldRefreshInBackground_whenCloseToExpiry() {
+        var refreshTasks = new ArrayList<Runnable>();
+        cache = Cache.Builder.newInstance(updateFunction, VALIDITY).refreshAhead(refreshTasks::add, VALIDITY).build();
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42), new TestObject(43));
+
+        assertThat(cache.get("foo").value()).isEqualTo(42);
+        assertThat(cache.get("foo").value()).isEqualTo(42);
+        assertThat(cache.get("foo").value()).isEqualTo(42);
+
+        assertThat(refreshTasks).hasSize(1);
+        refreshTasks.get(0).run();
+        assertThat(cache.get("foo").value()).isEqualTo(43);
+        verify(updateFunction, times(2)).apply(anyString());
+    }
+
+    @Test
+    void get_shouldKeepValue_whenBackgroundRefreshFails() {
+        var refreshTasks = new ArrayList<Runnable>();
+        cache = Cache.Builder.newInstance(updateFunction, VALIDITY).refreshAhead(refreshTasks::add, VALIDITY).build();
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42)).thenThrow(new IllegalStateException("failure"));
+
+        cache.get("foo");
+        cache.get("foo");
+        refreshTasks.get(0).run();
+
+        assertThat(cache.get("foo").value()).isEqualTo(42);
+    }
+
+    @Test
+    void get_shouldNotRefresh_whenFarFromExpiry() {
+        var refreshTasks = new ArrayList<Runnable>();
+        cache = Cache.Builder.newInstance(updateFunction, VALIDITY).refreshAhead(refreshTasks::add, 1000).build();
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42));
+
+        cache.get("foo");
+        cache.get("foo");
+
+        assertThat(refreshTasks).isEmpty();
+    }
+
+    @Test
+    void get_shouldServeStaleValue_whenExpiredAndWithinMaxStale() {
+        var refreshTasks = new ArrayList<Runnable>();
+        var clock = mock(Clock.class);
+        var now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        cache = Cache.Builder.newInstance(updateFunction, VALIDITY, clock).refreshAhead(refreshTasks::add, 0).maxStale(1000).build();
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42), new TestObject(43));
+        cache.get("foo");
+
+        when(clock.instant()).thenReturn(now.plusMillis(VALIDITY + 500));
+        assertThat(cache.get("foo").value()).isEqualTo(42);
+        assertThat(cache.getIfPresent("foo").value()).isEqualTo(42);
+        assertThat(refreshTasks).hasSize(1);
+        assertThat(cache.stats().staleHits()).isEqualTo(1);
+
+        when(clock.instant()).thenReturn(now.plusMillis(VALIDITY + 1500));
+        assertThat(cache.getIfPresent("foo")).isNull();
+        assertThat(cache.get("foo").value()).isEqualTo(43);
+    }
+
+    @Test
+    void get_shouldNotStoreValue_whenValidityIsNotPositive() {
+        cache = Cache.Builder.newInstance(updateFunction, VALIDITY).validity(value -> value.value() > 0 ? VALIDITY : 0).build();
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(0), new TestObject(0), new TestObject(42));
+
+        cache.get("foo");
+        cache.get("foo");
+        cache.get("foo");
+        cache.get("foo");
+
+        verify(updateFunction, times(3)).apply("foo");
+        assertThat(cache.getIfPresent("foo").value()).isEqualTo(42);
+    }
+
+    @Test
+    void stats() {
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42));
+
+        cache.get("foo");
+        cache.get("foo");
+        cache.get("bar");
+
+        assertThat(cache.stats()).satisfies(stats -> {
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.misses()).isEqualTo(2);
+            assertThat(stats.loads()).isEqualTo(2);
+            assertThat(stats.loadFailures()).isZero();
+            assertThat(stats.loadTimeNanos()).isPositive();
+        });
+    }
+
     private record TestObject(int value) {
 
     }
@@ -35,4 +35,17 @@ class ConcurrentLruCacheTest {
                 .containsKey("bar")
                 .doesNotContainKey("foo");
     }
+
+    @Test
+    void verifyEviction_shouldKeepRecentlyUsedEntry() {
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+        cache.get("foo");
+
+        cache.put("baz", "baz");
+        assertThat(cache)
+                .containsKey("foo")
+                .containsKey("baz")
+                .doesNotContainKey("bar");
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.util.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadsTest {
+
+    @Test
+    void newVirtualThreadPerTaskExecutor_shouldBeAvailable_whenSupported() {
+        var executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+        assertThat(executor.isPresent()).isEqualTo(VirtualThreads.isSupported());
+        executor.ifPresent(executorService -> {
+            var threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().toString(), executorService);
+
+            assertThat(threadName).succeedsWithin(Duration.ofSeconds(5))
+                    .asString().startsWith("VirtualThread");
+            executorService.shutdown();
+        });
+    }
+
+    @Test
+    void isSupported_shouldDependOnJavaVersion() {
+        assertThat(VirtualThreads.isSupported()).isEqualTo(Runtime.version().feature() >= 21);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.eclipse.edc.junit.annotations.NightlyTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the {@link CachedFieldValueResolver} with {@link ReflectionUtil#getFieldValue(String, Object)}, to verify
+ * that caching the field accessors actually pays off.
+ */
+@NightlyTest
+class CachedFieldValueResolverBenchmarkTest {
+
+    private static final int ITERATIONS = 1_000_000;
+    private static final int RUNS = 5;
+
+    private final CachedFieldValueResolver resolver = new CachedFieldValueResolver();
+    private final List<TestObjectWithList> objects = IntStream.range(0, 100)
+            .mapToObj(i -> new TestObjectWithList("desc-" + i, i, List.of(new TestObject("nested-" + i, i, new AnotherObject("another-" + i)))))
+            .toList();
+    private final List<String> paths = List.of("description", "priority", "nestedObjects[0].embedded.anotherDescription");
+
+    @Test
+    void shouldBeFasterThanReflectionUtil() {
+        objects.forEach(object -> paths.forEach(path ->
+                assertThat((Object) resolver.getFieldValue(path, object)).isEqualTo(ReflectionUtil.getFieldValue(path, object))));
+
+        var reflection = Long.MAX_VALUE;
+        var cached = Long.MAX_VALUE;
+        for (var i = 0; i < RUNS; i++) {
+            reflection = Math.min(reflection, measure(ReflectionUtil::getFieldValue));
+            cached = Math.min(cached, measure(resolver::getFieldValue));
+        }
+
+        assertThat(cached * 2)
+                .as("best of %d runs: ReflectionUtil %d ns, CachedFieldValueResolver %d ns", RUNS, reflection, cached)
+                .isLessThan(reflection);
+    }
+
+    private long measure(FieldValueGetter getter) {
+        var start = System.nanoTime();
+        var resolved = 0;
+        for (var i = 0; i < ITERATIONS; i++) {
+            var value = getter.get(paths.get(i % paths.size()), objects.get(i % objects.size()));
+            resolved += value == null ? 0 : 1;
+        }
+        var elapsed = System.nanoTime() - start;
+        assertThat(resolved).isEqualTo(ITERATIONS);
+        return elapsed;
+    }
+
+    @FunctionalInterface
+    private interface FieldValueGetter {
+        Object get(String path, Object object);
+    }
+}
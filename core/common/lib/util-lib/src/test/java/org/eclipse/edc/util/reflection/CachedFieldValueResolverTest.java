@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachedFieldValueResolverTest {
+
+    private final CachedFieldValueResolver resolver = new CachedFieldValueResolver();
+
+    @Test
+    void getFieldValue() {
+        var value = resolver.getFieldValue("description", new TestObject("test-desc", 1));
+        assertThat(value).isInstanceOf(String.class).isEqualTo("test-desc");
+
+        var value2 = resolver.getFieldValue("priority", new TestObject("test-desc", 1));
+        assertThat(value2).isInstanceOf(Integer.class).isEqualTo(1);
+    }
+
+    @Test
+    void getFieldValue_isNull() {
+        var value = resolver.getFieldValue("description", new TestObject(null, 1));
+        assertThat(value).isNull();
+    }
+
+    @Test
+    void getFieldValue_notExist() {
+        assertThatThrownBy(() -> resolver.getFieldValue("notExist", new TestObject("test-desc", 1)))
+                .isInstanceOf(ReflectionException.class);
+        assertThatThrownBy(() -> resolver.getFieldValue("notExist", new TestObject("test-desc", 1)))
+                .describedAs("missing field is cached").isInstanceOf(ReflectionException.class);
+    }
+
+    @Test
+    void getFieldValue_invalidArgs() {
+        assertThatThrownBy(() -> resolver.getFieldValue("", new TestObject("test-desc", 1)))
+                .isInstanceOf(ReflectionException.class);
+
+        assertThatThrownBy(() -> resolver.getFieldValue(null, new TestObject("test-desc", 1)))
+                .isInstanceOf(NullPointerException.class).hasMessage("propertyName");
+
+        assertThatThrownBy(() -> resolver.getFieldValue("description", null))
+                .isInstanceOf(NullPointerException.class).hasMessage("object");
+    }
+
+    @Test
+    void getFieldValue_fromMap() {
+        var value = resolver.getFieldValue("key", Map.of("key", "value"));
+
+        assertThat(value).isEqualTo("value");
+    }
+
+    @Test
+    void getFieldValue_whenDeclaredInSuperclass() {
+        var to = new TestObjectSubSubclass("test-desc", 1, "foobar");
+        to.setAnotherObject(new AnotherObject("another-desc"));
+
+        assertThat((String) resolver.getFieldValue("anotherObject.anotherDescription", to)).isEqualTo("another-desc");
+        assertThat((String) resolver.getFieldValue("description", to)).isEqualTo("test-desc");
+    }
+
+    @Test
+    void getFieldValue_whenParentNotExist() {
+        var to = new TestObjectSubSubclass("test-desc", 1, "foobar");
+        to.setAnotherObject(null);
+
+        String fieldValue = resolver.getFieldValue("anotherObject.anotherDescription", to);
+        assertThat(fieldValue).isNull();
+    }
+
+    @Test
+    void getFieldValue_samePathOnDifferentClasses() {
+        assertThat((String) resolver.getFieldValue("description", new TestObject("to", 1))).isEqualTo("to");
+        assertThat((String) resolver.getFieldValue("description", new TestObjectSubclass("sub", 1, "foobar"))).isEqualTo("sub");
+        assertThat((String) resolver.getFieldValue("description", Map.of("description", "map"))).isEqualTo("map");
+    }
+
+    @Test
+    void getFieldValue_withArrayIndex() {
+        var to1 = new TestObject("to1", 420);
+        var o = new TestObjectWithList("test-desc", 0, List.of(to1, new TestObject("to2", 69)));
+
+        assertThat((TestObject) resolver.getFieldValue("nestedObjects[0]", o)).isEqualTo(to1);
+        assertThat((Object) resolver.getFieldValue("nestedObjects[1].priority", o)).isEqualTo(69);
+    }
+
+    @Test
+    void getFieldValue_arrayWithoutIndex() {
+        var object = new TestObjectWithList("test-desc", 0, List.of(new TestObject("to1", 420), new TestObject("to2", 69)));
+
+        var result = resolver.getFieldValue("nestedObjects.description", object);
+
+        assertThat(result).isEqualTo(List.of("to1", "to2"));
+    }
+
+    @Test
+    void getFieldValue_withArrayIndex_outOfBounds() {
+        var o = new TestObjectWithList("test-desc", 0, List.of(new TestObject("to1", 420), new TestObject("to2", 69)));
+
+        assertThatThrownBy(() -> resolver.getFieldValue("nestedObjects[3]", o)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldGetNestedValue_whenKeyContainsDot() {
+        var object = Map.of("http://namespace.domain/nested", Map.of("http://namespace.domain/key", "value"));
+
+        var value = resolver.getFieldValue("'http://namespace.domain/nested'.'http://namespace.domain/key'", object);
+
+        assertThat(value).isInstanceOf(String.class).isEqualTo("value");
+    }
+
+    @Test
+    void shouldMapValueFromList() {
+        var object = Map.of("http://namespace.domain/property", List.of(Map.of("@value", "value")));
+
+        var value = resolver.getFieldValue("'http://namespace.domain/property'[0].@value", object);
+
+        assertThat(value).isInstanceOf(String.class).isEqualTo("value");
+    }
+
+    @Test
+    void shouldResolve_whenPathCacheIsFull() {
+        var resolver = new CachedFieldValueResolver(0);
+
+        var value = resolver.getFieldValue("embedded.anotherDescription", new TestObject("test-desc", 1, new AnotherObject("another")));
+
+        assertThat(value).isEqualTo("another");
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.validator.jsonobject.validators.model;
 
 import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.validator.jsonobject.JsonLdPath;
@@ -23,11 +24,13 @@ import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
 
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.Optional;
 
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -47,6 +50,7 @@ public class QuerySpecValidator {
                 .verify(EDC_QUERY_SPEC_LIMIT, OptionalValueGreaterZero::new)
                 .verify(EDC_QUERY_SPEC_SORT_ORDER, OptionalValueSortField::new)
                 .verify(EDC_QUERY_SPEC_SORT_FIELD, OptionalValueNotBlank::new)
+                .verify(EDC_QUERY_SPEC_CONTINUATION_TOKEN, OptionalValueContinuationToken::new)
                 .verifyArrayItem(EDC_QUERY_SPEC_FILTER_EXPRESSION, path -> CriterionValidator.instance(path, criterionOperatorRegistry));
     }
 
@@ -119,4 +123,52 @@ public class QuerySpecValidator {
                     .orElseGet(() -> ValidationResult.failure(violation(format("optional value '%s' is blank", path), path.toString())));
         }
     }
+
+    private record OptionalValueContinuationToken(JsonLdPath path) implements Validator<JsonObject> {
+
+        @Override
+        public ValidationResult validate(JsonObject input) {
+            var optional = Optional.ofNullable(input.getJsonArray(path.last()))
+                    .map(it -> it.getJsonObject(0))
+                    .map(it -> it.getString(VALUE));
+
+            if (optional.isEmpty()) {
+                return ValidationResult.success();
+            }
+
+            var offset = Optional.ofNullable(input.getJsonArray(EDC_QUERY_SPEC_OFFSET))
+                    .map(it -> it.getJsonObject(0))
+                    .map(it -> it.getInt(VALUE))
+                    .orElse(0);
+            if (offset != 0) {
+                return ValidationResult.failure(violation(format("optional value '%s' cannot be used together with offset", path), path.toString()));
+            }
+
+            var token = optional.get();
+            if (token.isEmpty()) {
+                return ValidationResult.success();
+            }
+
+            ContinuationToken position;
+            try {
+                position = ContinuationToken.decode(token);
+            } catch (IllegalArgumentException e) {
+                return ValidationResult.failure(violation(format("optional value '%s' is not a valid continuation token", path), path.toString(), token));
+            }
+
+            var sortField = stringValue(input, EDC_QUERY_SPEC_SORT_FIELD).orElse(null);
+            var sortOrder = stringValue(input, EDC_QUERY_SPEC_SORT_ORDER).orElse(SortOrder.ASC.name());
+            if (!Objects.equals(position.getSortField(), sortField) || !position.getSortOrder().name().equals(sortOrder)) {
+                return ValidationResult.failure(violation(format("optional value '%s' was issued for a different sort field or sort order", path), path.toString(), token));
+            }
+
+            return ValidationResult.success();
+        }
+
+        private Optional<String> stringValue(JsonObject input, String property) {
+            return Optional.ofNullable(input.getJsonArray(property))
+                    .map(it -> it.getJsonObject(0))
+                    .map(it -> it.getString(VALUE));
+        }
+    }
 }
@@ -17,7 +17,9 @@ package org.eclipse.edc.validator.jsonobject.validators.model;
 import jakarta.json.Json;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.validator.spi.ValidationFailure;
 import org.eclipse.edc.validator.spi.Validator;
 import org.eclipse.edc.validator.spi.Violation;
@@ -28,6 +30,7 @@ import static jakarta.json.Json.createObjectBuilder;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -113,6 +116,69 @@ class QuerySpecValidatorTest {
                 .asString().contains("blank");
     }
 
+    @Test
+    void shouldSucceed_whenContinuationTokenIsValid() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, value(ContinuationToken.of("field", SortOrder.DESC, "value", "id").encode()))
+                .add(EDC_QUERY_SPEC_SORT_FIELD, value("field"))
+                .add(EDC_QUERY_SPEC_SORT_ORDER, value("DESC"))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isSucceeded();
+    }
+
+    @Test
+    void shouldFail_whenContinuationTokenWasIssuedForDifferentSorting() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, value(ContinuationToken.of("field", SortOrder.DESC, "value", "id").encode()))
+                .add(EDC_QUERY_SPEC_SORT_FIELD, value("field"))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).asInstanceOf(list(Violation.class))
+                .filteredOn(v -> v.path().equals(EDC_QUERY_SPEC_CONTINUATION_TOKEN))
+                .hasSize(1)
+                .first()
+                .extracting(Violation::message)
+                .asString().contains("different sort");
+    }
+
+    @Test
+    void shouldFail_whenContinuationTokenIsNotValid() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, value("not a token"))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).asInstanceOf(list(Violation.class))
+                .filteredOn(v -> v.path().equals(EDC_QUERY_SPEC_CONTINUATION_TOKEN))
+                .hasSize(1)
+                .first()
+                .extracting(Violation::message)
+                .asString().contains("continuation token");
+    }
+
+    @Test
+    void shouldFail_whenContinuationTokenIsUsedWithOffset() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, value(""))
+                .add(EDC_QUERY_SPEC_OFFSET, value(10))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).asInstanceOf(list(Violation.class))
+                .filteredOn(v -> v.path().equals(EDC_QUERY_SPEC_CONTINUATION_TOKEN))
+                .hasSize(1)
+                .first()
+                .extracting(Violation::message)
+                .asString().contains("offset");
+    }
+
     @Test
     void shouldFail_whenFilterExpressionEntryNotValid() {
         var input = Json.createObjectBuilder()
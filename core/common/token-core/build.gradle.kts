@@ -20,6 +20,8 @@ plugins {
 dependencies {
     implementation(project(":core:common:lib:token-lib"))
     implementation(project(":core:common:lib:crypto-common-lib"))
+
+    testImplementation(project(":core:common:junit"))
 }
 
 
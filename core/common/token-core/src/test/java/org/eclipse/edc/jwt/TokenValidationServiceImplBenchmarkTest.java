@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.junit.annotations.NightlyTest;
+import org.eclipse.edc.keys.spi.PublicKeyResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.token.TokenValidationServiceImpl;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.security.token.jwt.CryptoConverter.createSignerFor;
+import static org.eclipse.edc.security.token.jwt.CryptoConverter.getRecommendedAlgorithm;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Compares the validation throughput with and without the verifier cache, for the key types used by DID documents.
+ */
+@NightlyTest
+class TokenValidationServiceImplBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int ITERATIONS = 20_000;
+    private static final String KEY_ID = "did:web:example.com#key-1";
+
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(KeyPairs.class)
+    void cachedVerifierShouldNotBeSlowerThanUncached(String name, KeyPair keyPair) throws JOSEException {
+        var token = createToken(keyPair);
+        PublicKeyResolver resolver = id -> Result.success(keyPair.getPublic());
+
+        var uncached = run(new TokenValidationServiceImpl(0), token, resolver);
+        var cached = run(new TokenValidationServiceImpl(), token, resolver);
+
+        assertThat(cached)
+                .as("%d %s validations took %d ms with cached verifiers and %d ms without",
+                        ITERATIONS, name, cached.toMillis(), uncached.toMillis())
+                .isLessThanOrEqualTo(uncached.plus(uncached.dividedBy(10)));
+    }
+
+    private Duration run(TokenValidationServiceImpl service, String token, PublicKeyResolver resolver) {
+        for (var i = 0; i < WARMUP_ITERATIONS; i++) {
+            service.validate(token, resolver);
+        }
+
+        var start = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            assertThat(service.validate(token, resolver).succeeded()).isTrue();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private String createToken(KeyPair keyPair) throws JOSEException {
+        var signer = createSignerFor(keyPair.getPrivate());
+        var header = new JWSHeader.Builder(getRecommendedAlgorithm(signer)).keyID(KEY_ID).build();
+        var claims = new JWTClaimsSet.Builder()
+                .issuer("did:web:example.com")
+                .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+                .build();
+        var jwt = new SignedJWT(header, claims);
+        jwt.sign(signer);
+        return jwt.serialize();
+    }
+
+    private static class KeyPairs implements ArgumentsProvider {
+        @Override
+        public Stream<? extends Arguments> provideArguments(ExtensionContext context) throws Exception {
+            var ec = KeyPairGenerator.getInstance("EC");
+            ec.initialize(new ECGenParameterSpec("secp256r1"));
+            var ed25519 = KeyPairGenerator.getInstance("Ed25519");
+            return Stream.of(
+                    arguments("EC P-256", ec.generateKeyPair()),
+                    arguments("Ed25519", ed25519.generateKeyPair())
+            );
+        }
+    }
+}
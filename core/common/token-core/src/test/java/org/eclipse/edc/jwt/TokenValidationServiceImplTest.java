@@ -121,6 +121,24 @@ class TokenValidationServiceImplTest {
         assertThat(result.getFailureMessages()).containsExactlyInAnyOrder("test-failure1", "test-failure2");
     }
 
+    @Test
+    void validationSuccess_whenSameKeyIsUsedRepeatedly() throws JOSEException {
+        var jwt = createJwt(publicKeyId, createClaims(now), key.toPrivateKey());
+
+        assertThat(tokenValidationService.validate(jwt, publicKeyResolver).succeeded()).isTrue();
+        assertThat(tokenValidationService.validate(jwt, publicKeyResolver).succeeded()).isTrue();
+    }
+
+    @Test
+    void validation_shouldUseRotatedKey() throws JOSEException {
+        var rotatedKey = testKey();
+        when(publicKeyResolver.resolveKey(eq(publicKeyId))).thenReturn(Result.success(key.toPublicKey()), Result.success(rotatedKey.toPublicKey()));
+        var jwt = createJwt(publicKeyId, createClaims(now), key.toPrivateKey());
+
+        assertThat(tokenValidationService.validate(jwt, publicKeyResolver).succeeded()).isTrue();
+        assertThat(tokenValidationService.validate(jwt, publicKeyResolver).failed()).isTrue();
+    }
+
     private String createJwt(String publicKeyId, JWTClaimsSet claimsSet, PrivateKey pk) {
         var header = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(publicKeyId).build();
         try {
@@ -27,6 +27,7 @@ import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 
@@ -66,6 +67,26 @@ public class AssetServiceImpl implements AssetService {
                 );
     }
 
+    @Override
+    public ServiceResult<Void> validateQuery(QuerySpec query) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(validation.getFailureMessages())
+                        : ServiceResult.success()
+                );
+    }
+
+    @Override
+    public ServiceResult<Void> forEach(QuerySpec query, Consumer<Asset> consumer) {
+        return validateQuery(query)
+                .compose(v -> transactionContext.execute(() -> {
+                    try (var stream = index.queryAssets(query)) {
+                        stream.forEach(consumer);
+                    }
+                    return ServiceResult.success();
+                }));
+    }
+
     @Override
     public ServiceResult<Asset> create(Asset asset) {
         if (asset.hasDuplicatePropertyKeys()) {
@@ -24,6 +24,7 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
@@ -53,6 +54,26 @@ public class ContractAgreementServiceImpl implements ContractAgreementService {
                 );
     }
 
+    @Override
+    public ServiceResult<Void> validateQuery(QuerySpec query) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
+                        : ServiceResult.success()
+                );
+    }
+
+    @Override
+    public ServiceResult<Void> forEach(QuerySpec query, Consumer<ContractAgreement> consumer) {
+        return validateQuery(query)
+                .compose(v -> transactionContext.execute(() -> {
+                    try (var stream = store.queryAgreements(query)) {
+                        stream.forEach(consumer);
+                    }
+                    return ServiceResult.success();
+                }));
+    }
+
     @Override
     public ContractNegotiation findNegotiation(String contractAgreementId) {
         var criterion = criterion("contractAgreement.id", "=", contractAgreementId);
@@ -46,6 +46,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 
@@ -87,6 +88,26 @@ public class TransferProcessServiceImpl implements TransferProcessService {
                 );
     }
 
+    @Override
+    public ServiceResult<Void> validateQuery(QuerySpec query) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
+                        : ServiceResult.success()
+                );
+    }
+
+    @Override
+    public ServiceResult<Void> forEach(QuerySpec query, Consumer<TransferProcess> consumer) {
+        return validateQuery(query)
+                .compose(v -> transactionContext.execute(() -> {
+                    try (var stream = transferProcessStore.findAll(query)) {
+                        stream.forEach(consumer);
+                    }
+                    return ServiceResult.success();
+                }));
+    }
+
     @Override
     public @Nullable String getState(String transferProcessId) {
         return transactionContext.execute(() -> {
@@ -49,6 +49,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 
+import java.util.ArrayList;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
@@ -121,6 +122,39 @@ class TransferProcessServiceImplTest {
         verifyNoInteractions(store);
     }
 
+    @Test
+    void forEach() {
+        when(queryValidator.validate(any())).thenReturn(Result.success());
+        when(store.findAll(query)).thenReturn(Stream.of(process1, process2));
+        var consumed = new ArrayList<TransferProcess>();
+
+        var result = service.forEach(query, consumed::add);
+
+        assertThat(result).isSucceeded();
+        assertThat(consumed).containsExactly(process1, process2);
+        verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+    }
+
+    @Test
+    void validateQuery_shouldFail_whenValidationFails() {
+        when(queryValidator.validate(any())).thenReturn(Result.failure("not valid"));
+
+        var result = service.validateQuery(QuerySpec.none());
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void forEach_shouldFail_whenValidationFails() {
+        when(queryValidator.validate(any())).thenReturn(Result.failure("not valid"));
+
+        var result = service.forEach(QuerySpec.none(), transferProcess -> { });
+
+        assertThat(result).isFailed();
+        verifyNoInteractions(store);
+    }
+
     @Test
     void getState_whenFound() {
         when(store.findById(id)).thenReturn(process1);
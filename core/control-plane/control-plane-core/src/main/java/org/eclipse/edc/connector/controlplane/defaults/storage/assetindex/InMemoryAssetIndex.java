@@ -16,6 +16,8 @@ package org.eclipse.edc.connector.controlplane.defaults.storage.assetindex;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetSortValue;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -55,6 +57,16 @@ public class InMemoryAssetIndex implements AssetIndex {
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         lock.readLock().lock();
         try {
+            if (querySpec.isKeysetPagination()) {
+                var position = querySpec.getContinuationPosition();
+
+                return filterBy(querySpec.getFilterExpression())
+                        .filter(asset -> position == null || compareToPosition(asset, position, querySpec) > 0)
+                        .sorted((asset1, asset2) -> ContinuationToken.compare(querySpec.getSortOrder(),
+                                sortValue(asset1, querySpec), asset1.getId(), sortValue(asset2, querySpec), asset2.getId()))
+                        .limit(querySpec.getLimit());
+            }
+
             var comparator = querySpec.getSortField() == null
                     ? (Comparator<Asset>) (o1, o2) -> 0
                     : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
@@ -166,6 +178,14 @@ public class InMemoryAssetIndex implements AssetIndex {
         dataAddresses.put(id, address);
     }
 
+    private int compareToPosition(Asset asset, ContinuationToken position, QuerySpec querySpec) {
+        return ContinuationToken.compare(querySpec.getSortOrder(), sortValue(asset, querySpec), asset.getId(), position.getSortValue(), position.getId());
+    }
+
+    private Object sortValue(Asset asset, QuerySpec querySpec) {
+        return AssetSortValue.of(asset, querySpec.getSortField());
+    }
+
     private record AssetComparator(String sortField, SortOrder sortOrder) implements Comparator<Asset> {
 
         @Override
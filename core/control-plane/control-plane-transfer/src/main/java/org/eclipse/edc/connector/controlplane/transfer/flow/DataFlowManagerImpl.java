@@ -30,9 +30,12 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toSet;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
@@ -80,6 +83,27 @@ public class DataFlowManagerImpl implements DataFlowManager {
         return chooseControllerAndApply(transferProcess, controller -> controller.suspend(transferProcess));
     }
 
+    @WithSpan
+    @Override
+    public CompletableFuture<StatusResult<DataFlowResponse>> startAsync(TransferProcess transferProcess, Policy policy) {
+        try {
+            return chooseControllerAndApplyAsync(transferProcess, controller -> controller.startAsync(transferProcess, policy))
+                    .exceptionally(throwable -> runtimeFailure(transferProcess, throwable));
+        } catch (Exception e) {
+            return completedFuture(runtimeFailure(transferProcess, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> terminateAsync(TransferProcess transferProcess) {
+        return chooseControllerAndApplyAsync(transferProcess, controller -> controller.terminateAsync(transferProcess));
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> suspendAsync(TransferProcess transferProcess) {
+        return chooseControllerAndApplyAsync(transferProcess, controller -> controller.suspendAsync(transferProcess));
+    }
+
     @Override
     public Set<String> transferTypesFor(Asset asset) {
         return controllers.stream()
@@ -100,6 +124,25 @@ public class DataFlowManagerImpl implements DataFlowManager {
                 .orElseGet(() -> StatusResult.failure(FATAL_ERROR, controllerNotFound(transferProcess.getId())));
     }
 
+    @NotNull
+    private <T> CompletableFuture<StatusResult<T>> chooseControllerAndApplyAsync(TransferProcess transferProcess,
+                                                                                 Function<DataFlowController, CompletableFuture<StatusResult<T>>> function) {
+        return controllers.stream()
+                .sorted(Comparator.comparingInt(a -> -a.priority))
+                .map(PrioritizedDataFlowController::controller)
+                .filter(controller -> controller.canHandle(transferProcess))
+                .findFirst()
+                .map(function)
+                .orElseGet(() -> completedFuture(StatusResult.failure(FATAL_ERROR, controllerNotFound(transferProcess.getId()))));
+    }
+
+    private <T> StatusResult<T> runtimeFailure(TransferProcess transferProcess, Throwable throwable) {
+        var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        var message = runtimeException(transferProcess.getId(), cause.getMessage());
+        monitor.severe(message, cause);
+        return StatusResult.failure(FATAL_ERROR, message);
+    }
+
     private String runtimeException(String id, String message) {
         return format("Unable to process transfer %s. Data flow controller throws an exception: %s", id, message);
     }
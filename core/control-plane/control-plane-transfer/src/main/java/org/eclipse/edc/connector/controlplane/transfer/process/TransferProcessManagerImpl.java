@@ -87,7 +87,6 @@ import static org.eclipse.edc.spi.persistence.StateEntityStore.isNotPending;
 import static org.eclipse.edc.spi.types.domain.DataAddress.EDC_DATA_ADDRESS_SECRET;
 import static org.eclipse.edc.statemachine.retry.processor.Process.future;
 import static org.eclipse.edc.statemachine.retry.processor.Process.futureResult;
-import static org.eclipse.edc.statemachine.retry.processor.Process.result;
 
 /**
  * This transfer process manager receives a {@link TransferProcess} and transitions it through its internal state
@@ -349,7 +348,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
         var policy = policyArchive.findPolicyForContract(process.getContractId());
 
         return entityRetryProcessFactory.retryProcessor(process)
-                .doProcess(result("Start DataFlow", (t, c) -> dataFlowManager.start(process, policy)))
+                .doProcess(futureResult("Start DataFlow", (t, c) -> dataFlowManager.startAsync(process, policy)))
                 .doProcess(futureResult("Dispatch TransferRequestMessage to: " + process.getCounterPartyAddress(),
                         (t, dataFlowResponse) -> {
                             var messageBuilder = TransferStartMessage.Builder.newInstance().dataAddress(dataFlowResponse.getDataAddress());
@@ -421,7 +420,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
                 .reason(process.getErrorDetail());
 
         return entityRetryProcessFactory.retryProcessor(process)
-                .doProcess(result("Suspend DataFlow", (t, c) -> suspendDataFlow(process)))
+                .doProcess(futureResult("Suspend DataFlow", (t, c) -> suspendDataFlow(process)))
                 .doProcess(futureResult("Dispatch TransferSuspensionMessage to " + process.getCounterPartyAddress(),
                         (t, dataFlowResponse) -> {
                             if (t.suspensionWasRequestedByCounterParty()) {
@@ -458,7 +457,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
         }
 
         return entityRetryProcessFactory.retryProcessor(process)
-                .doProcess(result("Terminate DataFlow", (p, i) -> terminateDataFlow(process)))
+                .doProcess(futureResult("Terminate DataFlow", (p, i) -> terminateDataFlow(process)))
                 .doProcess(futureResult("Dispatch TransferTerminationMessage", (t, n) -> {
                     if (t.terminationWasRequestedByCounterParty()) {
                         return completedFuture(StatusResult.success(null));
@@ -507,20 +506,20 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     }
 
     @NotNull
-    private StatusResult<Void> suspendDataFlow(TransferProcess process) {
+    private CompletableFuture<StatusResult<Void>> suspendDataFlow(TransferProcess process) {
         if (process.getType() == PROVIDER) {
-            return dataFlowManager.suspend(process);
+            return dataFlowManager.suspendAsync(process);
         } else {
-            return StatusResult.success();
+            return completedFuture(StatusResult.success());
         }
     }
 
     @NotNull
-    private StatusResult<Void> terminateDataFlow(TransferProcess process) {
+    private CompletableFuture<StatusResult<Void>> terminateDataFlow(TransferProcess process) {
         if (process.getType() == PROVIDER) {
-            return dataFlowManager.terminate(process);
+            return dataFlowManager.terminateAsync(process);
         } else {
-            return StatusResult.success();
+            return completedFuture(StatusResult.success());
         }
     }
 
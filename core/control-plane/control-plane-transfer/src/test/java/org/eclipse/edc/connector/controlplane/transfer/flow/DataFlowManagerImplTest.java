@@ -27,6 +27,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Set;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
@@ -118,6 +120,38 @@ class DataFlowManagerImplTest {
         }
     }
 
+    @Nested
+    class InitiateAsync {
+
+        @Test
+        void shouldInitiateFlowOnCorrectController() {
+            var controller = mock(DataFlowController.class);
+            var transferProcess = TransferProcess.Builder.newInstance().build();
+            when(controller.canHandle(any())).thenReturn(true);
+            when(controller.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
+            manager.register(controller);
+
+            var response = manager.startAsync(transferProcess, Policy.Builder.newInstance().build());
+
+            assertThat(response).isCompletedWithValueMatching(StatusResult::succeeded);
+            verify(controller).startAsync(any(), any());
+        }
+
+        @Test
+        void shouldReturnFatalError_whenFlowCompletesExceptionally() {
+            var controller = mock(DataFlowController.class);
+            var transferProcess = TransferProcess.Builder.newInstance().build();
+            when(controller.canHandle(any())).thenReturn(true);
+            when(controller.startAsync(any(), any())).thenReturn(failedFuture(new EdcException("Test Error Message")));
+            manager.register(controller);
+
+            var response = manager.startAsync(transferProcess, Policy.Builder.newInstance().build());
+
+            assertThat(response).isCompletedWithValueMatching(result -> result.failed() && result.getFailure().status() == FATAL_ERROR
+                    && result.getFailureDetail().contains("Test Error Message"));
+        }
+    }
+
     @Nested
     class Suspend {
         @Test
@@ -195,8 +195,8 @@ class TransferProcessManagerImplIntegrationTest {
             when(dispatcherRegistry.dispatch(any(), isA(messageType)))
                     .thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY)))
                     .thenReturn(completedFuture(StatusResult.success(TransferProcessAck.Builder.newInstance().build())));
-            when(dataFlowManager.start(any(), any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
-            when(dataFlowManager.terminate(any())).thenReturn(StatusResult.success());
+            when(dataFlowManager.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
+            when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
 
             var transfer = transferProcessBuilder().type(type).state(state.code()).build();
             store.save(transfer);
@@ -154,7 +154,7 @@ class TransferProcessManagerImplTest {
     @BeforeEach
     void setup() {
         when(protocolWebhookRegistry.resolve(any())).thenReturn(() -> protocolWebhookUrl);
-        when(dataFlowManager.start(any(), any())).thenReturn(StatusResult.success(createDataFlowResponse()));
+        when(dataFlowManager.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(createDataFlowResponse())));
         when(policyArchive.findPolicyForContract(any())).thenReturn(Policy.Builder.newInstance().build());
         var observable = new TransferProcessObservableImpl();
         observable.registerListener(listener);
@@ -349,12 +349,12 @@ class TransferProcessManagerImplTest {
             when(transferProcessStore.nextNotLeased(anyInt(), stateIs(TERMINATING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
             when(transferProcessStore.findById(process.getId())).thenReturn(process, process.toBuilder().state(TERMINATING.code()).build());
             when(dispatcherRegistry.dispatch(any(), isA(TransferTerminationMessage.class))).thenReturn(completedFuture(StatusResult.success("any")));
-            when(dataFlowManager.terminate(any())).thenReturn(StatusResult.success());
+            when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(dataFlowManager).terminate(process);
+                verify(dataFlowManager).terminateAsync(process);
                 var captor = ArgumentCaptor.forClass(TransferTerminationMessage.class);
                 verify(dispatcherRegistry).dispatch(eq(Object.class), captor.capture());
                 var message = captor.getValue();
@@ -370,7 +370,7 @@ class TransferProcessManagerImplTest {
         void shouldUpdateStateCountForRetry_whenFailureAndRetriesNotExhausted() {
             var process = createTransferProcess(TERMINATING).toBuilder().type(PROVIDER).build();
             when(transferProcessStore.nextNotLeased(anyInt(), stateIs(TERMINATING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
-            when(dataFlowManager.terminate(any())).thenReturn(StatusResult.failure(ERROR_RETRY));
+            when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY)));
 
             manager.start();
 
@@ -384,7 +384,7 @@ class TransferProcessManagerImplTest {
             var process = createTransferProcess(TERMINATING).toBuilder().type(PROVIDER).build();
             when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
             when(transferProcessStore.nextNotLeased(anyInt(), stateIs(TERMINATING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
-            when(dataFlowManager.terminate(any())).thenReturn(StatusResult.failure(FATAL_ERROR));
+            when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.failure(FATAL_ERROR)));
 
             manager.start();
 
@@ -396,7 +396,7 @@ class TransferProcessManagerImplTest {
         @Test
         void shouldTransitToTerminated_whenFailureAndRetriesExhausted() {
             var process = createTransferProcessBuilder(TERMINATING).type(PROVIDER).stateCount(RETRY_EXHAUSTED).build();
-            when(dataFlowManager.terminate(any())).thenReturn(StatusResult.failure(ERROR_RETRY));
+            when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY)));
             when(transferProcessStore.nextNotLeased(anyInt(), stateIs(TERMINATING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
 
             manager.start();
@@ -458,12 +458,12 @@ class TransferProcessManagerImplTest {
             var process = createTransferProcessBuilder(TERMINATING_REQUESTED).type(PROVIDER).correlationId("correlationId").build();
             when(transferProcessStore.nextNotLeased(anyInt(), stateIs(TERMINATING_REQUESTED.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
             when(transferProcessStore.findById(process.getId())).thenReturn(process, process.toBuilder().state(TERMINATING_REQUESTED.code()).build());
-            when(dataFlowManager.terminate(any())).thenReturn(StatusResult.success());
+            when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(dataFlowManager).terminate(process);
+                verify(dataFlowManager).terminateAsync(process);
                 verifyNoInteractions(dispatcherRegistry);
                 verify(transferProcessStore, atLeastOnce()).save(argThat(p -> p.getState() == DEPROVISIONING.code()));
                 verify(listener).terminated(process);
@@ -475,12 +475,12 @@ class TransferProcessManagerImplTest {
             var process = createTransferProcessBuilder(TERMINATING_REQUESTED).type(PROVIDER).correlationId("correlationId").build();
             when(transferProcessStore.nextNotLeased(anyInt(), stateIs(TERMINATING_REQUESTED.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
             when(transferProcessStore.findById(process.getId())).thenReturn(process, process.toBuilder().state(TERMINATING_REQUESTED.code()).build());
-            when(dataFlowManager.terminate(any())).thenReturn(StatusResult.failure(ERROR_RETRY));
+            when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY)));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(dataFlowManager).terminate(process);
+                verify(dataFlowManager).terminateAsync(process);
                 verifyNoInteractions(dispatcherRegistry);
                 verify(transferProcessStore, atLeastOnce()).save(argThat(p -> p.getState() == TERMINATING_REQUESTED.code()));
             });
@@ -829,7 +829,7 @@ class TransferProcessManagerImplTest {
             when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
             when(transferProcessStore.nextNotLeased(anyInt(), providerStateIs(STARTING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
             when(transferProcessStore.findById(process.getId())).thenReturn(process);
-            when(dataFlowManager.start(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
+            when(dataFlowManager.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
             when(dispatcherRegistry.dispatch(any(), isA(TransferStartMessage.class))).thenReturn(completedFuture(StatusResult.success("any")));
 
             manager.start();
@@ -859,7 +859,7 @@ class TransferProcessManagerImplTest {
             when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
             when(transferProcessStore.nextNotLeased(anyInt(), providerStateIs(RESUMING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
             when(transferProcessStore.findById(process.getId())).thenReturn(process);
-            when(dataFlowManager.start(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
+            when(dataFlowManager.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
             when(dispatcherRegistry.dispatch(any(), isA(TransferStartMessage.class))).thenReturn(completedFuture(StatusResult.success("any")));
 
             manager.start();
@@ -916,12 +916,12 @@ class TransferProcessManagerImplTest {
             when(transferProcessStore.nextNotLeased(anyInt(), stateIs(SUSPENDING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
             when(transferProcessStore.findById(process.getId())).thenReturn(process, process.toBuilder().state(SUSPENDING.code()).build());
             when(dispatcherRegistry.dispatch(any(), any())).thenReturn(completedFuture(StatusResult.success("any")));
-            when(dataFlowManager.suspend(any())).thenReturn(StatusResult.success());
+            when(dataFlowManager.suspendAsync(any())).thenReturn(completedFuture(StatusResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(dataFlowManager).suspend(process);
+                verify(dataFlowManager).suspendAsync(process);
                 var captor = ArgumentCaptor.forClass(TransferSuspensionMessage.class);
                 verify(dispatcherRegistry).dispatch(eq(Object.class), captor.capture());
                 var message = captor.getValue();
@@ -965,12 +965,12 @@ class TransferProcessManagerImplTest {
             var process = createTransferProcessBuilder(SUSPENDING_REQUESTED).type(PROVIDER).correlationId("counterPartyId").build();
             when(transferProcessStore.nextNotLeased(anyInt(), stateIs(SUSPENDING_REQUESTED.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
             when(transferProcessStore.findById(process.getId())).thenReturn(process, process.toBuilder().state(SUSPENDING_REQUESTED.code()).build());
-            when(dataFlowManager.suspend(any())).thenReturn(StatusResult.success());
+            when(dataFlowManager.suspendAsync(any())).thenReturn(completedFuture(StatusResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(dataFlowManager).suspend(process);
+                verify(dataFlowManager).suspendAsync(process);
                 verifyNoInteractions(dispatcherRegistry);
                 verify(transferProcessStore, atLeastOnce()).save(argThat(p -> p.getState() == SUSPENDED.code()));
                 verify(listener).suspended(process);
@@ -982,12 +982,12 @@ class TransferProcessManagerImplTest {
             var process = createTransferProcessBuilder(SUSPENDING_REQUESTED).type(PROVIDER).correlationId("counterPartyId").build();
             when(transferProcessStore.nextNotLeased(anyInt(), stateIs(SUSPENDING_REQUESTED.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
             when(transferProcessStore.findById(process.getId())).thenReturn(process, process.toBuilder().state(SUSPENDING_REQUESTED.code()).build());
-            when(dataFlowManager.suspend(any())).thenReturn(StatusResult.failure(ERROR_RETRY));
+            when(dataFlowManager.suspendAsync(any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY)));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(dataFlowManager).suspend(process);
+                verify(dataFlowManager).suspendAsync(process);
                 verifyNoInteractions(dispatcherRegistry);
                 verify(transferProcessStore, atLeastOnce()).save(argThat(p -> p.getState() == SUSPENDING_REQUESTED.code()));
             });
@@ -1003,12 +1003,12 @@ class TransferProcessManagerImplTest {
             var process = createTransferProcessBuilder(SUSPENDING_REQUESTED).type(PROVIDER).correlationId("counterPartyId").build();
             when(transferProcessStore.nextNotLeased(anyInt(), stateIs(SUSPENDING_REQUESTED.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
             when(transferProcessStore.findById(process.getId())).thenReturn(process, process.toBuilder().state(SUSPENDING_REQUESTED.code()).build());
-            when(dataFlowManager.suspend(any())).thenReturn(StatusResult.success());
+            when(dataFlowManager.suspendAsync(any())).thenReturn(completedFuture(StatusResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(dataFlowManager).suspend(process);
+                verify(dataFlowManager).suspendAsync(process);
                 verifyNoInteractions(dispatcherRegistry);
                 verify(transferProcessStore, atLeastOnce()).save(argThat(p -> p.getState() == SUSPENDED.code()));
                 verify(listener).suspended(process);
@@ -1025,8 +1025,8 @@ class TransferProcessManagerImplTest {
                 .thenReturn(List.of(transferProcess)).thenReturn(emptyList());
         when(dispatcherRegistry.dispatch(any(), any())).thenReturn(result);
         when(transferProcessStore.findById(transferProcess.getId())).thenReturn(transferProcess);
-        when(dataFlowManager.suspend(any())).thenReturn(StatusResult.success());
-        when(dataFlowManager.terminate(any())).thenReturn(StatusResult.success());
+        when(dataFlowManager.suspendAsync(any())).thenReturn(completedFuture(StatusResult.success()));
+        when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
 
         manager.start();
 
@@ -26,11 +26,15 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.connector.dataplane.selector.DataPlaneSelectorExtension.NAME;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
@@ -42,6 +46,10 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     public static final String NAME = "Data Plane Selector core";
 
     private static final int DEFAULT_CHECK_PERIOD = 60;
+    private static final long DEFAULT_SNAPSHOT_VALIDITY = 5000;
+    private static final long DEFAULT_PROBE_TIMEOUT = 5000;
+    private static final int DEFAULT_MAX_BACK_OFF = 600;
+    private static final int DEFAULT_PROBE_THREADS = 10;
 
     @Setting(description = "the iteration wait time in milliseconds in the data plane selector state machine.", defaultValue = DEFAULT_ITERATION_WAIT + "", key = "edc.data.plane.selector.state-machine.iteration-wait-millis")
     private long stateMachineIterationWait;
@@ -52,6 +60,22 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     @Setting(description = "the check period for data plane availability, in seconds", defaultValue = DEFAULT_CHECK_PERIOD + "", key = "edc.data.plane.selector.state-machine.check.period")
     private int selectorCheckPeriod;
 
+    @Setting(description = "the maximum time to wait for the availability check of a data plane, in milliseconds", defaultValue = DEFAULT_PROBE_TIMEOUT + "",
+            key = "edc.data.plane.selector.state-machine.check.timeout", min = 1)
+    private long probeTimeout;
+
+    @Setting(description = "the maximum wait between two availability checks of a data plane that keeps being unavailable, in seconds", defaultValue = DEFAULT_MAX_BACK_OFF + "",
+            key = "edc.data.plane.selector.state-machine.check.max-backoff", min = 1)
+    private int maxBackOff;
+
+    @Setting(description = "the maximum number of threads running blocking availability checks of data planes", defaultValue = DEFAULT_PROBE_THREADS + "",
+            key = "edc.data.plane.selector.state-machine.check.threads", min = 1)
+    private int probeThreads;
+
+    @Setting(description = "how long the available data plane instances are kept in memory for the selection, in milliseconds. 0 reads them from the store at every selection",
+            defaultValue = DEFAULT_SNAPSHOT_VALIDITY + "", key = "edc.data.plane.selector.snapshot.validity", min = 0)
+    private long snapshotValidity;
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
     @Inject
@@ -60,8 +84,13 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     private SelectionStrategyRegistry selectionStrategyRegistry;
     @Inject
     private DataPlaneClientFactory clientFactory;
+    @Inject
+    private Clock clock;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
 
     private DataPlaneSelectorManager manager;
+    private ExecutorService probeExecutor;
 
     @Override
     public String name() {
@@ -74,14 +103,19 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
         var configuration = new DataPlaneSelectorManagerConfiguration(
                 new ExponentialWaitStrategy(stateMachineIterationWait),
                 stateMachineBatchSize,
-                Duration.ofSeconds(selectorCheckPeriod)
+                Duration.ofSeconds(selectorCheckPeriod),
+                Duration.ofMillis(probeTimeout),
+                Duration.ofSeconds(maxBackOff)
         );
 
+        probeExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(probeThreads), "Data plane availability checks");
+
         manager = DataPlaneSelectorManagerImpl.Builder.newInstance()
                 .clientFactory(clientFactory)
                 .store(instanceStore)
                 .monitor(context.getMonitor())
                 .configuration(configuration)
+                .probeExecutor(probeExecutor)
                 .build();
     }
 
@@ -95,11 +129,14 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
         if (manager != null) {
             manager.stop();
         }
+        if (probeExecutor != null) {
+            probeExecutor.shutdownNow();
+        }
     }
 
     @Provider
     public DataPlaneSelectorService dataPlaneSelectorService() {
-        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext);
+        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext, clock, Duration.ofMillis(snapshotValidity));
     }
 
 }
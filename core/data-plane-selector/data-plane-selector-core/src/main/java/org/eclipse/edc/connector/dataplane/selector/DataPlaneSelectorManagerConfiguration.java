@@ -21,6 +21,8 @@ import java.time.Duration;
 public record DataPlaneSelectorManagerConfiguration(
         WaitStrategy waitStrategy,
         int batchSize,
-        Duration checkPeriod
+        Duration checkPeriod,
+        Duration probeTimeout,
+        Duration maxBackOff
 ) {
 }
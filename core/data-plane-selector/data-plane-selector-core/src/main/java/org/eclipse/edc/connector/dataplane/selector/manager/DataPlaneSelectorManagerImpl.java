@@ -21,24 +21,45 @@ import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstan
 import org.eclipse.edc.connector.dataplane.selector.spi.manager.DataPlaneSelectorManager;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
 import org.eclipse.edc.statemachine.AbstractStateEntityManager;
 import org.eclipse.edc.statemachine.Processor;
-import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.function.Function;
-
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.REGISTERED;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.UNAVAILABLE;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
-
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+
+/**
+ * Keeps track of the availability of the registered data planes.
+ * <p>
+ * The instances of every batch are probed concurrently, blocking checks run on the probe executor. Every probe is
+ * bounded by the probe timeout, after which the check is cancelled, so an unreachable data plane does not delay the
+ * checks of the others, and the results are saved together once all the probes of the batch are completed. Instances that keep failing are probed less and less often, the wait
+ * between two probes doubles at every failure, up to the maximum back-off.
+ */
 public class DataPlaneSelectorManagerImpl extends AbstractStateEntityManager<DataPlaneInstance, DataPlaneInstanceStore> implements DataPlaneSelectorManager {
 
+    private final Map<String, Integer> consecutiveFailures = new ConcurrentHashMap<>();
     private DataPlaneClientFactory clientFactory;
     private Duration checkPeriod = Duration.ofMinutes(1);
+    private Duration probeTimeout = Duration.ofSeconds(5);
+    private Duration maxBackOff = Duration.ofMinutes(10);
+    private Executor probeExecutor = ForkJoinPool.commonPool();
 
     private DataPlaneSelectorManagerImpl() {
     }
@@ -46,36 +67,85 @@ public class DataPlaneSelectorManagerImpl extends AbstractStateEntityManager<Dat
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processEntriesInState(REGISTERED, this::availability))
-                .processor(processEntriesInState(AVAILABLE, this::checkAvailability))
-                .processor(processEntriesInState(UNAVAILABLE, this::checkAvailability));
+                .processor(probeEntriesInState(REGISTERED, instance -> true))
+                .processor(probeEntriesInState(AVAILABLE, this::isCheckDue))
+                .processor(probeEntriesInState(UNAVAILABLE, this::isCheckDue));
     }
 
-    private boolean checkAvailability(DataPlaneInstance instance) {
-        if (Duration.between(Instant.ofEpochMilli(instance.getUpdatedAt()), clock.instant()).compareTo(checkPeriod) < 0) {
-            return false;
+    private boolean isCheckDue(DataPlaneInstance instance) {
+        return Duration.between(Instant.ofEpochMilli(instance.getUpdatedAt()), clock.instant()).compareTo(waitBeforeCheck(instance)) >= 0;
+    }
+
+    private Duration waitBeforeCheck(DataPlaneInstance instance) {
+        var failures = consecutiveFailures.getOrDefault(instance.getId(), 0);
+        if (failures <= 1) {
+            return checkPeriod;
         }
+        var backOff = checkPeriod.multipliedBy(1L << Math.min(failures - 1, 16));
+        return backOff.compareTo(maxBackOff) > 0 ? maxBackOff : backOff;
+    }
 
-        return availability(instance);
+    private Processor probeEntriesInState(DataPlaneInstanceStates state, Predicate<DataPlaneInstance> isDue) {
+        var filter = new Criterion[]{ hasState(state.code()) };
+        return () -> {
+            var instances = store.nextNotLeased(batchSize, filter);
+            var due = new ArrayList<DataPlaneInstance>();
+            for (var instance : instances) {
+                if (isDue.test(instance)) {
+                    due.add(instance);
+                } else {
+                    breakLease(instance);
+                }
+            }
+
+            if (due.isEmpty()) {
+                return 0L;
+            }
+
+            var probes = due.stream().map(this::probe).toList();
+            CompletableFuture.allOf(probes.toArray(CompletableFuture[]::new)).join();
+
+            for (var i = 0; i < due.size(); i++) {
+                applyProbeResult(due.get(i), probes.get(i).join());
+            }
+            store.saveAll(due);
+            due.forEach(instance -> monitor.debug(() -> "[%s] DataPlaneInstance %s is now in state %s"
+                    .formatted(getClass().getSimpleName(), instance.getId(), instance.stateAsString())));
+            return (long) due.size();
+        };
+    }
+
+    private CompletableFuture<StatusResult<DataPlaneLoad>> probe(DataPlaneInstance instance) {
+        var timeout = StatusResult.<DataPlaneLoad>failure(ERROR_RETRY, "Availability check of data plane %s timed out after %s ms"
+                .formatted(instance.getId(), probeTimeout.toMillis()));
+        var check = startCheck(instance);
+        var result = check
+                .exceptionally(throwable -> StatusResult.failure(ERROR_RETRY, "Availability check of data plane %s failed: %s"
+                        .formatted(instance.getId(), throwable.getMessage())))
+                .completeOnTimeout(timeout, probeTimeout.toMillis(), MILLISECONDS);
+        // a check that is still running once the probe is timed out gets cancelled, so it does not hold its connection
+        result.whenComplete((r, throwable) -> check.cancel(true));
+        return result;
+    }
+
+    private CompletableFuture<StatusResult<DataPlaneLoad>> startCheck(DataPlaneInstance instance) {
+        try {
+            return telemetry.contextPropagationMiddleware(() -> clientFactory.createClient(instance).checkLoadAsync(probeExecutor), instance).get();
+        } catch (Exception exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
     }
 
-    private boolean availability(DataPlaneInstance instance) {
-        var client = clientFactory.createClient(instance);
-        if (client.checkAvailability().succeeded()) {
+    private void applyProbeResult(DataPlaneInstance instance, StatusResult<DataPlaneLoad> result) {
+        if (result.succeeded()) {
+            consecutiveFailures.remove(instance.getId());
+            instance.updateLoad(result.getContent());
             instance.transitionToAvailable();
         } else {
+            consecutiveFailures.merge(instance.getId(), 1, Integer::sum);
+            instance.updateLoad(null);
             instance.transitionToUnavailable();
         }
-        update(instance);
-        return true;
-    }
-
-    private Processor processEntriesInState(DataPlaneInstanceStates state, Function<DataPlaneInstance, Boolean> function) {
-        var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
-                .process(telemetry.contextPropagationMiddleware(function))
-                .onNotProcessed(this::breakLease)
-                .build();
     }
 
     public static class Builder
@@ -104,10 +174,36 @@ public class DataPlaneSelectorManagerImpl extends AbstractStateEntityManager<Dat
             return this;
         }
 
+        /**
+         * The maximum time to wait for the availability check of a single instance, after that it is considered unavailable.
+         */
+        public Builder probeTimeout(Duration probeTimeout) {
+            manager.probeTimeout = probeTimeout;
+            return this;
+        }
+
+        /**
+         * The maximum wait between two availability checks of an instance that keeps failing.
+         */
+        public Builder maxBackOff(Duration maxBackOff) {
+            manager.maxBackOff = maxBackOff;
+            return this;
+        }
+
+        /**
+         * The executor on which blocking availability checks are run, it should be bounded.
+         */
+        public Builder probeExecutor(Executor probeExecutor) {
+            manager.probeExecutor = probeExecutor;
+            return this;
+        }
+
         public Builder configuration(DataPlaneSelectorManagerConfiguration configuration) {
             return waitStrategy(configuration.waitStrategy())
                     .batchSize(configuration.batchSize())
-                    .checkPeriod(configuration.checkPeriod());
+                    .checkPeriod(configuration.checkPeriod())
+                    .probeTimeout(configuration.probeTimeout())
+                    .maxBackOff(configuration.maxBackOff());
         }
     }
 }
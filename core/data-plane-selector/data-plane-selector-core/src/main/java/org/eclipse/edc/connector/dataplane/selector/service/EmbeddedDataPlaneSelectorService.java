@@ -21,24 +21,57 @@ import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrate
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
 
+/**
+ * {@link DataPlaneSelectorService} that works on the local {@link DataPlaneInstanceStore}.
+ * Optionally, the available instances can be kept in an in-memory snapshot that is reloaded from the store when older
+ * than the configured validity, or after an instance has been added or removed through this service, so that selecting a
+ * data plane does not need to query the store for every transfer. Every selection counts the new transfer in the load
+ * of the selected snapshot instance, so that load-aware strategies don't send all transfers to the same instance until
+ * the snapshot is reloaded with the loads reported by the availability checks.
+ */
 public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorService {
 
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
     private final TransactionContext transactionContext;
+    private final Clock clock;
+    private final Duration snapshotValidity;
+    private final Object snapshotLock = new Object();
+    private volatile Snapshot snapshot;
 
     public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext) {
+        this(store, selectionStrategyRegistry, transactionContext, Clock.systemUTC(), Duration.ZERO);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param store                     the data plane instance store.
+     * @param selectionStrategyRegistry the selection strategy registry.
+     * @param transactionContext        the transaction context.
+     * @param clock                     the clock.
+     * @param snapshotValidity          how long the snapshot of the available instances is used before being reloaded,
+     *                                  zero to query the store at every selection.
+     */
+    public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext,
+                                            Clock clock, Duration snapshotValidity) {
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
         this.transactionContext = transactionContext;
+        this.clock = clock;
+        this.snapshotValidity = snapshotValidity;
     }
 
     @Override
@@ -58,35 +91,38 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
             return ServiceResult.badRequest("Strategy " + sanitizedSelectionStrategy + " was not found");
         }
 
-        return transactionContext.execute(() -> {
-            try (var stream = store.getAll()) {
-                var dataPlanes = stream.filter(it -> it.getState() == AVAILABLE.code()).filter(dataPlane -> dataPlane.canHandle(source, transferType)).toList();
-                var dataPlane = strategy.apply(dataPlanes);
-                if (dataPlane == null) {
-                    return ServiceResult.notFound("DataPlane not found");
-                }
-                return ServiceResult.success(dataPlane);
-            }
-        });
+        var dataPlanes = availableInstances().stream().filter(dataPlane -> dataPlane.canHandle(source, transferType)).toList();
+        var dataPlane = strategy.apply(dataPlanes);
+        if (dataPlane == null) {
+            return ServiceResult.notFound("DataPlane not found");
+        }
+        if (!snapshotValidity.isZero()) {
+            recordAssignment(dataPlane);
+        }
+        return ServiceResult.success(dataPlane);
     }
 
     @Override
     public ServiceResult<Void> addInstance(DataPlaneInstance instance) {
-        return transactionContext.execute(() -> {
+        var result = transactionContext.execute(() -> {
             instance.transitionToRegistered();
             store.save(instance);
-            return ServiceResult.success();
+            return ServiceResult.<Void>success();
         });
+        invalidateSnapshot();
+        return result;
     }
 
     @Override
     public ServiceResult<Void> delete(String instanceId) {
-        return transactionContext.execute(() -> ServiceResult.from(store.deleteById(instanceId))).mapEmpty();
+        var result = transactionContext.execute(() -> ServiceResult.from(store.deleteById(instanceId))).mapEmpty();
+        invalidateSnapshot();
+        return result;
     }
 
     @Override
     public ServiceResult<Void> unregister(String instanceId) {
-        return transactionContext.execute(() -> {
+        var result = transactionContext.execute(() -> {
             StoreResult<Void> operation = store.findByIdAndLease(instanceId)
                     .map(it -> {
                         it.transitionToUnregistered();
@@ -96,6 +132,8 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
 
             return ServiceResult.from(operation);
         });
+        invalidateSnapshot();
+        return result;
     }
 
     @Override
@@ -108,4 +146,55 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
             return ServiceResult.success(instance);
         });
     }
+
+    private List<DataPlaneInstance> availableInstances() {
+        if (snapshotValidity.isZero()) {
+            return loadAvailableInstances();
+        }
+
+        var current = snapshot;
+        if (current == null || current.isExpired(clock.instant())) {
+            synchronized (snapshotLock) {
+                current = snapshot;
+                if (current == null || current.isExpired(clock.instant())) {
+                    // copies, so that the recorded assignments don't modify the instances of the store
+                    var instances = loadAvailableInstances().stream().map(DataPlaneInstance::copy).toList();
+                    current = new Snapshot(instances, clock.instant().plus(snapshotValidity));
+                    snapshot = current;
+                }
+            }
+        }
+        return current.instances();
+    }
+
+    private List<DataPlaneInstance> loadAvailableInstances() {
+        return transactionContext.execute(() -> {
+            try (var stream = store.getAll()) {
+                return stream.filter(it -> it.getState() == AVAILABLE.code()).toList();
+            }
+        });
+    }
+
+    private void recordAssignment(DataPlaneInstance instance) {
+        synchronized (instance) {
+            var load = instance.getLoad();
+            if (load != null) {
+                instance.updateLoad(new DataPlaneLoad(load.activeFlows() + 1, load.bytesPerSecond(), Math.max(0, load.freeCapacity() - 1)));
+            }
+        }
+    }
+
+    /**
+     * Drops the snapshot, to be called after the transaction that modified the instances has been committed, otherwise
+     * a concurrent selection could reload the snapshot with the old instances.
+     */
+    private void invalidateSnapshot() {
+        snapshot = null;
+    }
+
+    private record Snapshot(List<DataPlaneInstance> instances, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
 }
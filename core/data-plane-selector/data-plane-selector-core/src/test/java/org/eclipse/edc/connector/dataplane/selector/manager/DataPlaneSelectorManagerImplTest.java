@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstan
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -28,11 +29,18 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.REGISTERED;
@@ -45,6 +53,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -61,6 +70,8 @@ class DataPlaneSelectorManagerImplTest {
             .store(store)
             .clientFactory(clientFactory)
             .checkPeriod(checkPeriod)
+            .probeTimeout(Duration.ofMillis(500))
+            .probeExecutor(Executors.newFixedThreadPool(2))
             .clock(clock)
             .build();
 
@@ -71,29 +82,102 @@ class DataPlaneSelectorManagerImplTest {
         void shouldTransitionToAvailable_whenDataPlaneIsAvailable() {
             var instance = DataPlaneInstance.Builder.newInstance().state(REGISTERED.code()).url("http://any").build();
             when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(instance)).thenReturn(emptyList());
-            DataPlaneClient dataPlaneClient = mock();
+            var dataPlaneClient = mockClient();
+            when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(null));
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(store).saveAll(savedInstance(it -> it.getState() == AVAILABLE.code()));
+            });
+        }
+
+        @Test
+        void shouldStoreReportedLoad_whenDataPlaneIsAvailable() {
+            var instance = DataPlaneInstance.Builder.newInstance().state(REGISTERED.code()).url("http://any").build();
+            when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(instance)).thenReturn(emptyList());
+            var dataPlaneClient = mockClient();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            var load = new DataPlaneLoad(3, 1024, 5);
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(load));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(store).save(argThat(it -> it.getState() == AVAILABLE.code()));
+                verify(store).saveAll(savedInstance(it -> it.getState() == AVAILABLE.code() && load.equals(it.getLoad())));
             });
         }
 
         @Test
         void shouldTransitionToUnavailable_whenDataPlaneIsNotAvailable() {
+            var instance = DataPlaneInstance.Builder.newInstance().state(REGISTERED.code()).url("http://any").build();
+            when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(instance)).thenReturn(emptyList());
+            var dataPlaneClient = mockClient();
+            when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.failure(FATAL_ERROR));
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(store).saveAll(savedInstance(it -> it.getState() == UNAVAILABLE.code()));
+            });
+        }
+
+        @Test
+        void shouldTransitionToUnavailable_whenCheckTimesOut() {
+            var instance = DataPlaneInstance.Builder.newInstance().state(REGISTERED.code()).url("http://any").build();
+            when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(instance)).thenReturn(emptyList());
+            var dataPlaneClient = mockClient();
+            when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
+            when(dataPlaneClient.checkLoad()).thenAnswer(i -> {
+                Thread.sleep(5000);
+                return StatusResult.success(null);
+            });
+
+            manager.start();
+
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+                verify(store).saveAll(savedInstance(it -> it.getState() == UNAVAILABLE.code()));
+            });
+        }
+
+        @Test
+        void shouldCancelCheck_whenCheckTimesOut() {
             var instance = DataPlaneInstance.Builder.newInstance().state(REGISTERED.code()).url("http://any").build();
             when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.failure(FATAL_ERROR));
+            var check = new CompletableFuture<StatusResult<DataPlaneLoad>>();
+            when(dataPlaneClient.checkLoadAsync(any())).thenReturn(check);
+
+            manager.start();
+
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+                verify(store).saveAll(savedInstance(it -> it.getState() == UNAVAILABLE.code()));
+                assertThat(check).isCancelled();
+            });
+        }
+
+        @Test
+        void shouldCheckInstancesConcurrently() {
+            var slow = DataPlaneInstance.Builder.newInstance().id("slow").state(REGISTERED.code()).url("http://slow").build();
+            var fast = DataPlaneInstance.Builder.newInstance().id("fast").state(REGISTERED.code()).url("http://fast").build();
+            when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(slow, fast)).thenReturn(emptyList());
+            var fastChecked = new CountDownLatch(1);
+            var slowClient = mockClient();
+            when(slowClient.checkLoad()).thenAnswer(i -> fastChecked.await(1, TimeUnit.SECONDS) ? StatusResult.success(null) : StatusResult.failure(FATAL_ERROR));
+            var fastClient = mockClient();
+            when(fastClient.checkLoad()).thenAnswer(i -> {
+                fastChecked.countDown();
+                return StatusResult.success(null);
+            });
+            when(clientFactory.createClient(any())).thenAnswer(i -> i.getArgument(0, DataPlaneInstance.class) == slow ? slowClient : fastClient);
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(store).save(argThat(it -> it.getState() == UNAVAILABLE.code()));
+                verify(store).saveAll(argThat(saved -> saved.size() == 2 && saved.stream().allMatch(it -> it.getState() == AVAILABLE.code())));
             });
         }
 
@@ -108,14 +192,14 @@ class DataPlaneSelectorManagerImplTest {
             var instance = DataPlaneInstance.Builder.newInstance().state(AVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
             when(store.nextNotLeased(anyInt(), stateIs(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
-            DataPlaneClient dataPlaneClient = mock();
+            var dataPlaneClient = mockClient();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(null));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(store).save(argThat(it -> it.getState() == AVAILABLE.code()));
+                verify(store).saveAll(savedInstance(it -> it.getState() == AVAILABLE.code()));
             });
         }
 
@@ -125,14 +209,14 @@ class DataPlaneSelectorManagerImplTest {
             var instance = DataPlaneInstance.Builder.newInstance().state(AVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
             when(store.nextNotLeased(anyInt(), stateIs(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
-            DataPlaneClient dataPlaneClient = mock();
+            var dataPlaneClient = mockClient();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.failure(FATAL_ERROR));
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.failure(FATAL_ERROR));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(store).save(argThat(it -> it.getState() == UNAVAILABLE.code()));
+                verify(store).saveAll(savedInstance(it -> it.getState() == UNAVAILABLE.code()));
             });
         }
 
@@ -142,9 +226,9 @@ class DataPlaneSelectorManagerImplTest {
             var instance = DataPlaneInstance.Builder.newInstance().state(AVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
             when(store.nextNotLeased(anyInt(), stateIs(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
-            DataPlaneClient dataPlaneClient = mock();
+            var dataPlaneClient = mockClient();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(null));
 
             manager.start();
 
@@ -164,14 +248,14 @@ class DataPlaneSelectorManagerImplTest {
             var instance = DataPlaneInstance.Builder.newInstance().state(UNAVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
             when(store.nextNotLeased(anyInt(), stateIs(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
-            DataPlaneClient dataPlaneClient = mock();
+            var dataPlaneClient = mockClient();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.failure(FATAL_ERROR));
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.failure(FATAL_ERROR));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(store).save(argThat(it -> it.getState() == UNAVAILABLE.code()));
+                verify(store).saveAll(savedInstance(it -> it.getState() == UNAVAILABLE.code()));
             });
         }
 
@@ -181,14 +265,14 @@ class DataPlaneSelectorManagerImplTest {
             var instance = DataPlaneInstance.Builder.newInstance().state(UNAVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
             when(store.nextNotLeased(anyInt(), stateIs(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
-            DataPlaneClient dataPlaneClient = mock();
+            var dataPlaneClient = mockClient();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(null));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(store).save(argThat(it -> it.getState() == AVAILABLE.code()));
+                verify(store).saveAll(savedInstance(it -> it.getState() == AVAILABLE.code()));
             });
         }
 
@@ -198,9 +282,9 @@ class DataPlaneSelectorManagerImplTest {
             var instance = DataPlaneInstance.Builder.newInstance().state(UNAVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
             when(store.nextNotLeased(anyInt(), stateIs(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
-            DataPlaneClient dataPlaneClient = mock();
+            var dataPlaneClient = mockClient();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.success(null));
 
             manager.start();
 
@@ -209,6 +293,33 @@ class DataPlaneSelectorManagerImplTest {
                 verify(store, atLeast(2)).nextNotLeased(anyInt(), stateIs(UNAVAILABLE));
             });
         }
+
+        @Test
+        void shouldBackOff_whenDataPlaneKeepsBeingUnavailable() {
+            var updatedAt = now.minus(checkPeriod).minus(1, MILLIS);
+            when(store.nextNotLeased(anyInt(), stateIs(UNAVAILABLE))).thenAnswer(i -> List.of(DataPlaneInstance.Builder.newInstance()
+                    .id("id").state(UNAVAILABLE.code()).url("http://any").updatedAt(updatedAt.toEpochMilli()).build()));
+            var dataPlaneClient = mockClient();
+            when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
+            when(dataPlaneClient.checkLoad()).thenReturn(StatusResult.failure(FATAL_ERROR));
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(store, atLeast(4)).nextNotLeased(anyInt(), stateIs(UNAVAILABLE));
+                verify(dataPlaneClient, times(2)).checkLoad();
+            });
+        }
+    }
+
+    private Collection<DataPlaneInstance> savedInstance(Predicate<DataPlaneInstance> predicate) {
+        return argThat(saved -> saved.stream().anyMatch(predicate));
+    }
+
+    private DataPlaneClient mockClient() {
+        DataPlaneClient client = mock();
+        when(client.checkLoadAsync(any())).thenCallRealMethod();
+        return client;
     }
 
     private Criterion[] stateIs(DataPlaneInstanceStates state) {
@@ -22,15 +22,21 @@ import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrate
 import org.eclipse.edc.spi.result.ServiceFailure;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.REGISTERED;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.UNAVAILABLE;
@@ -43,6 +49,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -152,7 +159,6 @@ public class EmbeddedDataPlaneSelectorServiceTest {
 
         @Test
         void shouldFail_whenInstanceDoesNotExist() {
-            when(store.findById(any())).thenReturn(null);
 
             var result = service.findById("any");
 
@@ -197,6 +203,97 @@ public class EmbeddedDataPlaneSelectorServiceTest {
         }
     }
 
+    @Nested
+    class Snapshot {
+
+        private final Clock clock = mock();
+        private final DataPlaneSelectorService service = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry,
+                new NoopTransactionContext(), clock, Duration.ofSeconds(5));
+
+        @Test
+        void select_shouldReadStoreOnce_whenSnapshotIsValid() {
+            var instance = createInstanceBuilder("instance").state(AVAILABLE.code())
+                    .allowedSourceType("srcTestType").allowedTransferType("transferType").build();
+            when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+            when(store.getAll()).thenAnswer(i -> Stream.of(instance));
+            when(selectionStrategyRegistry.find(any())).thenReturn(instances -> instances.isEmpty() ? null : instances.get(0));
+
+            service.select(createAddress("srcTestType"), "transferType", "strategy");
+            var result = service.select(createAddress("srcTestType"), "transferType", "strategy");
+
+            assertThat(result).isSucceeded().extracting(DataPlaneInstance::getId).isEqualTo("instance");
+            verify(store, times(1)).getAll();
+        }
+
+        @Test
+        void select_shouldReloadSnapshot_whenExpired() {
+            var instance = createInstanceBuilder("instance").state(AVAILABLE.code())
+                    .allowedSourceType("srcTestType").allowedTransferType("transferType").build();
+            when(clock.instant()).thenReturn(Instant.ofEpochSecond(0), Instant.ofEpochSecond(0), Instant.ofEpochSecond(5));
+            when(store.getAll()).thenAnswer(i -> Stream.of(instance));
+            when(selectionStrategyRegistry.find(any())).thenReturn(instances -> instances.isEmpty() ? null : instances.get(0));
+
+            service.select(createAddress("srcTestType"), "transferType", "strategy");
+            service.select(createAddress("srcTestType"), "transferType", "strategy");
+
+            verify(store, times(2)).getAll();
+        }
+
+        @Test
+        void select_shouldReloadSnapshot_whenInstanceIsAdded() {
+            var instance = createInstanceBuilder("instance").state(AVAILABLE.code())
+                    .allowedSourceType("srcTestType").allowedTransferType("transferType").build();
+            when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+            when(store.getAll()).thenAnswer(i -> Stream.empty()).thenAnswer(i -> Stream.of(instance));
+            when(selectionStrategyRegistry.find(any())).thenReturn(instances -> instances.isEmpty() ? null : instances.get(0));
+
+            var notFound = service.select(createAddress("srcTestType"), "transferType", "strategy");
+            service.addInstance(createInstanceBuilder("instance").build());
+            var found = service.select(createAddress("srcTestType"), "transferType", "strategy");
+
+            assertThat(notFound).isFailed().extracting(ServiceFailure::getReason).isEqualTo(NOT_FOUND);
+            assertThat(found).isSucceeded().extracting(DataPlaneInstance::getId).isEqualTo("instance");
+        }
+
+        @Test
+        void select_shouldReloadSnapshot_whenInstanceIsDeletedAndCommitted() {
+            var instance = createInstanceBuilder("instance").state(AVAILABLE.code())
+                    .allowedSourceType("srcTestType").allowedTransferType("transferType").build();
+            var committed = new AtomicBoolean();
+            when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+            when(store.getAll()).thenAnswer(i -> committed.get() ? Stream.empty() : Stream.of(instance));
+            when(selectionStrategyRegistry.find(any())).thenReturn(instances -> instances.isEmpty() ? null : instances.get(0));
+            when(store.deleteById("instance")).thenAnswer(i -> {
+                // a concurrent selection, that still sees the instance because the deletion is not committed
+                service.select(createAddress("srcTestType"), "transferType", "strategy");
+                return StoreResult.success();
+            });
+
+            service.select(createAddress("srcTestType"), "transferType", "strategy");
+            service.delete("instance");
+            committed.set(true);
+            var result = service.select(createAddress("srcTestType"), "transferType", "strategy");
+
+            assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(NOT_FOUND);
+        }
+
+        @Test
+        void select_shouldCountAssignmentInSnapshotLoad() {
+            var instance = createInstanceBuilder("instance").state(AVAILABLE.code())
+                    .allowedSourceType("srcTestType").allowedTransferType("transferType")
+                    .load(new DataPlaneLoad(0, 100, 10)).build();
+            when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+            when(store.getAll()).thenAnswer(i -> Stream.of(instance));
+            when(selectionStrategyRegistry.find(any())).thenReturn(instances -> instances.isEmpty() ? null : instances.get(0));
+
+            service.select(createAddress("srcTestType"), "transferType", "strategy");
+            var result = service.select(createAddress("srcTestType"), "transferType", "strategy");
+
+            assertThat(result).isSucceeded().extracting(DataPlaneInstance::getLoad).isEqualTo(new DataPlaneLoad(2, 100, 8));
+            assertThat(instance.getLoad()).isEqualTo(new DataPlaneLoad(0, 100, 10));
+        }
+    }
+
     private DataPlaneInstance.Builder createInstanceBuilder(String id) {
         return DataPlaneInstance.Builder.newInstance()
                 .id(id)
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.dataplane.framework.pipeline.PipelineServiceImpl;
+import org.eclipse.edc.connector.dataplane.framework.pipeline.ThroughputMeter;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryAccessTokenDataStore;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataPlaneStore;
@@ -22,6 +23,7 @@ import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService
 import org.eclipse.edc.connector.dataplane.spi.iam.NoOpDataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferMetrics;
 import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -41,6 +43,9 @@ public class DataPlaneDefaultServicesExtension implements ServiceExtension {
     private Clock clock;
     @Inject
     private CriterionOperatorRegistry criterionOperatorRegistry;
+    @Inject
+    private TransferMetrics transferMetrics;
+    private ThroughputMeter throughputMeter;
 
     @Override
     public String name() {
@@ -64,7 +69,20 @@ public class DataPlaneDefaultServicesExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public PipelineService pipelineService(ServiceExtensionContext context) {
-        return new PipelineServiceImpl(context.getMonitor());
+        return new PipelineServiceImpl(context.getMonitor(), throughputMeter());
+    }
+
+    @Provider
+    public ThroughputMeter throughputMeter() {
+        if (throughputMeter == null) {
+            throughputMeter = new ThroughputMeter(transferMetrics);
+        }
+        return throughputMeter;
+    }
+
+    @Provider(isDefault = true)
+    public TransferMetrics transferMetrics() {
+        return TransferMetrics.noop();
     }
 
     // todo: should this be a default service?
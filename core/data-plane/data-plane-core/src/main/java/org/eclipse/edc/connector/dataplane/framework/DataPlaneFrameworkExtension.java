@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess.TransferProcessApiClient;
 import org.eclipse.edc.connector.dataplane.framework.manager.DataPlaneManagerImpl;
+import org.eclipse.edc.connector.dataplane.framework.pipeline.ThroughputMeter;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceRegistryImpl;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
@@ -24,6 +25,8 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServ
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.connector.dataplane.util.scheduler.FairShareScheduler;
+import org.eclipse.edc.connector.dataplane.util.scheduler.FlowShare;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -37,11 +40,15 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.util.concurrency.VirtualThreads;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import static org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager.DEFAULT_CHECKPOINT_INTERVAL;
 import static org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager.DEFAULT_FLOW_LEASE_FACTOR;
 import static org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager.DEFAULT_FLOW_LEASE_TIME;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
@@ -58,6 +65,7 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Framework";
     private static final int DEFAULT_TRANSFER_THREADS = 20;
+    private static final int DEFAULT_VIRTUAL_TRANSFER_CONCURRENCY = 1000;
 
     @Setting(
             description = "the iteration wait time in milliseconds in the data plane state machine.",
@@ -93,10 +101,68 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     )
     private int numThreads;
 
+    @Setting(
+            description = "Run the data transfers on virtual threads instead of a pool of platform threads. Requires Java 21 or later, " +
+                    "otherwise the platform threads pool is used",
+            defaultValue = "false",
+            key = "edc.dataplane.transfer.virtual-threads.enabled"
+    )
+    private boolean virtualThreads;
+
+    @Setting(
+            description = "Maximum number of transfer tasks running concurrently on virtual threads, it replaces the thread pool size as concurrency limit",
+            defaultValue = DEFAULT_VIRTUAL_TRANSFER_CONCURRENCY + "",
+            key = "edc.dataplane.transfer.virtual-threads.concurrency",
+            min = 1
+    )
+    private int virtualThreadsConcurrency;
+
+    @Setting(
+            description = "Minimum time in milliseconds between two persisted checkpoints of a resumable PUSH transfer",
+            defaultValue = DEFAULT_CHECKPOINT_INTERVAL + "",
+            key = "edc.dataplane.transfer.checkpoint.interval"
+    )
+    private long checkpointInterval;
+
+    @Setting(
+            description = "Maximum number of data flows transferred concurrently, further flows wait in RECEIVED state. 0 means unlimited",
+            defaultValue = "0",
+            key = "edc.dataplane.transfer.flows.max",
+            min = 0
+    )
+    private int maxFlows;
+
+    @Setting(
+            description = "Default weight of a data flow: the number of its part transfers dispatched in a row before the next flow gets its turn. " +
+                    "Can be overridden per transfer with the '" + FlowShare.WEIGHT_PROPERTY + "' property",
+            defaultValue = "1",
+            key = "edc.dataplane.transfer.flow.weight",
+            min = 1
+    )
+    private int flowWeight;
+
+    @Setting(
+            description = "Default maximum bytes per second transferred by a single data flow, 0 means unlimited. " +
+                    "Can be overridden per transfer with the '" + FlowShare.BANDWIDTH_PROPERTY + "' property",
+            defaultValue = "0",
+            key = "edc.dataplane.transfer.bandwidth.flow",
+            min = 0
+    )
+    private long flowBandwidth;
+
+    @Setting(
+            description = "Maximum bytes per second transferred by all the data flows of the same participant, 0 means unlimited",
+            defaultValue = "0",
+            key = "edc.dataplane.transfer.bandwidth.participant",
+            min = 0
+    )
+    private long participantBandwidth;
+
     @Configuration
     private FlowLeaseConfiguration flowLeaseConfiguration;
 
     private DataPlaneManagerImpl dataPlaneManager;
+    private FairShareScheduler scheduler;
 
     @Inject
     private TransferServiceSelectionStrategy transferServiceSelectionStrategy;
@@ -114,6 +180,8 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     private PipelineService pipelineService;
     @Inject
     private DataPlaneAuthorizationService authorizationService;
+    @Inject
+    private ThroughputMeter throughputMeter;
 
     @Override
     public String name() {
@@ -130,6 +198,20 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
 
         var waitStrategy = new ExponentialWaitStrategy(iterationWaitMillis);
 
+        var virtualThreadsExecutor = virtualThreads ? VirtualThreads.newVirtualThreadPerTaskExecutor() : Optional.<ExecutorService>empty();
+        if (virtualThreads && virtualThreadsExecutor.isEmpty()) {
+            monitor.warning("Virtual threads are not supported by the running JVM, data transfers will run on a pool of %d platform threads".formatted(numThreads));
+        }
+        var transferExecutor = virtualThreadsExecutor.orElseGet(() -> Executors.newFixedThreadPool(numThreads));
+
+        scheduler = FairShareScheduler.Builder.newInstance()
+                .delegate(executorInstrumentation.instrument(transferExecutor, "Data plane transfers"))
+                .timer(Executors.newSingleThreadScheduledExecutor())
+                .concurrency(virtualThreadsExecutor.isPresent() ? virtualThreadsConcurrency : numThreads)
+                .maxFlows(maxFlows)
+                .participantBandwidth(participantBandwidth)
+                .build();
+
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
                 .waitStrategy(waitStrategy)
                 .batchSize(batchSize)
@@ -144,6 +226,10 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
                 .telemetry(telemetry)
                 .runtimeId(context.getRuntimeId())
                 .flowLeaseConfiguration(flowLeaseConfiguration)
+                .checkpointInterval(checkpointInterval)
+                .scheduler(scheduler)
+                .flowShare(new FlowShare(flowWeight, flowBandwidth))
+                .throughput(throughputMeter::bytesPerSecond)
                 .build();
 
         context.registerService(DataPlaneManager.class, dataPlaneManager);
@@ -165,9 +251,7 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
 
     @Provider
     public DataTransferExecutorServiceContainer dataTransferExecutorServiceContainer(ServiceExtensionContext context) {
-        var executorService = Executors.newFixedThreadPool(numThreads);
-        return new DataTransferExecutorServiceContainer(
-                executorInstrumentation.instrument(executorService, "Data plane transfers"));
+        return new DataTransferExecutorServiceContainer(scheduler);
     }
 
     @NotNull
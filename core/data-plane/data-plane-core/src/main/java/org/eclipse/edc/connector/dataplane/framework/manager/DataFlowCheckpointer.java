@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.manager;
+
+import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferSummary;
+import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
+
+/**
+ * {@link TransferCheckpoint} of a {@link DataFlow}: it collects the ranges committed by the sink and persists on the
+ * data flow the offset up to which all the bytes have been committed, at most once every interval. It also keeps the
+ * {@link TransferSummary} reported at the end of the transfer.
+ * It's guarded by a {@link Lock} rather than by {@code synchronized}, because the persistence happens while holding it:
+ * this way a transfer running on a virtual thread doesn't pin its carrier thread while waiting for the store.
+ */
+class DataFlowCheckpointer implements TransferCheckpoint {
+
+    private final String dataFlowId;
+    private final DataPlaneStore store;
+    private final Clock clock;
+    private final long interval;
+    private final Monitor monitor;
+    private final NavigableMap<Long, Long> pending = new TreeMap<>();
+    private final Lock lock = new ReentrantLock();
+    private long committedOffset;
+    private long persistedOffset;
+    private long lastPersistence;
+    private volatile TransferSummary summary;
+
+    DataFlowCheckpointer(DataFlow dataFlow, DataPlaneStore store, Clock clock, long interval, Monitor monitor) {
+        this.dataFlowId = dataFlow.getId();
+        this.store = store;
+        this.clock = clock;
+        this.interval = interval;
+        this.monitor = monitor;
+        this.committedOffset = dataFlow.getCheckpoint();
+        this.persistedOffset = dataFlow.getCheckpoint();
+        this.lastPersistence = clock.millis();
+    }
+
+    @Override
+    public long offset() {
+        lock.lock();
+        try {
+            return committedOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void committed(long offset, long length) {
+        lock.lock();
+        try {
+            pending.merge(offset, offset + length, Math::max);
+            while (!pending.isEmpty() && pending.firstKey() <= committedOffset) {
+                committedOffset = Math.max(committedOffset, pending.pollFirstEntry().getValue());
+            }
+
+            var now = clock.millis();
+            if (committedOffset > persistedOffset && now - lastPersistence >= interval) {
+                persist(committedOffset);
+                lastPersistence = now;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void completed(TransferSummary summary) {
+        this.summary = summary;
+    }
+
+    /**
+     * The summary reported at the end of the transfer.
+     *
+     * @return the summary, null if the transfer didn't report it.
+     */
+    @Nullable
+    TransferSummary summary() {
+        return summary;
+    }
+
+    private void persist(long offset) {
+        var result = store.findByIdAndLease(dataFlowId);
+        if (result.failed()) {
+            monitor.debug(() -> "Cannot persist checkpoint of DataFlow %s: %s".formatted(dataFlowId, result.getFailureDetail()));
+            return;
+        }
+
+        var dataFlow = result.getContent();
+        if (dataFlow.getState() == STARTED.code()) {
+            dataFlow.updateCheckpoint(offset);
+            persistedOffset = offset;
+            monitor.debug(() -> "Persisted checkpoint of DataFlow %s at offset %d".formatted(dataFlowId, offset));
+        }
+        store.save(dataFlow);
+    }
+}
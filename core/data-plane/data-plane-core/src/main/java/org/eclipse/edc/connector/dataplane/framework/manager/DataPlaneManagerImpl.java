@@ -22,14 +22,19 @@ import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.connector.dataplane.util.scheduler.FairShareScheduler;
+import org.eclipse.edc.connector.dataplane.util.scheduler.FlowShare;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
 import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import org.eclipse.edc.statemachine.AbstractStateEntityManager;
 import org.eclipse.edc.statemachine.Processor;
@@ -43,7 +48,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -68,6 +76,11 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
     private TransferProcessApiClient transferProcessClient;
     private String runtimeId;
     private FlowLeaseConfiguration flowLeaseConfiguration = new FlowLeaseConfiguration();
+    private long lastFlowLeasesRenewal = 0L;
+    private long checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+    private FairShareScheduler scheduler;
+    private FlowShare flowShare = FlowShare.DEFAULT;
+    private LongSupplier throughput = () -> 0;
 
     private DataPlaneManagerImpl() {
 
@@ -98,6 +111,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
                 .traceContext(telemetry.getCurrentTraceContext())
                 .properties(startMessage.getProperties())
                 .transferType(startMessage.getTransferType())
+                .participantId(startMessage.getParticipantId())
                 .runtimeId(runtimeId);
 
         var response = switch (startMessage.getFlowType()) {
@@ -134,6 +148,14 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
                 });
     }
 
+    @Override
+    public @Nullable DataPlaneLoad getLoad() {
+        if (scheduler == null) {
+            return null;
+        }
+        return new DataPlaneLoad(scheduler.admittedFlows(), throughput.getAsLong(), scheduler.freeCapacity());
+    }
+
     @Override
     public StatusResult<Void> restartFlows() {
         var now = clock.millis();
@@ -153,24 +175,32 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
     
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
-        Supplier<Criterion> ownedByThisRuntime = () -> new Criterion("runtimeId", "=", runtimeId);
         Supplier<Criterion> ownedByAnotherRuntime = () -> new Criterion("runtimeId", "!=", runtimeId);
-        Supplier<Criterion> flowLeaseNeedsToBeUpdated = () -> new Criterion("updatedAt", "<", clock.millis() - flowLeaseConfiguration.time());
         Supplier<Criterion> danglingTransfer = () -> new Criterion("updatedAt", "<", clock.millis() - flowLeaseConfiguration.abandonTime());
 
         return builder
-                .processor(processDataFlowInState(STARTED, this::updateFlowLease, ownedByThisRuntime, flowLeaseNeedsToBeUpdated))
+                .processor(this::renewFlowLeases)
                 .processor(processDataFlowInState(STARTED, this::restartFlow, ownedByAnotherRuntime, danglingTransfer))
-                .processor(processDataFlowInState(RECEIVED, this::processReceived))
+                .processor(processDataFlowInState(RECEIVED, this::admissibleBatchSize, this::processReceived))
                 .processor(processDataFlowInState(COMPLETED, this::processCompleted))
                 .processor(processDataFlowInState(FAILED, this::processFailed));
     }
 
-    private boolean updateFlowLease(DataFlow dataFlow) {
-        dataFlow.transitToReceived();
-        dataFlow.transitionToStarted(runtimeId);
-        store.save(dataFlow);
-        return true;
+    /**
+     * Renews the ownership of all the started flows owned by this runtime with a single bulk operation on the store,
+     * at most once every flow lease time. The renewal is not counted as processed entities, so it doesn't prevent the
+     * state machine from applying the wait strategy.
+     *
+     * @return always 0.
+     */
+    private Long renewFlowLeases() {
+        var now = clock.millis();
+        if (now - lastFlowLeasesRenewal >= flowLeaseConfiguration.time()) {
+            var renewed = store.renewFlowLeases(runtimeId);
+            lastFlowLeasesRenewal = now;
+            monitor.debug(() -> "Renewed flow lease of %d data flows owned by runtime %s".formatted(renewed, runtimeId));
+        }
+        return 0L;
     }
 
     private boolean restartFlow(DataFlow dataFlow) {
@@ -253,34 +283,78 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
             return true;
         }
 
-        dataFlow.transitionToStarted(runtimeId);
-        update(dataFlow);
-
-        return entityRetryProcessFactory.retryProcessor(dataFlow)
-                .doProcess(Process.<DataFlow, Object, StreamResult<Object>>future("Start data flow", (d, v) -> transferService.transfer(request))
-                        .entityReload(store::findByIdAndLease))
-                .onSuccess((f, r) -> {
-                    if (f.getState() != STARTED.code()) {
-                        return;
-                    }
-
-                    if (r.succeeded()) {
-                        f.transitToCompleted();
-                    } else {
-                        f.transitToFailed(r.getFailureDetail());
-                    }
-
-                    update(f);
-                })
-                .onFailure((f, t) -> {
-                    f.transitToReceived();
-                    update(f);
-                })
-                .onFinalFailure((f, t) -> {
-                    f.transitToFailed(t.getMessage());
-                    update(f);
-                })
-                .execute();
+        if (!admit(dataFlow)) {
+            // the lease is broken by the processor, as for every entity that has not been processed
+            monitor.debug(() -> "DataFlow %s will be started later, the maximum number of concurrent data flows has been reached".formatted(dataFlow.getId()));
+            return false;
+        }
+
+        var started = false;
+        try {
+            dataFlow.transitionToStarted(runtimeId);
+            update(dataFlow);
+
+            var checkpoint = new DataFlowCheckpointer(dataFlow, store, clock, checkpointInterval, monitor);
+            started = entityRetryProcessFactory.retryProcessor(dataFlow)
+                    .doProcess(Process.<DataFlow, Object, StreamResult<Object>>future("Start data flow", (d, v) -> transfer(transferService, request, checkpoint, d))
+                            .entityReload(store::findByIdAndLease))
+                    .onSuccess((f, r) -> {
+                        if (f.getState() != STARTED.code()) {
+                            return;
+                        }
+
+                        var summary = checkpoint.summary();
+                        if (summary != null) {
+                            f.updateTransferSummary(summary);
+                        }
+
+                        if (r.succeeded()) {
+                            f.transitToCompleted();
+                        } else {
+                            f.transitToFailed(r.getFailureDetail());
+                        }
+
+                        update(f);
+                    })
+                    .onFailure((f, t) -> {
+                        f.transitToReceived();
+                        update(f);
+                    })
+                    .onFinalFailure((f, t) -> {
+                        f.transitToFailed(t.getMessage());
+                        update(f);
+                    })
+                    .execute();
+            return started;
+        } finally {
+            if (!started) {
+                release(dataFlow);
+            }
+        }
+    }
+
+    /**
+     * Starts the transfer of an admitted data flow, that is released when the transfer completes, also when it fails
+     * before returning its future.
+     */
+    private CompletableFuture<StreamResult<Object>> transfer(TransferService transferService, DataFlowStartMessage request, TransferCheckpoint checkpoint, DataFlow dataFlow) {
+        try {
+            return transferService.transfer(request, checkpoint)
+                    .whenComplete((result, throwable) -> release(dataFlow));
+        } catch (RuntimeException e) {
+            release(dataFlow);
+            throw e;
+        }
+    }
+
+    private boolean admit(DataFlow dataFlow) {
+        return scheduler == null || scheduler.admit(dataFlow.getId(), dataFlow.getParticipantId(), flowShare.withOverrides(dataFlow.getProperties()));
+    }
+
+    private void release(DataFlow dataFlow) {
+        if (scheduler != null) {
+            scheduler.release(dataFlow.getId());
+        }
     }
 
     private boolean processCompleted(DataFlow dataFlow) {
@@ -307,13 +381,30 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
         return true;
     }
 
+    /**
+     * Received flows are leased only as long as the scheduler can admit them, so that, while the maximum number of
+     * concurrent flows is reached, flows that would not be admitted are not leased and released over and over.
+     */
+    private int admissibleBatchSize() {
+        return scheduler == null ? batchSize : Math.min(batchSize, scheduler.admissibleFlows());
+    }
+
     @SafeVarargs
     private Processor processDataFlowInState(DataFlowStates state, Function<DataFlow, Boolean> function, Supplier<Criterion>... additionalCriteria) {
+        return processDataFlowInState(state, () -> batchSize, function, additionalCriteria);
+    }
+
+    @SafeVarargs
+    private Processor processDataFlowInState(DataFlowStates state, IntSupplier limit, Function<DataFlow, Boolean> function, Supplier<Criterion>... additionalCriteria) {
         Supplier<Collection<DataFlow>> entitiesSupplier = () -> {
+            var max = limit.getAsInt();
+            if (max <= 0) {
+                return List.of();
+            }
             var additional = Arrays.stream(additionalCriteria).map(Supplier::get);
             var filter = Stream.concat(Stream.of(new Criterion[]{ hasState(state.code()) }), additional)
                     .toArray(Criterion[]::new);
-            return store.nextNotLeased(batchSize, filter);
+            return store.nextNotLeased(max, filter);
         };
 
         return ProcessorImpl.Builder.newInstance(entitiesSupplier)
@@ -368,6 +459,29 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
             manager.flowLeaseConfiguration = flowLeaseConfiguration;
             return this;
         }
+
+        public Builder checkpointInterval(long checkpointInterval) {
+            manager.checkpointInterval = checkpointInterval;
+            return this;
+        }
+
+        public Builder scheduler(FairShareScheduler scheduler) {
+            manager.scheduler = scheduler;
+            return this;
+        }
+
+        public Builder flowShare(FlowShare flowShare) {
+            manager.flowShare = flowShare;
+            return this;
+        }
+
+        /**
+         * Supplier of the bytes per second currently transferred, reported as part of the load.
+         */
+        public Builder throughput(LongSupplier throughput) {
+            manager.throughput = throughput;
+            return this;
+        }
     }
 
 }
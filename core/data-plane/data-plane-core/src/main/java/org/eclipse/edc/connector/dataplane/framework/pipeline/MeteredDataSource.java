@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ForwardingPart;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferMetrics;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferSummary;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Wraps a {@link DataSource} measuring the data read from it.
+ * Every part is wrapped so that its bytes are counted as they are read: the counting adds no allocation to the read
+ * path. Sinks can still recognize the part types, and use optimized transfer paths, through
+ * {@link ForwardingPart#unwrap(Part)}, content they move without reading it is counted when they report it.
+ */
+class MeteredDataSource implements DataSource {
+
+    private static final long NOT_YET = -1;
+
+    private final DataSource source;
+    private final String sourceType;
+    private final String sinkType;
+    private final TransferMetrics metrics;
+    private final long start = System.nanoTime();
+    private final AtomicLong firstByte = new AtomicLong(NOT_YET);
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder parts = new LongAdder();
+
+    MeteredDataSource(DataSource source, String sourceType, String sinkType, TransferMetrics metrics) {
+        this.source = source;
+        this.sourceType = sourceType;
+        this.sinkType = sinkType;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        return source.openPartStream().map(stream -> stream.map(this::meter));
+    }
+
+    @Override
+    public void close() throws Exception {
+        source.close();
+    }
+
+    /**
+     * Summarize the data read so far.
+     *
+     * @return the transfer summary.
+     */
+    TransferSummary summary() {
+        var now = System.nanoTime();
+        var firstByteAt = firstByte.get();
+        var timeToFirstByte = firstByteAt == NOT_YET ? NOT_YET : TimeUnit.NANOSECONDS.toMillis(firstByteAt - start);
+        return new TransferSummary(bytes.sum(), parts.sum(), timeToFirstByte, TimeUnit.NANOSECONDS.toMillis(now - start));
+    }
+
+    /**
+     * Summarize the data read and report it to the {@link TransferMetrics}.
+     *
+     * @param succeeded whether the transfer succeeded.
+     * @return the transfer summary.
+     */
+    TransferSummary completed(boolean succeeded) {
+        var summary = summary();
+        metrics.transferCompleted(sourceType, sinkType, summary, succeeded);
+        return summary;
+    }
+
+    private Part meter(Part part) {
+        parts.increment();
+        return new MeteredPart(part);
+    }
+
+    private void firstByte() {
+        if (firstByte.get() == NOT_YET) {
+            firstByte.compareAndSet(NOT_YET, System.nanoTime());
+        }
+    }
+
+    private class MeteredPart extends ForwardingPart {
+
+        MeteredPart(Part part) {
+            super(part);
+        }
+
+        @Override
+        protected InputStream decorate(InputStream stream) {
+            return new CountingInputStream(stream);
+        }
+
+        @Override
+        protected void transferring(long count) {
+            if (count > 0) {
+                firstByte();
+                bytes.add(count);
+            }
+        }
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+
+        private final long opened = System.nanoTime();
+        private long count;
+        private boolean closed;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var read = super.read();
+            if (read != -1) {
+                counted(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var read = in.read(buffer, offset, length);
+            if (read > 0) {
+                counted(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var skipped = super.skip(n);
+            if (skipped > 0) {
+                counted(skipped);
+            }
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                bytes.add(count);
+                metrics.partTransferred(sourceType, sinkType, count, System.nanoTime() - opened);
+            }
+            super.close();
+        }
+
+        private void counted(long read) {
+            if (count == 0) {
+                firstByte();
+            }
+            count += read;
+        }
+    }
+}
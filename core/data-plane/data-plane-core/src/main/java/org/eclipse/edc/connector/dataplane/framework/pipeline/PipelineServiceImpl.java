@@ -22,6 +22,8 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferMetrics;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
@@ -48,9 +50,15 @@ public class PipelineServiceImpl implements PipelineService {
     private final List<DataSinkFactory> sinkFactories = new ArrayList<>();
     private final Map<String, DataSource> sources = new ConcurrentHashMap<>();
     private final Monitor monitor;
+    private final TransferMetrics metrics;
 
     public PipelineServiceImpl(Monitor monitor) {
+        this(monitor, TransferMetrics.noop());
+    }
+
+    public PipelineServiceImpl(Monitor monitor, TransferMetrics metrics) {
         this.monitor = monitor;
+        this.metrics = metrics;
     }
 
     @Override
@@ -98,8 +106,25 @@ public class PipelineServiceImpl implements PipelineService {
         return transfer(request, sink);
     }
 
+    @WithSpan
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, TransferCheckpoint checkpoint) {
+        var sinkFactory = getSinkFactory(request);
+        if (sinkFactory == null) {
+            return noSinkFactory(request);
+        }
+
+        var sink = sinkFactory.createSink(request);
+
+        return transfer(request, sink, checkpoint);
+    }
+
     @Override
     public CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, DataSink sink) {
+        return transfer(request, sink, TransferCheckpoint.NONE);
+    }
+
+    private CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, DataSink sink, TransferCheckpoint checkpoint) {
         var sourceFactory = getSourceFactory(request);
         if (sourceFactory == null) {
             return noSourceFactory(request);
@@ -109,13 +134,34 @@ public class PipelineServiceImpl implements PipelineService {
         sources.put(request.getProcessId(), source);
         monitor.debug(() -> format("Transferring from %s to %s for flow id: %s.",
                 request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType(), request.getProcessId()));
-        return sink.transfer(source)
+
+        return transferFrom(request, source, sink, checkpoint)
                 .thenApply(result -> {
                     terminate(request.getProcessId());
                     return result;
                 });
     }
 
+    private CompletableFuture<StreamResult<Object>> transferFrom(DataFlowStartMessage request, DataSource source, DataSink sink, TransferCheckpoint checkpoint) {
+        if (checkpoint == TransferCheckpoint.NONE && metrics == TransferMetrics.noop()) {
+            return sink.transfer(source);
+        }
+
+        var offset = checkpoint.offset();
+        var remaining = source;
+        if (offset > 0) {
+            monitor.debug(() -> format("Resuming transfer from offset %d.", offset));
+            remaining = new ResumedDataSource(source, offset);
+        }
+
+        var metered = new MeteredDataSource(remaining, request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType(), metrics);
+        var transfer = checkpoint == TransferCheckpoint.NONE ? sink.transfer(metered) : sink.transfer(metered, checkpoint);
+        return transfer.whenComplete((result, throwable) -> {
+            var summary = metered.completed(throwable == null && result.succeeded());
+            checkpoint.completed(summary);
+        });
+    }
+
     @Override
     public StreamResult<Void> terminate(DataFlow dataFlow) {
         return terminate(dataFlow.getId());
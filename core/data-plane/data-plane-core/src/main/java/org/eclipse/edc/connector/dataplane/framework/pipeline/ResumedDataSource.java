@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.OffsetPart;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+
+import java.util.stream.Stream;
+
+/**
+ * Wraps a {@link DataSource} skipping the {@link OffsetPart}s that end before the passed offset, because they have
+ * already been committed to the destination. Parts without offset are never skipped.
+ */
+class ResumedDataSource implements DataSource {
+
+    private final DataSource source;
+    private final long offset;
+
+    ResumedDataSource(DataSource source, long offset) {
+        this.source = source;
+        this.offset = offset;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        return source.openPartStream().map(parts -> parts.filter(this::notCommitted));
+    }
+
+    @Override
+    public void close() throws Exception {
+        source.close();
+    }
+
+    private boolean notCommitted(Part part) {
+        return !(part instanceof OffsetPart offsetPart) || offsetPart.offset() + offsetPart.size() > offset;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferMetrics;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferSummary;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link TransferMetrics} that measures the throughput of the data plane, i.e. the bytes of the transfers completed
+ * in the last {@link #WINDOW_SECONDS} seconds, and passes all the measurements on to a delegate.
+ */
+public class ThroughputMeter implements TransferMetrics {
+
+    public static final int WINDOW_SECONDS = 10;
+
+    private final TransferMetrics delegate;
+    private final LongSupplier nanoTime;
+    private final long[] bytes = new long[WINDOW_SECONDS];
+    private final long[] seconds = new long[WINDOW_SECONDS];
+
+    public ThroughputMeter(TransferMetrics delegate) {
+        this(delegate, System::nanoTime);
+    }
+
+    public ThroughputMeter(TransferMetrics delegate, LongSupplier nanoTime) {
+        this.delegate = delegate;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public void partTransferred(String sourceType, String sinkType, long bytes, long latencyNanos) {
+        delegate.partTransferred(sourceType, sinkType, bytes, latencyNanos);
+    }
+
+    @Override
+    public void transferCompleted(String sourceType, String sinkType, TransferSummary summary, boolean succeeded) {
+        record(summary.bytes());
+        delegate.transferCompleted(sourceType, sinkType, summary, succeeded);
+    }
+
+    /**
+     * Average bytes per second transferred in the last {@link #WINDOW_SECONDS} seconds.
+     *
+     * @return the throughput.
+     */
+    public synchronized long bytesPerSecond() {
+        var now = currentSecond();
+        var total = 0L;
+        for (var i = 0; i < WINDOW_SECONDS; i++) {
+            if (now - seconds[i] < WINDOW_SECONDS) {
+                total += bytes[i];
+            }
+        }
+        return total / WINDOW_SECONDS;
+    }
+
+    private synchronized void record(long transferred) {
+        var now = currentSecond();
+        var index = (int) Math.floorMod(now, (long) WINDOW_SECONDS);
+        if (seconds[index] != now) {
+            seconds[index] = now;
+            bytes[index] = 0;
+        }
+        bytes[index] += transferred;
+    }
+
+    private long currentSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(nanoTime.getAsLong());
+    }
+}
@@ -23,16 +23,31 @@ import org.eclipse.edc.store.InMemoryStatefulEntityStore;
 import java.time.Clock;
 import java.util.UUID;
 
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
+
 /**
  * Implements an in-memory, ephemeral store with a maximum capacity. If the store grows beyond capacity, the oldest entry will be evicted.
  */
 public class InMemoryDataPlaneStore extends InMemoryStatefulEntityStore<DataFlow> implements DataPlaneStore {
 
+    private final Clock clock;
+
     public InMemoryDataPlaneStore(Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
         this(UUID.randomUUID().toString(), clock, criterionOperatorRegistry);
     }
 
     public InMemoryDataPlaneStore(String connectorName, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
         super(DataFlow.class, connectorName, clock, criterionOperatorRegistry, state -> DataFlowStates.valueOf(state).code());
+        this.clock = clock;
+    }
+
+    @Override
+    public int renewFlowLeases(String runtimeId) {
+        var now = clock.millis();
+        var renewed = findAll()
+                .filter(dataFlow -> dataFlow.getState() == STARTED.code() && runtimeId.equals(dataFlow.getRuntimeId()))
+                .toList();
+        renewed.forEach(dataFlow -> dataFlow.setUpdatedAt(now));
+        return renewed.size();
     }
 }
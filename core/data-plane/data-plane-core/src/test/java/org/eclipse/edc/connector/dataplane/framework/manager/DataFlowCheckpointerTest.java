@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.manager;
+
+import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.COMPLETED;
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DataFlowCheckpointerTest {
+
+    private final DataPlaneStore store = mock();
+    private final Clock clock = mock();
+
+    @Test
+    void offset_shouldStartFromDataFlowCheckpoint() {
+        var checkpointer = checkpointer(dataFlow(STARTED.code(), 100), 1000);
+
+        assertThat(checkpointer.offset()).isEqualTo(100);
+    }
+
+    @Test
+    void committed_shouldAdvanceOffsetOnlyOnContiguousRanges() {
+        when(clock.millis()).thenReturn(0L);
+        var checkpointer = checkpointer(dataFlow(STARTED.code(), 0), 1000);
+
+        checkpointer.committed(10, 10);
+        assertThat(checkpointer.offset()).isEqualTo(0);
+
+        checkpointer.committed(0, 10);
+        assertThat(checkpointer.offset()).isEqualTo(20);
+
+        checkpointer.committed(30, 10);
+        checkpointer.committed(20, 10);
+        assertThat(checkpointer.offset()).isEqualTo(40);
+    }
+
+    @Test
+    void committed_shouldNotPersist_whenIntervalIsNotElapsed() {
+        when(clock.millis()).thenReturn(0L, 500L);
+        var checkpointer = checkpointer(dataFlow(STARTED.code(), 0), 1000);
+
+        checkpointer.committed(0, 10);
+
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void committed_shouldPersist_whenIntervalIsElapsed() {
+        var stored = dataFlow(STARTED.code(), 0);
+        when(store.findByIdAndLease(stored.getId())).thenReturn(StoreResult.success(stored));
+        when(clock.millis()).thenReturn(0L, 1000L);
+        var checkpointer = checkpointer(dataFlow(STARTED.code(), 0), 1000);
+
+        checkpointer.committed(0, 10);
+
+        assertThat(stored.getCheckpoint()).isEqualTo(10);
+        verify(store).save(stored);
+    }
+
+    @Test
+    void committed_shouldNotUpdateCheckpoint_whenDataFlowIsNotStartedAnymore() {
+        var stored = dataFlow(COMPLETED.code(), 0);
+        when(store.findByIdAndLease(stored.getId())).thenReturn(StoreResult.success(stored));
+        when(clock.millis()).thenReturn(0L, 1000L);
+        var checkpointer = checkpointer(dataFlow(STARTED.code(), 0), 1000);
+
+        checkpointer.committed(0, 10);
+
+        assertThat(stored.getCheckpoint()).isEqualTo(0);
+        verify(store).save(stored);
+    }
+
+    @Test
+    void committed_shouldNotPersist_whenLeaseCannotBeAcquired() {
+        var dataFlow = dataFlow(STARTED.code(), 0);
+        when(store.findByIdAndLease(dataFlow.getId())).thenReturn(StoreResult.alreadyLeased("leased"));
+        when(clock.millis()).thenReturn(0L, 1000L);
+        var checkpointer = checkpointer(dataFlow, 1000);
+
+        checkpointer.committed(0, 10);
+
+        verify(store, never()).save(any());
+    }
+
+    private DataFlowCheckpointer checkpointer(DataFlow dataFlow, long interval) {
+        return new DataFlowCheckpointer(dataFlow, store, clock, interval, mock());
+    }
+
+    private DataFlow dataFlow(int state, long checkpoint) {
+        return DataFlow.Builder.newInstance()
+                .id("dataFlowId")
+                .state(state)
+                .checkpoint(checkpoint)
+                .clock(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC))
+                .build();
+    }
+}
@@ -19,9 +19,13 @@ import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferSummary;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.connector.dataplane.util.scheduler.FairShareScheduler;
+import org.eclipse.edc.connector.dataplane.util.scheduler.FlowShare;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.ResponseFailure;
 import org.eclipse.edc.spi.result.Result;
@@ -92,15 +96,7 @@ class DataPlaneManagerImplTest {
     @BeforeEach
     public void setUp() {
         when(registry.resolveTransferService(request)).thenReturn(transferService);
-        manager = DataPlaneManagerImpl.Builder.newInstance()
-                .executorInstrumentation(ExecutorInstrumentation.noop())
-                .transferServiceRegistry(registry)
-                .store(store)
-                .transferProcessClient(transferProcessApiClient)
-                .authorizationService(authorizationService)
-                .monitor(mock())
-                .runtimeId(runtimeId)
-                .build();
+        manager = managerBuilder().build();
     }
 
     @Test
@@ -366,12 +362,12 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(new CompletableFuture<>());
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenReturn(new CompletableFuture<>());
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(TransferCheckpoint.class));
                 var captor = ArgumentCaptor.forClass(DataFlow.class);
                 verify(store).save(captor.capture());
                 var storedDataFlow = captor.getValue();
@@ -380,6 +376,24 @@ class DataPlaneManagerImplTest {
             });
         }
 
+        @Test
+        void shouldResumeTransferFromPersistedCheckpoint() {
+            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).checkpoint(100).build();
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(transferService.canHandle(any())).thenReturn(true);
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenReturn(new CompletableFuture<>());
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                var captor = ArgumentCaptor.forClass(TransferCheckpoint.class);
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), captor.capture());
+                assertThat(captor.getValue().offset()).isEqualTo(100);
+            });
+        }
+
         @Test
         void shouldStarTransitionToCompleted_whenTransferSucceeds() {
             var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
@@ -387,16 +401,114 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenReturn(completedFuture(StreamResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(TransferCheckpoint.class));
                 verify(store, atLeastOnce()).save(argThat(it -> it.getState() == COMPLETED.code()));
             });
         }
 
+        @Test
+        void shouldStoreTransferSummary_whenTransferCompletes() {
+            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
+            var summary = new TransferSummary(100, 2, 5, 50);
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(transferService.canHandle(any())).thenReturn(true);
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenAnswer(i -> {
+                TransferCheckpoint checkpoint = i.getArgument(1);
+                checkpoint.completed(summary);
+                return completedFuture(StreamResult.success());
+            });
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(store, atLeastOnce()).save(argThat(it -> it.getState() == COMPLETED.code() && summary.equals(it.getTransferSummary())));
+            });
+        }
+
+        @Test
+        void shouldNotStartTransfer_whenFlowIsNotAdmitted() {
+            var scheduler = mock(FairShareScheduler.class);
+            when(scheduler.admissibleFlows()).thenReturn(Integer.MAX_VALUE);
+            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).participantId("participant").build();
+            when(scheduler.admit(any(), any(), any())).thenReturn(false);
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            manager = managerBuilder().scheduler(scheduler).build();
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(scheduler).admit(dataFlow.getId(), "participant", FlowShare.DEFAULT);
+                verify(store).save(argThat(it -> it.getState() == RECEIVED.code()));
+                verify(transferService, never()).transfer(any(), any(TransferCheckpoint.class));
+                verify(scheduler, never()).release(any());
+            });
+        }
+
+        @Test
+        void shouldNotLeaseReceivedFlows_whenNoFlowCanBeAdmitted() {
+            var scheduler = mock(FairShareScheduler.class);
+            when(scheduler.admissibleFlows()).thenReturn(0);
+            manager = managerBuilder().scheduler(scheduler).build();
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(scheduler, atLeastOnce()).admissibleFlows();
+                verify(store, never()).nextNotLeased(anyInt(), stateIs(RECEIVED.code()));
+            });
+        }
+
+        @Test
+        void shouldReleaseFlow_whenTransferCompletes() {
+            var scheduler = mock(FairShareScheduler.class);
+            when(scheduler.admissibleFlows()).thenReturn(Integer.MAX_VALUE);
+            var dataFlow = dataFlowBuilder().state(RECEIVED.code())
+                    .properties(Map.of(FlowShare.WEIGHT_PROPERTY, "3", FlowShare.BANDWIDTH_PROPERTY, "1024"))
+                    .build();
+            when(scheduler.admit(any(), any(), any())).thenReturn(true);
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenReturn(completedFuture(StreamResult.success()));
+            manager = managerBuilder().scheduler(scheduler).build();
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(scheduler).admit(dataFlow.getId(), null, new FlowShare(3, 1024));
+                verify(scheduler).release(dataFlow.getId());
+                verify(store, atLeastOnce()).save(argThat(it -> it.getState() == COMPLETED.code()));
+            });
+        }
+
+        @Test
+        void shouldReleaseFlow_whenTransferThrows() {
+            var scheduler = mock(FairShareScheduler.class);
+            when(scheduler.admissibleFlows()).thenReturn(Integer.MAX_VALUE);
+            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
+            when(scheduler.admit(any(), any(), any())).thenReturn(true);
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenThrow(new IllegalStateException("cannot start"));
+            manager = managerBuilder().scheduler(scheduler).build();
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(scheduler).admit(dataFlow.getId(), null, FlowShare.DEFAULT);
+                verify(scheduler).release(dataFlow.getId());
+                verify(store, atLeastOnce()).save(argThat(it -> it.getState() == FAILED.code()));
+            });
+        }
+
         @Test
         void shouldStartTransferAndNotTransitionToCompleted_whenTransferSucceedsBecauseItsTermination() {
             var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
@@ -405,12 +517,12 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(terminatedDataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenReturn(completedFuture(StreamResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(TransferCheckpoint.class));
                 verify(store, never()).save(argThat(it -> it.getState() == COMPLETED.code()));
             });
         }
@@ -423,12 +535,12 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(terminatedDataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenReturn(completedFuture(StreamResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(TransferCheckpoint.class));
                 verify(store, never()).save(argThat(it -> it.getState() == COMPLETED.code()));
             });
         }
@@ -440,12 +552,12 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.error("an error")));
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenReturn(completedFuture(StreamResult.error("an error")));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(TransferCheckpoint.class));
                 verify(store, atLeastOnce()).save(argThat(it -> it.getState() == FAILED.code() && it.getErrorDetail().equals(GENERAL_ERROR + ": an error")));
             });
         }
@@ -457,12 +569,12 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(failedFuture(new RuntimeException("an error")));
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenReturn(failedFuture(new RuntimeException("an error")));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(TransferCheckpoint.class));
                 verify(store, atLeastOnce()).save(argThat(it -> it.getState() == RECEIVED.code()));
             });
         }
@@ -587,13 +699,13 @@ class DataPlaneManagerImplTest {
                     .thenReturn(List.of(dataFlow)).thenReturn(List.of(anotherDataFlow)).thenReturn(emptyList());
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(new CompletableFuture<>());
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenReturn(new CompletableFuture<>());
 
             var result = manager.restartFlows();
 
             assertThat(result).isSucceeded();
             await().untilAsserted(() -> {
-                verify(transferService, times(2)).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService, times(2)).transfer(isA(DataFlowStartMessage.class), any(TransferCheckpoint.class));
                 verify(store, times(2)).save(argThat(it -> it.getState() == STARTED.code()));
                 var captor = ArgumentCaptor.forClass(Criterion[].class);
                 verify(store, atLeast(1)).nextNotLeased(anyInt(), captor.capture());
@@ -606,20 +718,13 @@ class DataPlaneManagerImplTest {
     class UpdateFlowLease {
 
         @Test
-        void shouldUpdateFlow_whenFlowStartedAfterFlowLease() {
-            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
-            when(store.nextNotLeased(anyInt(), startedFlowOwnedByThisRuntime()))
-                    .thenReturn(List.of(dataFlow)).thenReturn(emptyList());
-
+        void shouldRenewFlowLeasesInBulk() {
             manager.start();
 
             await().untilAsserted(() -> {
-                var captor = ArgumentCaptor.forClass(DataFlow.class);
-                verify(store).save(captor.capture());
-                var storedDataFlow = captor.getValue();
-                assertThat(storedDataFlow.getState()).isEqualTo(STARTED.code());
-                assertThat(storedDataFlow.getRuntimeId()).isEqualTo(runtimeId);
-                assertThat(storedDataFlow.getStateCount()).isEqualTo(1);
+                verify(store).renewFlowLeases(runtimeId);
+                verify(store, never()).nextNotLeased(anyInt(), startedFlowOwnedByThisRuntime());
+                verify(store, never()).save(any());
             });
         }
     }
@@ -633,12 +738,12 @@ class DataPlaneManagerImplTest {
                     .thenReturn(List.of(dataFlow)).thenReturn(emptyList());
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(new CompletableFuture<>());
+            when(transferService.transfer(any(), any(TransferCheckpoint.class))).thenReturn(new CompletableFuture<>());
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(TransferCheckpoint.class));
                 var captor = ArgumentCaptor.forClass(DataFlow.class);
                 verify(store).save(captor.capture());
                 var storedDataFlow = captor.getValue();
@@ -648,6 +753,17 @@ class DataPlaneManagerImplTest {
         }
     }
 
+    private DataPlaneManagerImpl.Builder managerBuilder() {
+        return DataPlaneManagerImpl.Builder.newInstance()
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .transferServiceRegistry(registry)
+                .store(store)
+                .transferProcessClient(transferProcessApiClient)
+                .authorizationService(authorizationService)
+                .monitor(mock())
+                .runtimeId(runtimeId);
+    }
+
     private DataFlow.Builder dataFlowBuilder() {
         return DataFlow.Builder.newInstance()
                 .source(DataAddress.Builder.newInstance().type("source").build())
@@ -19,8 +19,14 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ForwardingPart;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.OffsetPart;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferMetrics;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferSummary;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,7 +37,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockito.ArgumentCaptor;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
@@ -46,6 +54,9 @@ import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Rea
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -157,6 +168,143 @@ class PipelineServiceImplTest {
             verifyNoInteractions(sourceFactory);
             verifyNoInteractions(source);
         }
+
+        @Test
+        void transfer_withCheckpoint_shouldPassItToSink() {
+            var checkpoint = mock(TransferCheckpoint.class);
+            when(checkpoint.offset()).thenReturn(0L);
+            when(sourceFactory.supportedType()).thenReturn("source");
+            when(sourceFactory.createSource(any())).thenReturn(source);
+            when(sinkFactory.supportedType()).thenReturn("destination");
+            when(sinkFactory.createSink(any())).thenReturn(sink);
+            when(sink.transfer(any(), any(TransferCheckpoint.class))).thenReturn(completedFuture(StreamResult.success()));
+
+            var future = service.transfer(dataFlow("source", "destination").toRequest(), checkpoint);
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+            verify(sink).transfer(isA(MeteredDataSource.class), eq(checkpoint));
+            verify(checkpoint).completed(any());
+        }
+
+        @Test
+        void transfer_withCheckpointOffset_shouldSkipCommittedParts() {
+            var checkpoint = mock(TransferCheckpoint.class);
+            when(checkpoint.offset()).thenReturn(20L);
+            var committed = offsetPart(0, 10);
+            var partiallyCommitted = offsetPart(10, 15);
+            var notCommitted = offsetPart(25, 10);
+            var withoutOffset = mock(DataSource.Part.class);
+            when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(committed, partiallyCommitted, notCommitted, withoutOffset)));
+            when(sourceFactory.supportedType()).thenReturn("source");
+            when(sourceFactory.createSource(any())).thenReturn(source);
+            when(sinkFactory.supportedType()).thenReturn("destination");
+            when(sinkFactory.createSink(any())).thenReturn(sink);
+            when(sink.transfer(any(), any(TransferCheckpoint.class))).thenReturn(completedFuture(StreamResult.success()));
+
+            var future = service.transfer(dataFlow("source", "destination").toRequest(), checkpoint);
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+            var captor = ArgumentCaptor.forClass(DataSource.class);
+            verify(sink).transfer(captor.capture(), eq(checkpoint));
+            assertThat(captor.getValue()).isInstanceOf(MeteredDataSource.class);
+            assertThat(captor.getValue().openPartStream().getContent().map(ForwardingPart::unwrap))
+                    .containsExactly(partiallyCommitted, notCommitted, withoutOffset);
+        }
+
+        @Test
+        void transfer_withMetrics_shouldReportTransferSummary() {
+            var metrics = mock(TransferMetrics.class);
+            var meteredService = new PipelineServiceImpl(monitor, metrics);
+            meteredService.registerFactory(sourceFactory);
+            meteredService.registerFactory(sinkFactory);
+            var knownSize = mock(DataSource.Part.class);
+            when(knownSize.size()).thenReturn(10L);
+            when(knownSize.openStream()).thenReturn(new ByteArrayInputStream(new byte[10]));
+            var streamed = new InputStreamDataSource("streamed", new ByteArrayInputStream("content".getBytes()));
+            when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(knownSize, streamed)));
+            when(sourceFactory.supportedType()).thenReturn("source");
+            when(sourceFactory.createSource(any())).thenReturn(source);
+            when(sinkFactory.supportedType()).thenReturn("destination");
+            when(sinkFactory.createSink(any())).thenReturn(sink);
+            when(sink.transfer(any())).thenAnswer(i -> {
+                DataSource dataSource = i.getArgument(0);
+                dataSource.openPartStream().getContent().forEach(part -> {
+                    try (var stream = part.openStream()) {
+                        stream.readAllBytes();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+                return completedFuture(StreamResult.success());
+            });
+
+            var future = meteredService.transfer(dataFlow("source", "destination").toRequest());
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+            verify(metrics).partTransferred(eq("source"), eq("destination"), eq(10L), anyLong());
+            verify(metrics).partTransferred(eq("source"), eq("destination"), eq(7L), anyLong());
+            var captor = ArgumentCaptor.forClass(TransferSummary.class);
+            verify(metrics).transferCompleted(eq("source"), eq("destination"), captor.capture(), eq(true));
+            assertThat(captor.getValue().bytes()).isEqualTo(17);
+            assertThat(captor.getValue().parts()).isEqualTo(2);
+            assertThat(captor.getValue().timeToFirstByte()).isNotNegative();
+        }
+
+        @Test
+        void transfer_withMetrics_shouldCountPartsOfKnownSize_whenTheyAreTransferred() {
+            var metrics = mock(TransferMetrics.class);
+            var meteredService = new PipelineServiceImpl(monitor, metrics);
+            meteredService.registerFactory(sourceFactory);
+            meteredService.registerFactory(sinkFactory);
+            var notTransferred = mock(DataSource.Part.class);
+            when(notTransferred.size()).thenReturn(10L);
+            var movedWithoutReading = mock(DataSource.Part.class);
+            when(movedWithoutReading.size()).thenReturn(5L);
+            when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(notTransferred, movedWithoutReading)));
+            when(sourceFactory.supportedType()).thenReturn("source");
+            when(sourceFactory.createSource(any())).thenReturn(source);
+            when(sinkFactory.supportedType()).thenReturn("destination");
+            when(sinkFactory.createSink(any())).thenReturn(sink);
+            when(sink.transfer(any())).thenAnswer(i -> {
+                DataSource dataSource = i.getArgument(0);
+                var parts = dataSource.openPartStream().getContent().toList();
+                ForwardingPart.transferring(parts.get(1), 5);
+                return completedFuture(StreamResult.success());
+            });
+
+            var future = meteredService.transfer(dataFlow("source", "destination").toRequest());
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+            var captor = ArgumentCaptor.forClass(TransferSummary.class);
+            verify(metrics).transferCompleted(eq("source"), eq("destination"), captor.capture(), eq(true));
+            assertThat(captor.getValue().bytes()).isEqualTo(5);
+            assertThat(captor.getValue().parts()).isEqualTo(2);
+        }
+
+        @Test
+        void transfer_withMetrics_shouldReportFailedTransfer() {
+            var metrics = mock(TransferMetrics.class);
+            var meteredService = new PipelineServiceImpl(monitor, metrics);
+            meteredService.registerFactory(sourceFactory);
+            meteredService.registerFactory(sinkFactory);
+            when(sourceFactory.supportedType()).thenReturn("source");
+            when(sourceFactory.createSource(any())).thenReturn(source);
+            when(sinkFactory.supportedType()).thenReturn("destination");
+            when(sinkFactory.createSink(any())).thenReturn(sink);
+            when(sink.transfer(any())).thenReturn(completedFuture(StreamResult.error("error")));
+
+            var future = meteredService.transfer(dataFlow("source", "destination").toRequest());
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isFailed());
+            verify(metrics).transferCompleted(eq("source"), eq("destination"), any(), eq(false));
+        }
+
+        private OffsetPart offsetPart(long offset, long size) {
+            var part = mock(OffsetPart.class);
+            when(part.offset()).thenReturn(offset);
+            when(part.size()).thenReturn(size);
+            return part;
+        }
     }
 
     @Nested
@@ -0,0 +1,475 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.util.scheduler;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * {@link ExecutorService} that shares the threads of a delegate executor between data flows.
+ * <p>
+ * Tasks are queued per flow (see {@link FlowTask}, tasks of flows that have not been admitted share a common queue) and
+ * at most {@code concurrency} of them are handed over to the delegate at a time. Queues are served in weighted round
+ * robin: every flow dispatches up to {@link FlowShare#weight()} tasks in a row before the next flow gets its turn.
+ * Tasks are picked under the scheduler lock but handed over to the delegate after releasing it, so a delegate that
+ * blocks or runs tasks on the calling thread doesn't hold up the other callers.
+ * Flows that exceeded their bandwidth, or whose participant did, are skipped until their token buckets refill, while
+ * the other flows keep the threads busy.
+ * <p>
+ * The content of the parts is charged to the token buckets while it is read, see
+ * {@link #throttle(String, DataSource.Part)}, so a flow is throttled evenly whatever the size of its parts.
+ */
+public class FairShareScheduler extends AbstractExecutorService {
+
+    private final Object lock = new Object();
+    private final Map<String, Lane> lanes = new HashMap<>();
+    private final Map<String, Participant> participants = new HashMap<>();
+    private final Deque<Lane> ready = new ArrayDeque<>();
+    private final Lane sharedLane = new Lane(null);
+    private ExecutorService delegate;
+    private ScheduledExecutorService timer;
+    private int concurrency = 1;
+    private int maxFlows = 0;
+    private long participantBandwidth = 0;
+    private LongSupplier nanoTime = System::nanoTime;
+    private int running;
+    private int admitted;
+    private long wakeUpAt;
+    private boolean shutdown;
+    private boolean drained;
+
+    private FairShareScheduler() {
+    }
+
+    /**
+     * Admits a data flow, so that its tasks get their own queue and its bandwidth is limited.
+     * Admitting a flow that is already admitted has no effect.
+     *
+     * @param flowId        the data flow id.
+     * @param participantId the participant id, the flows of the same participant share its bandwidth. Can be null.
+     * @param share         the share assigned to the flow.
+     * @return false if the maximum number of concurrent flows has been reached, true otherwise.
+     */
+    public boolean admit(String flowId, @Nullable String participantId, FlowShare share) {
+        synchronized (lock) {
+            var lane = lanes.get(flowId);
+            if (lane != null && lane.admitted) {
+                return true;
+            }
+            if (maxFlows > 0 && admitted >= maxFlows) {
+                return false;
+            }
+            if (lane == null) {
+                lane = new Lane(flowId);
+                lanes.put(flowId, lane);
+            }
+            var now = nanoTime.getAsLong();
+            lane.admitted = true;
+            lane.weight = share.weight();
+            lane.bucket = share.bandwidth() > 0 ? new TokenBucket(share.bandwidth(), now) : null;
+            lane.participant = participantId == null ? null : participants.computeIfAbsent(participantId, id -> new Participant(id, participantBandwidth > 0 ? new TokenBucket(participantBandwidth, now) : null));
+            if (lane.participant != null) {
+                lane.participant.flows++;
+            }
+            admitted++;
+            return true;
+        }
+    }
+
+    /**
+     * Releases a data flow previously admitted, its queued tasks, if any, will be dispatched without limits.
+     *
+     * @param flowId the data flow id.
+     */
+    public void release(String flowId) {
+        List<Dispatched> dispatched;
+        synchronized (lock) {
+            var lane = lanes.get(flowId);
+            if (lane == null || !lane.admitted) {
+                return;
+            }
+            lane.admitted = false;
+            lane.bucket = null;
+            if (lane.participant != null && --lane.participant.flows == 0) {
+                participants.remove(lane.participant.id);
+            }
+            lane.participant = null;
+            admitted--;
+            if (lane.pending.isEmpty()) {
+                lanes.remove(flowId);
+            }
+            dispatched = dispatch();
+        }
+        handOver(dispatched);
+    }
+
+    /**
+     * Number of data flows currently admitted.
+     *
+     * @return the number of admitted flows.
+     */
+    public int admittedFlows() {
+        synchronized (lock) {
+            return admitted;
+        }
+    }
+
+    /**
+     * Number of tasks that could be started right away, that is the concurrency not used by running tasks, minus the
+     * tasks that are already waiting to be dispatched.
+     *
+     * @return the free capacity, never negative.
+     */
+    public int freeCapacity() {
+        synchronized (lock) {
+            var queued = 0;
+            for (var lane : ready) {
+                queued += lane.pending.size();
+            }
+            return Math.max(0, concurrency - running - queued);
+        }
+    }
+
+    /**
+     * Number of data flows that can still be admitted.
+     *
+     * @return the number of flows that can be admitted, {@link Integer#MAX_VALUE} if the number of flows is unlimited.
+     */
+    public int admissibleFlows() {
+        synchronized (lock) {
+            return maxFlows > 0 ? Math.max(0, maxFlows - admitted) : Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Wraps a part, so that transferring its content is throttled by the bandwidth limits of the flow. The parts of
+     * flows without limits are returned as they are.
+     *
+     * @param flowId the data flow id.
+     * @param part   the part.
+     * @return the throttled part.
+     */
+    public DataSource.Part throttle(String flowId, DataSource.Part part) {
+        synchronized (lock) {
+            var lane = lanes.get(flowId);
+            if (lane == null) {
+                return part;
+            }
+            var buckets = lane.buckets();
+            return buckets.isEmpty() ? part : new ThrottledPart(part, buckets, nanoTime);
+        }
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        Objects.requireNonNull(command, "command");
+        List<Dispatched> dispatched;
+        synchronized (lock) {
+            if (shutdown) {
+                throw new RejectedExecutionException("The scheduler has been shut down");
+            }
+            var lane = command instanceof FlowTask task ? lanes.getOrDefault(task.flowId(), sharedLane) : sharedLane;
+            if (lane.pending.isEmpty()) {
+                ready.addLast(lane);
+            }
+            lane.pending.addLast(command);
+            dispatched = dispatch();
+        }
+        var rejected = handOver(dispatched);
+        if (rejected != null) {
+            throw rejected;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            terminateIfDrained();
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        var pending = new ArrayList<Runnable>();
+        synchronized (lock) {
+            shutdown = true;
+            ready.forEach(lane -> {
+                pending.addAll(lane.pending);
+                lane.pending.clear();
+            });
+            ready.clear();
+            drained = true;
+        }
+        timer.shutdownNow();
+        pending.addAll(delegate.shutdownNow());
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        synchronized (lock) {
+            return shutdown;
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return isShutdown() && delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Picks the tasks that can be started, it must be called holding the lock.
+     *
+     * @return the tasks to be handed over to the delegate, once the lock has been released.
+     */
+    private List<Dispatched> dispatch() {
+        var dispatched = new ArrayList<Dispatched>();
+        var now = nanoTime.getAsLong();
+        var wait = Long.MAX_VALUE;
+        var skipped = 0;
+        while (running < concurrency && skipped < ready.size()) {
+            var lane = ready.peekFirst();
+            var delay = lane.delay(now);
+            if (delay > 0) {
+                lane.dispatched = 0;
+                ready.addLast(ready.pollFirst());
+                wait = Math.min(wait, delay);
+                skipped++;
+                continue;
+            }
+
+            skipped = 0;
+            var task = lane.pending.pollFirst();
+            if (lane.pending.isEmpty()) {
+                ready.pollFirst();
+                lane.dispatched = 0;
+                if (lane.flowId != null && !lane.admitted) {
+                    lanes.remove(lane.flowId);
+                }
+            } else if (++lane.dispatched >= lane.weight) {
+                lane.dispatched = 0;
+                ready.addLast(ready.pollFirst());
+            }
+
+            running++;
+            dispatched.add(new Dispatched(lane, task));
+        }
+
+        if (wait != Long.MAX_VALUE && running < concurrency && (wakeUpAt == 0 || now + wait < wakeUpAt)) {
+            wakeUpAt = now + wait;
+            timer.schedule(this::wakeUp, wait, NANOSECONDS);
+        }
+        terminateIfDrained();
+        return dispatched;
+    }
+
+    /**
+     * Hands the dispatched tasks over to the delegate. If the delegate rejects one of them, the tasks not handed over
+     * give their slot back and are put back at the head of their queue.
+     *
+     * @param dispatched the dispatched tasks.
+     * @return the rejection, null if all the tasks have been handed over.
+     */
+    @Nullable
+    private RejectedExecutionException handOver(List<Dispatched> dispatched) {
+        for (var i = 0; i < dispatched.size(); i++) {
+            var task = dispatched.get(i).task();
+            try {
+                delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        completed();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                requeue(dispatched.subList(i, dispatched.size()));
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private void requeue(List<Dispatched> rejected) {
+        synchronized (lock) {
+            running -= rejected.size();
+            for (var i = rejected.size() - 1; i >= 0; i--) {
+                var lane = rejected.get(i).lane();
+                if (lane.pending.isEmpty()) {
+                    ready.addFirst(lane);
+                    if (lane.flowId != null) {
+                        lanes.putIfAbsent(lane.flowId, lane);
+                    }
+                }
+                lane.pending.addFirst(rejected.get(i).task());
+            }
+        }
+    }
+
+    private void completed() {
+        List<Dispatched> dispatched;
+        synchronized (lock) {
+            running--;
+            dispatched = dispatch();
+        }
+        handOver(dispatched);
+    }
+
+    private void wakeUp() {
+        List<Dispatched> dispatched;
+        synchronized (lock) {
+            wakeUpAt = 0;
+            dispatched = dispatch();
+        }
+        handOver(dispatched);
+    }
+
+    private void terminateIfDrained() {
+        if (shutdown && ready.isEmpty() && !drained) {
+            drained = true;
+            delegate.shutdown();
+            timer.shutdown();
+        }
+    }
+
+    private record Dispatched(Lane lane, Runnable task) {
+    }
+
+    private static class Lane {
+        private final String flowId;
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+        private boolean admitted;
+        private int weight = 1;
+        private int dispatched;
+        private TokenBucket bucket;
+        private Participant participant;
+
+        Lane(String flowId) {
+            this.flowId = flowId;
+        }
+
+        long delay(long now) {
+            return buckets().stream().mapToLong(it -> it.delay(now)).max().orElse(0);
+        }
+
+        List<TokenBucket> buckets() {
+            var participantBucket = participant == null ? null : participant.bucket;
+            return Stream.of(bucket, participantBucket).filter(Objects::nonNull).toList();
+        }
+    }
+
+    private static class Participant {
+        private final String id;
+        private final TokenBucket bucket;
+        private int flows;
+
+        Participant(String id, TokenBucket bucket) {
+            this.id = id;
+            this.bucket = bucket;
+        }
+    }
+
+    public static class Builder {
+
+        private final FairShareScheduler scheduler = new FairShareScheduler();
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * The executor that runs the tasks.
+         */
+        public Builder delegate(ExecutorService delegate) {
+            scheduler.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * The executor used to resume the dispatching when the bandwidth limits are exceeded.
+         */
+        public Builder timer(ScheduledExecutorService timer) {
+            scheduler.timer = timer;
+            return this;
+        }
+
+        /**
+         * The maximum number of tasks handed over to the delegate at a time, it should match its number of threads.
+         */
+        public Builder concurrency(int concurrency) {
+            scheduler.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * The maximum number of flows admitted concurrently, 0 means unlimited.
+         */
+        public Builder maxFlows(int maxFlows) {
+            scheduler.maxFlows = maxFlows;
+            return this;
+        }
+
+        /**
+         * The maximum bytes per second transferred by all the flows of the same participant, 0 means unlimited.
+         */
+        public Builder participantBandwidth(long participantBandwidth) {
+            scheduler.participantBandwidth = participantBandwidth;
+            return this;
+        }
+
+        public Builder nanoTime(LongSupplier nanoTime) {
+            scheduler.nanoTime = nanoTime;
+            return this;
+        }
+
+        public FairShareScheduler build() {
+            Objects.requireNonNull(scheduler.delegate, "delegate");
+            Objects.requireNonNull(scheduler.timer, "timer");
+            if (scheduler.concurrency < 1) {
+                throw new IllegalArgumentException("Concurrency must be at least 1, got " + scheduler.concurrency);
+            }
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.util.scheduler;
+
+import java.util.Map;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Share of the data plane transfer capacity assigned to a data flow.
+ *
+ * @param weight    the number of tasks of the flow that are dispatched in a row before the next flow gets its turn.
+ * @param bandwidth the maximum bytes per second that the flow can transfer, 0 means unlimited.
+ */
+public record FlowShare(int weight, long bandwidth) {
+
+    /**
+     * {@link org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage} property that overrides the weight.
+     */
+    public static final String WEIGHT_PROPERTY = EDC_NAMESPACE + "transferWeight";
+
+    /**
+     * {@link org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage} property that overrides the bandwidth.
+     */
+    public static final String BANDWIDTH_PROPERTY = EDC_NAMESPACE + "transferBandwidth";
+
+    public static final FlowShare DEFAULT = new FlowShare(1, 0);
+
+    public FlowShare {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Weight must be at least 1, got " + weight);
+        }
+        if (bandwidth < 0) {
+            throw new IllegalArgumentException("Bandwidth cannot be negative, got " + bandwidth);
+        }
+    }
+
+    /**
+     * Applies the overrides contained in the data flow properties, invalid values are ignored.
+     *
+     * @param properties the data flow properties.
+     * @return the share.
+     */
+    public FlowShare withOverrides(Map<String, String> properties) {
+        var weight = parse(properties.get(WEIGHT_PROPERTY), this.weight);
+        var bandwidth = parse(properties.get(BANDWIDTH_PROPERTY), this.bandwidth);
+        if (weight < 1 || weight > Integer.MAX_VALUE || bandwidth < 0) {
+            return this;
+        }
+        return new FlowShare((int) weight, bandwidth);
+    }
+
+    private static long parse(String value, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.util.scheduler;
+
+/**
+ * Task that belongs to a data flow. The {@link FairShareScheduler} queues it with the other tasks of the same flow and
+ * holds it back while the flow exceeds its bandwidth limits, other executors just run it.
+ *
+ * @param flowId the data flow id.
+ * @param task   the task.
+ */
+public record FlowTask(String flowId, Runnable task) implements Runnable {
+
+    @Override
+    public void run() {
+        task.run();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.util.scheduler;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ForwardingPart;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Part whose content is read no faster than the passed token buckets allow: every read waits until all of them have
+ * tokens available, then charges them with the bytes read. Content moved without being read, and reported through
+ * {@link ForwardingPart#transferring(DataSource.Part, long)}, is charged the same way, chunk by chunk.
+ */
+class ThrottledPart extends ForwardingPart {
+
+    private final List<TokenBucket> buckets;
+    private final LongSupplier nanoTime;
+
+    ThrottledPart(DataSource.Part part, List<TokenBucket> buckets, LongSupplier nanoTime) {
+        super(part);
+        this.buckets = buckets;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    protected InputStream decorate(InputStream stream) {
+        return new ThrottledInputStream(stream);
+    }
+
+    @Override
+    protected void transferring(long bytes) throws IOException {
+        awaitTokens();
+        consume(bytes);
+    }
+
+    private void awaitTokens() throws InterruptedIOException {
+        long delay;
+        while ((delay = delay()) > 0) {
+            LockSupport.parkNanos(delay);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for bandwidth");
+            }
+        }
+    }
+
+    private long delay() {
+        var now = nanoTime.getAsLong();
+        return buckets.stream().mapToLong(it -> it.delay(now)).max().orElse(0);
+    }
+
+    private void consume(long bytes) {
+        var now = nanoTime.getAsLong();
+        buckets.forEach(it -> it.consume(bytes, now));
+    }
+
+    private class ThrottledInputStream extends FilterInputStream {
+
+        ThrottledInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            awaitTokens();
+            var read = super.read();
+            if (read != -1) {
+                consume(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            awaitTokens();
+            var read = super.read(buffer, offset, length);
+            if (read > 0) {
+                consume(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            awaitTokens();
+            var skipped = super.skip(n);
+            consume(skipped);
+            return skipped;
+        }
+    }
+}
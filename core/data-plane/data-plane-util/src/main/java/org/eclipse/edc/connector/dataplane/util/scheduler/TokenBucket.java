@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.util.scheduler;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Token bucket that limits the bandwidth to a fixed number of bytes per second, allowing bursts of up to one second
+ * worth of bytes. Consumption never blocks and can go beyond the available tokens: the debt is paid back by the
+ * following refills, and until then {@link #delay(long)} tells how long the caller should wait.
+ */
+class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = SECONDS.toNanos(1);
+
+    private final long bytesPerSecond;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(long bytesPerSecond, long now) {
+        this.bytesPerSecond = bytesPerSecond;
+        this.tokens = bytesPerSecond;
+        this.lastRefill = now;
+    }
+
+    /**
+     * Consumes the passed amount of bytes.
+     *
+     * @param bytes the bytes.
+     * @param now   the current time, in nanoseconds.
+     */
+    synchronized void consume(long bytes, long now) {
+        refill(now);
+        tokens -= bytes;
+    }
+
+    /**
+     * Time to wait before tokens are available again.
+     *
+     * @param now the current time, in nanoseconds.
+     * @return the delay in nanoseconds, 0 if tokens are available.
+     */
+    synchronized long delay(long now) {
+        refill(now);
+        if (tokens > 0) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) * NANOS_PER_SECOND / bytesPerSecond);
+    }
+
+    private void refill(long now) {
+        var elapsed = now - lastRefill;
+        if (elapsed > 0) {
+            tokens = Math.min(bytesPerSecond, tokens + (double) elapsed * bytesPerSecond / NANOS_PER_SECOND);
+            lastRefill = now;
+        }
+    }
+}
@@ -17,8 +17,13 @@ package org.eclipse.edc.connector.dataplane.util.sink;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ForwardingPart;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.OffsetPart;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.connector.dataplane.util.scheduler.FairShareScheduler;
+import org.eclipse.edc.connector.dataplane.util.scheduler.FlowTask;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -28,8 +33,10 @@ import org.jetbrains.annotations.NotNull;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
@@ -43,14 +50,21 @@ public abstract class ParallelSink implements DataSink {
     protected ExecutorService executorService;
     protected Monitor monitor;
     protected Telemetry telemetry;
+    private TransferCheckpoint checkpoint = TransferCheckpoint.NONE;
 
-    @WithSpan
     @Override
     public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
-        return supplyAsync(() -> source.openPartStream().orElseThrow(StreamException::new), executorService)
+        return transfer(source, TransferCheckpoint.NONE);
+    }
+
+    @WithSpan
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source, TransferCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+        return supplyAsync(() -> source.openPartStream().orElseThrow(StreamException::new), flowExecutor())
                 .thenCompose(parts -> {
                     try (parts) {
-                        return PartitionIterator.streamOf(parts, partitionSize)
+                        return partition(parts)
                                 .map(this::processPartsAsync)
                                 .collect(asyncAllOf())
                                 .thenApply(results -> results.stream()
@@ -69,13 +83,53 @@ public abstract class ParallelSink implements DataSink {
                 });
     }
 
+    /**
+     * Groups the parts into partitions, every partition is transferred by a separate task.
+     * <p>
+     * Implementations may override this method when some parts need to be transferred together.
+     *
+     * @param parts the parts.
+     * @return the partitions.
+     */
+    protected Stream<List<DataSource.Part>> partition(Stream<DataSource.Part> parts) {
+        return PartitionIterator.streamOf(parts, partitionSize);
+    }
+
     @NotNull
     private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts) {
-        return supplyAsync(transfer(parts), executorService);
+        return supplyAsync(transfer(throttle(parts)), flowExecutor());
+    }
+
+    /**
+     * Tags the tasks as belonging to this flow, so that a {@link FairShareScheduler} can queue them fairly and hold them
+     * back while the flow exceeds its bandwidth.
+     */
+    private Executor flowExecutor() {
+        return task -> executorService.execute(new FlowTask(requestId, task));
+    }
+
+    private List<DataSource.Part> throttle(List<DataSource.Part> parts) {
+        if (executorService instanceof FairShareScheduler scheduler) {
+            return parts.stream().map(part -> scheduler.throttle(requestId, part)).toList();
+        }
+        return parts;
     }
 
     private Supplier<StreamResult<Object>> transfer(List<DataSource.Part> parts) {
-        return telemetry.contextPropagationMiddleware(() -> transferParts(parts), telemetry.getTraceCarrierWithCurrentContext());
+        return telemetry.contextPropagationMiddleware(() -> transferParts(parts).onSuccess(r -> parts.forEach(this::committed)), telemetry.getTraceCarrierWithCurrentContext());
+    }
+
+    /**
+     * Reports a part as committed to the destination, so that a resumed transfer won't need to transfer it again.
+     * All the parts are reported after their partition has been successfully transferred, implementations may call
+     * this method earlier, as soon as every single part has been committed.
+     *
+     * @param part the part.
+     */
+    protected void committed(DataSource.Part part) {
+        if (ForwardingPart.unwrap(part) instanceof OffsetPart offsetPart) {
+            checkpoint.committed(offsetPart.offset(), offsetPart.size());
+        }
     }
 
     protected abstract StreamResult<Object> transferParts(List<DataSource.Part> parts);
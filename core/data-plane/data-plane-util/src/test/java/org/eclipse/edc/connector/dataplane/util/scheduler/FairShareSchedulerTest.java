@@ -0,0 +1,340 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.util.scheduler;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ForwardingPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FairShareSchedulerTest {
+
+    private final ExecutorService delegate = mock();
+    private final ScheduledExecutorService timer = mock();
+    private final AtomicLong now = new AtomicLong();
+    private final List<Runnable> delegated = new ArrayList<>();
+    private final List<String> executed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(i -> delegated.add(i.getArgument(0))).when(delegate).execute(any());
+    }
+
+    @Test
+    void shouldDispatchUpToConcurrency() {
+        var scheduler = scheduler().concurrency(2).build();
+
+        scheduler.execute(task("1"));
+        scheduler.execute(task("2"));
+        scheduler.execute(task("3"));
+
+        assertThat(delegated).hasSize(2);
+        runNext();
+        assertThat(delegated).hasSize(2);
+        assertThat(executed).containsExactly("1");
+    }
+
+    @Test
+    void freeCapacity_shouldSubtractRunningAndQueuedTasks() {
+        var scheduler = scheduler().concurrency(3).build();
+        assertThat(scheduler.freeCapacity()).isEqualTo(3);
+
+        scheduler.execute(task("1"));
+        scheduler.execute(task("2"));
+        assertThat(scheduler.freeCapacity()).isEqualTo(1);
+
+        scheduler.execute(task("3"));
+        scheduler.execute(task("4"));
+        assertThat(scheduler.freeCapacity()).isEqualTo(0);
+
+        runAll();
+        assertThat(scheduler.freeCapacity()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldServeFlowsInRoundRobin() {
+        var scheduler = scheduler().build();
+        scheduler.admit("a", null, FlowShare.DEFAULT);
+        scheduler.admit("b", null, FlowShare.DEFAULT);
+
+        scheduler.execute(task("blocker"));
+        scheduler.execute(flowTask("a", "a1"));
+        scheduler.execute(flowTask("a", "a2"));
+        scheduler.execute(flowTask("a", "a3"));
+        scheduler.execute(flowTask("b", "b1"));
+        scheduler.execute(flowTask("b", "b2"));
+        runAll();
+
+        assertThat(executed).containsExactly("blocker", "a1", "b1", "a2", "b2", "a3");
+    }
+
+    @Test
+    void shouldDispatchTasksAccordingToWeight() {
+        var scheduler = scheduler().build();
+        scheduler.admit("a", null, new FlowShare(2, 0));
+        scheduler.admit("b", null, FlowShare.DEFAULT);
+
+        scheduler.execute(task("blocker"));
+        scheduler.execute(flowTask("a", "a1"));
+        scheduler.execute(flowTask("a", "a2"));
+        scheduler.execute(flowTask("a", "a3"));
+        scheduler.execute(flowTask("b", "b1"));
+        scheduler.execute(flowTask("b", "b2"));
+        runAll();
+
+        assertThat(executed).containsExactly("blocker", "a1", "a2", "b1", "a3", "b2");
+    }
+
+    @Test
+    void shouldSkipFlowThatExceededBandwidth_andResumeItWhenTokensAreAvailable() throws IOException {
+        var scheduler = scheduler().build();
+        scheduler.admit("a", null, new FlowShare(1, 100));
+        scheduler.admit("b", null, FlowShare.DEFAULT);
+        transfer(scheduler, "a", 100);
+
+        scheduler.execute(task("blocker"));
+        scheduler.execute(flowTask("a", "a1"));
+        scheduler.execute(flowTask("b", "b1"));
+        scheduler.execute(flowTask("b", "b2"));
+        runAll();
+
+        assertThat(executed).containsExactly("blocker", "b1", "b2");
+        var wakeUp = ArgumentCaptor.forClass(Runnable.class);
+        verify(timer).schedule(wakeUp.capture(), anyLong(), eq(NANOSECONDS));
+
+        now.addAndGet(SECONDS.toNanos(1));
+        wakeUp.getValue().run();
+        runAll();
+
+        assertThat(executed).containsExactly("blocker", "b1", "b2", "a1");
+    }
+
+    @Test
+    void shouldShareParticipantBandwidthBetweenItsFlows() throws IOException {
+        var scheduler = scheduler().participantBandwidth(100).build();
+        scheduler.admit("a", "participant", FlowShare.DEFAULT);
+        scheduler.admit("b", "participant", FlowShare.DEFAULT);
+        scheduler.admit("c", "another-participant", FlowShare.DEFAULT);
+        transfer(scheduler, "a", 100);
+
+        scheduler.execute(task("blocker"));
+        scheduler.execute(flowTask("a", "a1"));
+        scheduler.execute(flowTask("b", "b1"));
+        scheduler.execute(flowTask("c", "c1"));
+        runAll();
+
+        assertThat(executed).containsExactly("blocker", "c1");
+        verify(timer).schedule(any(Runnable.class), anyLong(), eq(NANOSECONDS));
+    }
+
+    @Test
+    void shouldQueueTasksOfNotAdmittedFlowsInSharedQueue() {
+        var scheduler = scheduler().build();
+        scheduler.admit("a", null, FlowShare.DEFAULT);
+
+        scheduler.execute(task("blocker"));
+        scheduler.execute(flowTask("unknown", "u1"));
+        scheduler.execute(flowTask("unknown", "u2"));
+        scheduler.execute(flowTask("a", "a1"));
+        runAll();
+
+        assertThat(executed).containsExactly("blocker", "u1", "a1", "u2");
+    }
+
+    @Test
+    void admit_shouldRejectFlows_whenMaxFlowsReached() {
+        var scheduler = scheduler().maxFlows(1).build();
+
+        assertThat(scheduler.admit("a", null, FlowShare.DEFAULT)).isTrue();
+        assertThat(scheduler.admit("a", null, FlowShare.DEFAULT)).isTrue();
+        assertThat(scheduler.admit("b", null, FlowShare.DEFAULT)).isFalse();
+        assertThat(scheduler.admittedFlows()).isEqualTo(1);
+
+        scheduler.release("a");
+
+        assertThat(scheduler.admit("b", null, FlowShare.DEFAULT)).isTrue();
+    }
+
+    @Test
+    void release_shouldDispatchQueuedTasksWithoutLimits() throws IOException {
+        var scheduler = scheduler().build();
+        scheduler.admit("a", null, new FlowShare(1, 100));
+        transfer(scheduler, "a", 100);
+
+        scheduler.execute(task("blocker"));
+        scheduler.execute(flowTask("a", "a1"));
+        runAll();
+        assertThat(executed).containsExactly("blocker");
+
+        scheduler.release("a");
+        runAll();
+
+        assertThat(executed).containsExactly("blocker", "a1");
+    }
+
+    @Test
+    void admissibleFlows_shouldReturnFlowsThatCanStillBeAdmitted() {
+        var scheduler = scheduler().maxFlows(2).build();
+        assertThat(scheduler.admissibleFlows()).isEqualTo(2);
+
+        scheduler.admit("a", null, FlowShare.DEFAULT);
+        assertThat(scheduler.admissibleFlows()).isEqualTo(1);
+
+        scheduler.admit("b", null, FlowShare.DEFAULT);
+        assertThat(scheduler.admissibleFlows()).isZero();
+
+        assertThat(scheduler().build().admissibleFlows()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void throttle_shouldWrapPartsOfLimitedFlows() {
+        var scheduler = scheduler().build();
+        scheduler.admit("limited", null, new FlowShare(1, 100));
+        scheduler.admit("unlimited", null, FlowShare.DEFAULT);
+        var unknownSize = mock(DataSource.Part.class);
+        when(unknownSize.size()).thenReturn(DataSource.Part.SIZE_UNKNOWN);
+        var knownSize = mock(DataSource.Part.class);
+        when(knownSize.size()).thenReturn(10L);
+
+        assertThat(scheduler.throttle("limited", unknownSize)).isInstanceOf(ThrottledPart.class);
+        assertThat(scheduler.throttle("limited", knownSize)).isInstanceOf(ThrottledPart.class);
+        assertThat(scheduler.throttle("unlimited", unknownSize)).isSameAs(unknownSize);
+        assertThat(scheduler.throttle("unknown", unknownSize)).isSameAs(unknownSize);
+    }
+
+    @Test
+    void throttle_shouldChargeContentMovedWithoutReadingIt() throws IOException {
+        var scheduler = scheduler().build();
+        scheduler.admit("a", null, new FlowShare(1, 100));
+        scheduler.admit("b", null, FlowShare.DEFAULT);
+        var part = mock(DataSource.Part.class);
+        when(part.size()).thenReturn(100L);
+
+        ForwardingPart.transferring(scheduler.throttle("a", part), 100);
+        scheduler.execute(task("blocker"));
+        scheduler.execute(flowTask("a", "a1"));
+        scheduler.execute(flowTask("b", "b1"));
+        runAll();
+
+        assertThat(executed).containsExactly("blocker", "b1");
+    }
+
+    @Test
+    void shutdown_shouldRejectNewTasks_andShutdownDelegateWhenDrained() {
+        var scheduler = scheduler().build();
+        scheduler.execute(task("1"));
+        scheduler.execute(task("2"));
+
+        scheduler.shutdown();
+
+        assertThatThrownBy(() -> scheduler.execute(task("3"))).isInstanceOf(RejectedExecutionException.class);
+        verify(delegate, never()).shutdown();
+        runAll();
+        assertThat(executed).containsExactly("1", "2");
+        verify(delegate).shutdown();
+    }
+
+    @Test
+    void execute_shouldGiveSlotBackAndKeepTask_whenDelegateRejects() {
+        var scheduler = scheduler().concurrency(2).build();
+        doAnswer(i -> {
+            throw new RejectedExecutionException("rejected");
+        }).doAnswer(i -> delegated.add(i.getArgument(0))).when(delegate).execute(any());
+
+        assertThatThrownBy(() -> scheduler.execute(task("1"))).isInstanceOf(RejectedExecutionException.class);
+        assertThat(scheduler.freeCapacity()).isEqualTo(1);
+
+        scheduler.execute(task("2"));
+        runAll();
+
+        assertThat(executed).containsExactly("1", "2");
+        assertThat(scheduler.freeCapacity()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_shouldHandOverTasksOutsideOfTheLock() {
+        var scheduler = scheduler().concurrency(2).build();
+        doAnswer(i -> {
+            // a delegate that runs the task on another thread, the scheduler must not be locked meanwhile
+            var thread = new Thread(scheduler::admittedFlows);
+            thread.start();
+            thread.join(SECONDS.toMillis(5));
+            assertThat(thread.isAlive()).isFalse();
+            return delegated.add(i.getArgument(0));
+        }).when(delegate).execute(any());
+
+        scheduler.execute(task("1"));
+        runAll();
+
+        assertThat(executed).containsExactly("1");
+    }
+
+    private FairShareScheduler.Builder scheduler() {
+        return FairShareScheduler.Builder.newInstance()
+                .delegate(delegate)
+                .timer(timer)
+                .nanoTime(now::get);
+    }
+
+    private Runnable task(String name) {
+        return () -> executed.add(name);
+    }
+
+    private FlowTask flowTask(String flowId, String name) {
+        return new FlowTask(flowId, task(name));
+    }
+
+    private void transfer(FairShareScheduler scheduler, String flowId, int bytes) throws IOException {
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(new byte[bytes]));
+        try (var stream = scheduler.throttle(flowId, part).openStream()) {
+            assertThat(stream.read(new byte[bytes])).isEqualTo(bytes);
+        }
+    }
+
+    private void runNext() {
+        delegated.remove(0).run();
+    }
+
+    private void runAll() {
+        while (!delegated.isEmpty()) {
+            runNext();
+        }
+    }
+}
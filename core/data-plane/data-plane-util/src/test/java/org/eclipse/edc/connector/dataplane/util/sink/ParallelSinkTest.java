@@ -16,9 +16,13 @@ package org.eclipse.edc.connector.dataplane.util.sink;
 
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.OffsetPart;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.connector.dataplane.util.scheduler.FlowTask;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.ByteArrayInputStream;
 import java.time.Duration;
@@ -26,11 +30,16 @@ import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class ParallelSinkTest {
@@ -114,6 +123,35 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(0);
     }
 
+    @Test
+    void transfer_shouldCommitOffsetParts_whenTransferSucceeds() {
+        var checkpoint = mock(TransferCheckpoint.class);
+        var part = mock(OffsetPart.class);
+        when(part.offset()).thenReturn(10L);
+        when(part.size()).thenReturn(5L);
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+
+        var future = fakeSink.transfer(dataSource, checkpoint);
+
+        assertThat(future).succeedsWithin(timeout).satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        verify(checkpoint).committed(10L, 5L);
+    }
+
+    @Test
+    void transfer_shouldNotCommit_whenTransferFails() {
+        var checkpoint = mock(TransferCheckpoint.class);
+        var part = mock(OffsetPart.class);
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        var future = fakeSink.transfer(dataSource, checkpoint);
+
+        assertThat(future).succeedsWithin(timeout).satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+        verifyNoInteractions(checkpoint);
+    }
+
     @Test
     void shouldNotBlock_whenDataSourceIsIndefinite() {
         var infiniteStream = IntStream.iterate(0, i -> i + 1).mapToObj(i -> mock(DataSource.Part.class));
@@ -125,6 +163,29 @@ class ParallelSinkTest {
         assertThat(future).isNotNull();
     }
 
+    @Test
+    void transfer_shouldTagTasksWithFlowId() {
+        var executor = spy(Executors.newFixedThreadPool(2));
+        var sink = new FakeParallelSink.Builder().monitor(mock())
+                .executorService(executor)
+                .partitionSize(2)
+                .requestId(dataFlowRequestId).build();
+        var parts = IntStream.range(0, 3).mapToObj(i -> {
+            var part = mock(DataSource.Part.class);
+            when(part.size()).thenReturn(10L);
+            return part;
+        }).toList();
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(parts.stream()));
+
+        var future = sink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(timeout).satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        var tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(3)).execute(tasks.capture());
+        assertThat(tasks.getAllValues()).allSatisfy(task -> assertThat(task).isInstanceOfSatisfying(FlowTask.class, flowTask -> assertThat(flowTask.flowId()).isEqualTo(dataFlowRequestId)));
+    }
+
     private InputStreamDataSource dataSource() {
         return new InputStreamDataSource(
                 "test-datasource-name",
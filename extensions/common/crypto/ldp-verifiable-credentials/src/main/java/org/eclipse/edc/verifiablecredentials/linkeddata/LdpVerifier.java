@@ -36,29 +36,52 @@ import com.apicatalog.vc.suite.SignatureSuite;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
 import org.eclipse.edc.iam.identitytrust.spi.verification.CredentialVerifier;
 import org.eclipse.edc.iam.identitytrust.spi.verification.SignatureSuiteRegistry;
 import org.eclipse.edc.iam.identitytrust.spi.verification.VerifierContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
 import org.eclipse.edc.util.uri.UriUtils;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 import static org.eclipse.edc.spi.result.Result.failure;
 import static org.eclipse.edc.spi.result.Result.success;
 
+/**
+ * Verifies VerifiableCredentials and VerifiablePresentations secured with Linked Data Proofs.
+ * <p>
+ * Optionally, successful credential verifications can be cached (see {@link Builder#verificationCacheSize(int)}): the
+ * cache key is the SHA-256 hash of the raw credential, proof included, so that the same credential, e.g. embedded in
+ * every presentation a holder sends, is expanded, canonicalized and verified only once. An entry is valid until the
+ * credential expires, but never longer than the configured validity, so that a rotated or revoked issuer key is picked
+ * up eventually. Revocation is not part of this verification and is not cached here.
+ */
 public class LdpVerifier implements CredentialVerifier {
 
+    private static final String EXPIRATION_DATE = "https://www.w3.org/2018/credentials#expirationDate";
+    private static final String VALID_UNTIL = "https://www.w3.org/2018/credentials#validUntil";
+
     private JsonLd jsonLd;
     private TypeManager typeManager;
     private String typeContext = JSON_LD;
@@ -67,6 +90,10 @@ public class LdpVerifier implements CredentialVerifier {
     private Collection<MethodResolver> methodResolvers = new ArrayList<>(List.of(new HttpMethodResolver()));
     private DocumentLoader loader;
     private URI base;
+    private int verificationCacheSize = 0;
+    private Duration verificationCacheValidity = Duration.ofMinutes(5);
+    private Clock clock = Clock.systemUTC();
+    private ConcurrentLruCache<String, Instant> verificationCache;
 
     private LdpVerifier() {
     }
@@ -90,6 +117,11 @@ public class LdpVerifier implements CredentialVerifier {
      */
     @Override
     public Result<Void> verify(String rawInput, VerifierContext verifierContext) {
+        var cacheKey = verificationCache == null ? null : contentHash(rawInput);
+        if (cacheKey != null && isVerified(cacheKey)) {
+            return success();
+        }
+
         JsonObject jo;
         try {
             jo = typeManager.getMapper(typeContext).readValue(rawInput, JsonObject.class);
@@ -107,7 +139,11 @@ public class LdpVerifier implements CredentialVerifier {
         }
         return expansion.compose(expandedDocument -> {
             try {
-                return verifyExpanded(expandedDocument, verifierContext, context);
+                var result = verifyExpanded(expandedDocument, verifierContext, context);
+                if (cacheKey != null && result.succeeded() && isCredential(expandedDocument)) {
+                    verificationCache.put(cacheKey, cacheExpiration(expandedDocument));
+                }
+                return result;
             } catch (DocumentError e) {
                 return failure("Could not verify VP-LDP: message: %s, code: %s".formatted(e.getMessage(), e.getCode()));
             } catch (VerificationError e) {
@@ -120,6 +156,50 @@ public class LdpVerifier implements CredentialVerifier {
         return base;
     }
 
+    private boolean isVerified(String cacheKey) {
+        var expiration = verificationCache.get(cacheKey);
+        if (expiration == null) {
+            return false;
+        }
+        if (!clock.instant().isBefore(expiration)) {
+            verificationCache.remove(cacheKey);
+            return false;
+        }
+        return true;
+    }
+
+    private Instant cacheExpiration(JsonObject expanded) {
+        var maxExpiration = clock.instant().plus(verificationCacheValidity);
+        var credentialExpiration = Optional.ofNullable(dateValue(expanded, EXPIRATION_DATE))
+                .orElseGet(() -> dateValue(expanded, VALID_UNTIL));
+        return credentialExpiration != null && credentialExpiration.isBefore(maxExpiration) ? credentialExpiration : maxExpiration;
+    }
+
+    private @Nullable Instant dateValue(JsonObject expanded, String property) {
+        var value = expanded.get(property);
+        if (value == null || value.getValueType() != JsonValue.ValueType.ARRAY || value.asJsonArray().isEmpty()) {
+            return null;
+        }
+        var first = value.asJsonArray().get(0);
+        if (JsonUtils.isNotObject(first) || !first.asJsonObject().containsKey(Keywords.VALUE)) {
+            return null;
+        }
+        try {
+            return Instant.parse(first.asJsonObject().getString(Keywords.VALUE));
+        } catch (ClassCastException | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private String contentHash(String rawInput) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(rawInput.getBytes(UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private VerificationMethod resolveMethod(URI id, Proof proof, DocumentLoader loader) throws DocumentError {
 
         if (id == null) {
@@ -365,11 +445,42 @@ public class LdpVerifier implements CredentialVerifier {
             return this;
         }
 
+        /**
+         * Maximum number of successfully verified credentials whose result is cached. Default is 0, i.e. no caching.
+         *
+         * @param verificationCacheSize the cache size
+         * @return the builder
+         */
+        public Builder verificationCacheSize(int verificationCacheSize) {
+            this.verifier.verificationCacheSize = verificationCacheSize;
+            return this;
+        }
+
+        /**
+         * Maximum time for which a cached verification result is valid, if the credential doesn't expire earlier.
+         * Default is 5 minutes.
+         *
+         * @param verificationCacheValidity the validity
+         * @return the builder
+         */
+        public Builder verificationCacheValidity(Duration verificationCacheValidity) {
+            this.verifier.verificationCacheValidity = verificationCacheValidity;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.verifier.clock = clock;
+            return this;
+        }
+
         public LdpVerifier build() {
             Objects.requireNonNull(this.verifier.jsonLd, "Must have a JsonLD service!");
             Objects.requireNonNull(this.verifier.typeManager, "Must have a TypeManager!");
             Objects.requireNonNull(this.verifier.typeContext, "Must have a type context!");
             Objects.requireNonNull(this.verifier.suiteRegistry, "Must have a Signature registry!");
+            if (this.verifier.verificationCacheSize > 0) {
+                this.verifier.verificationCache = new ConcurrentLruCache<>(this.verifier.verificationCacheSize);
+            }
             return this.verifier;
         }
     }
@@ -39,6 +39,8 @@ import org.mockito.ArgumentMatcher;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
@@ -52,7 +54,10 @@ import static org.eclipse.edc.verifiablecredentials.linkeddata.TestData.createMe
 import static org.eclipse.edc.verifiablecredentials.linkeddata.TestData.createNameCredential;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class LdpVerifierTest {
@@ -407,6 +412,76 @@ class LdpVerifierTest {
 
 
         }
+
+        @Nested
+        class VerificationCache {
+
+            private final Clock clock = mock();
+            private final URI identifier = URI.create("did:web:test-issuer");
+            private LdpVerifier cachingVerifier;
+
+            @BeforeEach
+            void setUp() {
+                when(clock.instant()).thenReturn(Instant.now());
+                cachingVerifier = LdpVerifier.Builder.newInstance()
+                        .signatureSuites(suiteRegistry)
+                        .jsonLd(jsonLd)
+                        .typeManager(typeManager)
+                        .typeContext("test")
+                        .methodResolvers(List.of(mockDidResolver))
+                        .loader(testDocLoader)
+                        .verificationCacheSize(10)
+                        .verificationCacheValidity(Duration.ofMinutes(1))
+                        .clock(clock)
+                        .build();
+            }
+
+            @Test
+            void verify_sameCredential_shouldVerifyOnce() throws JOSEException, DocumentError {
+                var signedNameCredential = signedCredentialWithDidMethod();
+
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isSucceeded();
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isSucceeded();
+
+                verify(mockDidResolver, times(1)).resolve(eq(identifier), any(), any());
+            }
+
+            @Test
+            void verify_afterValidity_shouldVerifyAgain() throws JOSEException, DocumentError {
+                var signedNameCredential = signedCredentialWithDidMethod();
+
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isSucceeded();
+                when(clock.instant()).thenReturn(Instant.now().plus(Duration.ofMinutes(2)));
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isSucceeded();
+
+                verify(mockDidResolver, times(2)).resolve(eq(identifier), any(), any());
+            }
+
+            @Test
+            void verify_failedVerification_shouldNotBeCached() throws JOSEException, DocumentError {
+                var nameKey = new ECKeyGenerator(Curve.P_256).keyID("vc-sign-key1").generate();
+                var otherKey = new ECKeyGenerator(Curve.P_256).keyID("vc-sign-key1").generate();
+                var did = new JsonWebKeyPair(identifier, null, null, null);
+                when(mockDidResolver.isAccepted(eq(identifier))).thenReturn(true);
+                when(mockDidResolver.resolve(eq(identifier), any(), any())).thenReturn(new JsonWebKeyPair(identifier, null, null, otherKey));
+                var proofOptions = proofBuilder(createKeyPair(nameKey, NAME_CREDENTIAL_ISSUER)).verificationMethod(did).build();
+                var signedNameCredential = LdpCreationUtils.signDocument(createNameCredential(identifier.toString()), nameKey, proofOptions, testDocLoader);
+
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isFailed();
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isFailed();
+
+                verify(mockDidResolver, times(2)).resolve(eq(identifier), any(), any());
+            }
+
+            private String signedCredentialWithDidMethod() throws JOSEException, DocumentError {
+                var nameKey = new ECKeyGenerator(Curve.P_256).keyID("vc-sign-key1").generate();
+                var did = new JsonWebKeyPair(identifier, null, null, null);
+                when(mockDidResolver.isAccepted(eq(identifier))).thenReturn(true);
+                when(mockDidResolver.resolve(eq(identifier), any(), any())).thenReturn(new JsonWebKeyPair(identifier, null, null, nameKey));
+                var proofOptions = proofBuilder(createKeyPair(nameKey, NAME_CREDENTIAL_ISSUER)).verificationMethod(did).build();
+                return LdpCreationUtils.signDocument(createNameCredential(identifier.toString()), nameKey, proofOptions, testDocLoader);
+            }
+        }
     }
 
     @Nested
@@ -26,6 +26,7 @@ import jakarta.ws.rs.ext.WriterInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -78,6 +79,8 @@ public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterce
             context.setEntity(compacted);
         } else if (context.getEntity() instanceof JsonObject jsonObject) {
             context.setEntity(compact(jsonObject));
+        } else if (context.getEntity() instanceof JsonObjectStream stream) {
+            context.setEntity(stream.map(this::compact));
         }
 
         context.proceed();
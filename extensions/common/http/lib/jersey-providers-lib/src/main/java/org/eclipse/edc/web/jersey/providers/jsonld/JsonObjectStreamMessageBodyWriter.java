@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.providers.jsonld;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Writes a {@link JsonObjectStream} as newline delimited JSON. Every object is serialized and written as soon as it
+ * is emitted by the source, the output gets flushed every {@link #FLUSH_INTERVAL} objects: as the output stream blocks
+ * when the client does not keep up, the source gets slowed down accordingly and memory usage stays bounded.
+ */
+@Provider
+@Produces(JsonObjectStream.MEDIA_TYPE)
+public class JsonObjectStreamMessageBodyWriter implements MessageBodyWriter<JsonObjectStream> {
+
+    static final int FLUSH_INTERVAL = 100;
+    private static final byte NEW_LINE = '\n';
+
+    private final TypeManager typeManager;
+    private final String typeContext;
+
+    public JsonObjectStreamMessageBodyWriter(TypeManager typeManager, String typeContext) {
+        this.typeManager = typeManager;
+        this.typeContext = typeContext;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return JsonObjectStream.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(JsonObjectStream stream, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        var writer = typeManager.getMapper(typeContext).writer();
+        var count = new int[]{ 0 };
+        try {
+            stream.forEach(object -> {
+                try {
+                    entityStream.write(writer.writeValueAsBytes(object));
+                    entityStream.write(NEW_LINE);
+                    if (++count[0] % FLUSH_INTERVAL == 0) {
+                        entityStream.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        entityStream.flush();
+    }
+}
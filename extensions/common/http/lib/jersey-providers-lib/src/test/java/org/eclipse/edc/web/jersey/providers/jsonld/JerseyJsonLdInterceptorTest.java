@@ -20,17 +20,23 @@ import jakarta.json.JsonObject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -180,6 +186,25 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
         verifyNoInteractions(jsonLd);
     }
 
+    @Test
+    void compaction_stream_shouldCompactEveryObject() throws IOException {
+        when(jsonLd.compact(any(), eq(SCOPE))).thenReturn(Result.success(compactedJson()));
+        var context = mock(WriterInterceptorContext.class);
+        when(context.getEntity()).thenReturn(new JsonObjectStream(consumer -> {
+            consumer.accept(expandedJson());
+            consumer.accept(expandedJson());
+        }));
+
+        interceptor.aroundWriteTo(context);
+
+        var captor = ArgumentCaptor.forClass(Object.class);
+        verify(context).setEntity(captor.capture());
+        var objects = new ArrayList<JsonObject>();
+        assertThat(captor.getValue()).isInstanceOfSatisfying(JsonObjectStream.class, stream -> stream.forEach(objects::add));
+        assertThat(objects).containsExactly(compactedJson(), compactedJson());
+        verify(context).proceed();
+    }
+
     @Override
     protected Object controller() {
         return new TestController();
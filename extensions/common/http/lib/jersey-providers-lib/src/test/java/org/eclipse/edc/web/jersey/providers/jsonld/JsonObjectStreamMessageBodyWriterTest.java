@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.providers.jsonld;
+
+import jakarta.json.Json;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStreamMessageBodyWriter.FLUSH_INTERVAL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JsonObjectStreamMessageBodyWriterTest {
+
+    private final TypeManager typeManager = mock();
+    private final JsonObjectStreamMessageBodyWriter writer = new JsonObjectStreamMessageBodyWriter(typeManager, "test");
+
+    @Test
+    void isWriteable() {
+        assertThat(writer.isWriteable(JsonObjectStream.class, null, null, MediaType.valueOf(JsonObjectStream.MEDIA_TYPE))).isTrue();
+        assertThat(writer.isWriteable(String.class, null, null, MediaType.valueOf(JsonObjectStream.MEDIA_TYPE))).isFalse();
+    }
+
+    @Test
+    void shouldWriteOneObjectPerLine() throws IOException {
+        when(typeManager.getMapper("test")).thenReturn(JacksonJsonLd.createObjectMapper());
+        var output = spy(new ByteArrayOutputStream());
+        var count = FLUSH_INTERVAL * 2 + 1;
+        var stream = new JsonObjectStream(consumer -> range(0, count)
+                .mapToObj(i -> Json.createObjectBuilder().add("index", i).build())
+                .forEach(consumer));
+
+        writer.writeTo(stream, JsonObjectStream.class, null, null, null, null, output);
+
+        var lines = output.toString().split("\n");
+        assertThat(lines).hasSize(count).first().isEqualTo("{\"index\":0}");
+        assertThat(lines).last().isEqualTo("{\"index\":%d}".formatted(count - 1));
+        verify(output, atLeast(3)).flush();
+    }
+
+    @Test
+    void shouldStopSource_whenWriteFails() throws IOException {
+        when(typeManager.getMapper("test")).thenReturn(JacksonJsonLd.createObjectMapper());
+        var output = mock(OutputStream.class);
+        doThrow(new IOException("client disconnected")).when(output).write(any());
+        var emitted = new int[]{ 0 };
+        var stream = new JsonObjectStream(consumer -> range(0, 10)
+                .mapToObj(i -> Json.createObjectBuilder().add("index", i).build())
+                .peek(it -> emitted[0]++)
+                .forEach(consumer));
+
+        assertThatThrownBy(() -> writer.writeTo(stream, JsonObjectStream.class, null, null, null, null, output))
+                .isInstanceOf(IOException.class);
+        assertThat(emitted[0]).isEqualTo(1);
+    }
+}
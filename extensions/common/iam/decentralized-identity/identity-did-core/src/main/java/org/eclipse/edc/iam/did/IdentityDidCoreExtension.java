@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.iam.did;
 
+import org.eclipse.edc.iam.did.resolution.DidDocumentCache;
 import org.eclipse.edc.iam.did.resolution.DidPublicKeyResolverImpl;
 import org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
@@ -23,10 +24,13 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 @Provides({DidResolverRegistry.class, DidPublicKeyResolver.class})
@@ -36,12 +40,30 @@ public class IdentityDidCoreExtension implements ServiceExtension {
     public static final String NAME = "Identity Did Core";
     @Setting(description = "Expiry time for caching DID Documents in milliseconds", key = "edc.did.resolver.cache.expiry", defaultValue = 1000 * 60 * 5 + "")
     private long didCacheExpiryMillis;
+    @Setting(description = "Maximum number of DID Documents kept in the cache", key = "edc.did.resolver.cache.size", defaultValue = 1000 + "", min = 0)
+    private int didCacheSize;
+    @Setting(description = "Time in milliseconds before the expiry of a cached DID Document from which it gets resolved again in the background. 0 disables the refresh ahead of the expiry",
+            key = "edc.did.resolver.cache.refresh.ahead", defaultValue = 1000 * 60 + "", min = 0)
+    private long didCacheRefreshAheadMillis;
+    @Setting(description = "Maximum time in milliseconds an expired DID Document is still served while it gets resolved again in the background",
+            key = "edc.did.resolver.cache.stale.max", defaultValue = 1000 * 60 * 5 + "", min = 0)
+    private long didCacheMaxStaleMillis;
+    @Setting(description = "Time in milliseconds a failed DID resolution is cached. 0 disables the caching of failures",
+            key = "edc.did.resolver.cache.failure.expiry", defaultValue = 1000 * 10 + "", min = 0)
+    private long didCacheFailureExpiryMillis;
+    @Setting(description = "Number of threads that resolve DID Documents in the background", key = "edc.did.resolver.cache.refresh.threads", defaultValue = 2 + "", min = 1)
+    private int didCacheRefreshThreads;
     @Inject
     private KeyParserRegistry keyParserRegistry;
 
     @Inject
     private Clock clock;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -49,11 +71,28 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl(clock, didCacheExpiryMillis);
+        refreshExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(didCacheRefreshThreads), "did-document-refresh");
+        var didCacheBuilder = DidDocumentCache.Builder.newInstance()
+                .size(didCacheSize)
+                .validity(didCacheExpiryMillis)
+                .refreshAhead(didCacheRefreshAheadMillis)
+                .maxStale(didCacheMaxStaleMillis)
+                .negativeValidity(didCacheFailureExpiryMillis)
+                .refreshExecutor(refreshExecutor)
+                .clock(clock)
+                .monitor(context.getMonitor().withPrefix("DID cache"));
+        var didResolverRegistry = new DidResolverRegistryImpl(didCacheBuilder);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry);
         context.registerService(DidPublicKeyResolver.class, publicKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
 }
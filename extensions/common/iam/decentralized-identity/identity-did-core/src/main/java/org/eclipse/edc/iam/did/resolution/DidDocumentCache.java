@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.Cache;
+import org.eclipse.edc.util.collection.TimestampedValue;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of resolved DID documents, backed by a {@link Cache}.
+ * <ul>
+ *     <li>concurrent lookups of the same DID that is not cached share a single resolution</li>
+ *     <li>failed resolutions are cached for a shorter period, so that an unreachable DID does not hit the network on every request</li>
+ *     <li>if a refresh executor is configured, documents are re-resolved in the background shortly before they expire,
+ *     and an expired document is still served for a limited time while its re-resolution is in flight. A failed
+ *     re-resolution does not replace a document that can still be served</li>
+ * </ul>
+ */
+public class DidDocumentCache {
+
+    private Cache<String, Result<DidDocument>> cache;
+    private Function<String, Result<DidDocument>> resolver;
+    private Monitor monitor;
+
+    private DidDocumentCache() {
+    }
+
+    /**
+     * Returns the cached resolution result for the DID, resolving it if it's not cached or too old to be served.
+     *
+     * @param did the DID.
+     * @return the resolution result.
+     */
+    public Result<DidDocument> get(String did) {
+        try {
+            return cache.get(did);
+        } catch (FailedRefresh e) {
+            // a lookup joined a background refresh that failed while the document was still servable
+            return e.result;
+        }
+    }
+
+    /**
+     * Removes the cached resolution result of the DID.
+     *
+     * @param did the DID.
+     */
+    public void invalidate(String did) {
+        cache.evict(did);
+    }
+
+    /**
+     * Returns the counters of the cache since its creation.
+     *
+     * @return the stats.
+     */
+    public Cache.Stats stats() {
+        return cache.stats();
+    }
+
+    private Result<DidDocument> resolve(String did) {
+        var result = resolver.apply(did);
+        if (result.failed()) {
+            var current = cache.getIfPresent(did);
+            if (current != null && current.succeeded()) {
+                monitor.warning("Background refresh of DID document %s failed: %s".formatted(did, result.getFailureDetail()));
+                throw new FailedRefresh(result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Signals the {@link Cache} that a re-resolution failed, so that it keeps the current document.
+     */
+    private static class FailedRefresh extends RuntimeException {
+        private final transient Result<DidDocument> result;
+
+        FailedRefresh(Result<DidDocument> result) {
+            super(result.getFailureDetail(), null, false, false);
+            this.result = result;
+        }
+    }
+
+    public static class Builder {
+        private final DidDocumentCache didCache;
+        private int size = 50;
+        private long validityMillis = TimestampedValue.DEFAULT_VALIDITY_MILLIS;
+        private long negativeValidityMillis;
+        private long refreshAheadMillis;
+        private long maxStaleMillis;
+        private Executor refreshExecutor;
+        private Clock clock;
+
+        private Builder() {
+            didCache = new DidDocumentCache();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Function that resolves the DIDs that are not cached.
+         */
+        public Builder resolver(Function<String, Result<DidDocument>> resolver) {
+            didCache.resolver = resolver;
+            return this;
+        }
+
+        /**
+         * Maximum number of cached DIDs, 0 deactivates the cache.
+         */
+        public Builder size(int size) {
+            this.size = size;
+            return this;
+        }
+
+        /**
+         * Time in milliseconds a resolved document is valid.
+         */
+        public Builder validity(long validityMillis) {
+            this.validityMillis = validityMillis;
+            return this;
+        }
+
+        /**
+         * Time in milliseconds a failed resolution is cached, 0 deactivates negative caching.
+         */
+        public Builder negativeValidity(long negativeValidityMillis) {
+            this.negativeValidityMillis = negativeValidityMillis;
+            return this;
+        }
+
+        /**
+         * Time in milliseconds before the expiry from which a lookup triggers the background refresh of the document.
+         */
+        public Builder refreshAhead(long refreshAheadMillis) {
+            this.refreshAheadMillis = refreshAheadMillis;
+            return this;
+        }
+
+        /**
+         * Maximum time in milliseconds after the expiry during which a document is still served while it gets
+         * re-resolved in the background.
+         */
+        public Builder maxStale(long maxStaleMillis) {
+            this.maxStaleMillis = maxStaleMillis;
+            return this;
+        }
+
+        /**
+         * Executor that runs the background refreshes. If not set, documents are re-resolved only once expired, on
+         * the calling thread.
+         */
+        public Builder refreshExecutor(@Nullable Executor refreshExecutor) {
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            didCache.monitor = monitor;
+            return this;
+        }
+
+        public DidDocumentCache build() {
+            Objects.requireNonNull(didCache.resolver, "resolver");
+            Objects.requireNonNull(clock, "clock");
+            var cacheBuilder = Cache.Builder.newInstance(didCache::resolve, validityMillis, clock)
+                    .validity(result -> result.succeeded() ? validityMillis : negativeValidityMillis)
+                    .maximumSize(size);
+            if (refreshExecutor != null) {
+                Objects.requireNonNull(didCache.monitor, "monitor");
+                cacheBuilder.refreshAhead(refreshExecutor, refreshAheadMillis).maxStale(maxStaleMillis);
+            }
+            didCache.cache = cacheBuilder.build();
+            return didCache;
+        }
+    }
+}
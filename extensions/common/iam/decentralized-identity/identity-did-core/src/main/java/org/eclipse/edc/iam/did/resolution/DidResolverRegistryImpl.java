@@ -19,9 +19,6 @@ import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.ConcurrentLruCache;
-import org.eclipse.edc.util.collection.TimestampedValue;
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
@@ -30,17 +27,15 @@ import java.util.Map;
 import java.util.Objects;
 
 /**
- * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}
+ * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link DidDocumentCache}
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     public static final String DID_SEPARATOR = ":";
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
-    private final ConcurrentLruCache<String, TimestampedValue<DidDocument>> didCache;
+    private final DidDocumentCache didCache;
     private final Map<String, DidResolver> resolvers = new HashMap<>();
-    private final long cacheValidity; // clean up cache every 5 minutes
-    private final Clock clock;
 
 
     public DidResolverRegistryImpl(Clock clock, long cacheValidityMillis) {
@@ -55,9 +50,17 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
      * @param clock         the {@link Clock}
      */
     public DidResolverRegistryImpl(int cacheSize, long cacheValidity, Clock clock) {
-        didCache = new ConcurrentLruCache<>(cacheSize);
-        this.cacheValidity = cacheValidity;
-        this.clock = clock;
+        this(DidDocumentCache.Builder.newInstance().size(cacheSize).validity(cacheValidity).clock(clock));
+    }
+
+    /**
+     * Constructs a DidResolverRegistryImpl object that caches the resolved documents in a {@link DidDocumentCache}
+     * built with the passed builder, to which the registry adds itself as resolver.
+     *
+     * @param didCacheBuilder the {@link DidDocumentCache.Builder}
+     */
+    public DidResolverRegistryImpl(DidDocumentCache.Builder didCacheBuilder) {
+        this.didCache = didCacheBuilder.resolver(this::resolveUncached).build();
     }
 
 
@@ -74,8 +77,7 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
             return Result.failure("This DID is not supported by any of the resolvers: %s".formatted(didKey));
         }
 
-        var resolver = getResolverFor(didKey);
-        return resolveCachedDocument(didKey, resolver);
+        return didCache.get(didKey);
     }
 
     @Override
@@ -84,6 +86,10 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         return res != null;
     }
 
+    private Result<DidDocument> resolveUncached(String didKey) {
+        return getResolverFor(didKey).resolve(didKey);
+    }
+
     @Nullable
     private DidResolver getResolverFor(String didKey) {
         var tokens = didKey.split(DID_SEPARATOR);
@@ -96,29 +102,4 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         var methodName = tokens[DID_METHOD_NAME];
         return resolvers.get(methodName);
     }
-
-    @NotNull
-    private Result<DidDocument> resolveCachedDocument(String didKey, DidResolver resolver) {
-        var cacheEntry = didCache.get(didKey);
-        DidDocument didDocument = null;
-
-        if (cacheEntry != null) {
-            if (cacheEntry.isExpired(clock)) { // lazy evict expired values
-                didCache.remove(didKey);
-            } else {
-                didDocument = cacheEntry.value();
-            }
-        }
-        if (didDocument == null) { //resolve the did document again, put in cache
-
-            var resolveResult = resolver.resolve(didKey);
-            if (resolveResult.failed()) {
-                return resolveResult;
-            }
-            didDocument = resolveResult.getContent();
-            didCache.put(didKey, new TimestampedValue<>(didDocument, cacheValidity));
-        }
-
-        return Result.success(didDocument);
-    }
 }
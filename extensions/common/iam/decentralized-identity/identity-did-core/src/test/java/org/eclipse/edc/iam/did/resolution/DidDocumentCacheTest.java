@@ -0,0 +1,238 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DidDocumentCacheTest {
+
+    private static final String DID = "did:web:example.com";
+    private static final long VALIDITY = 60_000;
+
+    private final AtomicLong elapsed = new AtomicLong();
+    private final Clock clock = mock();
+    private final Monitor monitor = mock();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+    private final Function<String, Result<DidDocument>> resolver = mock();
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenAnswer(i -> Instant.now().plusMillis(elapsed.get()));
+        when(resolver.apply(anyString())).thenReturn(Result.success(document("first")), Result.success(document("second")));
+    }
+
+    @Test
+    void get_shouldResolveOnlyOnce_whenCached() {
+        var cache = cacheBuilder().build();
+
+        assertThat(cache.get(DID)).isSucceeded().extracting(DidDocument::getId).isEqualTo("first");
+        assertThat(cache.get(DID)).isSucceeded().extracting(DidDocument::getId).isEqualTo("first");
+
+        verify(resolver, times(1)).apply(DID);
+        assertThat(cache.stats()).satisfies(stats -> {
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.staleHits()).isZero();
+            assertThat(stats.misses()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void get_shouldResolveOnce_whenConcurrentLookupsOfTheSameDid() throws InterruptedException {
+        var cache = cacheBuilder().build();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(resolver.apply(anyString())).thenAnswer(i -> {
+            started.countDown();
+            release.await();
+            return Result.success(document("first"));
+        });
+        var executor = Executors.newFixedThreadPool(8);
+
+        try {
+            var lookups = IntStream.range(0, 8)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.get(DID), executor))
+                    .toList();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(lookups).allSatisfy(lookup -> assertThat(lookup).succeedsWithin(Duration.ofSeconds(5))
+                    .satisfies(result -> assertThat(result).isSucceeded()));
+            verify(resolver, times(1)).apply(DID);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_shouldRefreshInBackground_whenCloseToExpiry() {
+        var cache = cacheBuilder().refreshExecutor(refreshTasks::add).refreshAhead(10_000).build();
+        cache.get(DID);
+        elapsed.set(VALIDITY - 5_000);
+
+        var result = cache.get(DID);
+
+        assertThat(result).isSucceeded().extracting(DidDocument::getId).isEqualTo("first");
+        assertThat(refreshTasks).hasSize(1);
+        refreshTasks.get(0).run();
+        assertThat(cache.get(DID)).isSucceeded().extracting(DidDocument::getId).isEqualTo("second");
+        verify(resolver, times(2)).apply(DID);
+    }
+
+    @Test
+    void get_shouldStartOnlyOneRefresh_whenRefreshInFlight() {
+        var cache = cacheBuilder().refreshExecutor(refreshTasks::add).refreshAhead(10_000).build();
+        cache.get(DID);
+        elapsed.set(VALIDITY - 5_000);
+
+        cache.get(DID);
+        cache.get(DID);
+
+        assertThat(refreshTasks).hasSize(1);
+    }
+
+    @Test
+    void get_shouldServeStaleDocument_whenExpiredAndWithinMaxStale() {
+        var cache = cacheBuilder().refreshExecutor(refreshTasks::add).maxStale(30_000).build();
+        cache.get(DID);
+        elapsed.set(VALIDITY + 10_000);
+
+        var result = cache.get(DID);
+
+        assertThat(result).isSucceeded().extracting(DidDocument::getId).isEqualTo("first");
+        assertThat(refreshTasks).hasSize(1);
+        assertThat(cache.stats().staleHits()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldResolveOnCallingThread_whenExpiredBeyondMaxStale() {
+        var cache = cacheBuilder().refreshExecutor(refreshTasks::add).maxStale(30_000).build();
+        cache.get(DID);
+        elapsed.set(VALIDITY + 60_000);
+
+        var result = cache.get(DID);
+
+        assertThat(result).isSucceeded().extracting(DidDocument::getId).isEqualTo("second");
+        assertThat(refreshTasks).isEmpty();
+    }
+
+    @Test
+    void get_shouldResolveOnCallingThread_whenExpiredAndNoRefreshExecutor() {
+        var cache = cacheBuilder().maxStale(30_000).build();
+        cache.get(DID);
+        elapsed.set(VALIDITY + 10_000);
+
+        var result = cache.get(DID);
+
+        assertThat(result).isSucceeded().extracting(DidDocument::getId).isEqualTo("second");
+    }
+
+    @Test
+    void get_shouldCacheFailure_whenNegativeValidityConfigured() {
+        when(resolver.apply(anyString())).thenReturn(Result.failure("unreachable"));
+        var cache = cacheBuilder().negativeValidity(10_000).build();
+
+        assertThat(cache.get(DID)).isFailed();
+        assertThat(cache.get(DID)).isFailed();
+        verify(resolver, times(1)).apply(DID);
+
+        elapsed.set(20_000);
+        assertThat(cache.get(DID)).isFailed();
+        verify(resolver, times(2)).apply(DID);
+    }
+
+    @Test
+    void get_shouldNotCacheFailure_whenNegativeValidityNotConfigured() {
+        when(resolver.apply(anyString())).thenReturn(Result.failure("unreachable"));
+        var cache = cacheBuilder().build();
+
+        cache.get(DID);
+        cache.get(DID);
+
+        verify(resolver, times(2)).apply(DID);
+    }
+
+    @Test
+    void get_shouldKeepDocument_whenBackgroundRefreshFails() {
+        when(resolver.apply(anyString())).thenReturn(Result.success(document("first")), Result.failure("unreachable"));
+        var cache = cacheBuilder().refreshExecutor(Runnable::run).refreshAhead(10_000).negativeValidity(10_000).build();
+        cache.get(DID);
+        elapsed.set(VALIDITY - 5_000);
+
+        cache.get(DID);
+
+        assertThat(cache.get(DID)).isSucceeded().extracting(DidDocument::getId).isEqualTo("first");
+        verify(monitor, atLeastOnce()).warning("Background refresh of DID document %s failed: unreachable".formatted(DID));
+    }
+
+    @Test
+    void get_shouldNotCache_whenSizeIsZero() {
+        var cache = cacheBuilder().size(0).build();
+
+        cache.get(DID);
+        cache.get(DID);
+
+        verify(resolver, times(2)).apply(DID);
+    }
+
+    @Test
+    void invalidate() {
+        var cache = cacheBuilder().build();
+        cache.get(DID);
+
+        cache.invalidate(DID);
+
+        assertThat(cache.get(DID)).isSucceeded().extracting(DidDocument::getId).isEqualTo("second");
+    }
+
+    private DidDocumentCache.Builder cacheBuilder() {
+        return DidDocumentCache.Builder.newInstance()
+                .resolver(resolver)
+                .validity(VALIDITY)
+                .clock(clock)
+                .monitor(monitor);
+    }
+
+    private DidDocument document(String id) {
+        return DidDocument.Builder.newInstance().id(id).build();
+    }
+}
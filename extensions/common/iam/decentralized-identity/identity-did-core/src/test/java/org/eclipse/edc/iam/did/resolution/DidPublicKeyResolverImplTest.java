@@ -39,6 +39,7 @@ import static java.lang.String.format;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -229,4 +230,33 @@ class DidPublicKeyResolverImplTest {
         assertThat(result).isSucceeded().isNotNull();
         verify(resolverRegistry).resolve(DID_URL);
     }
+
+    @Test
+    void resolve_shouldParseKeyOnlyOnce_whenKeyDidNotChange() {
+        var didDocument = createDidDocument();
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(didDocument));
+
+        var first = resolver.resolveKey(DID_URL + "#" + KEYID);
+        var second = resolver.resolveKey(DID_URL + "#" + KEYID);
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded().isSameAs(first.getContent());
+        verify(keyParserRegistry, times(1)).parse(anyString());
+    }
+
+    @Test
+    void resolve_shouldParseKeyAgain_whenKeyHasBeenRotated() throws JOSEException {
+        var oldDocument = DidDocument.Builder.newInstance()
+                .verificationMethod(List.of(createVerificationMethod(KEYID, new ECKeyGenerator(Curve.SECP256K1).generate())))
+                .build();
+        var rotatedDocument = DidDocument.Builder.newInstance()
+                .verificationMethod(List.of(createVerificationMethod(KEYID, new ECKeyGenerator(Curve.SECP256K1).generate())))
+                .build();
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(oldDocument), Result.success(rotatedDocument));
+
+        resolver.resolveKey(DID_URL + "#" + KEYID);
+        resolver.resolveKey(DID_URL + "#" + KEYID);
+
+        verify(keyParserRegistry, times(2)).parse(anyString());
+    }
 }
@@ -67,7 +67,9 @@ import org.jetbrains.annotations.NotNull;
 
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -84,12 +86,28 @@ import static org.eclipse.edc.verifiablecredentials.jwt.JwtPresentationVerifier.
 public class IdentityAndTrustExtension implements ServiceExtension {
 
     public static final long DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS = 15 * 60 * 1000L;
+    public static final long DEFAULT_REVOCATION_CACHE_REFRESH_AHEAD_MILLIS = 60 * 1000L;
+    public static final int DEFAULT_CREDENTIAL_VALIDATION_THREADS = 4;
+    public static final int DEFAULT_LDP_VERIFICATION_CACHE_SIZE = 1000;
+    public static final long DEFAULT_LDP_VERIFICATION_CACHE_VALIDITY_MILLIS = 5 * 60 * 1000L;
     public static final String DCP_SELF_ISSUED_TOKEN_CONTEXT = "dcp-si";
     public static final String DCP_CLIENT_CONTEXT = "dcp-client";
     public static final String JSON_2020_SIGNATURE_SUITE = "JsonWebSignature2020";
     public static final long DEFAULT_CLEANUP_PERIOD_SECONDS = 60;
     @Setting(description = "Validity period of cached StatusList2021 credential entries in milliseconds.", defaultValue = DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS + "", key = "edc.iam.credential.revocation.cache.validity")
     private long revocationCacheValidity;
+    @Setting(description = "Time in milliseconds before the expiry of a cached status list credential from which it gets downloaded again in the background.",
+            defaultValue = DEFAULT_REVOCATION_CACHE_REFRESH_AHEAD_MILLIS + "", key = "edc.iam.credential.revocation.cache.refresh.ahead", min = 0)
+    private long revocationCacheRefreshAhead;
+    @Setting(description = "Number of threads on which presentations and credentials are validated in parallel. 0 validates them on the requesting thread.",
+            defaultValue = DEFAULT_CREDENTIAL_VALIDATION_THREADS + "", key = "edc.iam.credential.validation.threads", min = 0)
+    private int credentialValidationThreads;
+    @Setting(description = "Maximum number of successful LDP credential verifications that are cached. 0 disables the cache.",
+            defaultValue = DEFAULT_LDP_VERIFICATION_CACHE_SIZE + "", key = "edc.iam.credential.ldp.verification.cache.size", min = 0)
+    private int ldpVerificationCacheSize;
+    @Setting(description = "Maximum validity in milliseconds of a cached LDP credential verification, entries expire earlier if the credential does.",
+            defaultValue = DEFAULT_LDP_VERIFICATION_CACHE_VALIDITY_MILLIS + "", key = "edc.iam.credential.ldp.verification.cache.validity", min = 0)
+    private long ldpVerificationCacheValidity;
     @Setting(description = "DID of this connector", key = "edc.iam.issuer.id")
     private String issuerId;
     @Setting(description = "The period of the JTI entry reaper thread in seconds", defaultValue = DEFAULT_CLEANUP_PERIOD_SECONDS + "", key = "edc.sql.store.jti.cleanup.period")
@@ -151,6 +169,8 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     private PresentationVerifier presentationVerifier;
     private CredentialServiceClient credentialServiceClient;
     private ScheduledFuture<?> jtiEntryReaperThread;
+    private ExecutorService revocationRefreshExecutor;
+    private ExecutorService credentialValidationExecutor;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -175,8 +195,14 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         participantAgentService.register(participantAgentServiceExtension);
 
         // register revocation services
-        revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(), revocationCacheValidity));
-        revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(), revocationCacheValidity));
+        revocationRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "Status List Refresh Thread");
+        if (credentialValidationThreads > 0) {
+            credentialValidationExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(credentialValidationThreads), "Credential Validation");
+        }
+        revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(), revocationCacheValidity,
+                revocationRefreshExecutor, revocationCacheRefreshAhead));
+        revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(), revocationCacheValidity,
+                revocationRefreshExecutor, revocationCacheRefreshAhead));
     }
 
     @Override
@@ -188,6 +214,12 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         jtiEntryReaperThread.cancel(true);
+        if (revocationRefreshExecutor != null) {
+            revocationRefreshExecutor.shutdownNow();
+        }
+        if (credentialValidationExecutor != null) {
+            credentialValidationExecutor.shutdownNow();
+        }
     }
 
     @Override
@@ -202,7 +234,7 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         var validationAction = tokenValidationAction();
 
         var credentialValidationService = new VerifiableCredentialValidationServiceImpl(createPresentationVerifier(context),
-                trustedIssuerRegistry, revocationServiceRegistry, clock, typeManager.getMapper());
+                trustedIssuerRegistry, revocationServiceRegistry, clock, typeManager.getMapper(), credentialValidationExecutor);
 
         return new IdentityAndTrustService(secureTokenService, issuerId,
                 getCredentialServiceClient(context), validationAction, credentialServiceUrlResolver, claimTokenFunction,
@@ -234,6 +266,9 @@ public class IdentityAndTrustExtension implements ServiceExtension {
                     .typeManager(typeManager)
                     .typeContext(JSON_LD)
                     .methodResolver(new DidMethodResolver(didResolverRegistry))
+                    .verificationCacheSize(ldpVerificationCacheSize)
+                    .verificationCacheValidity(Duration.ofMillis(ldpVerificationCacheValidity))
+                    .clock(clock)
                     .build();
 
             presentationVerifier = new MultiFormatPresentationVerifier(issuerId, jwtVerifier, ldpVerifier);
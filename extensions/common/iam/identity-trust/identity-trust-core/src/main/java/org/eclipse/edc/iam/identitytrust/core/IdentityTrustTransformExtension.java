@@ -28,6 +28,7 @@ import org.eclipse.edc.iam.identitytrust.transform.to.JwtToVerifiablePresentatio
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.security.signature.jws2020.Jws2020SignatureSuite;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -63,12 +64,14 @@ public class IdentityTrustTransformExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
 
-        var contexts = Map.of("credentials.v2.jsonld", "https://www.w3.org/2018/credentials/v2",
-                "credentials.v1.jsonld", "https://www.w3.org/2018/credentials/v1",
-                "dcp.v08.jsonld", DCP_CONTEXT_URL,
-                "dcp.v1.0.jsonld", DSPACE_DCP_V_1_0_CONTEXT);
+        // the JWS 2020 context is pinned, so that no context needs to be fetched when LDP proofs are verified
+        var contexts = Map.of("document/credentials.v2.jsonld", "https://www.w3.org/2018/credentials/v2",
+                "document/credentials.v1.jsonld", "https://www.w3.org/2018/credentials/v1",
+                "document/dcp.v08.jsonld", DCP_CONTEXT_URL,
+                "document/dcp.v1.0.jsonld", DSPACE_DCP_V_1_0_CONTEXT,
+                "jws2020.jsonld", Jws2020SignatureSuite.CONTEXT);
 
-        contexts.forEach((key, value) -> getResourceUri("document/" + key)
+        contexts.forEach((key, value) -> getResourceUri(key)
                 .onSuccess(uri -> jsonLdService.registerCachedDocument(value, uri))
                 .onFailure(failure -> monitor.warning("Failed to register cached json-ld document: " + failure.getFailureDetail())));
 
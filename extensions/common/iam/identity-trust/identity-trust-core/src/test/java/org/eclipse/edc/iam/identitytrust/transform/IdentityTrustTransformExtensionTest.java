@@ -26,7 +26,9 @@ import org.eclipse.edc.iam.identitytrust.transform.to.JsonObjectToVerifiableCred
 import org.eclipse.edc.iam.identitytrust.transform.to.JsonObjectToVerifiablePresentationTransformer;
 import org.eclipse.edc.iam.identitytrust.transform.to.JwtToVerifiableCredentialTransformer;
 import org.eclipse.edc.iam.identitytrust.transform.to.JwtToVerifiablePresentationTransformer;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.security.signature.jws2020.Jws2020SignatureSuite;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -35,6 +37,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -47,11 +51,14 @@ class IdentityTrustTransformExtensionTest {
 
     private final TypeManager typeManager = mock();
 
+    private final JsonLd jsonLd = mock();
+
     @BeforeEach
     void setup(ServiceExtensionContext context) {
         when(typeManager.getMapper(JSON_LD)).thenReturn(new ObjectMapper());
         context.registerService(TypeManager.class, typeManager);
         context.registerService(TypeTransformerRegistry.class, mockRegistry);
+        context.registerService(JsonLd.class, jsonLd);
     }
 
     @Test
@@ -69,4 +76,11 @@ class IdentityTrustTransformExtensionTest {
         verify(mockRegistry).register(isA(JwtToVerifiableCredentialTransformer.class));
         verify(mockRegistry).register(isA(JwtToVerifiablePresentationTransformer.class));
     }
+
+    @Test
+    void initialize_shouldPinJws2020Context(IdentityTrustTransformExtension extension, ServiceExtensionContext context) {
+        extension.initialize(context);
+
+        verify(jsonLd).registerCachedDocument(eq(Jws2020SignatureSuite.CONTEXT), argThat(uri -> uri.toString().endsWith("jws2020.jsonld")));
+    }
 }
\ No newline at end of file
@@ -22,70 +22,142 @@ import org.eclipse.edc.iam.verifiablecredentials.rules.IsInValidityPeriod;
 import org.eclipse.edc.iam.verifiablecredentials.rules.IsNotRevoked;
 import org.eclipse.edc.iam.verifiablecredentials.spi.VerifiableCredentialValidationService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry;
-import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentationContainer;
 import org.eclipse.edc.iam.verifiablecredentials.spi.validation.CredentialValidationRule;
 import org.eclipse.edc.iam.verifiablecredentials.spi.validation.PresentationVerifier;
 import org.eclipse.edc.iam.verifiablecredentials.spi.validation.TrustedIssuerRegistry;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-import static org.eclipse.edc.spi.result.Result.failure;
 import static org.eclipse.edc.spi.result.Result.success;
 
+/**
+ * Validates the presentations in two stages: first all the presentations are verified cryptographically, the first
+ * failure is returned immediately, then every credential of every presentation is checked against the validation rules.
+ * If an executor is configured, the presentations and then the credentials are processed in parallel on it, so that
+ * lookups shared by several credentials (issuer keys, status lists) are resolved once by the respective caches while
+ * the others proceed.
+ */
 public class VerifiableCredentialValidationServiceImpl implements VerifiableCredentialValidationService {
     private final PresentationVerifier presentationVerifier;
-    private final TrustedIssuerRegistry trustedIssuerRegistry;
-    private final RevocationServiceRegistry revocationServiceRegistry;
-    private final Clock clock;
-    private final ObjectMapper mapper;
+    private final Executor executor;
+    private final List<CredentialValidationRule> defaultRules;
 
     public VerifiableCredentialValidationServiceImpl(PresentationVerifier presentationVerifier, TrustedIssuerRegistry trustedIssuerRegistry, RevocationServiceRegistry revocationServiceRegistry, Clock clock, ObjectMapper mapper) {
+        this(presentationVerifier, trustedIssuerRegistry, revocationServiceRegistry, clock, mapper, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param presentationVerifier      the presentation verifier
+     * @param trustedIssuerRegistry     the trusted issuer registry
+     * @param revocationServiceRegistry the revocation service registry
+     * @param clock                     the clock
+     * @param mapper                    the object mapper
+     * @param executor                  executor on which presentations and credentials are validated in parallel, null to validate them on the calling thread
+     */
+    public VerifiableCredentialValidationServiceImpl(PresentationVerifier presentationVerifier, TrustedIssuerRegistry trustedIssuerRegistry, RevocationServiceRegistry revocationServiceRegistry,
+                                                     Clock clock, ObjectMapper mapper, @Nullable Executor executor) {
         this.presentationVerifier = presentationVerifier;
-        this.trustedIssuerRegistry = trustedIssuerRegistry;
-        this.revocationServiceRegistry = revocationServiceRegistry;
-        this.clock = clock;
-        this.mapper = mapper;
+        this.executor = executor;
+        // these rules don't depend on the presentation, so they are created once, also keeping the schema cache of HasValidSubjectSchema
+        this.defaultRules = List.of(
+                new IsInValidityPeriod(clock),
+                new IsNotRevoked(revocationServiceRegistry),
+                new HasValidIssuer(trustedIssuerRegistry),
+                new HasValidSubjectSchema(mapper));
     }
 
     @Override
     public Result<Void> validate(List<VerifiablePresentationContainer> presentations, Collection<? extends CredentialValidationRule> additionalRules) {
-        return presentations.stream().map(verifiablePresentation -> {
-            var credentials = verifiablePresentation.presentation().getCredentials();
-            // verify, that the VP and all VPs are cryptographically OK
-            var presentationIssuer = verifiablePresentation.presentation().getHolder();
-            return presentationVerifier.verifyPresentation(verifiablePresentation)
-                    .compose(u -> validateVerifiableCredentials(credentials, presentationIssuer, additionalRules));
-        }).reduce(success(), Result::merge);
-    }
-
-    @NotNull
-    private Result<Void> validateVerifiableCredentials(List<VerifiableCredential> credentials, String presentationHolder, Collection<? extends CredentialValidationRule> additionalRules) {
+        // verify, that the VP and all VPs are cryptographically OK
+        var verificationResult = firstFailure(presentations, presentation -> () -> presentationVerifier.verifyPresentation(presentation));
+        if (verificationResult.failed()) {
+            return verificationResult;
+        }
 
         // in addition, verify that all VCs are valid
-        var filters = new ArrayList<>(List.of(
-                new IsInValidityPeriod(clock),
-                new HasValidSubjectIds(presentationHolder),
-                new IsNotRevoked(revocationServiceRegistry),
-                new HasValidIssuer(trustedIssuerRegistry),
-                new HasValidSubjectSchema(mapper)));
+        var credentialChecks = new ArrayList<Supplier<Result<Void>>>();
+        for (var verifiablePresentation : presentations) {
+            var presentation = verifiablePresentation.presentation();
+            var rule = validationRule(presentation.getHolder(), additionalRules);
+            presentation.getCredentials().forEach(credential -> credentialChecks.add(() -> rule.apply(credential)));
+        }
+
+        return all(credentialChecks).stream()
+                .reduce(success(), Result::merge);
+    }
 
+    @NotNull
+    private CredentialValidationRule validationRule(String presentationHolder, Collection<? extends CredentialValidationRule> additionalRules) {
+        var filters = new ArrayList<CredentialValidationRule>(defaultRules);
+        filters.add(1, new HasValidSubjectIds(presentationHolder));
         filters.addAll(additionalRules);
 
-        if (credentials.isEmpty()) {
+        return filters.stream().reduce(t -> success(), CredentialValidationRule::and);
+    }
+
+    private <T> Result<Void> firstFailure(List<T> items, Function<T, Supplier<Result<Void>>> check) {
+        if (executor == null || items.size() < 2) {
+            for (var item : items) {
+                var result = check.apply(item).get();
+                if (result.failed()) {
+                    return result;
+                }
+            }
             return success();
         }
 
-        return credentials
-                .stream()
-                .map(c -> filters.stream().reduce(t -> success(), CredentialValidationRule::and).apply(c))
-                .reduce(Result::merge)
-                .orElseGet(() -> failure("Could not determine the status of the VC validation"));
+        var firstFailure = new CompletableFuture<Result<Void>>();
+        // the checks that have not started yet are skipped once a failure is known, the running ones complete anyway
+        var futures = items.stream()
+                .map(item -> CompletableFuture.supplyAsync(() -> firstFailure.isDone() ? success() : check.apply(item).get(), executor)
+                        .thenAccept(result -> {
+                            if (result.failed()) {
+                                firstFailure.complete(result);
+                            }
+                        }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).whenComplete((v, throwable) -> {
+            if (throwable != null) {
+                firstFailure.completeExceptionally(throwable);
+            } else {
+                firstFailure.complete(success());
+            }
+        });
+
+        return join(firstFailure);
     }
 
+    private List<Result<Void>> all(List<Supplier<Result<Void>>> checks) {
+        if (executor == null || checks.size() < 2) {
+            return checks.stream().map(Supplier::get).toList();
+        }
+
+        var futures = checks.stream().map(check -> CompletableFuture.supplyAsync(check, executor)).toList();
+        return futures.stream().map(this::join).toList();
+    }
+
+    private Result<Void> join(CompletableFuture<Result<Void>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
 }
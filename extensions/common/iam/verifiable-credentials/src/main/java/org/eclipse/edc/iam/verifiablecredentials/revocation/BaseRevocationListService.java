@@ -19,15 +19,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.util.collection.Cache;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.net.URI;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.eclipse.edc.spi.result.Result.success;
@@ -39,19 +43,39 @@ import static org.eclipse.edc.spi.result.Result.success;
  * To achieve that, the {@link VerifiableCredential#getCredentialStatus()} object is inspected and checked against the status list credential referenced therein.
  * <p>
  * To limit traffic on the actual StatusList credential, it is cached in a thread-safe {@link Map}, and only re-downloaded if the cache is expired.
+ * The decoded bitstring is cached along with the credential, so it gets decoded only once per download. If a refresh executor
+ * is configured, status lists that are close to their expiry are downloaded again in the background, so that request threads
+ * only wait for the first download of a status list.
  * <p>
  * Currently, StatusList2021 and BitStringStatusList are supported.
  */
 public abstract class BaseRevocationListService<C extends VerifiableCredential, S> implements RevocationListService {
-    private final Cache<String, C> statusListCredentialCache;
+    private final Cache<String, StatusList<C>> statusListCredentialCache;
     private final Class<C> credentialClass;
     private final ObjectMapper objectMapper;
 
     protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, Class<C> credentialClass) {
+        this(mapper, cacheValidity, credentialClass, null, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param mapper             the object mapper
+     * @param cacheValidity      validity of the cached status list credentials in milliseconds
+     * @param credentialClass    the status list credential type
+     * @param refreshExecutor    executor that downloads the status list credentials in the background, null to download them only once expired
+     * @param refreshAheadMillis time in milliseconds before the expiry from which a status list credential gets downloaded again in the background
+     */
+    protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, Class<C> credentialClass, @Nullable Executor refreshExecutor, long refreshAheadMillis) {
         this.objectMapper = mapper.copy()
                 .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY) // technically, credential subjects and credential status can be objects AND Arrays
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // let's make sure this is disabled, because the "@context" would cause problems
-        statusListCredentialCache = new Cache<>(this::downloadStatusListCredential, cacheValidity);
+        var cacheBuilder = Cache.Builder.<String, StatusList<C>>newInstance(this::downloadStatusList, cacheValidity);
+        if (refreshExecutor != null) {
+            cacheBuilder.refreshAhead(refreshExecutor, refreshAheadMillis);
+        }
+        statusListCredentialCache = cacheBuilder.build();
         this.credentialClass = credentialClass;
     }
 
@@ -108,14 +132,29 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      * @throws EdcException if it could not be downloaded
      */
     protected C getCredential(String credentialUrl) {
-        var credential = statusListCredentialCache.get(credentialUrl);
-        // credential is cached, but expired -> download again
-        if (credential != null && credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(Instant.now())) {
-            statusListCredentialCache.evict(credentialUrl);
-        }
-        return statusListCredentialCache.get(credentialUrl);
+        return getStatusList(credentialUrl).credential();
     }
 
+    /**
+     * Gets the decoded bitstring of a statuslist credential, decoding it only the first time after the credential has been
+     * downloaded.
+     *
+     * @param credentialUrl the URL from where to download the cred
+     * @return the decoded bitstring, or a failure if it could not be decoded
+     * @throws EdcException if the credential could not be downloaded
+     */
+    protected Result<BitString> getBitString(String credentialUrl) {
+        return getStatusList(credentialUrl).bitString(this::decodeBitString);
+    }
+
+    /**
+     * Decodes the bitstring contained in the statuslist credential.
+     *
+     * @param statusListCredential the statuslist credential
+     * @return the decoded bitstring, or a failure if it could not be decoded
+     */
+    protected abstract Result<BitString> decodeBitString(C statusListCredential);
+
     /**
      * Obtains the status purpose for a particular credentialStatus entry if it is set, otherwise returns a successful result with a {@code null} content.
      * So, a successful result with a non-null content indicates, that the respective credentialStatus is set.
@@ -149,6 +188,21 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      */
     protected abstract S getCredentialStatus(CredentialStatus credentialStatus);
 
+    private StatusList<C> getStatusList(String credentialUrl) {
+        var statusList = statusListCredentialCache.get(credentialUrl);
+        var credential = statusList.credential();
+        // credential is cached, but expired -> download again
+        if (credential != null && credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(Instant.now())) {
+            statusListCredentialCache.evict(credentialUrl);
+            return statusListCredentialCache.get(credentialUrl);
+        }
+        return statusList;
+    }
+
+    private StatusList<C> downloadStatusList(String credentialUrl) {
+        return new StatusList<>(downloadStatusListCredential(credentialUrl));
+    }
+
     private C downloadStatusListCredential(String credentialUrl) {
         try {
             return objectMapper.readValue(URI.create(credentialUrl).toURL(), credentialClass);
@@ -156,4 +210,30 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
             throw new EdcException(e);
         }
     }
+
+    /**
+     * A downloaded statuslist credential, together with its bitstring once decoded. The bitstring is decoded lazily without
+     * any lock: concurrent first lookups may decode it more than once, but all of them get an equivalent result.
+     */
+    private static final class StatusList<T> {
+        private final T credential;
+        private volatile Result<BitString> bitString;
+
+        private StatusList(T credential) {
+            this.credential = credential;
+        }
+
+        T credential() {
+            return credential;
+        }
+
+        Result<BitString> bitString(Function<T, Result<BitString>> decoder) {
+            var decoded = bitString;
+            if (decoded == null) {
+                decoded = decoder.apply(credential);
+                bitString = decoded;
+            }
+            return decoded;
+        }
+    }
 }
@@ -22,8 +22,10 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstrings
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.BitstringStatusListStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.StatusMessage;
 import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Base64;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.spi.result.Result.success;
 
@@ -37,6 +39,10 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
         super(mapper, cacheValidity, BitstringStatusListCredential.class);
     }
 
+    public BitstringStatusListRevocationService(ObjectMapper mapper, long cacheValidity, @Nullable Executor refreshExecutor, long refreshAheadMillis) {
+        super(mapper, cacheValidity, BitstringStatusListCredential.class, refreshExecutor, refreshAheadMillis);
+    }
+
     @Override
     protected Result<Void> preliminaryChecks(BitstringStatusListStatus credentialStatus) {
         var statusSize = credentialStatus.getStatusSize();
@@ -48,18 +54,7 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
 
     @Override
     protected Result<String> getStatusEntryValue(BitstringStatusListStatus credentialStatus) {
-        var bitStringCredential = getCredential(credentialStatus.getStatusListCredential());
-
-        var bitString = bitStringCredential.encodedList();
-        var decoder = Base64.getDecoder();
-        if (bitString.charAt(0) == 'u') { // base64 url
-            decoder = Base64.getUrlDecoder();
-            bitString = bitString.substring(1); //chop off header
-        } else if (bitString.charAt(0) == 'z') { //base58btc
-            return Result.failure("The encoded list is using the Base58-BTC alphabet ('z' multibase header), which is not supported.");
-        }
-
-        var compressedBitstring = BitString.Parser.newInstance().decoder(decoder).parse(bitString);
+        var compressedBitstring = getBitString(credentialStatus.getStatusListCredential());
         if (compressedBitstring.failed()) {
             return compressedBitstring.mapEmpty();
         }
@@ -86,6 +81,20 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
         return success(null);
     }
 
+    @Override
+    protected Result<BitString> decodeBitString(BitstringStatusListCredential statusListCredential) {
+        var bitString = statusListCredential.encodedList();
+        var decoder = Base64.getDecoder();
+        if (bitString.charAt(0) == 'u') { // base64 url
+            decoder = Base64.getUrlDecoder();
+            bitString = bitString.substring(1); //chop off header
+        } else if (bitString.charAt(0) == 'z') { //base58btc
+            return Result.failure("The encoded list is using the Base58-BTC alphabet ('z' multibase header), which is not supported.");
+        }
+
+        return BitString.Parser.newInstance().decoder(decoder).parse(bitString);
+    }
+
     @Override
     protected Result<Void> validateStatusPurpose(BitstringStatusListStatus credentialStatus) {
         var statusPurpose = credentialStatus.getStatusListPurpose();
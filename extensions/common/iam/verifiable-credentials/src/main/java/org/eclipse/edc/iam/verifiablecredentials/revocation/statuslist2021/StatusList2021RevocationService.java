@@ -21,6 +21,9 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist2021.StatusList2021Credential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist2021.StatusList2021Status;
 import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.spi.result.Result.success;
 
@@ -35,6 +38,10 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         super(objectMapper, cacheValidity, StatusList2021Credential.class);
     }
 
+    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, @Nullable Executor refreshExecutor, long refreshAheadMillis) {
+        super(objectMapper, cacheValidity, StatusList2021Credential.class, refreshExecutor, refreshAheadMillis);
+    }
+
     @Override
     protected StatusList2021Status getCredentialStatus(CredentialStatus credentialStatus) {
         return StatusList2021Status.from(credentialStatus);
@@ -44,10 +51,7 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
     protected Result<String> getStatusEntryValue(StatusList2021Status credentialStatus) {
         var index = credentialStatus.getStatusListIndex();
         var slCredUrl = credentialStatus.getStatusListCredential();
-        var credential = getCredential(slCredUrl);
-
-
-        var bitStringResult = BitString.Parser.newInstance().parse(credential.encodedList());
+        var bitStringResult = getBitString(slCredUrl);
 
         if (bitStringResult.failed()) {
             return bitStringResult.mapEmpty();
@@ -61,6 +65,11 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         return success(null);
     }
 
+    @Override
+    protected Result<BitString> decodeBitString(StatusList2021Credential statusListCredential) {
+        return BitString.Parser.newInstance().parse(statusListCredential.encodedList());
+    }
+
     @Override
     protected Result<Void> validateStatusPurpose(StatusList2021Status credentialStatus) {
         var slCred = getCredential(credentialStatus.getStatusListCredential());
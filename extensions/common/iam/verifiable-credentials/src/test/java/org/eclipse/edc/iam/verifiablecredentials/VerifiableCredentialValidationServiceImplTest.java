@@ -27,7 +27,9 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.validation.PresentationVeri
 import org.eclipse.edc.iam.verifiablecredentials.spi.validation.TrustedIssuerRegistry;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
 import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
@@ -36,6 +38,10 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.TRUSTED_ISSUER;
 import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.createCredentialBuilder;
@@ -45,6 +51,9 @@ import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.result.Result.success;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings("unchecked")
@@ -266,4 +275,98 @@ class VerifiableCredentialValidationServiceImplTest {
                 .hasSizeGreaterThanOrEqualTo(1)
                 .allMatch(s -> s.contains("Error validating CredentialSubject against schema"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void verify_multiplePresentations_shouldNotCheckCredentials_whenVerificationFails() {
+        var vpContainer1 = presentationContainer(CONSUMER_DID, 2);
+        var vpContainer2 = presentationContainer(CONSUMER_DID, 2);
+        when(verifier.verifyPresentation(vpContainer1)).thenReturn(success());
+        when(verifier.verifyPresentation(vpContainer2)).thenReturn(Result.failure("Cryptographic error"));
+
+        var result = validationService.validate(List.of(vpContainer1, vpContainer2));
+
+        assertThat(result).isFailed().detail().isEqualTo("Cryptographic error");
+        verify(revocationServiceRegistry, never()).checkValidity(any());
+    }
+
+    @Nested
+    class Parallel {
+
+        private final ExecutorService executor = Executors.newFixedThreadPool(4);
+        private final VerifiableCredentialValidationServiceImpl parallelValidationService = new VerifiableCredentialValidationServiceImpl(verifier,
+                trustedIssuerRegistry, revocationServiceRegistry, Clock.systemUTC(), new ObjectMapper(), executor);
+
+        @AfterEach
+        void tearDown() {
+            executor.shutdownNow();
+        }
+
+        @Test
+        void verify_multiplePresentations_multipleCredentialsEach() {
+            when(verifier.verifyPresentation(any())).thenReturn(success());
+
+            var result = parallelValidationService.validate(List.of(presentationContainer(CONSUMER_DID, 3), presentationContainer(CONSUMER_DID, 3)));
+
+            assertThat(result).isSucceeded();
+            verify(revocationServiceRegistry, times(6)).checkValidity(any());
+        }
+
+        @Test
+        void verify_shouldReturnFailure_whenOnePresentationFailsVerification() {
+            var vpContainer1 = presentationContainer(CONSUMER_DID, 1);
+            var vpContainer2 = presentationContainer(CONSUMER_DID, 1);
+            when(verifier.verifyPresentation(vpContainer1)).thenReturn(success());
+            when(verifier.verifyPresentation(vpContainer2)).thenReturn(Result.failure("Cryptographic error"));
+
+            var result = parallelValidationService.validate(List.of(vpContainer1, vpContainer2));
+
+            assertThat(result).isFailed().detail().isEqualTo("Cryptographic error");
+            verify(revocationServiceRegistry, never()).checkValidity(any());
+        }
+
+        @Test
+        void verify_shouldSkipPendingVerifications_whenOnePresentationFailsVerification() {
+            var singleThreadExecutor = Executors.newSingleThreadExecutor();
+            var service = new VerifiableCredentialValidationServiceImpl(verifier, trustedIssuerRegistry, revocationServiceRegistry,
+                    Clock.systemUTC(), new ObjectMapper(), singleThreadExecutor);
+            var vpContainer1 = presentationContainer(CONSUMER_DID, 1);
+            var vpContainer2 = presentationContainer(CONSUMER_DID, 1);
+            when(verifier.verifyPresentation(vpContainer1)).thenReturn(Result.failure("Cryptographic error"));
+
+            try {
+                var result = service.validate(List.of(vpContainer1, vpContainer2));
+
+                assertThat(result).isFailed().detail().isEqualTo("Cryptographic error");
+                verify(verifier, never()).verifyPresentation(vpContainer2);
+            } finally {
+                singleThreadExecutor.shutdownNow();
+            }
+        }
+
+        @Test
+        void verify_shouldMergeCredentialFailures() {
+            when(verifier.verifyPresentation(any())).thenReturn(success());
+            when(revocationServiceRegistry.checkValidity(any())).thenReturn(Result.failure("revoked"));
+
+            var result = parallelValidationService.validate(List.of(presentationContainer(CONSUMER_DID, 2), presentationContainer(CONSUMER_DID, 1)));
+
+            assertThat(result).isFailed().messages().containsExactly("revoked", "revoked", "revoked");
+        }
+    }
+
+    private VerifiablePresentationContainer presentationContainer(String holder, int credentials) {
+        var presentation = createPresentationBuilder()
+                .holder(holder)
+                .type("VerifiablePresentation")
+                .credentials(IntStream.range(0, credentials)
+                        .mapToObj(i -> createCredentialBuilder()
+                                .credentialSubjects(List.of(CredentialSubject.Builder.newInstance()
+                                        .id(holder)
+                                        .claim("some-claim-" + i, "some-val")
+                                        .build()))
+                                .build())
+                        .toList())
+                .build();
+        return new VerifiablePresentationContainer(UUID.randomUUID().toString(), CredentialFormat.VC1_0_LD, presentation);
+    }
+}
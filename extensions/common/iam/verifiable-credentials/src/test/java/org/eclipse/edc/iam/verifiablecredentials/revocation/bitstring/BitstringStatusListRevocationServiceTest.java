@@ -30,6 +30,7 @@ import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.verify.VerificationTimes;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +45,10 @@ import static org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bit
 import static org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.BitstringStatusListStatus.STATUS_LIST_SIZE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockserver.model.HttpRequest.request;
 
 class BitstringStatusListRevocationServiceTest {
@@ -302,4 +307,67 @@ class BitstringStatusListRevocationServiceTest {
                     .isEqualTo("revocation, suspension");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    public class Caching {
+
+        @Test
+        void shouldDecodeBitStringOnce_whenCached() {
+            var service = spy(new BitstringStatusListRevocationService(new ObjectMapper().registerModule(new JavaTimeModule()), 5 * 60 * 1000));
+            var credential = credentialStatus(NOT_REVOKED_INDEX);
+
+            assertThat(service.checkValidity(credential)).isSucceeded();
+            assertThat(service.checkValidity(credential)).isSucceeded();
+
+            verify(service, times(1)).decodeBitString(any());
+            clientAndServer.verify(request(), VerificationTimes.exactly(1));
+        }
+
+        @Test
+        void shouldRefreshInBackground_whenCloseToExpiry() {
+            var refreshTasks = new ArrayList<Runnable>();
+            var cacheValidity = 5 * 60 * 1000;
+            var service = new BitstringStatusListRevocationService(new ObjectMapper().registerModule(new JavaTimeModule()), cacheValidity,
+                    refreshTasks::add, cacheValidity);
+            var credential = credentialStatus(REVOKED_INDEX);
+
+            assertThat(service.checkValidity(credential)).isSucceeded();
+            assertThat(refreshTasks).hasSize(1);
+
+            var revokedCredential = TestData.BitstringStatusList.BITSTRING_STATUS_LIST_CREDENTIAL_SINGLE_SUBJECT_TEMPLATE.formatted(generateBitstring(REVOKED_INDEX, 1));
+            clientAndServer.reset()
+                    .when(request().withMethod("GET").withPath("/credentials/status/3"))
+                    .respond(HttpResponse.response().withStatusCode(200).withBody(revokedCredential));
+            refreshTasks.get(0).run();
+
+            assertThat(service.checkValidity(credential)).isFailed()
+                    .detail().isEqualTo("Credential status is 'revocation', status at index 10 is '1'");
+            clientAndServer.verify(request(), VerificationTimes.exactly(1));
+        }
+
+        @Test
+        void shouldKeepCachedStatusList_whenBackgroundRefreshFails() {
+            var refreshTasks = new ArrayList<Runnable>();
+            var cacheValidity = 5 * 60 * 1000;
+            var service = new BitstringStatusListRevocationService(new ObjectMapper().registerModule(new JavaTimeModule()), cacheValidity,
+                    refreshTasks::add, cacheValidity);
+            var credential = credentialStatus(NOT_REVOKED_INDEX);
+            assertThat(service.checkValidity(credential)).isSucceeded();
+
+            clientAndServer.reset()
+                    .when(request().withMethod("GET").withPath("/credentials/status/3"))
+                    .respond(HttpResponse.response().withStatusCode(500));
+            refreshTasks.get(0).run();
+
+            assertThat(service.checkValidity(credential)).isSucceeded();
+        }
+
+        private CredentialStatus credentialStatus(int index) {
+            return new CredentialStatus("test-id", BITSTRING_STATUSLIST_CREDENTIAL,
+                    Map.of(STATUS_LIST_PURPOSE, "revocation",
+                            STATUS_LIST_INDEX, index,
+                            STATUS_LIST_SIZE, 1,
+                            STATUS_LIST_CREDENTIAL, "http://localhost:%d/credentials/status/3".formatted(clientAndServer.getPort())));
+        }
+    }
+}
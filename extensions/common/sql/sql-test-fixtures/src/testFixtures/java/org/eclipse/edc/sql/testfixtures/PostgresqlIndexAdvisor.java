@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.testfixtures;
+
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Helper that verifies that the query shapes used by a SQL store are supported by indexes, by running them under
+ * {@code EXPLAIN} on a PostgreSQL database.
+ * Sequential scans are disabled during the analysis, so the planner falls back on them only when there's no index that
+ * can serve the query: every sequential scan whose estimated rows are above the configured threshold is reported.
+ */
+public class PostgresqlIndexAdvisor {
+
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\S+).*\\(cost=\\S+ rows=(\\d+)");
+
+    private final Supplier<Connection> connectionSupplier;
+    private final Set<String> ignoredTables = new HashSet<>();
+    private long rowThreshold = 0;
+
+    public PostgresqlIndexAdvisor(Supplier<Connection> connectionSupplier) {
+        this.connectionSupplier = connectionSupplier;
+    }
+
+    /**
+     * Sequential scans that are estimated to return up to this number of rows won't be reported. Default is 0.
+     *
+     * @param rowThreshold the threshold.
+     * @return the advisor.
+     */
+    public PostgresqlIndexAdvisor rowThreshold(long rowThreshold) {
+        this.rowThreshold = rowThreshold;
+        return this;
+    }
+
+    /**
+     * Sequential scans on the passed table won't be reported, useful for tables that are known to stay small.
+     *
+     * @param table the table name.
+     * @return the advisor.
+     */
+    public PostgresqlIndexAdvisor ignoreTable(String table) {
+        ignoredTables.add(table);
+        return this;
+    }
+
+    /**
+     * Verifies the passed statement, throws {@link AssertionError} if it needs a sequential scan.
+     *
+     * @param statement the statement.
+     */
+    public void assertIndexed(SqlQueryStatement statement) {
+        assertIndexed(statement.getQueryAsString(), statement.getParameters());
+    }
+
+    /**
+     * Verifies the passed query, throws {@link AssertionError} if it needs a sequential scan.
+     *
+     * @param sql        the query.
+     * @param parameters the query parameters.
+     */
+    public void assertIndexed(String sql, Object... parameters) {
+        var sequentialScans = sequentialScans(sql, parameters);
+        if (!sequentialScans.isEmpty()) {
+            var detail = sequentialScans.stream().map(SequentialScan::toString).collect(joining(", "));
+            throw new AssertionError("Query '%s' needs sequential scans: %s".formatted(sql, detail));
+        }
+    }
+
+    /**
+     * Runs the passed query under {@code EXPLAIN} and returns the sequential scans above the threshold.
+     *
+     * @param sql        the query.
+     * @param parameters the query parameters.
+     * @return the list of sequential scans.
+     */
+    public List<SequentialScan> sequentialScans(String sql, Object... parameters) {
+        try (var connection = connectionSupplier.get()) {
+            try (var statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+            }
+
+            var sequentialScans = new ArrayList<SequentialScan>();
+            try (var statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (var i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (var resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        var matcher = SEQ_SCAN.matcher(resultSet.getString(1));
+                        if (matcher.find()) {
+                            var scan = new SequentialScan(matcher.group(1), Long.parseLong(matcher.group(2)));
+                            if (!ignoredTables.contains(scan.table()) && scan.rows() > rowThreshold) {
+                                sequentialScans.add(scan);
+                            }
+                        }
+                    }
+                }
+            }
+
+            try (var statement = connection.createStatement()) {
+                statement.execute("RESET enable_seqscan");
+            }
+            return sequentialScans;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public record SequentialScan(String table, long rows) {
+        @Override
+        public String toString() {
+            return "%s (estimated rows: %d)".formatted(table, rows);
+        }
+    }
+}
@@ -5,3 +5,6 @@ CREATE TABLE IF NOT EXISTS edc_jti_validation
 );
 
 
+
+-- This will help to clean up expired entries without a table scan
+CREATE INDEX IF NOT EXISTS jti_validation_expires_at_index ON edc_jti_validation (expires_at);
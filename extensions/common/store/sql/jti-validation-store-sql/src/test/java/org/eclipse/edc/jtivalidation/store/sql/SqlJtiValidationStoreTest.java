@@ -22,9 +22,12 @@ import org.eclipse.edc.junit.testfixtures.TestUtils;
 import org.eclipse.edc.jwt.validation.jti.JtiValidationStore;
 import org.eclipse.edc.jwt.validation.jti.JtiValidationStoreTestBase;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlIndexAdvisor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.mockito.Mockito.mock;
@@ -51,6 +54,27 @@ public class SqlJtiValidationStoreTest extends JtiValidationStoreTestBase {
     }
 
 
+    @Nested
+    class IndexUsage {
+
+        private PostgresqlIndexAdvisor indexAdvisor;
+
+        @BeforeEach
+        void setUp(PostgresqlStoreSetupExtension extension) {
+            indexAdvisor = new PostgresqlIndexAdvisor(extension::getConnection);
+        }
+
+        @Test
+        void findById() {
+            indexAdvisor.assertIndexed(statements.getFindByTemplate(), "token-id");
+        }
+
+        @Test
+        void deleteExpired() {
+            indexAdvisor.assertIndexed(statements.deleteWhereExpiredTemplate(), 1L);
+        }
+    }
+
     @Override
     protected JtiValidationStore getStore() {
         return store;
@@ -17,12 +17,18 @@ package org.eclipse.edc.validator.dataaddress.httpdata;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
+import org.eclipse.edc.validator.spi.Violation;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.BASE_URL;
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.HTTP_DATA_TYPE;
+import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.RANGE_CONCURRENCY;
+import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.RANGE_PART_SIZE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.validator.spi.Violation.violation;
 
 /**
@@ -35,10 +41,32 @@ public class HttpDataDataAddressValidator implements Validator<DataAddress> {
         var baseUrl = dataAddress.getStringProperty(BASE_URL);
         try {
             new URL(baseUrl);
-            return ValidationResult.success();
         } catch (MalformedURLException e) {
             var violation = violation("DataAddress of type %s must contain a valid baseUrl.".formatted(HTTP_DATA_TYPE), BASE_URL, baseUrl);
             return ValidationResult.failure(violation);
         }
+
+        var violations = Stream.of(RANGE_PART_SIZE, RANGE_CONCURRENCY)
+                .map(property -> validatePositive(dataAddress, property))
+                .filter(Objects::nonNull)
+                .toList();
+
+        return violations.isEmpty() ? ValidationResult.success() : ValidationResult.failure(violations);
+    }
+
+    private Violation validatePositive(DataAddress dataAddress, String property) {
+        // the local name matches both the expanded and the plain property
+        var value = dataAddress.getStringProperty(property.substring(EDC_NAMESPACE.length()));
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (Long.parseLong(value) > 0) {
+                return null;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported as violation below
+        }
+        return violation("DataAddress of type %s must contain a positive integer as %s.".formatted(HTTP_DATA_TYPE, property), property, value);
     }
 }
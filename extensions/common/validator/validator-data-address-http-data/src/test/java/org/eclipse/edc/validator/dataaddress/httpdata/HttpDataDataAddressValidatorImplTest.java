@@ -16,9 +16,13 @@ package org.eclipse.edc.validator.dataaddress.httpdata;
 
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.BASE_URL;
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.HTTP_DATA_TYPE;
+import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.RANGE_CONCURRENCY;
+import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.RANGE_PART_SIZE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 
 class HttpDataDataAddressValidatorImplTest {
@@ -49,4 +53,46 @@ class HttpDataDataAddressValidatorImplTest {
         assertThat(result).isFailed();
     }
 
+    @Test
+    void shouldPass_whenRangePropertiesArePositive() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .property("type", HTTP_DATA_TYPE)
+                .property(BASE_URL, "http://this.is/valid/url")
+                .property(RANGE_PART_SIZE, "1048576")
+                .property("rangeConcurrency", "4")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isSucceeded();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-1", "not-a-number" })
+    void shouldFail_whenRangePartSizeNotPositive(String value) {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .property("type", HTTP_DATA_TYPE)
+                .property(BASE_URL, "http://this.is/valid/url")
+                .property("rangePartSize", value)
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isFailed().detail().contains(RANGE_PART_SIZE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-1", "not-a-number" })
+    void shouldFail_whenRangeConcurrencyNotPositive(String value) {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .property("type", HTTP_DATA_TYPE)
+                .property(BASE_URL, "http://this.is/valid/url")
+                .property(RANGE_CONCURRENCY, value)
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isFailed().detail().contains(RANGE_CONCURRENCY);
+    }
+
 }
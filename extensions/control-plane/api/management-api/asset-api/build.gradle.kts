@@ -35,6 +35,7 @@ dependencies {
     testImplementation(project(":extensions:common:http"))
     testImplementation(project(":core:common:junit"))
     testImplementation(testFixtures(project(":extensions:common:http:jersey-core")))
+    testImplementation(project(":extensions:common:http:lib:jersey-providers-lib"))
     testImplementation(libs.restAssured)
     testImplementation(libs.awaitility)
 }
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.asset.v3;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,10 +24,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.management.schema.ManagementApiSchema;
 import org.eclipse.edc.api.model.ApiCoreSchema;
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
 
 import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
@@ -57,11 +60,24 @@ public interface AssetApi {
             ),
             responses = {
                     @ApiResponse(responseCode = "200", description = "The assets matching the query",
+                            headers = @Header(name = ContinuationToken.HTTP_HEADER, description = "Token of the next page, returned when the query uses keyset pagination and more results are available"),
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = AssetOutputSchema.class)))),
                     @ApiResponse(responseCode = "400", description = "Request body was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
             })
-    JsonArray requestAssetsV3(JsonObject querySpecJson);
+    Response requestAssetsV3(JsonObject querySpecJson);
+
+    @Operation(description = "Exports all the assets matching a query as newline delimited JSON, one entity per line. " +
+            "Entities are streamed as they are read from the store, the limit is not applied unless explicitly set",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = ApiCoreSchema.QuerySpecSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The assets matching the query",
+                            content = @Content(mediaType = JsonObjectStream.MEDIA_TYPE, schema = @Schema(implementation = AssetOutputSchema.class))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            }
+    )
+    JsonObjectStream exportAssetsV3(JsonObject querySpecJson);
 
     @Operation(description = "Gets an asset with the given ID",
             responses = {
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.asset.v3;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -24,11 +23,14 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetSortValue;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -36,11 +38,13 @@ import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.util.Optional.of;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
@@ -83,7 +87,7 @@ public class AssetApiController implements AssetApi {
     @POST
     @Path("/request")
     @Override
-    public JsonArray requestAssetsV3(JsonObject querySpecJson) {
+    public Response requestAssetsV3(JsonObject querySpecJson) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.Builder.newInstance().build();
@@ -94,12 +98,52 @@ public class AssetApiController implements AssetApi {
                     .orElseThrow(InvalidRequestException::new);
         }
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null)).stream()
+        var assets = service.search(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null));
+
+        var result = assets.stream()
                 .map(it -> transformerRegistry.transform(it, JsonObject.class))
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toJsonArray());
+
+        var response = Response.ok(result);
+        if (querySpec.isKeysetPagination()) {
+            var nextToken = ContinuationToken.next(querySpec, assets, Asset::getId, asset -> AssetSortValue.of(asset, querySpec.getSortField()));
+            response.header(ContinuationToken.HTTP_HEADER, nextToken);
+        }
+        return response.build();
+    }
+
+    @POST
+    @Path("/export")
+    @Produces(JsonObjectStream.MEDIA_TYPE)
+    @Override
+    public JsonObjectStream exportAssetsV3(JsonObject querySpecJson) {
+        QuerySpec querySpec;
+        if (querySpecJson == null) {
+            querySpec = QuerySpec.Builder.newInstance().limit(Integer.MAX_VALUE).build();
+        } else {
+            validator.validate(EDC_QUERY_SPEC_TYPE, querySpecJson).orElseThrow(ValidationFailureException::new);
+
+            querySpec = transformerRegistry.transform(querySpecJson, QuerySpec.class)
+                    .orElseThrow(InvalidRequestException::new);
+
+            // exports return every matching asset, unless the client explicitly limits them
+            if (!querySpecJson.containsKey(EDC_QUERY_SPEC_LIMIT)) {
+                querySpec = querySpec.toBuilder().limit(Integer.MAX_VALUE).build();
+            }
+        }
+
+        // the query is validated upfront, because once the stream starts the response status cannot change anymore
+        service.validateQuery(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null));
+
+        var finalQuerySpec = querySpec;
+        return new JsonObjectStream(consumer -> service
+                .forEach(finalQuerySpec, asset -> transformerRegistry.transform(asset, JsonObject.class)
+                        .onFailure(f -> monitor.warning(f.getFailureDetail()))
+                        .onSuccess(consumer))
+                .orElseThrow(exceptionMapper(QuerySpec.class, null)));
     }
 
     @GET
@@ -28,16 +28,20 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStreamMessageBodyWriter;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_CREATED_AT;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_TYPE;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
@@ -56,6 +60,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -403,11 +408,75 @@ class AssetApiControllerTest extends RestControllerTestBase {
         verifyNoInteractions(service, transformerRegistry);
     }
 
+    @Test
+    void exportAssets() {
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.none()));
+        when(service.validateQuery(any())).thenReturn(ServiceResult.success());
+        when(service.forEach(any(), any())).thenAnswer(i -> {
+            Consumer<Asset> consumer = i.getArgument(1);
+            consumer.accept(Asset.Builder.newInstance().id("id1").build());
+            consumer.accept(Asset.Builder.newInstance().id("id2").build());
+            return ServiceResult.success();
+        });
+        when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                .thenAnswer(i -> Result.success(createObjectBuilder().add("id", i.getArgument(0, Asset.class).getId()).build()));
+
+        var body = baseRequest()
+                .contentType(JSON)
+                .accept(JsonObjectStream.MEDIA_TYPE)
+                .body("{}")
+                .post("/assets/export")
+                .then()
+                .statusCode(200)
+                .contentType(JsonObjectStream.MEDIA_TYPE)
+                .extract().body().asString();
+
+        assertThat(body.split("\n")).containsExactly("{\"id\":\"id1\"}", "{\"id\":\"id2\"}");
+        verify(service).forEach(argThat(query -> query.getLimit() == Integer.MAX_VALUE), any());
+    }
+
+    @Test
+    void exportAssets_shouldReturnBadRequest_whenQueryIsInvalid() {
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.none()));
+        when(service.validateQuery(any())).thenReturn(ServiceResult.badRequest("invalid sort field"));
+
+        baseRequest()
+                .contentType(JSON)
+                .body("{}")
+                .post("/assets/export")
+                .then()
+                .statusCode(400)
+                .contentType(JSON);
+
+        verify(service, never()).forEach(any(), any());
+    }
+
+    @Test
+    void exportAssets_shouldReturnBadRequest_whenValidationFails() {
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.failure(violation("failure", "failure path")));
+
+        baseRequest()
+                .contentType(JSON)
+                .body("{}")
+                .post("/assets/export")
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(service);
+    }
+
     @Override
     protected Object controller() {
         return new AssetApiController(service, transformerRegistry, monitor, validator);
     }
 
+    @Override
+    protected Object additionalResource() {
+        return new JsonObjectStreamMessageBodyWriter(typeManager, "test");
+    }
+
     private JsonObjectBuilder createAssetJson() {
         return createObjectBuilder()
                 .add(CONTEXT, createContextBuilder().build())
@@ -34,6 +34,7 @@ dependencies {
     testImplementation(project(":core:common:junit"))
     testImplementation(libs.restAssured)
     testImplementation(testFixtures(project(":extensions:common:http:jersey-core")))
+    testImplementation(project(":extensions:common:http:lib:jersey-providers-lib"))
 
 }
 
@@ -28,10 +28,12 @@ import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
 
 import java.util.Optional;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
@@ -68,6 +70,18 @@ public abstract class BaseContractAgreementApiController {
                 .collect(toJsonArray());
     }
 
+    public JsonObjectStream exportAgreements(JsonObject querySpecJson) {
+        var querySpec = exportQuerySpec(querySpecJson);
+        // the query is validated upfront, because once the stream starts the response status cannot change anymore
+        service.validateQuery(querySpec).orElseThrow(exceptionMapper(ContractAgreement.class, null));
+
+        return new JsonObjectStream(consumer -> service
+                .forEach(querySpec, agreement -> transformerRegistry.transform(agreement, JsonObject.class)
+                        .onFailure(f -> monitor.warning(f.getFailureDetail()))
+                        .onSuccess(consumer))
+                .orElseThrow(exceptionMapper(ContractAgreement.class, null)));
+    }
+
     public JsonObject getAgreementById(String id) {
         return Optional.of(id)
                 .map(service::findById)
@@ -84,4 +98,17 @@ public abstract class BaseContractAgreementApiController {
                 .orElseThrow(() -> new ObjectNotFoundException(ContractAgreement.class, id));
     }
 
+    private QuerySpec exportQuerySpec(JsonObject querySpecJson) {
+        if (querySpecJson == null) {
+            return QuerySpec.Builder.newInstance().limit(Integer.MAX_VALUE).build();
+        }
+
+        validatorRegistry.validate(EDC_QUERY_SPEC_TYPE, querySpecJson).orElseThrow(ValidationFailureException::new);
+
+        var querySpec = transformerRegistry.transform(querySpecJson, QuerySpec.class)
+                .orElseThrow(InvalidRequestException::new);
+
+        // exports return every matching entity, unless the client explicitly limits them
+        return querySpecJson.containsKey(EDC_QUERY_SPEC_LIMIT) ? querySpec : querySpec.toBuilder().limit(Integer.MAX_VALUE).build();
+    }
 }
@@ -27,6 +27,7 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.api.management.schema.ManagementApiSchema;
 import org.eclipse.edc.api.model.ApiCoreSchema;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
 
 @OpenAPIDefinition(info = @Info(version = "v3"))
 @Tag(name = "Contract Agreement V3")
@@ -43,6 +44,18 @@ public interface ContractAgreementApiV3 {
     )
     JsonArray queryAgreementsV3(JsonObject querySpecJson);
 
+    @Operation(description = "Exports all the contract agreements matching a query as newline delimited JSON, one entity per line. " +
+            "Entities are streamed as they are read from the store, the limit is not applied unless explicitly set",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = ApiCoreSchema.QuerySpecSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The contract agreements matching the query",
+                            content = @Content(mediaType = JsonObjectStream.MEDIA_TYPE, schema = @Schema(implementation = ManagementApiSchema.ContractAgreementSchema.class))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            }
+    )
+    JsonObjectStream exportAgreementsV3(JsonObject querySpecJson);
+
     @Operation(description = "Gets an contract agreement with the given ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "The contract agreement",
@@ -27,6 +27,7 @@ import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.Con
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 
@@ -45,6 +46,14 @@ public class ContractAgreementApiV3Controller extends BaseContractAgreementApiCo
         return queryAgreements(querySpecJson);
     }
 
+    @POST
+    @Path("/export")
+    @Produces(JsonObjectStream.MEDIA_TYPE)
+    @Override
+    public JsonObjectStream exportAgreementsV3(JsonObject querySpecJson) {
+        return exportAgreements(querySpecJson);
+    }
+
     @GET
     @Path("{id}")
     @Override
@@ -15,9 +15,32 @@
 package org.eclipse.edc.connector.controlplane.api.management.contractagreement.v3;
 
 import io.restassured.specification.RequestSpecification;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
 import org.eclipse.edc.connector.controlplane.api.management.contractagreement.BaseContractAgreementApiControllerTest;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStreamMessageBodyWriter;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
 
 import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ContractAgreementApiV3ControllerTest extends BaseContractAgreementApiControllerTest {
     @Override
@@ -30,4 +53,68 @@ class ContractAgreementApiV3ControllerTest extends BaseContractAgreementApiContr
                 .baseUri("http://localhost:" + port + "/v3/contractagreements")
                 .when();
     }
+
+    @Override
+    protected Object additionalResource() {
+        return new JsonObjectStreamMessageBodyWriter(typeManager, "test");
+    }
+
+    @Nested
+    class Export {
+
+        @Test
+        void shouldStreamAgreementsAsNdJson() {
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.none()));
+            when(service.validateQuery(any())).thenReturn(ServiceResult.success());
+            when(service.forEach(any(), any())).thenAnswer(i -> {
+                Consumer<ContractAgreement> consumer = i.getArgument(1);
+                consumer.accept(createContractAgreement("id1"));
+                consumer.accept(createContractAgreement("id2"));
+                return ServiceResult.success();
+            });
+            when(transformerRegistry.transform(isA(ContractAgreement.class), eq(JsonObject.class)))
+                    .thenAnswer(i -> Result.success(Json.createObjectBuilder().add("id", i.getArgument(0, ContractAgreement.class).getId()).build()));
+
+            var body = baseRequest()
+                    .contentType(JSON)
+                    .accept(JsonObjectStream.MEDIA_TYPE)
+                    .body(Json.createObjectBuilder().build())
+                    .post("/export")
+                    .then()
+                    .statusCode(200)
+                    .contentType(JsonObjectStream.MEDIA_TYPE)
+                    .extract().body().asString();
+
+            assertThat(body.split("\n")).containsExactly("{\"id\":\"id1\"}", "{\"id\":\"id2\"}");
+            verify(service).forEach(argThat(query -> query.getLimit() == Integer.MAX_VALUE), any());
+        }
+
+        @Test
+        void shouldReturnBadRequest_whenQueryIsNotValid() {
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.none()));
+            when(service.validateQuery(any())).thenReturn(ServiceResult.badRequest("invalid sort field"));
+
+            baseRequest()
+                    .contentType(JSON)
+                    .body(Json.createObjectBuilder().build())
+                    .post("/export")
+                    .then()
+                    .statusCode(400)
+                    .contentType(JSON);
+
+            verify(service, never()).forEach(any(), any());
+        }
+
+        private ContractAgreement createContractAgreement(String id) {
+            return ContractAgreement.Builder.newInstance()
+                    .id(id)
+                    .consumerId("test-consumer")
+                    .providerId("test-provider")
+                    .assetId("test-asset")
+                    .policy(Policy.Builder.newInstance().build())
+                    .build();
+        }
+    }
 }
\ No newline at end of file
@@ -33,6 +33,7 @@ dependencies {
     testImplementation(project(":core:data-plane-selector:data-plane-selector-core"))
     testImplementation(project(":extensions:common:http"))
     testImplementation(project(":core:common:junit"))
+    testImplementation(project(":extensions:common:http:lib:jersey-providers-lib"))
     testImplementation(testFixtures(project(":extensions:common:http:jersey-core")))
 
     testImplementation(libs.restAssured)
@@ -14,8 +14,8 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer;
@@ -28,13 +28,16 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.Suspend
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.TerminateTransferCommand;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
 
 import java.util.Optional;
 
@@ -43,6 +46,7 @@ import static java.lang.String.format;
 import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer.SUSPEND_TRANSFER_TYPE;
 import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer.TERMINATE_TRANSFER_TYPE;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferRequest.TRANSFER_REQUEST_TYPE;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.mapToException;
@@ -63,7 +67,7 @@ public abstract class BaseTransferProcessApiController {
         this.validatorRegistry = validatorRegistry;
     }
 
-    public JsonArray queryTransferProcesses(JsonObject querySpecJson) {
+    public Response queryTransferProcesses(JsonObject querySpecJson) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.none();
@@ -74,12 +78,34 @@ public abstract class BaseTransferProcessApiController {
                     .orElseThrow(InvalidRequestException::new);
         }
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class)).stream()
+        var transferProcesses = service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class));
+
+        var result = transferProcesses.stream()
                 .map(transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
                         .onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toJsonArray());
+
+        var response = Response.ok(result);
+        if (querySpec.isKeysetPagination()) {
+            var nextToken = ContinuationToken.next(querySpec, transferProcesses, TransferProcess::getId,
+                    transferProcess -> ReflectionUtil.getFieldValue(querySpec.getSortField(), transferProcess));
+            response.header(ContinuationToken.HTTP_HEADER, nextToken);
+        }
+        return response.build();
+    }
+
+    public JsonObjectStream exportTransferProcesses(JsonObject querySpecJson) {
+        var querySpec = exportQuerySpec(querySpecJson);
+        // the query is validated upfront, because once the stream starts the response status cannot change anymore
+        service.validateQuery(querySpec).orElseThrow(exceptionMapper(TransferProcess.class));
+
+        return new JsonObjectStream(consumer -> service
+                .forEach(querySpec, transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
+                        .onFailure(f -> monitor.warning(f.getFailureDetail()))
+                        .onSuccess(consumer))
+                .orElseThrow(exceptionMapper(TransferProcess.class)));
     }
 
 
@@ -162,4 +188,18 @@ public abstract class BaseTransferProcessApiController {
                 .onSuccess(tp -> monitor.debug(format("Resumption requested for TransferProcess with ID %s", id)))
                 .orElseThrow(exceptionMapper(TransferProcess.class, id));
     }
+
+    private QuerySpec exportQuerySpec(JsonObject querySpecJson) {
+        if (querySpecJson == null) {
+            return QuerySpec.Builder.newInstance().limit(Integer.MAX_VALUE).build();
+        }
+
+        validatorRegistry.validate(EDC_QUERY_SPEC_TYPE, querySpecJson).orElseThrow(ValidationFailureException::new);
+
+        var querySpec = transformerRegistry.transform(querySpecJson, QuerySpec.class)
+                .orElseThrow(InvalidRequestException::new);
+
+        // exports return every matching entity, unless the client explicitly limits them
+        return querySpecJson.containsKey(EDC_QUERY_SPEC_LIMIT) ? querySpec : querySpec.toBuilder().limit(Integer.MAX_VALUE).build();
+    }
 }
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess.v3;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -22,11 +21,13 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.BaseTransferProcessApiController;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 
@@ -42,10 +43,18 @@ public class TransferProcessApiV3Controller extends BaseTransferProcessApiContro
     @POST
     @Path("request")
     @Override
-    public JsonArray queryTransferProcessesV3(JsonObject querySpecJson) {
+    public Response queryTransferProcessesV3(JsonObject querySpecJson) {
         return queryTransferProcesses(querySpecJson);
     }
 
+    @POST
+    @Path("export")
+    @Produces(JsonObjectStream.MEDIA_TYPE)
+    @Override
+    public JsonObjectStream exportTransferProcessesV3(JsonObject querySpecJson) {
+        return exportTransferProcesses(querySpecJson);
+    }
+
     @GET
     @Path("{id}")
     @Override
@@ -27,7 +27,9 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.ResumeT
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.SuspendTransferCommand;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.TerminateTransferCommand;
 import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -261,6 +263,24 @@ public abstract class BaseTransferProcessApiControllerTest extends RestControlle
                     .contentType(JSON)
                     .body("size()", is(0));
         }
+
+        @Test
+        void shouldReturnContinuationToken_whenKeysetPagination() {
+            var querySpec = QuerySpec.Builder.newInstance().limit(1).continuationToken("").build();
+            var transferProcess = createTransferProcess().id("id").build();
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+            when(service.search(any())).thenReturn(ServiceResult.success(List.of(transferProcess)));
+            when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(Json.createObjectBuilder().build()));
+
+            baseRequest()
+                    .body(Json.createObjectBuilder().build())
+                    .contentType(JSON)
+                    .post("/request")
+                    .then()
+                    .statusCode(200)
+                    .header(ContinuationToken.HTTP_HEADER, ContinuationToken.of(null, SortOrder.ASC, null, "id").encode());
+        }
     }
 
     @Nested
@@ -15,9 +15,33 @@
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess.v3;
 
 import io.restassured.specification.RequestSpecification;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.BaseTransferProcessApiControllerTest;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStreamMessageBodyWriter;
+import org.eclipse.edc.web.spi.stream.JsonObjectStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
 
 import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.validator.spi.Violation.violation;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 public class TransferProcessApiV3ControllerTest extends BaseTransferProcessApiControllerTest {
     @Override
@@ -31,4 +55,72 @@ public class TransferProcessApiV3ControllerTest extends BaseTransferProcessApiCo
                 .port(port)
                 .baseUri("http://localhost:" + port + "/v3/transferprocesses");
     }
+
+    @Nested
+    class Export {
+
+        @Test
+        void shouldStreamTransferProcessesAsNdJson() {
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.none()));
+            when(service.validateQuery(any())).thenReturn(ServiceResult.success());
+            when(service.forEach(any(), any())).thenAnswer(i -> {
+                Consumer<TransferProcess> consumer = i.getArgument(1);
+                consumer.accept(TransferProcess.Builder.newInstance().id("id1").build());
+                consumer.accept(TransferProcess.Builder.newInstance().id("id2").build());
+                return ServiceResult.success();
+            });
+            when(transformerRegistry.transform(isA(TransferProcess.class), eq(JsonObject.class)))
+                    .thenAnswer(i -> Result.success(Json.createObjectBuilder().add("id", i.getArgument(0, TransferProcess.class).getId()).build()));
+
+            var body = baseRequest()
+                    .contentType(JSON)
+                    .accept(JsonObjectStream.MEDIA_TYPE)
+                    .body(Json.createObjectBuilder().build())
+                    .post("/export")
+                    .then()
+                    .statusCode(200)
+                    .contentType(JsonObjectStream.MEDIA_TYPE)
+                    .extract().body().asString();
+
+            assertThat(body.split("\n")).containsExactly("{\"id\":\"id1\"}", "{\"id\":\"id2\"}");
+            verify(service).forEach(argThat(query -> query.getLimit() == Integer.MAX_VALUE), any());
+        }
+
+        @Test
+        void shouldReturnBadRequest_whenValidationFails() {
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.failure(violation("failure", "failure path")));
+
+            baseRequest()
+                    .contentType(JSON)
+                    .body(Json.createObjectBuilder().build())
+                    .post("/export")
+                    .then()
+                    .statusCode(400);
+
+            verifyNoInteractions(service);
+        }
+
+        @Test
+        void shouldReturnBadRequest_whenQueryIsNotValid() {
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.none()));
+            when(service.validateQuery(any())).thenReturn(ServiceResult.badRequest("invalid sort field"));
+
+            baseRequest()
+                    .contentType(JSON)
+                    .body(Json.createObjectBuilder().build())
+                    .post("/export")
+                    .then()
+                    .statusCode(400)
+                    .contentType(JSON);
+
+            verify(service, never()).forEach(any(), any());
+        }
+    }
+
+    @Override
+    protected Object additionalResource() {
+        return new JsonObjectStreamMessageBodyWriter(typeManager, "test");
+    }
 }
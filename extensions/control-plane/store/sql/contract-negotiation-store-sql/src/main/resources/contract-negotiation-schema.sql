@@ -83,4 +83,10 @@ CREATE UNIQUE INDEX IF NOT EXISTS contract_agreement_id_uindex
 
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS contract_negotiation_state ON edc_contract_negotiation (state,state_timestamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS contract_negotiation_state ON edc_contract_negotiation (state,state_timestamp);
+
+-- This will help to find the negotiation that produced an agreement
+CREATE INDEX IF NOT EXISTS contract_negotiation_agreement_id_index ON edc_contract_negotiation (agreement_id);
+
+-- This will avoid a table scan when a lease gets deleted, because of the ON DELETE SET NULL constraint
+CREATE INDEX IF NOT EXISTS contract_negotiation_lease_id_index ON edc_contract_negotiation (lease_id);
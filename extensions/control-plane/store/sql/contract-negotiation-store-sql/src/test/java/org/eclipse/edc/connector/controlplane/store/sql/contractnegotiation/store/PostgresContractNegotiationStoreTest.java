@@ -20,15 +20,24 @@ import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.LeaseUtil;
+import org.eclipse.edc.sql.testfixtures.PostgresqlIndexAdvisor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
+
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
  * This test aims to verify those parts of the contract negotiation store, that are specific to Postgres, e.g. JSON
@@ -38,12 +47,12 @@ import java.time.Duration;
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestBase {
 
+    private final PostgresDialectStatements statements = new PostgresDialectStatements();
     private SqlContractNegotiationStore store;
     private LeaseUtil leaseUtil;
 
     @BeforeEach
     void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
-        var statements = new PostgresDialectStatements();
         var manager = new JacksonTypeManager();
 
         manager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
@@ -57,10 +66,45 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
 
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
-        var dialect = new PostgresDialectStatements();
-        extension.runQuery("DROP TABLE " + dialect.getContractNegotiationTable() + " CASCADE");
-        extension.runQuery("DROP TABLE " + dialect.getContractAgreementTable() + " CASCADE");
-        extension.runQuery("DROP TABLE " + dialect.getLeaseTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getContractNegotiationTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getContractAgreementTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
+    }
+
+    @Nested
+    class IndexUsage {
+
+        private PostgresqlIndexAdvisor indexAdvisor;
+
+        @BeforeEach
+        void setUp(PostgresqlStoreSetupExtension extension) {
+            indexAdvisor = new PostgresqlIndexAdvisor(extension::getConnection);
+        }
+
+        @Test
+        void findForAgreementId() {
+            var sql = "SELECT * FROM %s WHERE %s = ?".formatted(statements.getContractNegotiationTable(), statements.getContractAgreementIdFkColumn());
+
+            indexAdvisor.assertIndexed(sql, "agreement-id");
+        }
+
+        @Test
+        void nextNotLeased() {
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(List.of(hasState(REQUESTED.code()), criterion("type", "=", "PROVIDER"), criterion("pending", "=", false)))
+                    .sortField("stateTimestamp").limit(5).build();
+            var statement = statements.createNegotiationsQuery(querySpec).addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+
+            // the lease table only contains the in-flight leases, so it doesn't need to be indexed on the expiration
+            indexAdvisor.ignoreTable(statements.getLeaseTableName()).assertIndexed(statement);
+        }
+
+        @Test
+        void deleteLease() {
+            var sql = "SELECT * FROM %s WHERE %s = ?".formatted(statements.getContractNegotiationTable(), statements.getLeaseIdColumn());
+
+            indexAdvisor.assertIndexed(sql, "lease-id");
+        }
     }
 
     @Override
@@ -67,4 +67,10 @@ CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
     ON edc_lease (lease_id);
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS transfer_process_state ON edc_transfer_process (state,state_time_stamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS transfer_process_state ON edc_transfer_process (state,state_time_stamp);
+
+-- This will help to find the transfer process that an inbound protocol message refers to
+CREATE INDEX IF NOT EXISTS transfer_process_correlation_id_index ON edc_transfer_process (correlation_id);
+
+-- This will avoid a table scan when a lease gets deleted, because of the ON DELETE SET NULL constraint
+CREATE INDEX IF NOT EXISTS transfer_process_lease_id_index ON edc_transfer_process (lease_id);
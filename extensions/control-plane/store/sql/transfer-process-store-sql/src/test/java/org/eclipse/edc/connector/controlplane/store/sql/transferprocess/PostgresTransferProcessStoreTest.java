@@ -22,15 +22,24 @@ import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.LeaseUtil;
+import org.eclipse.edc.sql.testfixtures.PostgresqlIndexAdvisor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
+
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -61,6 +70,42 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
     }
 
+    @Nested
+    class IndexUsage {
+
+        private PostgresqlIndexAdvisor indexAdvisor;
+
+        @BeforeEach
+        void setUp(PostgresqlStoreSetupExtension extension) {
+            indexAdvisor = new PostgresqlIndexAdvisor(extension::getConnection);
+        }
+
+        @Test
+        void findForCorrelationId() {
+            var querySpec = QuerySpec.Builder.newInstance().filter(criterion("correlationId", "=", "correlation-id")).build();
+
+            indexAdvisor.assertIndexed(statements.createQuery(querySpec));
+        }
+
+        @Test
+        void findById() {
+            var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "=", "id")).build();
+
+            indexAdvisor.assertIndexed(statements.createQuery(querySpec));
+        }
+
+        @Test
+        void nextNotLeased() {
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(List.of(hasState(STARTED.code()), criterion("type", "=", "PROVIDER"), criterion("pending", "=", false)))
+                    .sortField("stateTimestamp").limit(5).build();
+            var statement = statements.createQuery(querySpec).addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+
+            // the lease table only contains the in-flight leases, so it doesn't need to be indexed on the expiration
+            indexAdvisor.ignoreTable(statements.getLeaseTableName()).assertIndexed(statement);
+        }
+    }
+
     @Override
     protected SqlTransferProcessStore getTransferProcessStore() {
         return store;
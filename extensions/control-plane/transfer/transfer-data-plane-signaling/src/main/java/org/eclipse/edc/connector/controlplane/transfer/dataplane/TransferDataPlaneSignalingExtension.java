@@ -24,11 +24,14 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.web.spi.configuration.context.ControlApiUrl;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.connector.controlplane.transfer.dataplane.TransferDataPlaneSignalingExtension.NAME;
 
@@ -38,10 +41,15 @@ public class TransferDataPlaneSignalingExtension implements ServiceExtension {
     protected static final String NAME = "Transfer Data Plane Signaling Extension";
 
     private static final String DEFAULT_DATAPLANE_SELECTOR_STRATEGY = "random";
+    private static final int DEFAULT_DATAPLANE_SELECTOR_THREADS = 10;
 
     @Setting(description = "Defines strategy for Data Plane instance selection in case Data Plane is not embedded in current runtime", defaultValue = DEFAULT_DATAPLANE_SELECTOR_STRATEGY, key = "edc.dataplane.client.selector.strategy")
     private String selectionStrategy;
 
+    @Setting(description = "the maximum number of threads running blocking data plane selections while starting transfers", defaultValue = DEFAULT_DATAPLANE_SELECTOR_THREADS + "",
+            key = "edc.dataplane.client.selector.threads", min = 1)
+    private int selectionThreads;
+
     @Inject
     private DataFlowManager dataFlowManager;
 
@@ -60,13 +68,26 @@ public class TransferDataPlaneSignalingExtension implements ServiceExtension {
     @Inject
     private TransferTypeParser transferTypeParser;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService selectionExecutor;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
+        selectionExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(selectionThreads), "Data plane selection");
         var controller = new DataPlaneSignalingFlowController(callbackUrl, selectorService, getPropertiesProvider(),
-                clientFactory, selectionStrategy, transferTypeParser);
+                clientFactory, selectionStrategy, transferTypeParser, selectionExecutor);
         dataFlowManager.register(controller);
     }
 
+    @Override
+    public void shutdown() {
+        if (selectionExecutor != null) {
+            selectionExecutor.shutdownNow();
+        }
+    }
+
     private DataFlowPropertiesProvider getPropertiesProvider() {
         return propertiesProvider == null ? (tp, p) -> StatusResult.success(Map.of()) : propertiesProvider;
     }
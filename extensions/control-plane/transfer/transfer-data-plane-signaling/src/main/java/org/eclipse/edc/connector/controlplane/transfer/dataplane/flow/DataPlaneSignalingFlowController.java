@@ -26,6 +26,8 @@ import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClientFa
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.web.spi.configuration.context.ControlApiUrl;
 import org.jetbrains.annotations.NotNull;
@@ -34,8 +36,12 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Collections.emptySet;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toSet;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
@@ -56,16 +62,33 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
     private final DataFlowPropertiesProvider propertiesProvider;
     private final String selectionStrategy;
     private final TransferTypeParser transferTypeParser;
+    private final Executor selectionExecutor;
 
+    /**
+     * Constructor, the data plane selection and lookup that cannot be done asynchronously run on the common pool.
+     */
     public DataPlaneSignalingFlowController(ControlApiUrl callbackUrl, DataPlaneSelectorService selectorClient,
                                             DataFlowPropertiesProvider propertiesProvider, DataPlaneClientFactory clientFactory,
                                             String selectionStrategy, TransferTypeParser transferTypeParser) {
+        this(callbackUrl, selectorClient, propertiesProvider, clientFactory, selectionStrategy, transferTypeParser, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param selectionExecutor the executor that runs the data plane selection and lookup that cannot be done
+     *                          asynchronously, so that they don't block the calling thread.
+     */
+    public DataPlaneSignalingFlowController(ControlApiUrl callbackUrl, DataPlaneSelectorService selectorClient,
+                                            DataFlowPropertiesProvider propertiesProvider, DataPlaneClientFactory clientFactory,
+                                            String selectionStrategy, TransferTypeParser transferTypeParser, Executor selectionExecutor) {
         this.callbackUrl = callbackUrl;
         this.selectorClient = selectorClient;
         this.propertiesProvider = propertiesProvider;
         this.clientFactory = clientFactory;
         this.selectionStrategy = selectionStrategy;
         this.transferTypeParser = transferTypeParser;
+        this.selectionExecutor = selectionExecutor;
     }
 
     @Override
@@ -75,6 +98,96 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
 
     @Override
     public @NotNull StatusResult<DataFlowResponse> start(TransferProcess transferProcess, Policy policy) {
+        return startMessage(transferProcess, policy)
+                .compose(message -> select(transferProcess)
+                        .compose(dataPlane -> clientFactory.createClient(dataPlane)
+                                .start(message)
+                                .map(response -> toDataFlowResponse(response, dataPlane))));
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<DataFlowResponse>> startAsync(TransferProcess transferProcess, Policy policy) {
+        var message = startMessage(transferProcess, policy);
+        if (message.failed()) {
+            return completedFuture(message.mapFailure());
+        }
+
+        return selectorClient.selectAsync(transferProcess.getContentDataAddress(), transferProcess.getTransferType(), selectionStrategy, selectionExecutor)
+                .thenCompose(selection -> {
+                    if (!selection.succeeded()) {
+                        return completedFuture(StatusResult.<DataFlowResponse>failure(FATAL_ERROR, selection.getFailureDetail()));
+                    }
+                    var dataPlane = selection.getContent();
+                    return clientFactory.createClient(dataPlane)
+                            .startAsync(message.getContent())
+                            .thenApply(result -> result.map(response -> toDataFlowResponse(response, dataPlane)));
+                });
+    }
+
+    @Override
+    public StatusResult<Void> suspend(TransferProcess transferProcess) {
+        return clientForSuspend(transferProcess)
+                .compose(client -> client.suspend(transferProcess.getId()));
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> suspendAsync(TransferProcess transferProcess) {
+        var lookup = transferProcess.getDataPlaneId() == null
+                ? completedFuture(StatusResult.<DataPlaneClient>failure(FATAL_ERROR, "DataPlane id is null"))
+                : getClientForDataplaneAsync(transferProcess.getDataPlaneId());
+
+        return lookup.thenCompose(client -> {
+            if (client.failed()) {
+                var message = "Failed to select the data plane for suspending the transfer process %s. %s"
+                        .formatted(transferProcess.getId(), client.getFailureDetail());
+                return completedFuture(StatusResult.<Void>failure(FATAL_ERROR, message));
+            }
+            return client.getContent().suspendAsync(transferProcess.getId());
+        });
+    }
+
+    @Override
+    public StatusResult<Void> terminate(TransferProcess transferProcess) {
+        if (transferProcess.getDataPlaneId() == null) {
+            return StatusResult.success();
+        }
+
+        return clientForTerminate(transferProcess)
+                .compose(client -> client.terminate(transferProcess.getId()));
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> terminateAsync(TransferProcess transferProcess) {
+        if (transferProcess.getDataPlaneId() == null) {
+            return completedFuture(StatusResult.success());
+        }
+
+        return getClientForDataplaneAsync(transferProcess.getDataPlaneId())
+                .thenCompose(client -> {
+                    if (client.failed()) {
+                        var message = "Failed to select the data plane for terminating the transfer process %s. %s"
+                                .formatted(transferProcess.getId(), client.getFailureDetail());
+                        return completedFuture(StatusResult.<Void>failure(FATAL_ERROR, message));
+                    }
+                    return client.getContent().terminateAsync(transferProcess.getId());
+                });
+    }
+
+    @Override
+    public Set<String> transferTypesFor(Asset asset) {
+        var result = selectorClient.getAll();
+        if (result.failed()) {
+            return emptySet();
+        }
+
+        return result.getContent().stream()
+                .filter(it -> it.getAllowedSourceTypes().contains(asset.getDataAddress().getType()))
+                .map(DataPlaneInstance::getAllowedTransferTypes)
+                .flatMap(Collection::stream)
+                .collect(toSet());
+    }
+
+    private StatusResult<DataFlowStartMessage> startMessage(TransferProcess transferProcess, Policy policy) {
         var transferTypeParse = transferTypeParser.parse(transferProcess.getTransferType());
         if (transferTypeParse.failed()) {
             return StatusResult.failure(FATAL_ERROR, transferTypeParse.getFailureDetail());
@@ -85,11 +198,6 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
             return StatusResult.failure(FATAL_ERROR, propertiesResult.getFailureDetail());
         }
 
-        var selection = selectorClient.select(transferProcess.getContentDataAddress(), transferProcess.getTransferType(), selectionStrategy);
-        if (!selection.succeeded()) {
-            return StatusResult.failure(FATAL_ERROR, selection.getFailureDetail());
-        }
-
         var dataFlowRequest = DataFlowStartMessage.Builder.newInstance()
                 .id(UUID.randomUUID().toString())
                 .processId(transferProcess.getId())
@@ -103,62 +211,62 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
                 .properties(propertiesResult.getContent())
                 .build();
 
-        var dataPlaneInstance = selection.getContent();
-        return clientFactory.createClient(dataPlaneInstance)
-                .start(dataFlowRequest)
-                .map(it -> DataFlowResponse.Builder.newInstance()
-                        .dataAddress(it.getDataAddress())
-                        .dataPlaneId(dataPlaneInstance.getId())
-                        .build()
-                );
+        return StatusResult.success(dataFlowRequest);
     }
 
-    @Override
-    public StatusResult<Void> suspend(TransferProcess transferProcess) {
+    private StatusResult<DataPlaneInstance> select(TransferProcess transferProcess) {
+        var selection = selectorClient.select(transferProcess.getContentDataAddress(), transferProcess.getTransferType(), selectionStrategy);
+        if (!selection.succeeded()) {
+            return StatusResult.failure(FATAL_ERROR, selection.getFailureDetail());
+        }
+        return StatusResult.success(selection.getContent());
+    }
+
+    private DataFlowResponse toDataFlowResponse(DataFlowResponseMessage response, DataPlaneInstance dataPlaneInstance) {
+        return DataFlowResponse.Builder.newInstance()
+                .dataAddress(response.getDataAddress())
+                .dataPlaneId(dataPlaneInstance.getId())
+                .build();
+    }
+
+    private StatusResult<DataPlaneClient> clientForSuspend(TransferProcess transferProcess) {
         return Optional.ofNullable(transferProcess.getDataPlaneId())
                 .map(StatusResult::success)
                 .orElse(StatusResult.failure(FATAL_ERROR, "DataPlane id is null"))
                 .compose(this::getClientForDataplane)
-                .map(client -> client.suspend(transferProcess.getId()))
-                .orElse(f -> {
+                .flatMap(result -> {
+                    if (result.succeeded()) {
+                        return StatusResult.success(result.getContent());
+                    }
                     var message = "Failed to select the data plane for suspending the transfer process %s. %s"
-                            .formatted(transferProcess.getId(), f.getFailureDetail());
+                            .formatted(transferProcess.getId(), result.getFailureDetail());
                     return StatusResult.failure(FATAL_ERROR, message);
                 });
     }
 
-    @Override
-    public StatusResult<Void> terminate(TransferProcess transferProcess) {
-        var dataPlaneId = transferProcess.getDataPlaneId();
-        if (dataPlaneId == null) {
-            return StatusResult.success();
-        }
-
-        return getClientForDataplane(dataPlaneId)
-                .map(client -> client.terminate(transferProcess.getId()))
-                .orElse(f -> {
+    private StatusResult<DataPlaneClient> clientForTerminate(TransferProcess transferProcess) {
+        return getClientForDataplane(transferProcess.getDataPlaneId())
+                .flatMap(result -> {
+                    if (result.succeeded()) {
+                        return StatusResult.success(result.getContent());
+                    }
                     var message = "Failed to select the data plane for terminating the transfer process %s. %s"
-                            .formatted(transferProcess.getId(), f.getFailureDetail());
+                            .formatted(transferProcess.getId(), result.getFailureDetail());
                     return StatusResult.failure(FATAL_ERROR, message);
                 });
     }
 
-    @Override
-    public Set<String> transferTypesFor(Asset asset) {
-        var result = selectorClient.getAll();
-        if (result.failed()) {
-            return emptySet();
-        }
+    private StatusResult<DataPlaneClient> getClientForDataplane(String id) {
+        return toClient(id, selectorClient.findById(id));
+    }
 
-        return result.getContent().stream()
-                .filter(it -> it.getAllowedSourceTypes().contains(asset.getDataAddress().getType()))
-                .map(DataPlaneInstance::getAllowedTransferTypes)
-                .flatMap(Collection::stream)
-                .collect(toSet());
+    private CompletableFuture<StatusResult<DataPlaneClient>> getClientForDataplaneAsync(String id) {
+        return selectorClient.findByIdAsync(id, selectionExecutor)
+                .thenApply(instance -> toClient(id, instance));
     }
 
-    private StatusResult<DataPlaneClient> getClientForDataplane(String id) {
-        return selectorClient.findById(id)
+    private StatusResult<DataPlaneClient> toClient(String id, ServiceResult<DataPlaneInstance> instance) {
+        return instance
                 .map(clientFactory::createClient)
                 .map(StatusResult::success)
                 .orElse(f -> StatusResult.failure(FATAL_ERROR, "No data-plane found with id %s. %s".formatted(id, f.getFailureDetail())));
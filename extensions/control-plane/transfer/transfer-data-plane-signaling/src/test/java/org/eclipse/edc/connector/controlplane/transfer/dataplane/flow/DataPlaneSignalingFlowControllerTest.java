@@ -42,13 +42,18 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -64,7 +69,7 @@ public class DataPlaneSignalingFlowControllerTest {
 
     private final DataPlaneSignalingFlowController flowController = new DataPlaneSignalingFlowController(
             () -> URI.create("http://localhost"), selectorService, propertiesProvider, dataPlaneClientFactory,
-            "random", transferTypeParser);
+            "random", transferTypeParser, Runnable::run);
 
     @Nested
     class CanHandle {
@@ -220,6 +225,73 @@ public class DataPlaneSignalingFlowControllerTest {
         }
     }
 
+    @Nested
+    class InitiateFlowAsync {
+
+        @Test
+        void shouldStartOnSelectedDataPlane() {
+            when(transferTypeParser.parse(any())).thenReturn(Result.success(new TransferType("Valid", FlowType.PULL)));
+            var transferProcess = transferProcessBuilder()
+                    .transferType("transferType")
+                    .contentDataAddress(testDataAddress())
+                    .build();
+            when(propertiesProvider.propertiesFor(any(), any())).thenReturn(StatusResult.success(Map.of()));
+            when(dataPlaneClient.startAsync(any(DataFlowStartMessage.class)))
+                    .thenReturn(completedFuture(StatusResult.success(mock(DataFlowResponseMessage.class))));
+            var dataPlaneInstance = createDataPlaneInstance();
+            when(selectorService.selectAsync(any(), anyString(), any(), any())).thenReturn(completedFuture(ServiceResult.success(dataPlaneInstance)));
+            when(dataPlaneClientFactory.createClient(any())).thenReturn(dataPlaneClient);
+
+            var result = flowController.startAsync(transferProcess, Policy.Builder.newInstance().assignee("participantId").build());
+
+            assertThat(result).succeedsWithin(1, SECONDS).satisfies(response -> assertThat(response).isSucceeded()
+                    .extracting(DataFlowResponse::getDataPlaneId).isEqualTo(dataPlaneInstance.getId()));
+            verify(dataPlaneClient).startAsync(argThat(message -> message.getProcessId().equals(transferProcess.getId())));
+        }
+
+        @Test
+        void shouldNotWaitForSelection() {
+            when(transferTypeParser.parse(any())).thenReturn(Result.success(new TransferType("Valid", FlowType.PULL)));
+            var transferProcess = transferProcessBuilder()
+                    .transferType("transferType")
+                    .contentDataAddress(testDataAddress())
+                    .build();
+            when(propertiesProvider.propertiesFor(any(), any())).thenReturn(StatusResult.success(Map.of()));
+            when(dataPlaneClient.startAsync(any(DataFlowStartMessage.class)))
+                    .thenReturn(completedFuture(StatusResult.success(mock(DataFlowResponseMessage.class))));
+            var selection = new CompletableFuture<ServiceResult<DataPlaneInstance>>();
+            when(selectorService.selectAsync(any(), anyString(), any(), any())).thenReturn(selection);
+            when(dataPlaneClientFactory.createClient(any())).thenReturn(dataPlaneClient);
+
+            var result = flowController.startAsync(transferProcess, Policy.Builder.newInstance().assignee("participantId").build());
+
+            assertThat(result).isNotDone();
+            verify(selectorService, never()).select(any(), any(), any());
+            verifyNoInteractions(dataPlaneClientFactory);
+
+            selection.complete(ServiceResult.success(createDataPlaneInstance()));
+
+            assertThat(result).succeedsWithin(1, SECONDS).satisfies(response -> assertThat(response).isSucceeded());
+            verify(dataPlaneClient).startAsync(any(DataFlowStartMessage.class));
+        }
+
+        @Test
+        void shouldFail_whenNoDataplaneSelected() {
+            when(transferTypeParser.parse(any())).thenReturn(Result.success(new TransferType("Valid", FlowType.PULL)));
+            var transferProcess = transferProcessBuilder()
+                    .transferType("transferType")
+                    .contentDataAddress(testDataAddress())
+                    .build();
+            when(propertiesProvider.propertiesFor(any(), any())).thenReturn(StatusResult.success(Map.of()));
+            when(selectorService.selectAsync(any(), anyString(), any(), any())).thenReturn(completedFuture(ServiceResult.notFound("no dataplane")));
+
+            var result = flowController.startAsync(transferProcess, Policy.Builder.newInstance().build());
+
+            assertThat(result).isCompletedWithValueMatching(StatusResult::failed);
+            verifyNoInteractions(dataPlaneClientFactory);
+        }
+    }
+
     @Nested
     class Terminate {
 
@@ -258,6 +330,46 @@ public class DataPlaneSignalingFlowControllerTest {
             assertThat(result).isFailed().detail().contains("Failed to select the data plane for terminating the transfer process");
         }
 
+        @Test
+        void shouldNotWaitForLookup_whenAsync() {
+            var dataPlaneInstance = dataPlaneInstanceBuilder().id("dataPlaneId").build();
+            var transferProcess = transferProcessBuilder()
+                    .id("transferProcessId")
+                    .contentDataAddress(testDataAddress())
+                    .dataPlaneId("dataPlaneId")
+                    .build();
+            when(dataPlaneClient.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
+            when(dataPlaneClientFactory.createClient(any())).thenReturn(dataPlaneClient);
+            var lookup = new CompletableFuture<ServiceResult<DataPlaneInstance>>();
+            when(selectorService.findByIdAsync(any(), any())).thenReturn(lookup);
+
+            var result = flowController.terminateAsync(transferProcess);
+
+            assertThat(result).isNotDone();
+            verify(selectorService, never()).findById(any());
+
+            lookup.complete(ServiceResult.success(dataPlaneInstance));
+
+            assertThat(result).succeedsWithin(1, SECONDS).satisfies(response -> assertThat(response).isSucceeded());
+            verify(dataPlaneClient).terminateAsync("transferProcessId");
+        }
+
+        @Test
+        void shouldFail_whenDataPlaneNotFound_whenAsync() {
+            var transferProcess = transferProcessBuilder()
+                    .id("transferProcessId")
+                    .contentDataAddress(testDataAddress())
+                    .dataPlaneId("invalid")
+                    .build();
+            when(selectorService.findByIdAsync(any(), any())).thenReturn(completedFuture(ServiceResult.notFound("not found")));
+
+            var result = flowController.terminateAsync(transferProcess);
+
+            assertThat(result).succeedsWithin(1, SECONDS).satisfies(response -> assertThat(response).isFailed()
+                    .detail().contains("Failed to select the data plane for terminating the transfer process"));
+            verifyNoInteractions(dataPlaneClient, dataPlaneClientFactory);
+        }
+
         @Test // a null dataPlaneId means that the flow has not been started so it can be considered as already terminated
         void shouldReturnSuccess_whenDataPlaneIdIsNull() {
             var transferProcess = transferProcessBuilder()
@@ -310,6 +422,29 @@ public class DataPlaneSignalingFlowControllerTest {
             verifyNoInteractions(dataPlaneClient, dataPlaneClientFactory);
         }
 
+        @Test
+        void shouldNotWaitForLookup_whenAsync() {
+            var transferProcess = TransferProcess.Builder.newInstance()
+                    .id("transferProcessId")
+                    .contentDataAddress(testDataAddress())
+                    .dataPlaneId("dataPlaneId")
+                    .build();
+            when(dataPlaneClient.suspendAsync(any())).thenReturn(completedFuture(StatusResult.success()));
+            when(dataPlaneClientFactory.createClient(any())).thenReturn(dataPlaneClient);
+            var lookup = new CompletableFuture<ServiceResult<DataPlaneInstance>>();
+            when(selectorService.findByIdAsync(any(), any())).thenReturn(lookup);
+
+            var result = flowController.suspendAsync(transferProcess);
+
+            assertThat(result).isNotDone();
+            verify(selectorService, never()).findById(any());
+
+            lookup.complete(ServiceResult.success(dataPlaneInstanceBuilder().id("dataPlaneId").build()));
+
+            assertThat(result).succeedsWithin(1, SECONDS).satisfies(response -> assertThat(response).isSucceeded());
+            verify(dataPlaneClient).suspendAsync("transferProcessId");
+        }
+
         @Test
         void shouldFail_whenDataPlaneIdIsNull() {
             var transferProcess = TransferProcess.Builder.newInstance()
@@ -36,6 +36,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static jakarta.json.Json.createObjectBuilder;
 import static okhttp3.internal.Util.EMPTY_REQUEST;
@@ -86,6 +88,18 @@ public class RemoteDataPlaneSelectorService implements DataPlaneSelectorService
 
     @Override
     public ServiceResult<DataPlaneInstance> select(DataAddress source, String transferType, @Nullable String selectionStrategy) {
+        return toSelectedInstance(httpClient.request(selectRequest(source, transferType, selectionStrategy)));
+    }
+
+    @Override
+    public CompletableFuture<ServiceResult<DataPlaneInstance>> selectAsync(DataAddress source, String transferType, @Nullable String selectionStrategy,
+                                                                           Executor executor) {
+        return CompletableFuture.supplyAsync(() -> selectRequest(source, transferType, selectionStrategy), executor)
+                .thenCompose(httpClient::requestAsync)
+                .thenApply(this::toInstance);
+    }
+
+    private Request.Builder selectRequest(DataAddress source, String transferType, @Nullable String selectionStrategy) {
         var srcAddress = typeTransformerRegistry.transform(source, JsonObject.class).orElseThrow(f -> new EdcException(f.getFailureDetail()));
         var jsonObject = Json.createObjectBuilder()
                 .add(CONTEXT, createObjectBuilder().add(EDC_PREFIX, EDC_NAMESPACE))
@@ -97,9 +111,11 @@ public class RemoteDataPlaneSelectorService implements DataPlaneSelectorService
 
         var body = RequestBody.create(jsonObject.toString(), TYPE_JSON);
 
-        var requestBuilder = new Request.Builder().post(body).url(url + SELECT_PATH);
+        return new Request.Builder().post(body).url(url + SELECT_PATH);
+    }
 
-        return httpClient.request(requestBuilder).compose(this::toJsonObject)
+    private ServiceResult<DataPlaneInstance> toInstance(ServiceResult<String> response) {
+        return response.compose(this::toJsonObject)
                 .compose(it -> jsonLd.expand(it).flatMap(ServiceResult::from))
                 .map(it -> typeTransformerRegistry.transform(it, DataPlaneInstance.class))
                 .compose(ServiceResult::from);
@@ -145,6 +161,12 @@ public class RemoteDataPlaneSelectorService implements DataPlaneSelectorService
                 .map(it -> typeTransformerRegistry.transform(it, DataPlaneInstance.class).getContent());
     }
 
+    @Override
+    public CompletableFuture<ServiceResult<DataPlaneInstance>> findByIdAsync(String id, Executor executor) {
+        return httpClient.requestAsync(new Request.Builder().get().url(url + "/" + id))
+                .thenApply(this::toInstance);
+    }
+
     private ServiceResult<JsonObject> toJsonObject(String it) {
         try {
             return ServiceResult.success(typeManager.getMapper(typeContext).readValue(it, JsonObject.class));
@@ -33,6 +33,8 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import java.util.Map;
 import java.util.UUID;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.CONFLICT;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
@@ -103,6 +105,17 @@ class RemoteDataPlaneSelectorServiceTest {
                 .ignoringFields(FIELDS_TO_BE_IGNORED).isEqualTo(expected);
     }
 
+    @Test
+    void selectAsync() {
+        var expected = createInstance("some-instance");
+        when(serverService.select(any(), eq("transferType"), eq("random"))).thenReturn(ServiceResult.success(expected));
+
+        var result = service().selectAsync(DataAddress.Builder.newInstance().type("test1").build(), "transferType", "random", Runnable::run);
+
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(selection -> assertThat(selection).isSucceeded()
+                .usingRecursiveComparison().ignoringFields(FIELDS_TO_BE_IGNORED).isEqualTo(expected));
+    }
+
     @Nested
     class Unregister {
 
@@ -171,6 +184,18 @@ class RemoteDataPlaneSelectorServiceTest {
                     .isEqualTo(instance);
         }
 
+        @Test
+        void shouldReturnInstanceById_whenAsync() {
+            var instanceId = UUID.randomUUID().toString();
+            var instance = DataPlaneInstance.Builder.newInstance().url("http://any").build();
+            when(serverService.findById(any())).thenReturn(ServiceResult.success(instance));
+
+            var result = service().findByIdAsync(instanceId, Runnable::run);
+
+            assertThat(result).succeedsWithin(5, SECONDS).satisfies(found -> assertThat(found).isSucceeded()
+                    .usingRecursiveComparison().ignoringFields(FIELDS_TO_BE_IGNORED).isEqualTo(instance));
+        }
+
         @Test
         void shouldReturnNotFound_whenInstanceDoesNotExist() {
             var instanceId = UUID.randomUUID().toString();
@@ -34,6 +34,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -137,13 +138,21 @@ public class SqlDataPlaneInstanceStore extends AbstractSqlStore implements DataP
     public void save(DataPlaneInstance entity) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findByIdInternal(connection, entity.getId());
-                if (existing != null) {
-                    leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
-                    update(connection, entity);
-                } else {
-                    insert(connection, entity);
-                }
+                save(connection, entity);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void saveAll(Collection<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return;
+        }
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                instances.forEach(instance -> save(connection, instance));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -162,6 +171,16 @@ public class SqlDataPlaneInstanceStore extends AbstractSqlStore implements DataP
         });
     }
 
+    private void save(Connection connection, DataPlaneInstance entity) {
+        var existing = findByIdInternal(connection, entity.getId());
+        if (existing != null) {
+            leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
+            update(connection, entity);
+        } else {
+            insert(connection, entity);
+        }
+    }
+
     private DataPlaneInstance findByIdInternal(Connection connection, String id) {
         var sql = statements.getFindByIdTemplate();
         return queryExecutor.single(connection, false, this::mapResultSet, sql, id);
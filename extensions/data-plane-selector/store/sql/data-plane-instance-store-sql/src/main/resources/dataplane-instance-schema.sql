@@ -18,3 +18,6 @@ CREATE TABLE IF NOT EXISTS edc_data_plane_instance
                     REFERENCES edc_lease
                     ON DELETE SET NULL
 );
+
+-- This will avoid a table scan when a lease gets deleted, because of the ON DELETE SET NULL constraint
+CREATE INDEX IF NOT EXISTS data_plane_instance_lease_id_index ON edc_data_plane_instance (lease_id);
@@ -24,9 +24,12 @@ import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.LeaseUtil;
+import org.eclipse.edc.sql.testfixtures.PostgresqlIndexAdvisor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
@@ -61,6 +64,29 @@ public class PostgresDataPlaneInstanceStoreTest extends DataPlaneInstanceStoreTe
         extension.runQuery("DROP TABLE " + statements.getDataPlaneInstanceTable() + " CASCADE");
     }
 
+    @Nested
+    class IndexUsage {
+
+        private PostgresqlIndexAdvisor indexAdvisor;
+
+        @BeforeEach
+        void setUp(PostgresqlStoreSetupExtension extension) {
+            indexAdvisor = new PostgresqlIndexAdvisor(extension::getConnection);
+        }
+
+        @Test
+        void findById() {
+            indexAdvisor.assertIndexed(statements.getFindByIdTemplate(), "id");
+        }
+
+        @Test
+        void deleteLease() {
+            var sql = "SELECT * FROM %s WHERE %s = ?".formatted(statements.getDataPlaneInstanceTable(), statements.getLeaseIdColumn());
+
+            indexAdvisor.assertIndexed(sql, "lease-id");
+        }
+    }
+
     @Override
     protected DataPlaneInstanceStore getStore() {
         return store;
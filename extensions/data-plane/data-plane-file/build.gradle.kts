@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":spi:data-plane:data-plane-spi"))
+    api(project(":spi:common:validator-spi"))
+
+    implementation(project(":core:common:lib:util-lib"))
+    implementation(project(":core:data-plane:data-plane-util"))
+
+    testImplementation(project(":core:common:junit"))
+    testImplementation(project(":core:data-plane:data-plane-core"))
+}
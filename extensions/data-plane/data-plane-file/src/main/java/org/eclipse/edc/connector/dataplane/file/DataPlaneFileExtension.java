@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file;
+
+import org.eclipse.edc.connector.dataplane.file.pipeline.FileDataSinkFactory;
+import org.eclipse.edc.connector.dataplane.file.pipeline.FileDataSourceFactory;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.nio.file.Path;
+
+/**
+ * Provides support for transferring files from and to a local or shared filesystem.
+ */
+@Extension(value = DataPlaneFileExtension.NAME)
+public class DataPlaneFileExtension implements ServiceExtension {
+
+    public static final String NAME = "Data Plane File";
+
+    private static final int DEFAULT_PARTITION_SIZE = 5;
+
+    @Setting(description = "The directory that contains all the files that can be read or written by the data plane", key = "edc.dataplane.file.root")
+    private String root;
+
+    @Setting(description = "The partitionSize used by the file data sink", defaultValue = DEFAULT_PARTITION_SIZE + "", min = 1, key = "edc.dataplane.file.sink.partition.size")
+    private int partitionSize;
+
+    @Inject
+    private DataTransferExecutorServiceContainer executorContainer;
+
+    @Inject
+    private PipelineService pipelineService;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var validator = new FileDataAddressValidator(Path.of(root));
+
+        pipelineService.registerFactory(new FileDataSourceFactory(validator));
+        pipelineService.registerFactory(new FileDataSinkFactory(validator, executorContainer.getExecutorService(), context.getMonitor(), partitionSize));
+    }
+}
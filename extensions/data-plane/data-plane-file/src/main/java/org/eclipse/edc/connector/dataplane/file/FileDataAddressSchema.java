@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Defines the schema of a DataAddress representing a file or a directory on a local or shared filesystem.
+ */
+public interface FileDataAddressSchema {
+
+    /**
+     * The transfer type.
+     */
+    String FILE_TYPE = "File";
+
+    /**
+     * The path of the file or directory, it must be within the configured root directory.
+     * As a destination, an existing directory receives the transferred files by their relative name, as does any path
+     * when the source provides more than one file, creating the directory if missing. Otherwise, the path is the file
+     * that will contain the transferred content.
+     */
+    String PATH = EDC_NAMESPACE + "path";
+
+    /**
+     * The size in bytes of the parts in which source files are split, so they can be transferred in parallel.
+     * This parameter is optional, if not provided the files are transferred as a whole.
+     */
+    String PART_SIZE = EDC_NAMESPACE + "partSize";
+}
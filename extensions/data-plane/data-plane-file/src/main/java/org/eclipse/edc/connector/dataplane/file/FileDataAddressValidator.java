@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file;
+
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.validator.spi.Validator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.PART_SIZE;
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.PATH;
+import static org.eclipse.edc.validator.spi.Violation.violation;
+
+/**
+ * Validator for File DataAddress type, it verifies that the path is within the root directory. Symbolic links are
+ * resolved, so a path that goes through a link pointing outside the root directory is rejected as well.
+ */
+public class FileDataAddressValidator implements Validator<DataAddress> {
+
+    private final Path root;
+
+    public FileDataAddressValidator(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public ValidationResult validate(DataAddress input) {
+        var path = input.getStringProperty(PATH);
+        if (path == null || path.isBlank()) {
+            return ValidationResult.failure(violation("'%s' is a mandatory attribute".formatted(PATH), PATH, path));
+        }
+
+        try {
+            var resolved = resolve(path);
+            if (!resolved.startsWith(root) || !realPath(resolved).startsWith(realPath(root))) {
+                return ValidationResult.failure(violation("'%s' must be within the root directory".formatted(PATH), PATH, path));
+            }
+        } catch (InvalidPathException | IOException e) {
+            return ValidationResult.failure(violation("'%s' is not a valid path: %s".formatted(PATH, e.getMessage()), PATH, path));
+        }
+
+        var partSize = input.getStringProperty(PART_SIZE);
+        if (partSize != null) {
+            try {
+                if (Long.parseLong(partSize) < 0) {
+                    return ValidationResult.failure(violation("'%s' cannot be negative".formatted(PART_SIZE), PART_SIZE, partSize));
+                }
+            } catch (NumberFormatException e) {
+                return ValidationResult.failure(violation("'%s' must be a number".formatted(PART_SIZE), PART_SIZE, partSize));
+            }
+        }
+
+        return ValidationResult.success();
+    }
+
+    /**
+     * Resolve the passed path against the root directory, relative paths are considered relative to the root.
+     *
+     * @param path the path.
+     * @return the absolute normalized path.
+     */
+    public Path resolve(String path) {
+        return root.resolve(path).toAbsolutePath().normalize();
+    }
+
+    /**
+     * The real path of the deepest existing ancestor of the passed path, followed by the segments that don't exist yet,
+     * so that also destinations that will be created are checked against symbolic links.
+     */
+    private Path realPath(Path path) throws IOException {
+        var existing = path;
+        while (existing != null && !Files.exists(existing)) {
+            existing = existing.getParent();
+        }
+        if (existing == null) {
+            return path;
+        }
+        return existing.toRealPath().resolve(existing.relativize(path)).normalize();
+    }
+}
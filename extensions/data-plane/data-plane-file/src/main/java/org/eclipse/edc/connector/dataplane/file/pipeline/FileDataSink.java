@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ForwardingPart;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.OffsetPart;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes parts into the filesystem. When the destination is an existing directory, or the source provides parts with
+ * different names, the destination is a directory, created if missing, and every part is written into the file
+ * identified by its name. Otherwise, all the parts are written into the destination file.
+ * {@link FilePart}s and {@link OffsetPart}s are written at their position, so the parts of the same file can be written
+ * in parallel, and the file is truncated to their total length when it is known.
+ * {@link FilePart}s are moved with {@link FileChannel#transferTo}, that avoids copying the content in user space, in
+ * chunks reported to the {@link ForwardingPart}s that wrap them.
+ */
+public class FileDataSink extends ParallelSink {
+
+    private static final long CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private Path path;
+    private volatile boolean directory;
+
+    private FileDataSink() {
+    }
+
+    @Override
+    protected Stream<List<DataSource.Part>> partition(Stream<DataSource.Part> parts) {
+        // parts of the same file are contiguous, so looking ahead until a second name shows up is enough
+        var iterator = parts.iterator();
+        var head = new ArrayList<DataSource.Part>();
+        var multipleNames = false;
+        while (!multipleNames && iterator.hasNext()) {
+            head.add(iterator.next());
+            multipleNames = !Objects.equals(head.get(0).name(), head.get(head.size() - 1).name());
+        }
+        directory = multipleNames || Files.isDirectory(path);
+
+        var tail = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false);
+        return super.partition(Stream.concat(head.stream(), tail));
+    }
+
+    @Override
+    protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
+        for (var part : parts) {
+            var result = transferPart(part);
+            if (result.failed()) {
+                return result;
+            }
+        }
+        return StreamResult.success();
+    }
+
+    private StreamResult<Object> transferPart(DataSource.Part part) {
+        var target = target(part);
+        if (target == null) {
+            return StreamResult.error(format("Part %s cannot be written outside of %s", part.name(), path));
+        }
+
+        try {
+            var parent = target.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            var position = position(part);
+            if (position >= 0) {
+                try (var channel = FileChannel.open(target, CREATE, WRITE)) {
+                    write(part, channel.position(position));
+                    var totalLength = totalLength(part);
+                    if (totalLength != DataSource.Part.SIZE_UNKNOWN && channel.size() > totalLength) {
+                        channel.truncate(totalLength);
+                    }
+                }
+            } else {
+                try (var channel = FileChannel.open(target, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                    write(part, channel);
+                }
+            }
+            return StreamResult.success();
+        } catch (Exception e) {
+            monitor.severe(format("Error writing data %s to %s", part.name(), target), e);
+            return StreamResult.error(format("Error writing data %s to %s: %s", part.name(), target, e.getMessage()));
+        }
+    }
+
+    private void write(DataSource.Part part, FileChannel channel) throws IOException {
+        if (ForwardingPart.unwrap(part) instanceof FilePart filePart) {
+            for (var from = 0L; from < filePart.size(); from += CHUNK_SIZE) {
+                var count = Math.min(CHUNK_SIZE, filePart.size() - from);
+                ForwardingPart.transferring(part, count);
+                filePart.transferTo(channel, from, count);
+            }
+            return;
+        }
+
+        try (var source = Channels.newChannel(part.openStream())) {
+            var position = channel.position();
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+        }
+    }
+
+    private long position(DataSource.Part part) {
+        var original = ForwardingPart.unwrap(part);
+        if (original instanceof FilePart filePart) {
+            return filePart.offset();
+        }
+        if (original instanceof OffsetPart offsetPart) {
+            return offsetPart.offset();
+        }
+        return -1;
+    }
+
+    private long totalLength(DataSource.Part part) {
+        var original = ForwardingPart.unwrap(part);
+        if (original instanceof FilePart filePart) {
+            return filePart.totalLength();
+        }
+        if (original instanceof OffsetPart offsetPart) {
+            return offsetPart.totalLength();
+        }
+        return DataSource.Part.SIZE_UNKNOWN;
+    }
+
+    private Path target(DataSource.Part part) {
+        if (!directory) {
+            return path;
+        }
+
+        var segments = new ArrayList<>(List.of(part.name().split("/")));
+        segments.removeIf(String::isBlank);
+        if (segments.isEmpty()) {
+            return null;
+        }
+        var target = path.resolve(String.join(path.getFileSystem().getSeparator(), segments)).normalize();
+        return target.startsWith(path) && !target.equals(path) ? target : null;
+    }
+
+    public static class Builder extends ParallelSink.Builder<Builder, FileDataSink> {
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        private Builder() {
+            super(new FileDataSink());
+        }
+
+        public Builder path(Path path) {
+            sink.path = path.toAbsolutePath().normalize();
+            return this;
+        }
+
+        @Override
+        protected void validate() {
+            Objects.requireNonNull(sink.path, "path");
+        }
+    }
+}
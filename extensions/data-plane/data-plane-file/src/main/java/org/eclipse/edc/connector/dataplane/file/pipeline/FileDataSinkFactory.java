@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file.pipeline;
+
+import org.eclipse.edc.connector.dataplane.file.FileDataAddressValidator;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.FILE_TYPE;
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.PATH;
+
+/**
+ * Instantiates {@link FileDataSink}s for requests whose destination data type is {@link org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema#FILE_TYPE}.
+ */
+public class FileDataSinkFactory implements DataSinkFactory {
+
+    private final FileDataAddressValidator validator;
+    private final ExecutorService executorService;
+    private final Monitor monitor;
+    private final int partitionSize;
+
+    public FileDataSinkFactory(FileDataAddressValidator validator, ExecutorService executorService, Monitor monitor, int partitionSize) {
+        this.validator = validator;
+        this.executorService = executorService;
+        this.monitor = monitor;
+        this.partitionSize = partitionSize;
+    }
+
+    @Override
+    public String supportedType() {
+        return FILE_TYPE;
+    }
+
+    @Override
+    public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
+        return validator.validate(request.getDestinationDataAddress()).flatMap(ValidationResult::toResult);
+    }
+
+    @Override
+    public DataSink createSink(DataFlowStartMessage request) {
+        var validationResult = validateRequest(request);
+        if (validationResult.failed()) {
+            throw new EdcException(validationResult.getFailureDetail());
+        }
+
+        return FileDataSink.Builder.newInstance()
+                .path(validator.resolve(request.getDestinationDataAddress().getStringProperty(PATH)))
+                .requestId(request.getId())
+                .partitionSize(partitionSize)
+                .executorService(executorService)
+                .monitor(monitor)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Provides the content of a file or of all the regular files contained in a directory. Files bigger than the part size
+ * are split in multiple {@link FilePart}s that can be transferred in parallel. Only the parts of a single file are
+ * {@link ResumableFilePart}s, because the offsets of the files of a directory overlap.
+ */
+public class FileDataSource implements DataSource {
+
+    private final Path path;
+    private final long partSize;
+
+    /**
+     * Constructor.
+     *
+     * @param path     the file or directory.
+     * @param partSize the maximum size of a part in bytes, 0 means that files are not split.
+     */
+    public FileDataSource(Path path, long partSize) {
+        this.path = path;
+        this.partSize = partSize;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        try {
+            if (Files.isRegularFile(path)) {
+                return StreamResult.success(parts(path.getFileName().toString(), path, true).stream());
+            }
+
+            if (Files.isDirectory(path)) {
+                List<Path> files;
+                try (var walk = Files.walk(path)) {
+                    files = walk.filter(Files::isRegularFile).sorted().toList();
+                }
+                var parts = new ArrayList<Part>();
+                for (var file : files) {
+                    parts.addAll(parts(relativeName(file), file, false));
+                }
+                return StreamResult.success(parts.stream());
+            }
+
+            return StreamResult.notFound();
+        } catch (IOException e) {
+            return StreamResult.error("Cannot read %s: %s".formatted(path, e.getMessage()));
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private List<FilePart> parts(String name, Path file, boolean resumable) throws IOException {
+        var size = Files.size(file);
+        var length = partSize <= 0 ? Math.max(size, 1) : partSize;
+
+        var parts = new ArrayList<FilePart>();
+        var offset = 0L;
+        do {
+            var partLength = Math.min(length, size - offset);
+            parts.add(resumable
+                    ? new ResumableFilePart(name, file, offset, partLength, size)
+                    : new FilePart(name, file, offset, partLength, size));
+            offset += length;
+        } while (offset < size);
+        return parts;
+    }
+
+    private String relativeName(Path file) {
+        var relative = path.relativize(file);
+        var segments = new ArrayList<String>();
+        relative.forEach(segment -> segments.add(segment.toString()));
+        return segments.stream().collect(joining("/"));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file.pipeline;
+
+import org.eclipse.edc.connector.dataplane.file.FileDataAddressValidator;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.FILE_TYPE;
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.PART_SIZE;
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.PATH;
+
+/**
+ * Instantiates {@link FileDataSource}s for requests whose source data type is {@link org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema#FILE_TYPE}.
+ */
+public class FileDataSourceFactory implements DataSourceFactory {
+
+    private final FileDataAddressValidator validator;
+
+    public FileDataSourceFactory(FileDataAddressValidator validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public String supportedType() {
+        return FILE_TYPE;
+    }
+
+    @Override
+    public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
+        return validator.validate(request.getSourceDataAddress()).flatMap(ValidationResult::toResult);
+    }
+
+    @Override
+    public DataSource createSource(DataFlowStartMessage request) {
+        var validationResult = validateRequest(request);
+        if (validationResult.failed()) {
+            throw new EdcException(validationResult.getFailureDetail());
+        }
+
+        var source = request.getSourceDataAddress();
+        var partSize = Optional.ofNullable(source.getStringProperty(PART_SIZE)).map(Long::parseLong).orElse(0L);
+        return new FileDataSource(validator.resolve(source.getStringProperty(PATH)), partSize);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.OffsetPart;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A region of a file. Besides the stream based access, it can be transferred straight into a channel through
+ * {@link #transferTo(WritableByteChannel)}, that lets the operating system move the bytes without copying them in user
+ * space.
+ * <p>
+ * A file part is not an {@link OffsetPart} because its offset is relative to its own file, while the parts of a
+ * directory belong to different files: only the parts of a source made of a single file, that are
+ * {@link ResumableFilePart}s, can be used to resume a transfer.
+ */
+public class FilePart implements DataSource.Part {
+
+    private final String name;
+    private final Path file;
+    private final long offset;
+    private final long length;
+    private final long totalLength;
+    private volatile String mediaType;
+
+    public FilePart(String name, Path file, long offset, long length, long totalLength) {
+        this.name = name;
+        this.file = file;
+        this.offset = offset;
+        this.length = length;
+        this.totalLength = totalLength;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public long size() {
+        return length;
+    }
+
+    /**
+     * The position of the first byte of the part in its file.
+     *
+     * @return the offset.
+     */
+    public long offset() {
+        return offset;
+    }
+
+    public long totalLength() {
+        return totalLength;
+    }
+
+    @Override
+    public String mediaType() {
+        if (mediaType == null) {
+            mediaType = probeMediaType();
+        }
+        return mediaType;
+    }
+
+    @Override
+    public InputStream openStream() {
+        try {
+            return new RegionInputStream(FileChannel.open(file, READ), offset, length);
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Transfer the part content into the passed channel, starting at its current position.
+     *
+     * @param target the target channel.
+     * @return the number of bytes transferred.
+     * @throws IOException if the transfer fails.
+     */
+    public long transferTo(WritableByteChannel target) throws IOException {
+        return transferTo(target, 0, length);
+    }
+
+    /**
+     * Transfer a region of the part content into the passed channel, starting at its current position.
+     *
+     * @param target the target channel.
+     * @param from   the position of the region in the part.
+     * @param count  the length of the region.
+     * @return the number of bytes transferred.
+     * @throws IOException if the transfer fails.
+     */
+    public long transferTo(WritableByteChannel target, long from, long count) throws IOException {
+        try (var channel = FileChannel.open(file, READ)) {
+            var transferred = 0L;
+            while (transferred < count) {
+                var moved = channel.transferTo(offset + from + transferred, count - transferred, target);
+                if (moved <= 0) {
+                    throw new IOException("File %s ended before the expected length of %d bytes".formatted(file, offset + length));
+                }
+                transferred += moved;
+            }
+            return transferred;
+        }
+    }
+
+    private String probeMediaType() {
+        try {
+            var probed = Files.probeContentType(file);
+            return probed == null ? DataSource.Part.super.mediaType() : probed;
+        } catch (IOException e) {
+            return DataSource.Part.super.mediaType();
+        }
+    }
+
+    /**
+     * Reads a region of a file with positional reads, so it does not depend on the channel position.
+     */
+    private static class RegionInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        RegionInputStream(FileChannel channel, long offset, long length) {
+            this.channel = channel;
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var buffer = new byte[1];
+            var read = read(buffer, 0, 1);
+            return read == -1 ? -1 : buffer[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            var remaining = end - position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            var buffer = ByteBuffer.wrap(bytes, off, (int) Math.min(len, remaining));
+            var read = channel.read(buffer, position);
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
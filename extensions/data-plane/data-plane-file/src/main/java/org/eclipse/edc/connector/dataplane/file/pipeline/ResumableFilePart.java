@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.file.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.OffsetPart;
+
+import java.nio.file.Path;
+
+/**
+ * A {@link FilePart} of a source made of a single file, whose offset in the file is also its offset in the whole
+ * source, so it can be used to resume a transfer.
+ */
+public class ResumableFilePart extends FilePart implements OffsetPart {
+
+    public ResumableFilePart(String name, Path file, long offset, long length, long totalLength) {
+        super(name, file, offset, length, totalLength);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file;
+
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.validator.spi.ValidationFailure;
+import org.eclipse.edc.validator.spi.Violation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.FILE_TYPE;
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.PART_SIZE;
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.PATH;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+
+class FileDataAddressValidatorTest {
+
+    private final FileDataAddressValidator validator = new FileDataAddressValidator(Path.of("/data"));
+
+    @Test
+    void shouldPass_whenPathIsWithinRoot() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type(FILE_TYPE)
+                .property(PATH, "/data/nested/file.txt")
+                .property(PART_SIZE, "1024")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isSucceeded();
+    }
+
+    @Test
+    void shouldResolveRelativePathAgainstRoot() {
+        assertThat(validator.resolve("nested/file.txt")).isEqualTo(Path.of("/data/nested/file.txt"));
+    }
+
+    @Test
+    void shouldFail_whenPathIsMissing() {
+        var dataAddress = DataAddress.Builder.newInstance().type(FILE_TYPE).build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).satisfies(violations -> {
+            assertThat(violations).extracting(Violation::path).containsExactly(PATH);
+        });
+    }
+
+    @Test
+    void shouldFail_whenPathEscapesRoot() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type(FILE_TYPE)
+                .property(PATH, "/data/../etc/passwd")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).satisfies(violations -> {
+            assertThat(violations).extracting(Violation::path).containsExactly(PATH);
+        });
+    }
+
+    @Test
+    void shouldFail_whenPathGoesThroughSymbolicLinkOutsideRoot(@TempDir Path directory) throws IOException {
+        var root = Files.createDirectories(directory.resolve("root"));
+        var outside = Files.createDirectories(directory.resolve("outside"));
+        Files.createSymbolicLink(root.resolve("link"), outside);
+        var symlinkValidator = new FileDataAddressValidator(root);
+
+        assertThat(symlinkValidator.validate(fileAddress("link/existing.txt"))).isFailed();
+        assertThat(symlinkValidator.validate(fileAddress("link/not/yet/created.txt"))).isFailed();
+    }
+
+    @Test
+    void shouldPass_whenPathGoesThroughSymbolicLinkWithinRoot(@TempDir Path directory) throws IOException {
+        var root = Files.createDirectories(directory.resolve("root"));
+        var target = Files.createDirectories(root.resolve("target"));
+        Files.createSymbolicLink(root.resolve("link"), target);
+        var symlinkValidator = new FileDataAddressValidator(root);
+
+        assertThat(symlinkValidator.validate(fileAddress("link/file.txt"))).isSucceeded();
+    }
+
+    @Test
+    void shouldFail_whenPartSizeIsNotValid() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type(FILE_TYPE)
+                .property(PATH, "/data/file.txt")
+                .property(PART_SIZE, "-1")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).satisfies(violations -> {
+            assertThat(violations).extracting(Violation::path).containsExactly(PART_SIZE);
+        });
+    }
+
+    private DataAddress fileAddress(String path) {
+        return DataAddress.Builder.newInstance()
+                .type(FILE_TYPE)
+                .property(PATH, path)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.OffsetPart;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileDataSinkTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    @TempDir
+    private Path source;
+
+    @TempDir
+    private Path destination;
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldCopySplitFile() throws IOException {
+        var content = new byte[1000];
+        new Random().nextBytes(content);
+        var file = Files.write(source.resolve("file.bin"), content);
+        var target = destination.resolve("copy.bin");
+
+        var future = sink(target).transfer(new FileDataSource(file, 64));
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(target).hasBinaryContent(content);
+    }
+
+    @Test
+    void shouldCopyDirectory() throws IOException {
+        Files.writeString(source.resolve("a.txt"), "a");
+        Files.createDirectories(source.resolve("nested"));
+        Files.writeString(source.resolve("nested").resolve("b.txt"), "b");
+
+        var future = sink(destination).transfer(new FileDataSource(source, 0));
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(destination.resolve("a.txt")).hasContent("a");
+        assertThat(destination.resolve("nested").resolve("b.txt")).hasContent("b");
+    }
+
+    @Test
+    void shouldCreateDirectory_whenSourceHasMultipleFiles() throws IOException {
+        Files.writeString(source.resolve("a.txt"), "a");
+        Files.writeString(source.resolve("b.txt"), "bb");
+        var target = destination.resolve("missing");
+
+        var future = sink(target).transfer(new FileDataSource(source, 0));
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(target).isDirectory();
+        assertThat(target.resolve("a.txt")).hasContent("a");
+        assertThat(target.resolve("b.txt")).hasContent("bb");
+    }
+
+    @Test
+    void shouldTruncateExistingFile() throws IOException {
+        var file = Files.writeString(source.resolve("file.txt"), "short");
+        var target = Files.writeString(destination.resolve("file.txt"), "a longer content");
+
+        var future = sink(target).transfer(new FileDataSource(file, 0));
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(target).hasContent("short");
+    }
+
+    @Test
+    void shouldTruncateExistingFile_whenOffsetPartIsWritten() throws IOException {
+        var target = Files.writeString(destination.resolve("file.txt"), "a longer content");
+        var part = mock(OffsetPart.class);
+        when(part.name()).thenReturn("file.txt");
+        when(part.offset()).thenReturn(0L);
+        when(part.size()).thenReturn(5L);
+        when(part.totalLength()).thenReturn(5L);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream("short".getBytes()));
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+
+        var future = sink(target).transfer(dataSource);
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(target).hasContent("short");
+    }
+
+    @Test
+    void shouldWriteStreamPart() {
+        var target = destination.resolve("stream.txt");
+
+        var future = sink(target).transfer(new InputStreamDataSource("stream", new ByteArrayInputStream("content".getBytes())));
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(target).hasContent("content");
+    }
+
+    @Test
+    void shouldFail_whenPartNameEscapesDestinationDirectory() {
+        var part = mock(DataSource.Part.class);
+        when(part.name()).thenReturn("../escaped.txt");
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+
+        var future = sink(destination).transfer(dataSource);
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isFailed());
+        assertThat(destination.getParent().resolve("escaped.txt")).doesNotExist();
+    }
+
+    private FileDataSink sink(Path path) {
+        return FileDataSink.Builder.newInstance()
+                .path(path)
+                .requestId("requestId")
+                .executorService(executorService)
+                .monitor(mock())
+                .build();
+    }
+}
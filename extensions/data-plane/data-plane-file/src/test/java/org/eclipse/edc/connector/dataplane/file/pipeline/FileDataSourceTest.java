@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.file.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.OffsetPart;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.NOT_FOUND;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+
+class FileDataSourceTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldProvideFileAsSinglePart() throws IOException {
+        var file = Files.writeString(directory.resolve("file.txt"), "content");
+
+        var result = new FileDataSource(file, 0).openPartStream();
+
+        assertThat(result).isSucceeded().satisfies(parts -> assertThat(parts.toList()).singleElement().satisfies(part -> {
+            assertThat(part.name()).isEqualTo("file.txt");
+            assertThat(part.size()).isEqualTo(7);
+            assertThat(part.openStream()).hasContent("content");
+        }));
+    }
+
+    @Test
+    void shouldSplitFileInParts_whenBiggerThanPartSize() throws IOException {
+        var file = Files.writeString(directory.resolve("file.txt"), "0123456789");
+
+        var result = new FileDataSource(file, 4).openPartStream();
+
+        assertThat(result).isSucceeded().satisfies(stream -> {
+            var parts = stream.map(FilePart.class::cast).toList();
+            assertThat(parts).extracting(FilePart::offset).containsExactly(0L, 4L, 8L);
+            assertThat(parts).extracting(DataSource.Part::size).containsExactly(4L, 4L, 2L);
+            assertThat(parts).extracting(FilePart::totalLength).containsOnly(10L);
+            assertThat(parts.get(1).openStream()).hasContent("4567");
+        });
+    }
+
+    @Test
+    void shouldProvideDirectoryFilesWithRelativeNames() throws IOException {
+        Files.writeString(directory.resolve("a.txt"), "a");
+        Files.createDirectories(directory.resolve("nested"));
+        Files.writeString(directory.resolve("nested").resolve("b.txt"), "b");
+
+        var result = new FileDataSource(directory, 0).openPartStream();
+
+        assertThat(result).isSucceeded().satisfies(parts -> assertThat(parts.map(DataSource.Part::name))
+                .containsExactly("a.txt", "nested/b.txt"));
+    }
+
+    @Test
+    void shouldProvideOffsetParts_onlyForSingleFile() throws IOException {
+        var file = Files.writeString(directory.resolve("file.txt"), "0123456789");
+
+        assertThat(new FileDataSource(file, 4).openPartStream()).isSucceeded()
+                .satisfies(parts -> assertThat(parts.toList()).allMatch(OffsetPart.class::isInstance));
+        assertThat(new FileDataSource(directory, 4).openPartStream()).isSucceeded()
+                .satisfies(parts -> assertThat(parts.toList()).noneMatch(OffsetPart.class::isInstance));
+    }
+
+    @Test
+    void shouldReturnNotFound_whenPathDoesNotExist() {
+        var result = new FileDataSource(directory.resolve("missing"), 0).openPartStream();
+
+        assertThat(result).isFailed().extracting(StreamFailure::getReason).isEqualTo(NOT_FOUND);
+    }
+}
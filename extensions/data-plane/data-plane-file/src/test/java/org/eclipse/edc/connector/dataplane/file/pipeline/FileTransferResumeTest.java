@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.file.pipeline;
+
+import org.eclipse.edc.connector.dataplane.file.FileDataAddressValidator;
+import org.eclipse.edc.connector.dataplane.framework.pipeline.PipelineServiceImpl;
+import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.FILE_TYPE;
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.PART_SIZE;
+import static org.eclipse.edc.connector.dataplane.file.FileDataAddressSchema.PATH;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class FileTransferResumeTest {
+
+    private static final int PART_SIZE_BYTES = 64;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    private final Monitor monitor = mock();
+    private final PipelineServiceImpl pipelineService = new PipelineServiceImpl(monitor);
+
+    @TempDir
+    private Path root;
+
+    @BeforeEach
+    void setUp() {
+        var validator = new FileDataAddressValidator(root);
+        pipelineService.registerFactory(new FileDataSourceFactory(validator));
+        pipelineService.registerFactory(new FileDataSinkFactory(validator, executorService, monitor, 2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldTransferWholeDirectory_whenResumedFromCheckpoint() throws IOException {
+        var source = Files.createDirectories(root.resolve("source"));
+        var small = write(source.resolve("small.bin"), 10);
+        var big = write(source.resolve("big.bin"), 1000);
+        var medium = write(source.resolve("medium.bin"), 150);
+        var checkpoint = new RecordingCheckpoint(500);
+
+        var future = pipelineService.transfer(request("source", "destination"), checkpoint);
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        var destination = root.resolve("destination");
+        assertThat(destination.resolve("small.bin")).hasBinaryContent(small);
+        assertThat(destination.resolve("big.bin")).hasBinaryContent(big);
+        assertThat(destination.resolve("medium.bin")).hasBinaryContent(medium);
+        assertThat(checkpoint.committed).isEmpty();
+    }
+
+    @Test
+    void shouldSkipCommittedParts_whenSingleFileResumedFromCheckpoint() throws IOException {
+        var content = write(root.resolve("file.bin"), 1000);
+        var checkpoint = new RecordingCheckpoint(2 * PART_SIZE_BYTES);
+
+        var future = pipelineService.transfer(request("file.bin", "copy.bin"), checkpoint);
+
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        var copy = Files.readAllBytes(root.resolve("copy.bin"));
+        assertThat(Arrays.copyOfRange(copy, 0, 2 * PART_SIZE_BYTES)).containsOnly(0);
+        assertThat(Arrays.copyOfRange(copy, 2 * PART_SIZE_BYTES, copy.length))
+                .isEqualTo(Arrays.copyOfRange(content, 2 * PART_SIZE_BYTES, content.length));
+        assertThat(checkpoint.committed).extracting(Range::offset).doesNotContain(0L, (long) PART_SIZE_BYTES);
+    }
+
+    private byte[] write(Path file, int size) throws IOException {
+        var content = new byte[size];
+        new Random().nextBytes(content);
+        Files.write(file, content);
+        return content;
+    }
+
+    private DataFlowStartMessage request(String sourcePath, String destinationPath) {
+        return DataFlow.Builder.newInstance()
+                .id("processId")
+                .source(DataAddress.Builder.newInstance().type(FILE_TYPE).property(PATH, sourcePath).property(PART_SIZE, String.valueOf(PART_SIZE_BYTES)).build())
+                .destination(DataAddress.Builder.newInstance().type(FILE_TYPE).property(PATH, destinationPath).build())
+                .build()
+                .toRequest();
+    }
+
+    private static class RecordingCheckpoint implements TransferCheckpoint {
+
+        private final long offset;
+        private final List<Range> committed = new ArrayList<>();
+
+        RecordingCheckpoint(long offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public long offset() {
+            return offset;
+        }
+
+        @Override
+        public synchronized void committed(long offset, long length) {
+            committed.add(new Range(offset, length));
+        }
+    }
+
+    private record Range(long offset, long length) {
+    }
+}
@@ -52,7 +52,8 @@ public class HttpRequestFactory {
                 .map(StringRequestBodySupplier::new)
                 .orElse(null);
 
-        return toRequest(params, createRequestBody(params, bodySupplier, params.getContentType()));
+        var size = params.getBody() == null ? DataSource.Part.SIZE_UNKNOWN : params.getBody().getBytes().length;
+        return toRequest(params, createRequestBody(params, bodySupplier, params.getContentType(), size));
     }
 
     /**
@@ -63,7 +64,7 @@ public class HttpRequestFactory {
      * @return HTTP request.
      */
     public Request toRequest(HttpRequestParams params, DataSource.Part part) {
-        return toRequest(params, createRequestBody(params, part::openStream, part.mediaType()));
+        return toRequest(params, createRequestBody(params, part::openStream, part.mediaType(), part.size()));
     }
 
     @NotNull
@@ -76,12 +77,12 @@ public class HttpRequestFactory {
     }
 
     @Nullable
-    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier, String contentType) {
+    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier, String contentType, long size) {
         if (bodySupplier == null || contentType == null) {
             return null;
         }
         return params.isNonChunkedTransfer()
-                ? new NonChunkedTransferRequestBody(bodySupplier, contentType)
+                ? new NonChunkedTransferRequestBody(bodySupplier, contentType, size)
                 : new ChunkedTransferRequestBody(bodySupplier, contentType);
     }
 
@@ -29,6 +29,7 @@ import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.BODY;
+import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.CONDITIONAL_HEADER_PREFIX;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.MEDIA_TYPE;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.METHOD;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.PATH;
@@ -50,6 +51,11 @@ public class BaseSourceHttpParamsDecorator implements HttpParamsDecorator {
                     params.body(extractBody(address, request));
                 });
         params.nonChunkedTransfer(false);
+        if (Boolean.parseBoolean(address.getProxyConditionalHeaders()) && PULL.equals(request.getFlowType())) {
+            request.getProperties().entrySet().stream()
+                    .filter(property -> property.getKey().startsWith(CONDITIONAL_HEADER_PREFIX))
+                    .forEach(property -> params.header(property.getKey().substring(CONDITIONAL_HEADER_PREFIX.length()), property.getValue()));
+        }
         return params;
     }
 
@@ -15,14 +15,17 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okhttp3.MediaType;
+import okhttp3.Request;
 import okhttp3.RequestBody;
 
+import java.io.Closeable;
+
 /**
  * Writes content into an OK HTTP buffered sink.
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
  */
-public abstract class AbstractTransferRequestBody extends RequestBody {
+public abstract class AbstractTransferRequestBody extends RequestBody implements Closeable {
 
     private final String contentType;
 
@@ -34,4 +37,23 @@ public abstract class AbstractTransferRequestBody extends RequestBody {
     public MediaType contentType() {
         return MediaType.parse(contentType);
     }
+
+    /**
+     * Releases the resources held by the body, it must be called once the request has been executed, whatever the
+     * outcome.
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Releases the resources held by the body of the request, if any.
+     *
+     * @param request the executed request.
+     */
+    public static void release(Request request) {
+        if (request.body() instanceof AbstractTransferRequestBody body) {
+            body.close();
+        }
+    }
 }
@@ -15,42 +15,104 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
+import okhttp3.Request;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ForwardingPart;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.util.stream.PartitionIterator;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.format;
 
 /**
  * Writes data in a streaming fashion to an HTTP endpoint.
+ * <p>
+ * Parts of a ranged download ({@link HttpRangePart}) are either sent one by one, identified by the
+ * {@code Content-Range} header, when the destination supports ranged uploads, or reassembled in order and sent with a
+ * single request.
  */
 public class HttpDataSink extends ParallelSink {
     private static final StreamResult<Object> ERROR_WRITING_DATA = StreamResult.error("Error writing data");
+    private static final String CONTENT_RANGE = "Content-Range";
 
     private HttpRequestParams params;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private boolean rangeUpload;
+    private RangeBufferBudget rangeBufferBudget = RangeBufferBudget.unbounded();
+
+    @Override
+    protected Stream<List<DataSource.Part>> partition(Stream<DataSource.Part> parts) {
+        var iterator = parts.iterator();
+        if (!iterator.hasNext()) {
+            return Stream.empty();
+        }
+
+        var first = iterator.next();
+        var all = Stream.concat(Stream.of(first), StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false));
+        if (ForwardingPart.unwrap(first) instanceof HttpRangePart rangePart) {
+            if (!rangeUpload) {
+                return Stream.of(all.toList());
+            }
+            var partsCount = (rangePart.totalLength() + rangePart.size() - 1) / rangePart.size();
+            var concurrency = Math.max(1, rangePart.concurrency());
+            return PartitionIterator.streamOf(all, (int) Math.max(1, (partsCount + concurrency - 1) / concurrency));
+        }
+        return super.partition(all);
+    }
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
+        if (!rangeUpload && !parts.isEmpty() && ForwardingPart.unwrap(parts.get(0)) instanceof HttpRangePart) {
+            var rangeParts = parts.stream().map(ForwardingPart::unwrap).map(HttpRangePart.class::cast).toList();
+            return transferPart(new ReassembledPart(parts.get(0), rangeParts, rangeBufferBudget));
+        }
+
         for (var part : parts) {
-            var request = requestFactory.toRequest(params, part);
-            try (var response = httpClient.execute(request)) {
-                if (!response.isSuccessful()) {
-                    monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
-                            response.code(), response.message(), part.name(), request.url().url(), request));
-                    return ERROR_WRITING_DATA;
-                }
-            } catch (Exception e) {
-                monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
+            var result = transferPart(part);
+            if (result.failed()) {
+                return result;
+            }
+            committed(part);
+        }
+        return StreamResult.success();
+    }
+
+    private StreamResult<Object> transferPart(DataSource.Part part) {
+        Request request;
+        try {
+            request = requestFactory.toRequest(params, part);
+        } catch (EdcException e) {
+            monitor.severe(format("Error reading HTTP data %s to write to endpoint %s", part.name(), params.getBaseUrl()), e);
+            return ERROR_WRITING_DATA;
+        }
+        if (ForwardingPart.unwrap(part) instanceof HttpRangePart rangePart) {
+            request = request.newBuilder().header(CONTENT_RANGE, rangePart.contentRange()).build();
+        }
+        try (var response = httpClient.execute(request)) {
+            if (!response.isSuccessful()) {
+                monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
+                        response.code(), response.message(), part.name(), request.url().url(), request));
                 return ERROR_WRITING_DATA;
             }
+        } catch (Exception e) {
+            monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
+            return ERROR_WRITING_DATA;
+        } finally {
+            AbstractTransferRequestBody.release(request);
         }
         return StreamResult.success();
     }
@@ -58,6 +120,52 @@ public class HttpDataSink extends ParallelSink {
     private HttpDataSink() {
     }
 
+    /**
+     * The whole resource of a ranged download, whose parts are fetched in parallel and streamed in order.
+     * The range parts are fetched without going through the parts passed to the sink, so the content read is reported
+     * to the first of them, that carries the wrappers of the flow.
+     */
+    private record ReassembledPart(DataSource.Part reported, List<HttpRangePart> parts, RangeBufferBudget budget) implements DataSource.Part {
+
+        @Override
+        public String name() {
+            return parts.get(0).name();
+        }
+
+        @Override
+        public long size() {
+            return parts.get(0).totalLength();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new FilterInputStream(new OrderedRangeInputStream(parts, budget)) {
+                @Override
+                public int read() throws IOException {
+                    var read = super.read();
+                    if (read != -1) {
+                        ForwardingPart.transferring(reported, 1);
+                    }
+                    return read;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    var read = in.read(buffer, offset, length);
+                    if (read > 0) {
+                        ForwardingPart.transferring(reported, read);
+                    }
+                    return read;
+                }
+            };
+        }
+
+        @Override
+        public String mediaType() {
+            return parts.get(0).mediaType();
+        }
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, HttpDataSink> {
 
         public static Builder newInstance() {
@@ -83,6 +191,16 @@ public class HttpDataSink extends ParallelSink {
             return this;
         }
 
+        public Builder rangeUpload(boolean rangeUpload) {
+            sink.rangeUpload = rangeUpload;
+            return this;
+        }
+
+        public Builder rangeBufferBudget(RangeBufferBudget rangeBufferBudget) {
+            sink.rangeBufferBudget = rangeBufferBudget;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.requestFactory, "requestFactory");
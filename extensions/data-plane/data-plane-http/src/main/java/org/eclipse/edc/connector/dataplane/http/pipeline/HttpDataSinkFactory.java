@@ -16,6 +16,7 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
@@ -40,18 +41,21 @@ public class HttpDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final HttpRequestParamsProvider requestParamsProvider;
     private final HttpRequestFactory requestFactory;
+    private final RangeBufferBudget rangeBufferBudget;
 
     public HttpDataSinkFactory(EdcHttpClient httpClient,
                                ExecutorService executorService,
                                int partitionSize,
                                Monitor monitor,
-                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory) {
+                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory,
+                               RangeBufferBudget rangeBufferBudget) {
         this.httpClient = httpClient;
         this.executorService = executorService;
         this.partitionSize = partitionSize;
         this.monitor = monitor;
         this.requestParamsProvider = requestParamsProvider;
         this.requestFactory = requestFactory;
+        this.rangeBufferBudget = rangeBufferBudget;
     }
 
     @Override
@@ -71,6 +75,9 @@ public class HttpDataSinkFactory implements DataSinkFactory {
 
     @Override
     public DataSink createSink(DataFlowStartMessage request) {
+        var dataAddress = HttpDataAddress.Builder.newInstance()
+                .copyFrom(request.getDestinationDataAddress())
+                .build();
         return HttpDataSink.Builder.newInstance()
                 .params(requestParamsProvider.provideSinkParams(request))
                 .requestId(request.getId())
@@ -79,6 +86,8 @@ public class HttpDataSinkFactory implements DataSinkFactory {
                 .executorService(executorService)
                 .monitor(monitor)
                 .requestFactory(requestFactory)
+                .rangeUpload(dataAddress.getRangeUpload())
+                .rangeBufferBudget(rangeBufferBudget)
                 .build();
     }
 }
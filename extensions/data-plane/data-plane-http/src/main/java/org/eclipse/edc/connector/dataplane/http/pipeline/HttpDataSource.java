@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
 import okhttp3.MediaType;
+import okhttp3.Request;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
@@ -30,14 +31,24 @@ import java.io.InputStream;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.DEFAULT_RANGE_CONCURRENCY;
 import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.OCTET_STREAM;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
+/**
+ * Reads data from an HTTP endpoint. If a range part size is configured and the endpoint supports {@code Range} requests,
+ * the resource is exposed as multiple {@link HttpRangePart}s that can be fetched in parallel.
+ */
 public class HttpDataSource implements DataSource {
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String BYTES = "bytes";
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
@@ -48,6 +59,8 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private long rangePartSize;
+    private int rangeConcurrency = DEFAULT_RANGE_CONCURRENCY;
     private final AtomicReference<ResponseBodyStream> responseBodyStream = new AtomicReference<>();
 
     private HttpDataSource() {
@@ -56,6 +69,13 @@ public class HttpDataSource implements DataSource {
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
         var request = requestFactory.toRequest(params);
+        if (rangePartSize > 0 && "GET".equals(request.method())) {
+            var rangeParts = rangeParts(request);
+            if (rangeParts != null) {
+                return success(rangeParts);
+            }
+        }
+
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
             // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
@@ -88,10 +108,37 @@ public class HttpDataSource implements DataSource {
             }
         } catch (IOException e) {
             throw new EdcException(e);
+        } finally {
+            AbstractTransferRequestBody.release(request);
         }
 
     }
 
+    /**
+     * Probes the resource with a HEAD request and splits it in ranges if the endpoint supports them.
+     *
+     * @param request the GET request.
+     * @return the range parts, null if the resource cannot or doesn't need to be split.
+     */
+    private Stream<Part> rangeParts(Request request) {
+        var probe = request.newBuilder().head().build();
+        monitor.debug(() -> "Probing HTTP resource for range support: " + probe.url());
+        try (var response = httpClient.execute(probe)) {
+            var contentLength = Optional.ofNullable(response.header(CONTENT_LENGTH)).map(Long::parseLong).orElse(-1L);
+            if (!response.isSuccessful() || !BYTES.equalsIgnoreCase(response.header(ACCEPT_RANGES)) || contentLength <= rangePartSize) {
+                return null;
+            }
+
+            var mediaType = Optional.ofNullable(response.header(CONTENT_TYPE)).orElse(OCTET_STREAM);
+            return LongStream.iterate(0, offset -> offset < contentLength, offset -> offset + rangePartSize)
+                    .mapToObj(offset -> new HttpRangePart(name, mediaType, offset, Math.min(rangePartSize, contentLength - offset),
+                            contentLength, rangeConcurrency, request, httpClient));
+        } catch (IOException | NumberFormatException e) {
+            monitor.debug(() -> format("Range probe failed for request %s, falling back to a single request: %s", requestId, e.getMessage()));
+            return null;
+        }
+    }
+
     @Override
     public void close() {
         var bodyStream = responseBodyStream.get();
@@ -150,6 +197,16 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        public Builder rangePartSize(long rangePartSize) {
+            dataSource.rangePartSize = rangePartSize;
+            return this;
+        }
+
+        public Builder rangeConcurrency(int rangeConcurrency) {
+            dataSource.rangeConcurrency = rangeConcurrency;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
@@ -73,6 +73,8 @@ public class HttpDataSourceFactory implements DataSourceFactory {
                 .name(dataAddress.getName())
                 .params(requestParamsProvider.provideSourceParams(request))
                 .requestFactory(requestFactory)
+                .rangePartSize(dataAddress.getRangePartSize())
+                .rangeConcurrency(dataAddress.getRangeConcurrency())
                 .build();
     }
 }
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.OffsetPart;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.lang.String.format;
+
+/**
+ * A slice of an HTTP resource, fetched with a {@code Range} request only when its content is requested.
+ * Parts of the same resource share name, media type, total length and the hint about how many of them can be fetched
+ * concurrently.
+ */
+public class HttpRangePart implements OffsetPart {
+
+    private static final int PARTIAL_CONTENT = 206;
+
+    private final String name;
+    private final String mediaType;
+    private final long offset;
+    private final long length;
+    private final long totalLength;
+    private final int concurrency;
+    private final Request request;
+    private final EdcHttpClient httpClient;
+
+    public HttpRangePart(String name, String mediaType, long offset, long length, long totalLength, int concurrency, Request request, EdcHttpClient httpClient) {
+        this.name = name;
+        this.mediaType = mediaType;
+        this.offset = offset;
+        this.length = length;
+        this.totalLength = totalLength;
+        this.concurrency = concurrency;
+        this.request = request;
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public long size() {
+        return length;
+    }
+
+    @Override
+    public String mediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public InputStream openStream() {
+        try {
+            var response = httpClient.execute(rangeRequest());
+            return verify(response).byteStream();
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Fetches the whole part content asynchronously.
+     *
+     * @return the part content.
+     */
+    public CompletableFuture<byte[]> fetch() {
+        return httpClient.executeAsync(rangeRequest(), List.of())
+                .thenApply(response -> {
+                    try (var body = verify(response)) {
+                        return body.bytes();
+                    } catch (IOException e) {
+                        throw new EdcException(e);
+                    }
+                });
+    }
+
+    @Override
+    public long offset() {
+        return offset;
+    }
+
+    @Override
+    public long totalLength() {
+        return totalLength;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Value of the {@code Content-Range} header that identifies this part.
+     *
+     * @return the content range.
+     */
+    public String contentRange() {
+        return format("bytes %d-%d/%d", offset, lastByte(), totalLength);
+    }
+
+    private Request rangeRequest() {
+        return request.newBuilder().header("Range", format("bytes=%d-%d", offset, lastByte())).build();
+    }
+
+    private long lastByte() {
+        return offset + length - 1;
+    }
+
+    private ResponseBody verify(Response response) {
+        var body = response.body();
+        if (response.code() != PARTIAL_CONTENT || body == null) {
+            response.close();
+            throw new EdcException(format("Expected partial content fetching range %s of %s, got: %s - %s", contentRange(), name, response.code(), response.message()));
+        }
+        return body;
+    }
+}
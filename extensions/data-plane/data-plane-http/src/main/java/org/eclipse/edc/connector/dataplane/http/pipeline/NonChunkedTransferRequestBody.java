@@ -15,47 +15,144 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okio.BufferedSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.EdcException;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 
 /**
  * Writes content into an OK HTTP buffered sink.
  * <p>
  * The extra Transfer-Encoding is not created because the Content-Length is provided upfront.
- * Note that means that the all content is loaded into memory, so this method can be used for small files (up to 50MB) for e.g.
+ * When the content size is known, the content is streamed as it is, otherwise it gets buffered in memory up to
+ * {@link #MEMORY_THRESHOLD} bytes and spilled to a temporary file beyond that, so the memory used stays bounded
+ * regardless of the content size.
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
  */
 public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody {
 
+    static final int MEMORY_THRESHOLD = 1024 * 1024;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Supplier<InputStream> contentSupplier;
+    private final long size;
     private byte[] bytes;
+    private Path file;
 
     public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType) {
+        this(contentSupplier, contentType, DataSource.Part.SIZE_UNKNOWN);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param contentSupplier the content supplier.
+     * @param contentType     the content type.
+     * @param size            the content size, {@link DataSource.Part#SIZE_UNKNOWN} if it is not known.
+     * @throws EdcException if the content size is not known and the content cannot be read.
+     */
+    public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType, long size) {
         super(contentType);
-        try (var is = contentSupplier.get()) {
-            this.bytes = is.readAllBytes();
-        } catch (IOException e) {
-            //do nothing
+        this.contentSupplier = contentSupplier;
+        this.size = size;
+        if (size == DataSource.Part.SIZE_UNKNOWN) {
+            buffer();
         }
     }
 
     @Override
-    public long contentLength() {
+    public long contentLength() throws IOException {
+        if (size != DataSource.Part.SIZE_UNKNOWN) {
+            return size;
+        }
+        if (file != null) {
+            return Files.size(file);
+        }
         return bytes == null ? 0 : bytes.length;
     }
 
+    /**
+     * Content of known size is streamed from the source and content spilled to a temporary file is deleted once
+     * written, so neither can be written twice.
+     */
+    @Override
+    public boolean isOneShot() {
+        return size != DataSource.Part.SIZE_UNKNOWN || file != null;
+    }
+
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
-        if (bytes == null) {
-            return;
+        if (size != DataSource.Part.SIZE_UNKNOWN) {
+            try (var os = sink.outputStream(); var is = contentSupplier.get()) {
+                copy(is, os, size);
+            }
+        } else if (file != null) {
+            try (var os = sink.outputStream()) {
+                Files.copy(file, os);
+            } finally {
+                close();
+            }
+        } else if (bytes != null) {
+            try (var os = sink.outputStream()) {
+                os.write(bytes);
+            }
+        }
+    }
+
+    private void copy(InputStream is, OutputStream os, long length) throws IOException {
+        var buffer = new byte[BUFFER_SIZE];
+        var remaining = length;
+        while (remaining > 0) {
+            var read = is.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                throw new EOFException("Content ended %d bytes before the declared size of %d bytes".formatted(remaining, length));
+            }
+            os.write(buffer, 0, read);
+            remaining -= read;
         }
+    }
 
-        try (var os = sink.outputStream()) {
-            os.write(bytes);
+    private void buffer() {
+        try (var is = contentSupplier.get()) {
+            var head = is.readNBytes(MEMORY_THRESHOLD + 1);
+            if (head.length <= MEMORY_THRESHOLD) {
+                bytes = head;
+                return;
+            }
+
+            file = Files.createTempFile("edc-http-body-", ".tmp");
+            try (var os = Files.newOutputStream(file)) {
+                os.write(head);
+                is.transferTo(os);
+            }
+        } catch (IOException e) {
+            close();
+            throw new EdcException("Failed to buffer the content of unknown size", e);
         }
     }
-}
 
+    /**
+     * Deletes the temporary file the content was spilled to, if any. Called once the content has been written, and by
+     * the caller when the request is not sent, or fails, before the content is written.
+     */
+    @Override
+    public void close() {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // best effort, the file is in the temporary directory
+            }
+        }
+        file = null;
+        bytes = null;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Reassembles {@link HttpRangePart}s into a single stream, ordered by offset. Up to {@link HttpRangePart#concurrency()}
+ * parts are fetched ahead in parallel. Every buffered part is accounted on a {@link RangeBufferBudget}, shared by all
+ * the streams of the runtime: parts are prefetched only while the budget allows, and at least one part per stream is
+ * always fetched, waiting for the budget if needed.
+ */
+class OrderedRangeInputStream extends InputStream {
+
+    private final Iterator<HttpRangePart> parts;
+    private final int concurrency;
+    private final long partSize;
+    private final RangeBufferBudget budget;
+    private final Deque<Fetch> fetching = new ArrayDeque<>();
+    private InputStream current = InputStream.nullInputStream();
+    private int currentReserved;
+
+    OrderedRangeInputStream(List<HttpRangePart> parts, RangeBufferBudget budget) {
+        this.parts = parts.stream().sorted(Comparator.comparingLong(HttpRangePart::offset)).iterator();
+        this.concurrency = parts.isEmpty() ? 0 : Math.max(1, parts.get(0).concurrency());
+        this.partSize = parts.stream().mapToLong(HttpRangePart::size).max().orElse(0);
+        this.budget = budget;
+    }
+
+    @Override
+    public int read() throws IOException {
+        while (true) {
+            var read = current.read();
+            if (read != -1 || !nextPart()) {
+                return read;
+            }
+        }
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (true) {
+            var read = current.read(buffer, offset, length);
+            if (read != -1 || !nextPart()) {
+                return read;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        fetching.forEach(fetch -> {
+            fetch.data().cancel(true);
+            budget.release(fetch.reserved());
+        });
+        fetching.clear();
+        releaseCurrent();
+    }
+
+    private boolean nextPart() throws IOException {
+        releaseCurrent();
+        if (fetching.isEmpty() && parts.hasNext()) {
+            var part = parts.next();
+            try {
+                var reserved = budget.acquire(partSize);
+                fetching.add(new Fetch(part.fetch(), reserved));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the range buffer budget");
+            }
+        }
+
+        var next = fetching.poll();
+        if (next == null) {
+            return false;
+        }
+        prefetch();
+
+        try {
+            current = new ByteArrayInputStream(next.data().join());
+            currentReserved = next.reserved();
+            return true;
+        } catch (CompletionException | CancellationException e) {
+            budget.release(next.reserved());
+            close();
+            throw new IOException(e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    private void prefetch() {
+        while (fetching.size() < concurrency && parts.hasNext()) {
+            var reserved = budget.tryAcquire(partSize);
+            if (reserved == 0) {
+                return;
+            }
+            fetching.add(new Fetch(parts.next().fetch(), reserved));
+        }
+    }
+
+    private void releaseCurrent() {
+        budget.release(currentReserved);
+        currentReserved = 0;
+        current = InputStream.nullInputStream();
+    }
+
+    private record Fetch(CompletableFuture<byte[]> data, int reserved) {
+    }
+}
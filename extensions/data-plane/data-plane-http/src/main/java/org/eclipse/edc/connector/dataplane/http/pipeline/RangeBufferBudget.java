@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounds the bytes buffered in memory by all the {@link OrderedRangeInputStream}s that share it. Bytes are accounted
+ * in units of 1 KiB, and a part bigger than the whole budget reserves all of it.
+ */
+public class RangeBufferBudget {
+
+    private static final int UNIT = 1024;
+
+    private final int maxPermits;
+    private final Semaphore permits;
+
+    public RangeBufferBudget(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("The range buffer budget must be positive, got " + maxBytes);
+        }
+        this.maxPermits = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxBytes / UNIT));
+        this.permits = new Semaphore(maxPermits, true);
+    }
+
+    /**
+     * A budget that never blocks.
+     *
+     * @return the unbounded budget.
+     */
+    public static RangeBufferBudget unbounded() {
+        return new RangeBufferBudget(Long.MAX_VALUE);
+    }
+
+    /**
+     * Reserve the budget for the given bytes, waiting until it is available.
+     *
+     * @param bytes the bytes.
+     * @return the number of permits reserved, to be passed to {@link #release(int)}.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    int acquire(long bytes) throws InterruptedException {
+        var required = permitsFor(bytes);
+        permits.acquire(required);
+        return required;
+    }
+
+    /**
+     * Reserve the budget for the given bytes only if it is available right away.
+     *
+     * @param bytes the bytes.
+     * @return the number of permits reserved, 0 if the budget is not available.
+     */
+    int tryAcquire(long bytes) {
+        var required = permitsFor(bytes);
+        return permits.tryAcquire(required) ? required : 0;
+    }
+
+    void release(int reserved) {
+        if (reserved > 0) {
+            permits.release(reserved);
+        }
+    }
+
+    private int permitsFor(long bytes) {
+        return (int) Math.min(maxPermits, Math.max(1, (bytes + UNIT - 1) / UNIT));
+    }
+}
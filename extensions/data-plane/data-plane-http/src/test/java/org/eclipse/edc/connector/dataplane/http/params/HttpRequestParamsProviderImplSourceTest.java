@@ -27,6 +27,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.BODY;
+import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.CONDITIONAL_HEADER_PREFIX;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.MEDIA_TYPE;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.METHOD;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.PATH;
@@ -165,6 +166,46 @@ class HttpRequestParamsProviderImplSourceTest {
         assertThat(params.getMethod()).isEqualTo("POST");
     }
 
+    @Test
+    void shouldPassConditionalHeaders_whenProxyConditionalHeadersIsEnabled() {
+        var source = HttpDataAddress.Builder.newInstance()
+                .baseUrl("http://source")
+                .proxyConditionalHeaders("true")
+                .build();
+        var dataFlowRequest = DataFlowStartMessage.Builder.newInstance()
+                .flowType(PULL)
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(source)
+                .transferType(new TransferType("HttpData", PULL))
+                .properties(Map.of(
+                        CONDITIONAL_HEADER_PREFIX + "Range", "bytes=100-",
+                        CONDITIONAL_HEADER_PREFIX + "If-None-Match", "\"etag\""
+                ))
+                .build();
+
+        var params = provider.provideSourceParams(dataFlowRequest);
+
+        assertThat(params.getHeaders()).containsEntry("Range", "bytes=100-").containsEntry("If-None-Match", "\"etag\"");
+    }
+
+    @Test
+    void shouldNotPassConditionalHeaders_whenProxyConditionalHeadersIsNotEnabled() {
+        var source = HttpDataAddress.Builder.newInstance()
+                .baseUrl("http://source")
+                .build();
+        var dataFlowRequest = DataFlowStartMessage.Builder.newInstance()
+                .flowType(PULL)
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(source)
+                .transferType(new TransferType("HttpData", PULL))
+                .properties(Map.of(CONDITIONAL_HEADER_PREFIX + "Range", "bytes=100-"))
+                .build();
+
+        var params = provider.provideSourceParams(dataFlowRequest);
+
+        assertThat(params.getHeaders()).doesNotContainKey("Range");
+    }
+
     private HttpDataAddress dummyHttpDataAddress() {
         return HttpDataAddress.Builder.newInstance().baseUrl("http://dummy").build();
     }
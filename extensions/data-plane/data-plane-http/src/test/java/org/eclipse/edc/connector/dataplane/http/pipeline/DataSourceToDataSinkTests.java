@@ -22,6 +22,7 @@ import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.MultipleBinaryPartsDataSource;
@@ -33,8 +34,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 
+import java.io.ByteArrayOutputStream;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -235,6 +238,79 @@ class DataSourceToDataSinkTests {
         verify(interceptor, times(messageSize)).intercept(isA(Interceptor.Chain.class));
     }
 
+    @Test
+    void verifyRangedTransfer_shouldReassembleParts() throws Exception {
+        var content = "0123456789abcdefghij".getBytes();
+        var sourceInterceptor = new RangeServingInterceptor(content, true);
+        var received = new ByteArrayOutputStream();
+        var sinkInterceptor = mock(Interceptor.class);
+        when(sinkInterceptor.intercept(isA(Interceptor.Chain.class))).thenAnswer(invocation -> {
+            var request = getRequest(invocation);
+            var buffer = new Buffer();
+            request.body().writeTo(buffer);
+            received.write(buffer.readByteArray());
+            return createResponse(200, request);
+        });
+
+        var dataSink = rangedSinkBuilder(sinkInterceptor).build();
+
+        assertThat(dataSink.transfer(rangedSource(sourceInterceptor))).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(received.toByteArray()).isEqualTo(content);
+        verify(sinkInterceptor, times(1)).intercept(isA(Interceptor.Chain.class));
+        assertThat(sourceInterceptor.requests("GET")).hasSize(4);
+    }
+
+    @Test
+    void verifyRangedTransfer_shouldUploadPartsWithContentRange_whenDestinationSupportsRangeUpload() throws Exception {
+        var content = "0123456789abcdefghij".getBytes();
+        var sourceInterceptor = new RangeServingInterceptor(content, true);
+        var sinkInterceptor = mock(Interceptor.class);
+        when(sinkInterceptor.intercept(isA(Interceptor.Chain.class)))
+                .thenAnswer(invocation -> createResponse(200, getRequest(invocation)));
+
+        var dataSink = rangedSinkBuilder(sinkInterceptor).rangeUpload(true).build();
+
+        assertThat(dataSink.transfer(rangedSource(sourceInterceptor))).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        var captor = ArgumentCaptor.forClass(Interceptor.Chain.class);
+        verify(sinkInterceptor, times(4)).intercept(captor.capture());
+        assertThat(captor.getAllValues()).extracting(chain -> chain.request().header("Content-Range"))
+                .containsExactlyInAnyOrder("bytes 0-4/20", "bytes 5-9/20", "bytes 10-14/20", "bytes 15-19/20");
+    }
+
+    private HttpDataSource rangedSource(Interceptor interceptor) {
+        return HttpDataSource.Builder.newInstance()
+                .params(HttpRequestParams.Builder.newInstance()
+                        .baseUrl(NULL_ENDPOINT)
+                        .method(HttpMethod.GET.name())
+                        .build())
+                .name("test.bin")
+                .requestId("1")
+                .httpClient(testHttpClient(interceptor))
+                .monitor(monitor)
+                .requestFactory(requestFactory)
+                .rangePartSize(5)
+                .rangeConcurrency(2)
+                .build();
+    }
+
+    private HttpDataSink.Builder rangedSinkBuilder(Interceptor interceptor) {
+        return HttpDataSink.Builder.newInstance()
+                .params(HttpRequestParams.Builder.newInstance()
+                        .baseUrl(NULL_ENDPOINT)
+                        .method(HttpMethod.POST.name())
+                        .contentType(CONTENT_TYPE)
+                        .build())
+                .requestId("1")
+                .httpClient(testHttpClient(interceptor))
+                .executorService(executor)
+                .monitor(monitor)
+                .requestFactory(requestFactory);
+    }
+
     private Response createResponse(int code, Request request) {
         return new Response.Builder()
                 .protocol(Protocol.HTTP_1_1)
@@ -55,12 +55,13 @@ class HttpDataSinkFactoryTest {
     private final ExecutorService executorService = Executors.newSingleThreadExecutor();
     private final HttpRequestParamsProvider provider = mock();
     private final HttpRequestFactory requestFactory = mock();
+    private final RangeBufferBudget rangeBufferBudget = new RangeBufferBudget(1024);
 
     private HttpDataSinkFactory factory;
 
     @BeforeEach
     void setUp() {
-        factory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory);
+        factory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory, rangeBufferBudget);
     }
 
     @Test
@@ -99,6 +100,7 @@ class HttpDataSinkFactoryTest {
                 .requestId(request.getId())
                 .executorService(executorService)
                 .requestFactory(requestFactory)
+                .rangeBufferBudget(rangeBufferBudget)
                 .build();
 
         // validate the generated data sink field by field using reflection
@@ -21,6 +21,7 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
@@ -38,6 +39,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.GENERAL_ERROR;
@@ -107,6 +109,50 @@ class HttpDataSourceTest {
         verify(stream).close();
     }
 
+    @Test
+    void shouldSplitInRangeParts_whenEndpointSupportsRanges() {
+        var content = "0123456789".getBytes();
+        var interceptor = new RangeServingInterceptor(content, true);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory).rangePartSize(4).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(3).allSatisfy(part -> assertThat(part).isInstanceOf(HttpRangePart.class))
+                .extracting(DataSource.Part::size).containsExactly(4L, 4L, 2L);
+        assertThat(parts.get(0).openStream()).hasBinaryContent("0123".getBytes());
+        assertThat(parts.get(2).openStream()).hasBinaryContent("89".getBytes());
+        assertThat(((HttpRangePart) parts.get(1)).fetch()).succeedsWithin(5, SECONDS).isEqualTo("4567".getBytes());
+        assertThat(interceptor.requests("GET")).extracting(it -> it.header("Range"))
+                .containsExactlyInAnyOrder("bytes=0-3", "bytes=8-9", "bytes=4-7");
+    }
+
+    @Test
+    void shouldUseSingleRequest_whenEndpointDoesNotSupportRanges() {
+        var content = "0123456789".getBytes();
+        var interceptor = new RangeServingInterceptor(content, false);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory).rangePartSize(4).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().isInstanceOf(HttpPart.class)
+                .satisfies(part -> assertThat(part.openStream()).hasBinaryContent(content));
+        assertThat(interceptor.requests("HEAD")).hasSize(1);
+    }
+
+    @Test
+    void shouldUseSingleRequest_whenResourceIsSmallerThanPartSize() {
+        var content = "0123456789".getBytes();
+        var interceptor = new RangeServingInterceptor(content, true);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory).rangePartSize(100).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().isInstanceOf(HttpPart.class);
+    }
+
     @NotNull
     private Request dummyRequest() {
         return new Request.Builder().url("http://some.test.url/").get().build();
@@ -17,13 +17,22 @@ package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okio.BufferedSink;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
+import org.eclipse.edc.spi.EdcException;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -47,6 +56,84 @@ class NonChunkedTransferRequestBodyTest {
         assertThat(outputStream).hasToString(content);
     }
 
+    @Test
+    void verifyTransferWhenSizeKnown_shouldStreamContent() throws IOException {
+        var content = "Test Content";
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        var opened = new AtomicInteger();
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        var body = new NonChunkedTransferRequestBody(() -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes());
+        }, HttpDataAddress.OCTET_STREAM, content.length());
+
+        assertThat(body.contentLength()).isEqualTo(content.length());
+        assertThat(opened).hasValue(0);
+
+        body.writeTo(sink);
+
+        assertThat(outputStream).hasToString(content);
+        assertThat(body.isOneShot()).isTrue();
+    }
+
+    @Test
+    void verifyTransferWhenSizeKnown_shouldFail_whenContentIsShorter() {
+        var sink = mock(BufferedSink.class);
+        when(sink.outputStream()).thenReturn(new ByteArrayOutputStream());
+
+        var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream("short".getBytes()), HttpDataAddress.OCTET_STREAM, 100);
+
+        assertThatThrownBy(() -> body.writeTo(sink)).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void verifyTransferWhenSizeUnknownAndContentAboveThreshold_shouldSpillToFile() throws IOException {
+        var content = new byte[NonChunkedTransferRequestBody.MEMORY_THRESHOLD + 10];
+        new Random().nextBytes(content);
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content), HttpDataAddress.OCTET_STREAM);
+
+        assertThat(body.contentLength()).isEqualTo(content.length);
+        assertThat(body.isOneShot()).isTrue();
+
+        body.writeTo(sink);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void verifyClose_shouldDeleteSpilledFile_whenContentNeverWritten() throws IOException {
+        var content = new byte[NonChunkedTransferRequestBody.MEMORY_THRESHOLD + 10];
+        var before = spilledFiles();
+
+        var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content), HttpDataAddress.OCTET_STREAM);
+        var spilled = spilledFiles().stream().filter(file -> !before.contains(file)).toList();
+        assertThat(spilled).hasSize(1);
+
+        body.close();
+
+        assertThat(spilled.get(0)).doesNotExist();
+    }
+
+    @Test
+    void verifyTransferWhenSizeUnknown_shouldFail_whenContentCannotBeRead() {
+        var content = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("read failed");
+            }
+        };
+
+        assertThatThrownBy(() -> new NonChunkedTransferRequestBody(() -> content, HttpDataAddress.OCTET_STREAM))
+                .isInstanceOf(EdcException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
     @Test
     void verifyTransferDataMissing() throws IOException {
         var sink = mock(BufferedSink.class);
@@ -62,4 +149,10 @@ class NonChunkedTransferRequestBodyTest {
 
         assertThat(outputStream).hasToString("");
     }
+
+    private List<Path> spilledFiles() throws IOException {
+        try (var files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("edc-http-body-")).toList();
+        }
+    }
 }
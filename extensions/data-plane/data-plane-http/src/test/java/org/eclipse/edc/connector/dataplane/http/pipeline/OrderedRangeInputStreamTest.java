@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderedRangeInputStreamTest {
+
+    private static final int PART_SIZE = 1024;
+
+    @Test
+    void shouldReassemblePartsInOrder() throws IOException {
+        var parts = parts(4, 2);
+
+        try (var stream = new OrderedRangeInputStream(List.of(parts.get(2), parts.get(0), parts.get(3), parts.get(1)), RangeBufferBudget.unbounded())) {
+            var content = stream.readAllBytes();
+
+            assertThat(content).hasSize(4 * PART_SIZE);
+            IntStream.range(0, 4).forEach(i -> assertThat(content[i * PART_SIZE]).isEqualTo((byte) i));
+        }
+    }
+
+    @Test
+    void shouldNotPrefetchBeyondBudget() throws IOException {
+        var parts = parts(6, 4);
+        var budget = new RangeBufferBudget(2 * PART_SIZE);
+
+        try (var stream = new OrderedRangeInputStream(parts, budget)) {
+            assertThat(stream.read()).isEqualTo(0);
+
+            verify(parts.get(0)).fetch();
+            verify(parts.get(1)).fetch();
+            verify(parts.get(2), never()).fetch();
+
+            assertThat(stream.readAllBytes()).hasSize(6 * PART_SIZE - 1);
+        }
+
+        assertThat(budget.tryAcquire(2 * PART_SIZE)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReleaseBudget_whenClosedBeforeEnd() throws IOException {
+        var parts = parts(6, 4);
+        var budget = new RangeBufferBudget(4 * PART_SIZE);
+
+        try (var stream = new OrderedRangeInputStream(parts, budget)) {
+            stream.read();
+        }
+
+        assertThat(budget.tryAcquire(4 * PART_SIZE)).isEqualTo(4);
+    }
+
+    private List<HttpRangePart> parts(int count, int concurrency) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            var part = mock(HttpRangePart.class);
+            var content = new byte[PART_SIZE];
+            content[0] = (byte) i;
+            when(part.offset()).thenReturn((long) i * PART_SIZE);
+            when(part.size()).thenReturn((long) PART_SIZE);
+            when(part.concurrency()).thenReturn(concurrency);
+            when(part.fetch()).thenAnswer(invocation -> CompletableFuture.completedFuture(content));
+            return part;
+        }).toList();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static okhttp3.Protocol.HTTP_1_1;
+
+/**
+ * Serves a byte array supporting HEAD and {@code Range} requests.
+ */
+class RangeServingInterceptor implements Interceptor {
+
+    private final byte[] content;
+    private final boolean acceptRanges;
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    RangeServingInterceptor(byte[] content, boolean acceptRanges) {
+        this.content = content;
+        this.acceptRanges = acceptRanges;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) {
+        var request = chain.request();
+        requests.add(request);
+        var builder = new Response.Builder()
+                .request(request)
+                .protocol(HTTP_1_1)
+                .message("")
+                .header("Content-Type", "application/octet-stream");
+        if (acceptRanges) {
+            builder.header("Accept-Ranges", "bytes");
+        }
+
+        if (request.method().equals("HEAD")) {
+            return builder.code(200)
+                    .header("Content-Length", String.valueOf(content.length))
+                    .body(ResponseBody.create(new byte[0], MediaType.parse("application/octet-stream")))
+                    .build();
+        }
+
+        var range = request.header("Range");
+        if (acceptRanges && range != null) {
+            var bounds = range.replace("bytes=", "").split("-");
+            var slice = Arrays.copyOfRange(content, Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]) + 1);
+            return builder.code(206).body(ResponseBody.create(slice, MediaType.parse("application/octet-stream"))).build();
+        }
+
+        return builder.code(200).body(ResponseBody.create(content, MediaType.parse("application/octet-stream"))).build();
+    }
+
+    List<Request> requests() {
+        return requests;
+    }
+
+    List<Request> requests(String method) {
+        return requests.stream().filter(it -> it.method().equals(method)).toList();
+    }
+}
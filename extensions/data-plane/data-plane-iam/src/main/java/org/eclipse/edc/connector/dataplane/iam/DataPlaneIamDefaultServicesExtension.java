@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.iam;
 
+import org.eclipse.edc.connector.dataplane.iam.service.AccessTokenDataCache;
 import org.eclipse.edc.connector.dataplane.iam.service.DefaultDataPlaneAccessTokenServiceImpl;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessControlService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
@@ -30,10 +31,15 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.token.JwtGenerationService;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Extension(value = DataPlaneIamDefaultServicesExtension.NAME)
 public class DataPlaneIamDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Default IAM Services";
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 10_000;
+    private static final long DEFAULT_TOKEN_CACHE_TTL_SECONDS = 5;
 
     @Setting(description = "Alias of private key used for signing tokens, retrieved from private key resolver", key = "edc.transfer.proxy.token.signer.privatekey.alias")
     private String tokenSignerPrivateKeyAlias;
@@ -41,6 +47,15 @@ public class DataPlaneIamDefaultServicesExtension implements ServiceExtension {
     @Setting(description = "Alias of public key used for verifying the tokens, retrieved from the vault", key = "edc.transfer.proxy.token.verifier.publickey.alias")
     private String tokenVerifierPublicKeyAlias;
 
+    @Setting(description = "Maximum number of resolved access tokens kept in memory, 0 disables the cache",
+            defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "", key = "edc.dataplane.token.cache.size", min = 0)
+    private int tokenCacheSize;
+
+    @Setting(description = "Maximum time in seconds a resolved access token is kept in memory, it bounds the tokens without expiration. " +
+                    "Cached tokens are not looked up in the store, so a token revoked by another replica keeps being accepted for up to this time",
+            defaultValue = DEFAULT_TOKEN_CACHE_TTL_SECONDS + "", key = "edc.dataplane.token.cache.ttl", min = 1)
+    private long tokenCacheTtl;
+
     @Inject
     private AccessTokenDataStore accessTokenDataStore;
     @Inject
@@ -49,6 +64,8 @@ public class DataPlaneIamDefaultServicesExtension implements ServiceExtension {
     private LocalPublicKeyService localPublicKeyService;
     @Inject
     private JwsSignerProvider jwsSignerProvider;
+    @Inject
+    private Clock clock;
 
     @Override
     public String name() {
@@ -68,7 +85,8 @@ public class DataPlaneIamDefaultServicesExtension implements ServiceExtension {
                 accessTokenDataStore, monitor,
                 () -> tokenSignerPrivateKeyAlias,
                 () -> tokenVerifierPublicKeyAlias,
-                tokenValidationService, localPublicKeyService);
+                tokenValidationService, localPublicKeyService,
+                new AccessTokenDataCache(tokenCacheSize, Duration.ofSeconds(tokenCacheTtl), clock));
     }
 
 }
@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.iam.service;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Bounded, least recently used cache of the {@link AccessTokenData} resolved from access tokens. Entries are keyed by
+ * the SHA-256 hash of the raw token, so that tokens are not kept in memory, and they are served until the token expires,
+ * for at most the configured time to live, that bounds tokens that carry no expiration. Keys are also indexed by
+ * token id, so that a revoked token gets evicted without scanning the whole cache.
+ */
+public class AccessTokenDataCache {
+
+    private final int capacity;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entry> entries;
+    private final Map<String, Set<String>> keysByTokenId = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param capacity   the maximum number of entries, 0 disables the cache.
+     * @param timeToLive the maximum time an entry is served for.
+     * @param clock      the clock.
+     */
+    public AccessTokenDataCache(int capacity, Duration timeToLive, Clock clock) {
+        this.capacity = capacity;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > AccessTokenDataCache.this.capacity) {
+                    unindex(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Create a cache that never stores anything.
+     *
+     * @return the cache.
+     */
+    public static AccessTokenDataCache disabled() {
+        return new AccessTokenDataCache(0, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Calculate the key under which the data resolved from the passed token are stored.
+     *
+     * @param token the raw token.
+     * @return the key.
+     */
+    public String key(String token) {
+        try {
+            var hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Get the entry stored under the passed key, expired entries are removed and never returned.
+     *
+     * @param key the key.
+     * @return the entry, null if there's none.
+     */
+    @Nullable
+    public Entry get(String key) {
+        if (capacity == 0) {
+            return null;
+        }
+        lock.lock();
+        try {
+            var entry = entries.get(key);
+            if (entry != null && !clock.instant().isBefore(entry.expiresAt())) {
+                unindex(key, entries.remove(key));
+                return null;
+            }
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Store the data resolved from a token, until the token expires or the time to live elapses, whichever comes first.
+     *
+     * @param key       the key.
+     * @param data      the resolved data.
+     * @param expiresAt when the token expires, null if it does not expire.
+     */
+    public void put(String key, AccessTokenData data, @Nullable Instant expiresAt) {
+        if (capacity == 0) {
+            return;
+        }
+        var endOfLife = clock.instant().plus(timeToLive);
+        var entry = new Entry(data, expiresAt == null || endOfLife.isBefore(expiresAt) ? endOfLife : expiresAt);
+        lock.lock();
+        try {
+            unindex(key, entries.put(key, entry));
+            keysByTokenId.computeIfAbsent(data.id(), id -> new HashSet<>()).add(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the entry stored under the passed key.
+     *
+     * @param key the key.
+     */
+    public void remove(String key) {
+        lock.lock();
+        try {
+            unindex(key, entries.remove(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all the entries related to the passed token id.
+     *
+     * @param tokenId the token id.
+     */
+    public void evict(String tokenId) {
+        lock.lock();
+        try {
+            var keys = keysByTokenId.remove(tokenId);
+            if (keys != null) {
+                keys.forEach(entries::remove);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unindex(String key, @Nullable Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        var tokenId = entry.data().id();
+        var keys = keysByTokenId.get(tokenId);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByTokenId.remove(tokenId);
+        }
+    }
+
+    int indexedTokenIds() {
+        lock.lock();
+        try {
+            return keysByTokenId.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cached data resolved from a token.
+     *
+     * @param data      the resolved data.
+     * @param expiresAt when the entry expires.
+     */
+    public record Entry(AccessTokenData data, Instant expiresAt) {
+    }
+}
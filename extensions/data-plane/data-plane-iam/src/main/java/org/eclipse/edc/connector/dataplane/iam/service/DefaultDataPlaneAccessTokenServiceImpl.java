@@ -32,7 +32,9 @@ import org.eclipse.edc.token.spi.TokenGenerationService;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -59,6 +61,7 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
     private final Supplier<String> publicKeyIdSupplier;
     private final TokenValidationService tokenValidationService;
     private final PublicKeyResolver publicKeyResolver;
+    private final AccessTokenDataCache cache;
 
     public DefaultDataPlaneAccessTokenServiceImpl(TokenGenerationService tokenGenerationService,
                                                   AccessTokenDataStore accessTokenDataStore,
@@ -67,6 +70,18 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
                                                   Supplier<String> publicKeyIdSupplier,
                                                   TokenValidationService tokenValidationService,
                                                   PublicKeyResolver publicKeyResolver) {
+        this(tokenGenerationService, accessTokenDataStore, monitor, privateKeyIdSupplier, publicKeyIdSupplier,
+                tokenValidationService, publicKeyResolver, AccessTokenDataCache.disabled());
+    }
+
+    public DefaultDataPlaneAccessTokenServiceImpl(TokenGenerationService tokenGenerationService,
+                                                  AccessTokenDataStore accessTokenDataStore,
+                                                  Monitor monitor,
+                                                  Supplier<String> privateKeyIdSupplier,
+                                                  Supplier<String> publicKeyIdSupplier,
+                                                  TokenValidationService tokenValidationService,
+                                                  PublicKeyResolver publicKeyResolver,
+                                                  AccessTokenDataCache cache) {
         this.tokenGenerationService = tokenGenerationService;
         this.accessTokenDataStore = accessTokenDataStore;
         this.monitor = monitor;
@@ -74,6 +89,7 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
         this.publicKeyIdSupplier = publicKeyIdSupplier;
         this.tokenValidationService = tokenValidationService;
         this.publicKeyResolver = publicKeyResolver;
+        this.cache = cache;
     }
 
     /**
@@ -121,17 +137,25 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
     }
 
 
+    /**
+     * Resolves the {@link AccessTokenData} of a token. The tokens already resolved are cached, a cached entry skips
+     * both the token validation and the {@link AccessTokenDataStore} lookup. Tokens revoked by this replica are evicted
+     * right away, tokens revoked by other replicas are rejected once the entry outlives the cache time to live.
+     *
+     * @param token the raw token.
+     * @return the access token data.
+     */
     @Override
     public Result<AccessTokenData> resolve(String token) {
+        var key = cache.key(token);
+        var cached = cache.get(key);
+        if (cached != null) {
+            return Result.success(cached.data());
+        }
+
         return tokenValidationService.validate(token, publicKeyResolver, DATAPLANE_ACCESS_TOKEN_RULES)
-                .map(claimToken -> claimToken.getStringClaim(TOKEN_ID))
-                .compose(tokenId -> {
-                    var existingAccessToken = accessTokenDataStore.getById(tokenId);
-
-                    return existingAccessToken == null ?
-                            Result.failure("AccessTokenData with ID '%s' does not exist.".formatted(tokenId)) :
-                            Result.success(existingAccessToken);
-                });
+                .compose(claimToken -> findById(claimToken.getStringClaim(TOKEN_ID))
+                        .onSuccess(data -> cache.put(key, data, expiration(claimToken))));
     }
 
     @Override
@@ -150,10 +174,23 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
 
     private Result<Void> deleteTokenData(AccessTokenData tokenData) {
         var result = accessTokenDataStore.deleteById(tokenData.id());
+        cache.evict(tokenData.id());
         if (result.failed()) {
             return Result.failure(result.getFailureDetail());
         } else {
             return Result.success();
         }
     }
+
+    private Result<AccessTokenData> findById(String tokenId) {
+        var existingAccessToken = accessTokenDataStore.getById(tokenId);
+
+        return existingAccessToken == null ?
+                Result.failure("AccessTokenData with ID '%s' does not exist.".formatted(tokenId)) :
+                Result.success(existingAccessToken);
+    }
+
+    private Instant expiration(ClaimToken claimToken) {
+        return claimToken.getClaim("exp") instanceof Date expiration ? expiration.toInstant() : null;
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.iam;
 
 import org.assertj.core.api.Assertions;
+import org.eclipse.edc.connector.dataplane.iam.service.AccessTokenDataCache;
 import org.eclipse.edc.connector.dataplane.iam.service.DefaultDataPlaneAccessTokenServiceImpl;
 import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
 import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
@@ -31,6 +32,10 @@ import org.eclipse.edc.token.spi.TokenGenerationService;
 import org.eclipse.edc.token.spi.TokenValidationService;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -44,6 +49,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -57,6 +63,9 @@ class DefaultDataPlaneAccessTokenServiceImplTest {
     private final TokenValidationService tokenValidationService = mock();
     private final DefaultDataPlaneAccessTokenServiceImpl accessTokenService = new DefaultDataPlaneAccessTokenServiceImpl(tokenGenService,
             store, mock(), mock(), mock(), tokenValidationService, mock());
+    private final Clock clock = mock();
+    private final DefaultDataPlaneAccessTokenServiceImpl cachingAccessTokenService = new DefaultDataPlaneAccessTokenServiceImpl(tokenGenService,
+            store, mock(), mock(), mock(), tokenValidationService, mock(), new AccessTokenDataCache(10, Duration.ofSeconds(10), clock));
 
     @Test
     void obtainToken() {
@@ -186,6 +195,98 @@ class DefaultDataPlaneAccessTokenServiceImplTest {
         verify(store).getById(eq(tokenId));
     }
 
+    @Test
+    void resolve_shouldUseCachedData_whenTokenWasAlreadyResolved() {
+        var tokenId = "test-id";
+        when(clock.instant()).thenReturn(Instant.now());
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(ClaimToken.Builder.newInstance().claim("jti", tokenId).build()));
+        when(store.getById(eq(tokenId))).thenReturn(new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build()));
+
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+        var result = cachingAccessTokenService.resolve("some-jwt");
+
+        assertThat(result).isSucceeded().satisfies(atd -> Assertions.assertThat(atd.id()).isEqualTo(tokenId));
+        verify(tokenValidationService).validate(eq("some-jwt"), any(), anyList());
+        verify(store).getById(eq(tokenId));
+    }
+
+    @Test
+    void resolve_shouldRejectToken_whenRevokedInStoreAndCachedEntryOutlivedTimeToLive() {
+        var tokenId = "test-id";
+        var now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(ClaimToken.Builder.newInstance().claim("jti", tokenId).build()));
+        when(store.getById(eq(tokenId))).thenReturn(new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build()));
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+
+        when(store.getById(eq(tokenId))).thenReturn(null);
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+
+        when(clock.instant()).thenReturn(now.plusSeconds(10));
+        var result = cachingAccessTokenService.resolve("some-jwt");
+
+        assertThat(result).isFailed().detail().isEqualTo("AccessTokenData with ID 'test-id' does not exist.");
+        verify(tokenValidationService, times(2)).validate(eq("some-jwt"), any(), anyList());
+        verify(store, times(2)).getById(eq(tokenId));
+    }
+
+    @Test
+    void resolve_shouldValidateAgain_whenCachedTokenExpired() {
+        var tokenId = "test-id";
+        var now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).claim("exp", Date.from(now.plusSeconds(5))).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList())).thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build()));
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+
+        when(clock.instant()).thenReturn(now.plusSeconds(5));
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+
+        verify(tokenValidationService, times(2)).validate(eq("some-jwt"), any(), anyList());
+    }
+
+    @Test
+    void resolve_shouldValidateAgain_whenTokenWithoutExpirationOutlivesTimeToLive() {
+        var tokenId = "test-id";
+        var now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(ClaimToken.Builder.newInstance().claim("jti", tokenId).build()));
+        when(store.getById(eq(tokenId))).thenReturn(new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build()));
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+
+        when(clock.instant()).thenReturn(now.plusSeconds(10));
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+
+        verify(tokenValidationService, times(2)).validate(eq("some-jwt"), any(), anyList());
+    }
+
+    @Test
+    void revoke_shouldEvictCachedToken() {
+        var tokenId = "test-id";
+        var tokenData = new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build());
+        when(clock.instant()).thenReturn(Instant.now());
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(ClaimToken.Builder.newInstance().claim("jti", tokenId).build()));
+        when(store.getById(eq(tokenId))).thenReturn(tokenData);
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+
+        when(store.query(any())).thenReturn(List.of(tokenData));
+        when(store.deleteById(tokenId)).thenReturn(StoreResult.success());
+        assertThat(cachingAccessTokenService.revoke("tp-id", "reason")).isSucceeded();
+        when(store.getById(eq(tokenId))).thenReturn(null);
+
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isFailed();
+        verify(tokenValidationService, times(2)).validate(eq("some-jwt"), any(), anyList());
+    }
 
     @Test
     void revoke() {
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.iam.service;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccessTokenDataCacheTest {
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock();
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed_whenCapacityIsReached() {
+        var cache = new AccessTokenDataCache(2, Duration.ofSeconds(10), clock);
+        cache.put("a", tokenData("a"), null);
+        cache.put("b", tokenData("b"), null);
+        cache.get("a");
+
+        cache.put("c", tokenData("c"), null);
+
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+        assertThat(cache.indexedTokenIds()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldExpireEntry_whenTimeToLiveElapses() {
+        var cache = new AccessTokenDataCache(10, Duration.ofSeconds(10), clock);
+        cache.put("a", tokenData("a"), null);
+        cache.put("b", tokenData("b"), now.plusSeconds(60));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(9));
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNotNull();
+
+        when(clock.instant()).thenReturn(now.plusSeconds(10));
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.indexedTokenIds()).isZero();
+    }
+
+    @Test
+    void shouldExpireEntry_whenTokenExpiresBeforeTimeToLive() {
+        var cache = new AccessTokenDataCache(10, Duration.ofSeconds(10), clock);
+        cache.put("a", tokenData("a"), now.plusSeconds(5));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(5));
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void shouldNotStoreAnything_whenDisabled() {
+        var cache = AccessTokenDataCache.disabled();
+
+        cache.put("a", tokenData("a"), null);
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void shouldEvictAllEntriesOfTokenId() {
+        var cache = new AccessTokenDataCache(10, Duration.ofSeconds(10), clock);
+        cache.put("a", tokenData("id"), null);
+        cache.put("b", tokenData("id"), null);
+        cache.put("c", tokenData("other"), null);
+
+        cache.evict("id");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+        assertThat(cache.indexedTokenIds()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReindexEntry_whenKeyIsStoredAgainForAnotherTokenId() {
+        var cache = new AccessTokenDataCache(10, Duration.ofSeconds(10), clock);
+        cache.put("a", tokenData("id"), null);
+        cache.put("a", tokenData("other"), null);
+
+        cache.evict("id");
+
+        assertThat(cache.get("a")).isNotNull().extracting(entry -> entry.data().id()).isEqualTo("other");
+        assertThat(cache.indexedTokenIds()).isEqualTo(1);
+    }
+
+    @Test
+    void key_shouldNotContainToken() {
+        var cache = new AccessTokenDataCache(10, Duration.ofSeconds(10), clock);
+
+        var key = cache.key("raw-token");
+
+        assertThat(key).isEqualTo(cache.key("raw-token")).doesNotContain("raw-token").isNotEqualTo(cache.key("other-token"));
+    }
+
+    private AccessTokenData tokenData(String id) {
+        return new AccessTokenData(id, ClaimToken.Builder.newInstance().build(), DataAddress.Builder.newInstance().type("test").build());
+    }
+}
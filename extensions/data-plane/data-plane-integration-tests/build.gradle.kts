@@ -26,10 +26,24 @@ dependencies {
 
     testImplementation(project(":core:common:connector-core"))
     testImplementation(project(":core:common:junit"))
+    testImplementation(project(":core:common:lib:util-lib"))
+    testImplementation(project(":core:data-plane:data-plane-util"))
+    testImplementation(project(":extensions:data-plane:data-plane-http"))
     testImplementation(project(":extensions:common:json-ld"))
+    testImplementation(testFixtures(project(":core:common:lib:http-lib")))
     testImplementation(testFixtures(project(":extensions:data-plane:data-plane-http")))
 }
 
 edcBuild {
     publish.set(false)
 }
+
+tasks.withType<Test> {
+    // the load test compares platform and virtual threads, the nightly build runs it with -PtestJavaVersion=21
+    val testJavaVersion = findProperty("testJavaVersion")?.toString()
+    if (testJavaVersion != null) {
+        javaLauncher.set(javaToolchains.launcherFor {
+            languageVersion.set(JavaLanguageVersion.of(testJavaVersion))
+        })
+    }
+}
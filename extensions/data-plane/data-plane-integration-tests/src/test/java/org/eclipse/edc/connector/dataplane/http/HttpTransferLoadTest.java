@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http;
+
+import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
+import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSink;
+import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSource;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.scheduler.FairShareScheduler;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.junit.annotations.NightlyTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.util.concurrency.VirtualThreads;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
+import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.verify.VerificationTimes.exactly;
+import static org.mockserver.stop.Stop.stopQuietly;
+
+/**
+ * Runs 10k concurrent small HTTP-to-HTTP transfers on the platform threads pool and on virtual threads, the source and
+ * the sink answer with a small delay, so that the transfers spend their time waiting on socket I/O. The comparison
+ * needs Java 21, the nightly build runs it with {@code -PtestJavaVersion=21}.
+ */
+@NightlyTest
+class HttpTransferLoadTest {
+
+    private static final int TRANSFERS = 10_000;
+    private static final int PLATFORM_THREADS = 20;
+    private static final int ENDPOINT_DELAY_MILLIS = 20;
+    private static final int SOURCE_PORT = getFreePort();
+    private static final int SINK_PORT = getFreePort();
+    private static ClientAndServer sourceServer;
+    private static ClientAndServer sinkServer;
+
+    private final EdcHttpClient httpClient = testHttpClient();
+    private final HttpRequestFactory requestFactory = new HttpRequestFactory();
+    private final Monitor monitor = mock();
+
+    @BeforeAll
+    static void setUp() {
+        sourceServer = startClientAndServer(SOURCE_PORT);
+        sinkServer = startClientAndServer(SINK_PORT);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        stopQuietly(sourceServer);
+        stopQuietly(sinkServer);
+    }
+
+    @BeforeEach
+    void resetEndpoints() {
+        sourceServer.reset();
+        sourceServer.when(request().withMethod("GET"))
+                .respond(response().withStatusCode(200).withBody("{\"key\":\"value\"}").withDelay(MILLISECONDS, ENDPOINT_DELAY_MILLIS));
+        sinkServer.reset();
+        sinkServer.when(request().withMethod("POST"))
+                .respond(response().withStatusCode(200).withDelay(MILLISECONDS, ENDPOINT_DELAY_MILLIS));
+    }
+
+    @Test
+    void virtualThreadsShouldTransferFasterThanPlatformThreads() {
+        assumeTrue(VirtualThreads.isSupported(), "Virtual threads require Java 21 or later");
+
+        var platformThreadsElapsed = runTransfers(Executors.newFixedThreadPool(PLATFORM_THREADS), PLATFORM_THREADS);
+        var virtualThreadsElapsed = runTransfers(VirtualThreads.newVirtualThreadPerTaskExecutor().orElseThrow(), TRANSFERS);
+
+        assertThat(virtualThreadsElapsed)
+                .as("%d transfers took %d ms on virtual threads and %d ms on %d platform threads",
+                        TRANSFERS, virtualThreadsElapsed.toMillis(), platformThreadsElapsed.toMillis(), PLATFORM_THREADS)
+                .isLessThan(platformThreadsElapsed);
+    }
+
+    @Test
+    void platformThreadsShouldCompleteAllTransfers() {
+        runTransfers(Executors.newFixedThreadPool(PLATFORM_THREADS), PLATFORM_THREADS);
+
+        sourceServer.verify(request().withMethod("GET").withPath("/source"), exactly(TRANSFERS));
+        sinkServer.verify(request().withMethod("POST").withPath("/sink").withBody("{\"key\":\"value\"}"), exactly(TRANSFERS));
+    }
+
+    private Duration runTransfers(ExecutorService executor, int concurrency) {
+        var scheduler = FairShareScheduler.Builder.newInstance()
+                .delegate(executor)
+                .timer(Executors.newSingleThreadScheduledExecutor())
+                .concurrency(concurrency)
+                .build();
+
+        try {
+            var start = System.nanoTime();
+            var transfers = IntStream.range(0, TRANSFERS)
+                    .mapToObj(i -> transfer("transfer-" + i, scheduler))
+                    .toArray(CompletableFuture[]::new);
+
+            assertThat(CompletableFuture.allOf(transfers)).succeedsWithin(Duration.ofMinutes(5));
+            var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            assertThat(transfers).allSatisfy(transfer -> assertThat(transfer.join())
+                    .isInstanceOfSatisfying(StreamResult.class, result -> assertThat(result.succeeded()).isTrue()));
+            return elapsed;
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<StreamResult<Object>> transfer(String requestId, ExecutorService executor) {
+        var source = HttpDataSource.Builder.newInstance()
+                .params(HttpRequestParams.Builder.newInstance()
+                        .baseUrl("http://localhost:" + SOURCE_PORT + "/source")
+                        .method("GET")
+                        .build())
+                .name("data.json")
+                .requestId(requestId)
+                .httpClient(httpClient)
+                .monitor(monitor)
+                .requestFactory(requestFactory)
+                .build();
+
+        var sink = HttpDataSink.Builder.newInstance()
+                .params(HttpRequestParams.Builder.newInstance()
+                        .baseUrl("http://localhost:" + SINK_PORT + "/sink")
+                        .method("POST")
+                        .contentType("application/json")
+                        .build())
+                .requestId(requestId)
+                .httpClient(httpClient)
+                .executorService(executor)
+                .monitor(monitor)
+                .requestFactory(requestFactory)
+                .build();
+
+        return sink.transfer(source);
+    }
+}
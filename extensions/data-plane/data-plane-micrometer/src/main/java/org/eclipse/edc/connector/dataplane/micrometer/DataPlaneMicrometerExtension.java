@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferMetrics;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * Exposes the measurements of the data plane transfers as Micrometer meters.
+ */
+@Extension(value = DataPlaneMicrometerExtension.NAME)
+public class DataPlaneMicrometerExtension implements ServiceExtension {
+
+    public static final String NAME = "Data Plane Micrometer Metrics";
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting
+    public static final String ENABLE_DATAPLANE_METRICS = "edc.metrics.dataplane.enabled";
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public TransferMetrics transferMetrics(ServiceExtensionContext context) {
+        var enableMetrics = context.getSetting(ENABLE_METRICS, true);
+        var enableDataPlaneMetrics = context.getSetting(ENABLE_DATAPLANE_METRICS, true);
+
+        if (enableMetrics && enableDataPlaneMetrics) {
+            return new MicrometerTransferMetrics(meterRegistry);
+        }
+        return TransferMetrics.noop();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferMetrics;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferSummary;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TransferMetrics} that records the transfers on a {@link MeterRegistry}, tagged with source type, sink type
+ * and, for the transfer level meters, outcome. Meters are created once for every combination of tags.
+ */
+public class MicrometerTransferMetrics implements TransferMetrics {
+
+    static final String BYTES = "edc.dataplane.transfer.bytes";
+    static final String PARTS = "edc.dataplane.transfer.parts";
+    static final String DURATION = "edc.dataplane.transfer.duration";
+    static final String TIME_TO_FIRST_BYTE = "edc.dataplane.transfer.time.to.first.byte";
+    static final String THROUGHPUT = "edc.dataplane.transfer.throughput";
+    static final String PART_LATENCY = "edc.dataplane.transfer.part.latency";
+
+    private static final String SOURCE_TYPE = "source.type";
+    private static final String SINK_TYPE = "sink.type";
+    private static final String OUTCOME = "outcome";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> partLatencies = new ConcurrentHashMap<>();
+    private final Map<String, TransferMeters> transferMeters = new ConcurrentHashMap<>();
+
+    public MicrometerTransferMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void partTransferred(String sourceType, String sinkType, long bytes, long latencyNanos) {
+        partLatencies.computeIfAbsent(key(sourceType, sinkType), k -> Timer.builder(PART_LATENCY)
+                        .description("Time spent reading a part whose size is not known upfront")
+                        .tags(SOURCE_TYPE, tag(sourceType), SINK_TYPE, tag(sinkType))
+                        .register(registry))
+                .record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void transferCompleted(String sourceType, String sinkType, TransferSummary summary, boolean succeeded) {
+        var outcome = succeeded ? "success" : "failure";
+        var meters = transferMeters.computeIfAbsent(key(sourceType, sinkType) + '|' + outcome, k -> new TransferMeters(sourceType, sinkType, outcome));
+        meters.bytes.increment(summary.bytes());
+        meters.parts.increment(summary.parts());
+        meters.duration.record(summary.duration(), TimeUnit.MILLISECONDS);
+        meters.throughput.record(summary.throughput());
+        if (summary.timeToFirstByte() >= 0) {
+            meters.timeToFirstByte.record(summary.timeToFirstByte(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private String key(String sourceType, String sinkType) {
+        return tag(sourceType) + '|' + tag(sinkType);
+    }
+
+    private String tag(String type) {
+        return Objects.requireNonNullElse(type, "unknown");
+    }
+
+    private class TransferMeters {
+        private final Counter bytes;
+        private final Counter parts;
+        private final Timer duration;
+        private final Timer timeToFirstByte;
+        private final DistributionSummary throughput;
+
+        TransferMeters(String sourceType, String sinkType, String outcome) {
+            var tags = new String[]{ SOURCE_TYPE, tag(sourceType), SINK_TYPE, tag(sinkType), OUTCOME, outcome };
+            bytes = Counter.builder(BYTES).baseUnit("bytes").description("Bytes transferred").tags(tags).register(registry);
+            parts = Counter.builder(PARTS).description("Parts transferred").tags(tags).register(registry);
+            duration = Timer.builder(DURATION).description("Duration of the transfers").tags(tags).register(registry);
+            timeToFirstByte = Timer.builder(TIME_TO_FIRST_BYTE).description("Time from the start of the transfers to their first byte").tags(tags).register(registry);
+            throughput = DistributionSummary.builder(THROUGHPUT).baseUnit("bytes/s").description("Average throughput of the transfers").tags(tags).register(registry);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerTransferMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerTransferMetrics metrics = new MicrometerTransferMetrics(registry);
+
+    @Test
+    void transferCompleted_shouldRecordSummaryTaggedByTypesAndOutcome() {
+        metrics.transferCompleted("HttpData", "File", new TransferSummary(1000, 2, 10, 500), true);
+        metrics.transferCompleted("HttpData", "File", new TransferSummary(3000, 1, 20, 1000), true);
+        metrics.transferCompleted("HttpData", "File", new TransferSummary(5, 1, -1, 10), false);
+
+        var success = registry.find(MicrometerTransferMetrics.BYTES).tag("source.type", "HttpData").tag("sink.type", "File").tag("outcome", "success").counter();
+        assertThat(success).isNotNull();
+        assertThat(success.count()).isEqualTo(4000);
+        assertThat(registry.find(MicrometerTransferMetrics.PARTS).tag("outcome", "success").counter().count()).isEqualTo(3);
+        assertThat(registry.find(MicrometerTransferMetrics.THROUGHPUT).tag("outcome", "success").summary().max()).isEqualTo(3000);
+        assertThat(registry.find(MicrometerTransferMetrics.TIME_TO_FIRST_BYTE).tag("outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(registry.find(MicrometerTransferMetrics.TIME_TO_FIRST_BYTE).tag("outcome", "failure").timer().count()).isZero();
+        assertThat(registry.find(MicrometerTransferMetrics.DURATION).tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void partTransferred_shouldRecordLatency() {
+        metrics.partTransferred("HttpData", "HttpData", 100, TimeUnit.MILLISECONDS.toNanos(20));
+
+        var timer = registry.find(MicrometerTransferMetrics.PART_LATENCY).tag("source.type", "HttpData").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20);
+    }
+}
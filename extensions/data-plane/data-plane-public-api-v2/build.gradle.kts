@@ -24,6 +24,7 @@ dependencies {
     api(project(":spi:common:http-spi"))
     api(project(":spi:common:web-spi"))
     api(project(":spi:data-plane:data-plane-spi"))
+    api(project(":spi:data-plane:data-plane-http-spi"))
     implementation(project(":core:common:lib:util-lib"))
 
     implementation(project(":core:data-plane:data-plane-util"))
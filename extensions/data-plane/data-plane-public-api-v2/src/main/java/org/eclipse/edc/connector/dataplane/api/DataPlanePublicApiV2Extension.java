@@ -14,7 +14,9 @@
 
 package org.eclipse.edc.connector.dataplane.api;
 
+import org.eclipse.edc.connector.dataplane.api.controller.AsyncHttpProxy;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlanePublicApiV2Controller;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.Endpoint;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
@@ -33,6 +35,8 @@ import org.eclipse.edc.web.spi.configuration.ApiContext;
 import org.eclipse.edc.web.spi.configuration.PortMapping;
 import org.eclipse.edc.web.spi.configuration.PortMappingRegistry;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.concurrent.Executors;
 
 /**
@@ -61,6 +65,25 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
 
     private static final int DEFAULT_THREAD_POOL = 10;
 
+    @Setting(description = "If true, requests to HttpData sources are proxied with a non-blocking HTTP client, without going through " +
+            "the data plane pipeline and without holding a thread while waiting for the backend response",
+            defaultValue = "false", key = "edc.dataplane.api.public.proxy.async.enabled")
+    private boolean asyncProxyEnabled;
+
+    // the asynchronous proxy needs a non-blocking response body, that the OkHttp based EdcHttpClient does not provide,
+    // so it uses the JDK client, configured with the same settings as the EdcHttpClient
+    @Setting(description = "Connect timeout, in seconds, of the HTTP client, also used by the asynchronous proxy, 0 means no timeout",
+            defaultValue = "30", key = "edc.http.client.timeout.connect")
+    private int httpClientConnectTimeout;
+
+    @Setting(description = "Read timeout, in seconds, of the HTTP client, the asynchronous proxy waits at most this time for the backend to respond, 0 means no timeout",
+            defaultValue = "30", key = "edc.http.client.timeout.read")
+    private int httpClientReadTimeout;
+
+    @Setting(description = "If true, enable HTTPS call enforcement of the HTTP client, also applied by the asynchronous proxy",
+            defaultValue = "false", key = "edc.http.client.https.enforce")
+    private boolean httpClientEnforceHttps;
+
     @Configuration
     private PublicApiConfiguration apiConfiguration;
     @Inject
@@ -77,6 +100,8 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
     private PublicEndpointGeneratorService generatorService;
     @Inject
     private Hostname hostname;
+    @Inject(required = false)
+    private HttpRequestParamsProvider requestParamsProvider;
 
     @Override
     public String name() {
@@ -106,7 +131,23 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
             generatorService.addGeneratorFunction("HttpData", () -> Endpoint.url(publicApiResponseUrl));
         }
 
-        var publicApiController = new DataPlanePublicApiV2Controller(pipelineService, executorService, authorizationService);
+        AsyncHttpProxy asyncHttpProxy = null;
+        if (asyncProxyEnabled) {
+            if (requestParamsProvider == null) {
+                context.getMonitor().warning("The asynchronous proxy requires the HttpData data plane extension, requests will go through the pipeline");
+            } else {
+                var httpClientBuilder = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .followRedirects(HttpClient.Redirect.NORMAL);
+                if (httpClientConnectTimeout > 0) {
+                    httpClientBuilder.connectTimeout(Duration.ofSeconds(httpClientConnectTimeout));
+                }
+                var httpClient = httpClientBuilder.build();
+                asyncHttpProxy = new AsyncHttpProxy(httpClient, requestParamsProvider, Duration.ofSeconds(httpClientReadTimeout), httpClientEnforceHttps);
+            }
+        }
+
+        var publicApiController = new DataPlanePublicApiV2Controller(pipelineService, executorService, authorizationService, asyncHttpProxy);
         webService.registerResource(ApiContext.PUBLIC, publicApiController);
     }
 
@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.OCTET_STREAM;
+import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.HTTP_DATA_TYPE;
+import static org.eclipse.edc.util.string.StringUtils.isNullOrBlank;
+
+/**
+ * Proxies requests to {@code HttpData} sources without going through the data plane pipeline: the backend is called
+ * with a non-blocking HTTP client and its response body is streamed to the caller through servlet asynchronous I/O
+ * (see {@link ServletOutputSubscriber}), so no thread is held, neither while waiting for the backend to respond nor for
+ * the whole duration of the transfer.
+ * Failures and bodiless responses go through the suspended {@link AsyncResponse}, as any other response. Only once the
+ * backend answered successfully with a body the response is handed over to the servlet asynchronous context: the
+ * {@link AsyncResponse} timeout is disabled first, so that the JAX-RS runtime does not write to it anymore.
+ * The status and the range and validation headers of the backend response are relayed, so that range and conditional
+ * requests forwarded to the backend (see {@code proxyConditionalHeaders}) work end to end.
+ */
+public class AsyncHttpProxy {
+
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+    private static final List<String> RELAYED_HEADERS = List.of("Content-Range", "Accept-Ranges", "ETag", "Last-Modified");
+    private static final Set<Integer> BODILESS_RELAYED_STATUSES = Set.of(304, 412, 416);
+
+    private final HttpClient httpClient;
+    private final HttpRequestParamsProvider requestParamsProvider;
+    private final Duration requestTimeout;
+    private final boolean enforceHttps;
+
+    /**
+     * Constructor.
+     *
+     * @param httpClient            the HTTP client, that should have a connect timeout.
+     * @param requestParamsProvider the request params provider.
+     * @param requestTimeout        the maximum time to wait for the backend to respond, zero means no timeout.
+     * @param enforceHttps          if true, only HTTPS backends can be called.
+     */
+    public AsyncHttpProxy(HttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Duration requestTimeout, boolean enforceHttps) {
+        this.httpClient = httpClient;
+        this.requestParamsProvider = requestParamsProvider;
+        this.requestTimeout = requestTimeout;
+        this.enforceHttps = enforceHttps;
+    }
+
+    /**
+     * Whether the passed source can be proxied.
+     *
+     * @param source the source data address.
+     * @return true if it can be proxied, false otherwise.
+     */
+    public boolean canHandle(DataAddress source) {
+        return HTTP_DATA_TYPE.equals(source.getType());
+    }
+
+    /**
+     * Calls the backend and, if it responds successfully, starts streaming its response body to the response of the
+     * passed servlet asynchronous context, that will be completed when the streaming is over. The {@code 304},
+     * {@code 412} and {@code 416} responses, that answer conditional and range requests, are relayed without body
+     * by resuming the passed response.
+     *
+     * @param request      the request.
+     * @param response     the suspended response.
+     * @param asyncContext the servlet asynchronous context of the suspended response.
+     * @return success when the response has been resumed or the streaming started, failure if the backend could not be
+     *         called or responded with an error, in this case the response is left suspended.
+     */
+    public CompletableFuture<StreamResult<Object>> proxy(DataFlowStartMessage request, AsyncResponse response, AsyncContext asyncContext) {
+        HttpRequest backendRequest;
+        try {
+            backendRequest = toRequest(requestParamsProvider.provideSourceParams(request));
+        } catch (Exception e) {
+            return completedFuture(StreamResult.error(format("Cannot create request to proxy HTTP data: %s", e.getMessage())));
+        }
+
+        return httpClient.sendAsync(backendRequest, HttpResponse.BodyHandlers.ofPublisher())
+                .thenApply(backendResponse -> {
+                    var status = backendResponse.statusCode();
+                    var body = backendResponse.body();
+                    var bodiless = BODILESS_RELAYED_STATUSES.contains(status);
+                    if (status / 100 != 2 && !bodiless) {
+                        discard(body);
+                        return StreamResult.error(format("Received code transferring HTTP data: %s.", status));
+                    }
+
+                    if (bodiless) {
+                        discard(body);
+                        var builder = Response.status(status);
+                        RELAYED_HEADERS.forEach(header -> backendResponse.headers().firstValue(header)
+                                .ifPresent(value -> builder.header(header, value)));
+                        response.resume(builder.build());
+                        return StreamResult.success();
+                    }
+
+                    if (!handOver(response)) {
+                        discard(body);
+                        return StreamResult.success();
+                    }
+
+                    var servletResponse = (HttpServletResponse) asyncContext.getResponse();
+                    servletResponse.setStatus(status);
+                    RELAYED_HEADERS.forEach(header -> backendResponse.headers().firstValue(header)
+                            .ifPresent(value -> servletResponse.setHeader(header, value)));
+                    servletResponse.setContentType(backendResponse.headers().firstValue("Content-Type").orElse(OCTET_STREAM));
+                    backendResponse.headers().firstValueAsLong("Content-Length").ifPresent(servletResponse::setContentLengthLong);
+                    body.subscribe(new ServletOutputSubscriber(asyncContext));
+                    return StreamResult.success();
+                });
+    }
+
+    /**
+     * Disable the timeout of the suspended response, so that the JAX-RS runtime never writes to it while the body is
+     * streamed through the servlet asynchronous context.
+     *
+     * @return false if the response is not suspended anymore, e.g. because it timed out, true otherwise.
+     */
+    private boolean handOver(AsyncResponse response) {
+        try {
+            return response.isSuspended() && response.setTimeout(0, SECONDS);
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private void discard(Flow.Publisher<List<ByteBuffer>> body) {
+        body.subscribe(HttpResponse.BodySubscribers.discarding());
+    }
+
+    private HttpRequest toRequest(HttpRequestParams params) throws URISyntaxException {
+        var uri = toUri(params);
+        if (enforceHttps && !"https".equalsIgnoreCase(uri.getScheme())) {
+            throw new IllegalArgumentException(format("HTTP call to %s blocked due to HTTPS enforcement enabled", uri));
+        }
+
+        var body = params.getBody() == null || params.getContentType() == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(params.getBody());
+
+        var builder = HttpRequest.newBuilder(uri)
+                .method(params.getMethod(), body);
+        if (requestTimeout.compareTo(Duration.ZERO) > 0) {
+            builder.timeout(requestTimeout);
+        }
+        if (params.getBody() != null && params.getContentType() != null) {
+            builder.header("Content-Type", params.getContentType());
+        }
+        params.getHeaders().entrySet().stream()
+                .filter(header -> !RESTRICTED_HEADERS.contains(header.getKey().toLowerCase()))
+                .forEach(header -> builder.header(header.getKey(), header.getValue()));
+        return builder.build();
+    }
+
+    private URI toUri(HttpRequestParams params) throws URISyntaxException {
+        var baseUrl = new URI(params.getBaseUrl());
+        var path = baseUrl.getPath() == null ? "" : baseUrl.getPath();
+        if (!isNullOrBlank(params.getPath())) {
+            var sanitizedPath = params.getPath().replaceFirst("^[/\\\\]", "");
+            path = path.endsWith("/") ? path + sanitizedPath : path + "/" + sanitizedPath;
+        }
+        var query = isNullOrBlank(params.getQueryParams()) ? baseUrl.getQuery() : params.getQueryParams();
+        return new URI(baseUrl.getScheme(), baseUrl.getAuthority(), path, query, null);
+    }
+}
@@ -23,10 +23,12 @@ import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiFunction;
 
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.BODY;
+import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.CONDITIONAL_HEADER_PREFIX;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.MEDIA_TYPE;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.METHOD;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.PATH;
@@ -35,6 +37,8 @@ import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSche
 @Deprecated(since = "0.12.0")
 public class DataFlowRequestSupplier implements BiFunction<ContainerRequestContextApi, DataAddress, DataFlowStartMessage> {
 
+    private static final Set<String> CONDITIONAL_HEADERS = Set.of("Range", "If-Range", "If-Match", "If-None-Match", "If-Modified-Since", "If-Unmodified-Since");
+
     /**
      * Put all properties of the incoming request (method, request body, query params...) into a map.
      */
@@ -60,7 +64,27 @@ public class DataFlowRequestSupplier implements BiFunction<ContainerRequestConte
      */
     @Override
     public DataFlowStartMessage apply(ContainerRequestContextApi contextApi, DataAddress dataAddress) {
+        return apply(contextApi, dataAddress, false);
+    }
+
+    /**
+     * Create a {@link DataFlowStartMessage} based on incoming request and claims decoded from the access token.
+     *
+     * @param contextApi         Api for accessing request properties.
+     * @param dataAddress        Source data address.
+     * @param conditionalHeaders Whether the range and conditional headers of the request have to be put into the
+     *                           properties, this makes sense only if the source response is relayed with its status
+     *                           and headers.
+     * @return DataFlowRequest
+     */
+    public DataFlowStartMessage apply(ContainerRequestContextApi contextApi, DataAddress dataAddress, boolean conditionalHeaders) {
         var props = createProps(contextApi);
+        if (conditionalHeaders) {
+            contextApi.headers().forEach((name, value) -> CONDITIONAL_HEADERS.stream()
+                    .filter(name::equalsIgnoreCase)
+                    .findFirst()
+                    .ifPresent(header -> props.put(CONDITIONAL_HEADER_PREFIX + header, value)));
+        }
         return DataFlowStartMessage.Builder.newInstance()
                 .processId(UUID.randomUUID().toString())
                 .sourceDataAddress(dataAddress)
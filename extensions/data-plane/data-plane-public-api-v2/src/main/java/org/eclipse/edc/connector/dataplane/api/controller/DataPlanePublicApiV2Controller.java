@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.dataplane.api.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.HEAD;
@@ -32,14 +33,17 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.response.TransferErrorResponse;
 import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static jakarta.ws.rs.core.MediaType.WILDCARD;
@@ -47,6 +51,7 @@ import static jakarta.ws.rs.core.Response.Status.FORBIDDEN;
 import static jakarta.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static jakarta.ws.rs.core.Response.Status.UNAUTHORIZED;
 import static jakarta.ws.rs.core.Response.status;
+import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.PROXY_CONDITIONAL_HEADERS;
 
 @Path("{any:.*}")
 @Produces(WILDCARD)
@@ -57,14 +62,35 @@ public class DataPlanePublicApiV2Controller implements DataPlanePublicApiV2 {
     private final DataFlowRequestSupplier requestSupplier;
     private final ExecutorService executorService;
     private final DataPlaneAuthorizationService authorizationService;
+    private final AsyncHttpProxy asyncHttpProxy;
+
+    @Context
+    private HttpServletRequest servletRequest;
 
     public DataPlanePublicApiV2Controller(PipelineService pipelineService,
                                           ExecutorService executorService,
                                           DataPlaneAuthorizationService authorizationService) {
+        this(pipelineService, executorService, authorizationService, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pipelineService      the pipeline service.
+     * @param executorService      the executor used to stream the pipeline output to the response.
+     * @param authorizationService the authorization service.
+     * @param asyncHttpProxy       if set, the requests to {@code HttpData} sources are proxied by it instead of going
+     *                             through the pipeline.
+     */
+    public DataPlanePublicApiV2Controller(PipelineService pipelineService,
+                                          ExecutorService executorService,
+                                          DataPlaneAuthorizationService authorizationService,
+                                          @Nullable AsyncHttpProxy asyncHttpProxy) {
         this.pipelineService = pipelineService;
         this.authorizationService = authorizationService;
         this.requestSupplier = new DataFlowRequestSupplier();
         this.executorService = executorService;
+        this.asyncHttpProxy = asyncHttpProxy;
     }
 
     private static Response error(Response.Status status, List<String> errors) {
@@ -146,6 +172,19 @@ public class DataPlanePublicApiV2Controller implements DataPlanePublicApiV2 {
             return;
         }
 
+        if (asyncHttpProxy != null && asyncHttpProxy.canHandle(sourceDataAddress.getContent())) {
+            var startMessage = requestSupplier.apply(contextApi, sourceDataAddress.getContent(), true);
+            asyncHttpProxy.proxy(startMessage, response, servletRequest.getAsyncContext())
+                    .whenComplete(resumeOnFailure(response));
+            return;
+        }
+
+        if (Boolean.parseBoolean(sourceDataAddress.getContent().getStringProperty(PROXY_CONDITIONAL_HEADERS))) {
+            response.resume(error(INTERNAL_SERVER_ERROR, List.of("The source data address sets '%s', that requires the asynchronous proxy to be enabled for HttpData sources"
+                    .formatted(PROXY_CONDITIONAL_HEADERS))));
+            return;
+        }
+
         var startMessage = requestSupplier.apply(contextApi, sourceDataAddress.getContent());
 
         processRequest(startMessage, response);
@@ -161,7 +200,6 @@ public class DataPlanePublicApiV2Controller implements DataPlanePublicApiV2 {
     }
 
     private void processRequest(DataFlowStartMessage dataFlowStartMessage, AsyncResponse response) {
-
         AsyncStreamingDataSink.AsyncResponseContext asyncResponseContext = callback -> {
             StreamingOutput output = t -> callback.outputStreamConsumer().accept(t);
             var resp = Response.ok(output).type(callback.mediaType()).build();
@@ -171,16 +209,20 @@ public class DataPlanePublicApiV2Controller implements DataPlanePublicApiV2 {
         var sink = new AsyncStreamingDataSink(asyncResponseContext, executorService);
 
         pipelineService.transfer(dataFlowStartMessage, sink)
-                .whenComplete((result, throwable) -> {
-                    if (throwable == null) {
-                        if (result.failed()) {
-                            response.resume(error(INTERNAL_SERVER_ERROR, result.getFailureMessages()));
-                        }
-                    } else {
-                        var error = "Unhandled exception occurred during data transfer: " + throwable.getMessage();
-                        response.resume(error(INTERNAL_SERVER_ERROR, List.of(error)));
-                    }
-                });
+                .whenComplete(resumeOnFailure(response));
+    }
+
+    private BiConsumer<StreamResult<Object>, Throwable> resumeOnFailure(AsyncResponse response) {
+        return (result, throwable) -> {
+            if (throwable == null) {
+                if (result.failed()) {
+                    response.resume(error(INTERNAL_SERVER_ERROR, result.getFailureMessages()));
+                }
+            } else {
+                var error = "Unhandled exception occurred during data transfer: " + throwable.getMessage();
+                response.resume(error(INTERNAL_SERVER_ERROR, List.of(error)));
+            }
+        };
     }
 
 }
@@ -0,0 +1,214 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Writes the buffers published by a non-blocking HTTP client to the output of a servlet asynchronous request, using
+ * the servlet non-blocking I/O: a new item is requested from the publisher only when the previous ones have been
+ * written and the output is ready to accept more, so the back-pressure of the caller is propagated to the backend
+ * without holding a thread while waiting.
+ * Buffers are handed over to the container as they are when it supports {@code write(ByteBuffer)} (e.g. Jetty),
+ * otherwise they are copied into a single scratch array that is reused for the whole response, that is safe because
+ * nothing is written before the output reports that the previous write has completed.
+ * The output is only accessed while holding the lock, while the subscription and the asynchronous context, whose
+ * callbacks could call back into this class from another thread, are only touched after releasing it.
+ */
+class ServletOutputSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+
+    private final AsyncContext asyncContext;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<ByteBuffer> pending = new ArrayDeque<>();
+    private ServletOutputStream output;
+    private MethodHandle bufferWriter;
+    private byte[] scratch = new byte[0];
+    private Flow.Subscription subscription;
+    private boolean requested;
+    private boolean completed;
+    private boolean done;
+
+    ServletOutputSubscriber(AsyncContext asyncContext) {
+        this.asyncContext = asyncContext;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        try {
+            output = asyncContext.getResponse().getOutputStream();
+            bufferWriter = bufferWriter(output);
+        } catch (IOException e) {
+            done = true;
+            subscription.cancel();
+            asyncContext.complete();
+            return;
+        }
+        output.setWriteListener(new OutputListener());
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        lock.lock();
+        try {
+            if (done) {
+                return;
+            }
+            buffers.stream().filter(ByteBuffer::hasRemaining).forEach(pending::add);
+            requested = false;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        lock.lock();
+        try {
+            if (done) {
+                return;
+            }
+            done = true;
+            pending.clear();
+            var response = (HttpServletResponse) asyncContext.getResponse();
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+            }
+        } finally {
+            lock.unlock();
+        }
+        asyncContext.complete();
+    }
+
+    @Override
+    public void onComplete() {
+        lock.lock();
+        try {
+            completed = true;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    private void drain() {
+        var request = false;
+        var finish = false;
+        var cancel = false;
+        lock.lock();
+        try {
+            while (!done && output.isReady()) {
+                var buffer = pending.poll();
+                if (buffer != null) {
+                    write(buffer);
+                } else if (completed) {
+                    done = true;
+                    finish = true;
+                } else {
+                    request = !requested;
+                    requested = true;
+                    break;
+                }
+            }
+        } catch (Throwable e) {
+            pending.clear();
+            done = true;
+            finish = true;
+            cancel = true;
+        } finally {
+            lock.unlock();
+        }
+
+        if (cancel) {
+            subscription.cancel();
+        }
+        if (finish) {
+            asyncContext.complete();
+        } else if (request) {
+            subscription.request(1);
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws Throwable {
+        if (bufferWriter != null) {
+            bufferWriter.invokeExact(output, buffer);
+            return;
+        }
+        var length = buffer.remaining();
+        if (scratch.length < length) {
+            scratch = new byte[length];
+        }
+        buffer.get(scratch, 0, length);
+        output.write(scratch, 0, length);
+    }
+
+    @Nullable
+    private static MethodHandle bufferWriter(ServletOutputStream output) {
+        try {
+            var method = output.getClass().getMethod("write", ByteBuffer.class);
+            return MethodHandles.publicLookup().unreflect(method)
+                    .asType(methodType(void.class, ServletOutputStream.class, ByteBuffer.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private class OutputListener implements WriteListener {
+
+        @Override
+        public void onWritePossible() {
+            drain();
+        }
+
+        /**
+         * Called by the container when the write fails, e.g. because the caller went away: the backend response is
+         * not needed anymore.
+         */
+        @Override
+        public void onError(Throwable throwable) {
+            lock.lock();
+            try {
+                if (done) {
+                    return;
+                }
+                done = true;
+                pending.clear();
+            } finally {
+                lock.unlock();
+            }
+            subscription.cancel();
+            asyncContext.complete();
+        }
+    }
+}
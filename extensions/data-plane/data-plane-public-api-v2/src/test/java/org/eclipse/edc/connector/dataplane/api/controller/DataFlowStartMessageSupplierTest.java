@@ -91,4 +91,33 @@ class DataFlowStartMessageSupplierTest {
                 DataFlowRequestSchema.MEDIA_TYPE, MediaType.TEXT_PLAIN
         ));
     }
+
+    @Test
+    void verifyMapping_withConditionalHeaders() {
+        var contextApi = mock(ContainerRequestContextApi.class);
+        var address = createDataAddress();
+
+        when(contextApi.method()).thenReturn(HttpMethod.GET);
+        when(contextApi.headers()).thenReturn(Map.of("range", "bytes=100-", "If-None-Match", "\"etag\"", "Accept", "*/*"));
+
+        var request = supplier.apply(contextApi, address, true);
+
+        assertThat(request.getProperties())
+                .containsEntry(DataFlowRequestSchema.CONDITIONAL_HEADER_PREFIX + "Range", "bytes=100-")
+                .containsEntry(DataFlowRequestSchema.CONDITIONAL_HEADER_PREFIX + "If-None-Match", "\"etag\"")
+                .doesNotContainKey(DataFlowRequestSchema.CONDITIONAL_HEADER_PREFIX + "Accept");
+    }
+
+    @Test
+    void verifyMapping_conditionalHeadersNotRequested() {
+        var contextApi = mock(ContainerRequestContextApi.class);
+        var address = createDataAddress();
+
+        when(contextApi.method()).thenReturn(HttpMethod.GET);
+        when(contextApi.headers()).thenReturn(Map.of("Range", "bytes=100-"));
+
+        var request = supplier.apply(contextApi, address);
+
+        assertThat(request.getProperties()).doesNotContainKey(DataFlowRequestSchema.CONDITIONAL_HEADER_PREFIX + "Range");
+    }
 }
@@ -17,6 +17,8 @@ package org.eclipse.edc.connector.dataplane.api.controller;
 
 import io.restassured.specification.RequestSpecification;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
@@ -29,12 +31,17 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockserver.integration.ClientAndServer;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -47,6 +54,9 @@ import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.CONDITIONAL_HEADER_PREFIX;
+import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.CoreMatchers.not;
@@ -55,8 +65,13 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.stop.Stop.stopQuietly;
 
 @ApiTest
 class DataPlanePublicApiV2ControllerTest extends RestControllerTestBase {
@@ -64,6 +79,18 @@ class DataPlanePublicApiV2ControllerTest extends RestControllerTestBase {
     private final PipelineService pipelineService = mock();
     private final DataAddressResolver dataAddressResolver = mock();
     private final DataPlaneAuthorizationService authorizationService = mock();
+    private final HttpRequestParamsProvider requestParamsProvider = mock();
+    private static ClientAndServer backend;
+
+    @BeforeAll
+    static void startBackend() {
+        backend = startClientAndServer(getFreePort());
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        stopQuietly(backend);
+    }
 
     @BeforeEach
     void setup() {
@@ -189,9 +216,118 @@ class DataPlanePublicApiV2ControllerTest extends RestControllerTestBase {
         assertThat(request.getProperties()).containsEntry("method", "POST").containsEntry("pathSegments", "any").containsEntry("queryParams", "foo=bar");
     }
 
+    @Test
+    void shouldReturnInternalServerError_whenConditionalHeadersAreRequiredWithoutAsyncProxy() {
+        var source = DataAddress.Builder.newInstance().type("test").property("proxyConditionalHeaders", "true").build();
+        when(authorizationService.authorize(anyString(), anyMap())).thenReturn(Result.success(source));
+
+        baseRequest()
+                .header(AUTHORIZATION, UUID.randomUUID().toString())
+                .header("Range", "bytes=0-3")
+                .when()
+                .get("/any")
+                .then()
+                .statusCode(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode())
+                .contentType(JSON)
+                .body("errors[0]", containsString("proxyConditionalHeaders"));
+
+        verify(pipelineService, never()).transfer(any(), any());
+    }
+
+    @Test
+    void shouldProxyHttpDataSource_whenAsyncProxyIsConfigured() {
+        backend.reset();
+        backend.when(request().withMethod("GET").withPath("/backend/any").withQueryStringParameter("foo", "bar"))
+                .respond(response().withStatusCode(200).withHeader("Content-Type", "application/something").withBody("data"));
+        when(authorizationService.authorize(anyString(), anyMap())).thenReturn(Result.success(httpDataAddress()));
+        when(requestParamsProvider.provideSourceParams(any())).thenReturn(HttpRequestParams.Builder.newInstance()
+                .method("GET").baseUrl("http://localhost:" + backend.getPort() + "/backend").path("any").queryParams("foo=bar").build());
+
+        var responseBody = baseRequest()
+                .header(AUTHORIZATION, UUID.randomUUID().toString())
+                .when()
+                .get("/any?foo=bar")
+                .then()
+                .log().ifError()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .contentType("application/something")
+                .extract().body().asString();
+
+        assertThat(responseBody).isEqualTo("data");
+        verify(pipelineService, never()).transfer(any(), any());
+    }
+
+    @Test
+    void shouldRelayPartialContent_whenRangeIsRequested() {
+        backend.reset();
+        backend.when(request().withMethod("GET").withHeader("Range", "bytes=2-3"))
+                .respond(response().withStatusCode(206).withHeader("Content-Range", "bytes 2-3/4").withHeader("ETag", "\"v1\"").withBody("ta"));
+        when(authorizationService.authorize(anyString(), anyMap())).thenReturn(Result.success(httpDataAddress()));
+        when(requestParamsProvider.provideSourceParams(any())).thenAnswer(i -> {
+            DataFlowStartMessage message = i.getArgument(0);
+            return HttpRequestParams.Builder.newInstance().method("GET").baseUrl("http://localhost:" + backend.getPort())
+                    .header("Range", message.getProperties().get(CONDITIONAL_HEADER_PREFIX + "Range")).build();
+        });
+
+        var responseBody = baseRequest()
+                .header(AUTHORIZATION, UUID.randomUUID().toString())
+                .header("Range", "bytes=2-3")
+                .when()
+                .get("/any")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", "bytes 2-3/4")
+                .header("ETag", "\"v1\"")
+                .extract().body().asString();
+
+        assertThat(responseBody).isEqualTo("ta");
+    }
+
+    @Test
+    void shouldRelayNotModified_whenBackendDataIsUnchanged() {
+        backend.reset();
+        backend.when(request().withMethod("GET"))
+                .respond(response().withStatusCode(304).withHeader("ETag", "\"v1\""));
+        when(authorizationService.authorize(anyString(), anyMap())).thenReturn(Result.success(httpDataAddress()));
+        when(requestParamsProvider.provideSourceParams(any())).thenReturn(HttpRequestParams.Builder.newInstance()
+                .method("GET").baseUrl("http://localhost:" + backend.getPort()).build());
+
+        baseRequest()
+                .header(AUTHORIZATION, UUID.randomUUID().toString())
+                .header("If-None-Match", "\"v1\"")
+                .when()
+                .get("/any")
+                .then()
+                .statusCode(304)
+                .header("ETag", "\"v1\"");
+
+        var requestCaptor = ArgumentCaptor.forClass(DataFlowStartMessage.class);
+        verify(requestParamsProvider).provideSourceParams(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().getProperties()).containsEntry(CONDITIONAL_HEADER_PREFIX + "If-None-Match", "\"v1\"");
+    }
+
+    @Test
+    void shouldReturnInternalServerError_whenProxiedBackendFails() {
+        backend.reset();
+        backend.when(request()).respond(response().withStatusCode(404));
+        when(authorizationService.authorize(anyString(), anyMap())).thenReturn(Result.success(httpDataAddress()));
+        when(requestParamsProvider.provideSourceParams(any())).thenReturn(HttpRequestParams.Builder.newInstance()
+                .method("GET").baseUrl("http://localhost:" + backend.getPort()).build());
+
+        baseRequest()
+                .header(AUTHORIZATION, UUID.randomUUID().toString())
+                .when()
+                .get("/any")
+                .then()
+                .statusCode(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode())
+                .contentType(JSON)
+                .body("errors[0]", is("Received code transferring HTTP data: 404."));
+    }
+
     @Override
     protected Object controller() {
-        return new DataPlanePublicApiV2Controller(pipelineService, Executors.newSingleThreadExecutor(), authorizationService);
+        return new DataPlanePublicApiV2Controller(pipelineService, Executors.newSingleThreadExecutor(), authorizationService,
+                new AsyncHttpProxy(HttpClient.newHttpClient(), requestParamsProvider, Duration.ofSeconds(30), false));
     }
 
     private RequestSpecification baseRequest() {
@@ -204,6 +340,10 @@ class DataPlanePublicApiV2ControllerTest extends RestControllerTestBase {
         return DataAddress.Builder.newInstance().type("test").build();
     }
 
+    private DataAddress httpDataAddress() {
+        return DataAddress.Builder.newInstance().type("HttpData").build();
+    }
+
     private record TestDataSource(String mediaType, String data) implements DataSource, DataSource.Part {
 
         @Override
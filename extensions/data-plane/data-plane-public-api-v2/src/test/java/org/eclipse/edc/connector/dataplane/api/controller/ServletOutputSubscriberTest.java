@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ServletOutputSubscriberTest {
+
+    private final AsyncContext asyncContext = mock();
+    private final HttpServletResponse response = mock();
+    private final ServletOutputStream output = mock();
+    private final Flow.Subscription subscription = mock();
+    private final ServletOutputSubscriber subscriber = new ServletOutputSubscriber(asyncContext);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(asyncContext.getResponse()).thenReturn(response);
+        when(response.getOutputStream()).thenReturn(output);
+    }
+
+    @Test
+    void shouldRequestNextItem_whenOutputIsReady() {
+        when(output.isReady()).thenReturn(true);
+
+        var listener = subscribe();
+        listener.onWritePossible();
+
+        verify(subscription).request(1);
+    }
+
+    @Test
+    void shouldWriteBuffersAndRequestNext_whenOutputIsReady() throws IOException {
+        when(output.isReady()).thenReturn(true);
+        var listener = subscribe();
+        listener.onWritePossible();
+
+        subscriber.onNext(List.of(ByteBuffer.wrap("foo".getBytes()).asReadOnlyBuffer(), ByteBuffer.wrap("bar".getBytes())));
+
+        verify(output, times(2)).write(any(byte[].class), eq(0), eq(3));
+        verify(subscription, times(2)).request(1);
+    }
+
+    @Test
+    void shouldNotRequestNext_untilOutputIsReadyAgain() throws IOException {
+        when(output.isReady()).thenReturn(true);
+        var listener = subscribe();
+        listener.onWritePossible();
+
+        when(output.isReady()).thenReturn(true, false);
+        subscriber.onNext(List.of(ByteBuffer.wrap("foo".getBytes()), ByteBuffer.wrap("bar".getBytes())));
+
+        verify(output, times(1)).write(any(byte[].class), anyInt(), anyInt());
+        verify(subscription, times(1)).request(1);
+
+        when(output.isReady()).thenReturn(true);
+        listener.onWritePossible();
+
+        verify(output, times(2)).write(any(byte[].class), anyInt(), anyInt());
+        verify(subscription, times(2)).request(1);
+    }
+
+    @Test
+    void shouldCompleteAsyncContext_whenPublisherCompletesAndEverythingIsWritten() throws IOException {
+        when(output.isReady()).thenReturn(true);
+        var listener = subscribe();
+        listener.onWritePossible();
+        when(output.isReady()).thenReturn(true, false);
+        subscriber.onNext(List.of(ByteBuffer.wrap("foo".getBytes()), ByteBuffer.wrap("bar".getBytes())));
+
+        subscriber.onComplete();
+
+        verify(asyncContext, never()).complete();
+
+        when(output.isReady()).thenReturn(true);
+        listener.onWritePossible();
+
+        verify(output, times(2)).write(any(byte[].class), anyInt(), anyInt());
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    void shouldCancelSubscription_whenWriteFails() throws IOException {
+        when(output.isReady()).thenReturn(true);
+        doThrow(new IOException("broken pipe")).when(output).write(any(byte[].class), anyInt(), anyInt());
+        var listener = subscribe();
+        listener.onWritePossible();
+
+        subscriber.onNext(List.of(ByteBuffer.wrap("foo".getBytes())));
+
+        verify(subscription).cancel();
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    void shouldCancelSubscription_whenCallerGoesAway() {
+        var listener = subscribe();
+
+        listener.onError(new IOException("connection reset"));
+
+        verify(subscription).cancel();
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    void shouldIgnoreItems_whenCallerWentAway() throws IOException {
+        when(output.isReady()).thenReturn(true);
+        var listener = subscribe();
+        listener.onError(new IOException("connection reset"));
+
+        subscriber.onNext(List.of(ByteBuffer.wrap("foo".getBytes())));
+        subscriber.onComplete();
+
+        verify(output, never()).write(any(byte[].class), anyInt(), anyInt());
+        verify(subscription, never()).request(anyLong());
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    void shouldReplyBadGateway_whenPublisherFailsBeforeWriting() {
+        subscribe();
+
+        subscriber.onError(new IOException("backend went away"));
+
+        verify(response).reset();
+        verify(response).setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    void shouldNotResetResponse_whenPublisherFailsAfterCommit() {
+        when(response.isCommitted()).thenReturn(true);
+        subscribe();
+
+        subscriber.onError(new IOException("backend went away"));
+        subscriber.onError(new IOException("backend went away"));
+
+        verify(response, never()).reset();
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    void shouldNotSubscribeToOutput_whenItCannotBeOpened() throws IOException {
+        when(response.getOutputStream()).thenThrow(new IOException("closed"));
+
+        subscriber.onSubscribe(subscription);
+
+        verify(subscription).cancel();
+        verify(asyncContext).complete();
+        verifyNoInteractions(output);
+    }
+
+    private WriteListener subscribe() {
+        subscriber.onSubscribe(subscription);
+        var captor = ArgumentCaptor.forClass(WriteListener.class);
+        verify(output).setWriteListener(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.api;
 
 import jakarta.json.Json;
+import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromDataFlowBatchResultTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromDataFlowResponseMessageTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowStartMessageTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowSuspendMessageTransformer;
@@ -66,6 +67,7 @@ public class DataPlaneSignalingApiExtension implements ServiceExtension {
         signalingApiTypeTransformerRegistry.register(new JsonObjectToDataFlowTerminateMessageTransformer());
         signalingApiTypeTransformerRegistry.register(new JsonObjectToDataAddressDspaceTransformer());
         signalingApiTypeTransformerRegistry.register(new JsonObjectFromDataFlowResponseMessageTransformer(factory));
+        signalingApiTypeTransformerRegistry.register(new JsonObjectFromDataFlowBatchResultTransformer(factory));
         signalingApiTypeTransformerRegistry.register(new JsonObjectFromDataAddressDspaceTransformer(factory, typeManager, JSON_LD));
 
         var controller = new DataPlaneSignalingApiController(signalingApiTypeTransformerRegistry,
@@ -17,14 +17,17 @@ package org.eclipse.edc.connector.dataplane.api.controller.v1;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.connector.dataplane.api.model.DataFlowState;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowSuspendMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage;
@@ -52,6 +55,16 @@ public interface DataPlaneSignalingApi {
     )
     JsonObject start(JsonObject dataFlowStartMessage);
 
+    @Operation(description = "Initiates the data transfers for a batch of start messages. Every message is handled as it was sent alone, " +
+            "the failure of a message does not affect the others. The response contains one result for every message, in the same order of the messages",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = DataFlowStartMessageBatchSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Results of the messages",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = DataFlowBatchResultSchema.class)))),
+            }
+    )
+    JsonArray startBatch(JsonObject dataFlowStartMessageBatch);
+
     @Operation(description = "Get the current state of a data transfer.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "State of the data transfer",
@@ -71,6 +84,16 @@ public interface DataPlaneSignalingApi {
     )
     void terminate(String transferProcessId, JsonObject terminationMessage);
 
+    @Operation(description = "Terminates a batch of data transfers, every message must contain the process id of the transfer. " +
+            "The response contains one result for every message, in the same order of the messages",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = DataFlowTerminateMessageBatchSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Results of the messages",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = DataFlowBatchResultSchema.class)))),
+            }
+    )
+    JsonArray terminateBatch(JsonObject dataFlowTerminateMessageBatch);
+
     @Operation(description = "Suspend a data transfer.",
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = DataFlowSuspendMessageSchema.class))),
             responses = {
@@ -81,12 +104,13 @@ public interface DataPlaneSignalingApi {
     )
     void suspend(String transferProcessId, JsonObject suspendMessage);
 
-    @Operation(description = "Check if data plane is available.",
+    @Operation(description = "Check if data plane is available and report its current load.",
             responses = {
-                    @ApiResponse(responseCode = "204", description = "Data plane is available"),
+                    @ApiResponse(responseCode = "200", description = "Data plane is available, the body contains its load"),
+                    @ApiResponse(responseCode = "204", description = "Data plane is available, its load is not known"),
             }
     )
-    void checkAvailability();
+    JsonObject checkAvailability();
 
     @Schema(name = "DataFlowStartMessage", example = DataFlowStartMessageSchema.DATA_FLOW_START_EXAMPLE)
     record DataFlowStartMessageSchema(
@@ -228,4 +252,84 @@ public interface DataPlaneSignalingApi {
                 }
                 """;
     }
+
+    @Schema(name = "DataFlowStartMessageBatch", example = DataFlowStartMessageBatchSchema.DATA_FLOW_START_BATCH_EXAMPLE)
+    record DataFlowStartMessageBatchSchema(
+            @Schema(name = CONTEXT, requiredMode = REQUIRED)
+            Object context,
+            @Schema(name = TYPE, example = "DataFlowStartMessageBatch")
+            String ldType,
+            @Schema(requiredMode = REQUIRED)
+            DataFlowStartMessageSchema[] messages
+    ) {
+        public static final String DATA_FLOW_START_BATCH_EXAMPLE = """
+                {
+                    "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                    "@type": "DataFlowStartMessageBatch",
+                    "messages": [
+                        {
+                            "@id": "transfer-id",
+                            "@type": "DataFlowStartMessage",
+                            "processId": "process-id",
+                            "datasetId": "dataset-id",
+                            "participantId": "participant-id",
+                            "agreementId": "agreement-id",
+                            "transferType": "HttpData-PUSH",
+                            "sourceDataAddress": {
+                                "type": "HttpData",
+                                "baseUrl": "https://jsonplaceholder.typicode.com/todos"
+                            },
+                            "callbackAddress" : "http://control-plane",
+                            "properties": {
+                                "key": "value"
+                            }
+                        }
+                    ]
+                }
+                """;
+    }
+
+    @Schema(name = "DataFlowTerminateMessageBatch", example = DataFlowTerminateMessageBatchSchema.DATA_FLOW_TERMINATE_BATCH_EXAMPLE)
+    record DataFlowTerminateMessageBatchSchema(
+            @Schema(name = CONTEXT, requiredMode = REQUIRED)
+            Object context,
+            @Schema(name = TYPE, example = "DataFlowTerminateMessageBatch")
+            String ldType,
+            @Schema(requiredMode = REQUIRED)
+            DataFlowTerminateMessageSchema[] messages
+    ) {
+        public static final String DATA_FLOW_TERMINATE_BATCH_EXAMPLE = """
+                {
+                    "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                    "@type": "DataFlowTerminateMessageBatch",
+                    "messages": [
+                        {
+                            "@type": "DataFlowTerminateMessage",
+                            "processId": "process-id",
+                            "reason": "reason"
+                        }
+                    ]
+                }
+                """;
+    }
+
+    @Schema(name = "DataFlowBatchResult", example = DataFlowBatchResultSchema.DATA_FLOW_BATCH_RESULT_EXAMPLE)
+    record DataFlowBatchResultSchema(
+            @Schema(name = CONTEXT)
+            Object context,
+            @Schema(name = TYPE, example = DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_SIMPLE_TYPE)
+            String ldType,
+            String processId,
+            DataFlowResponseMessageSchema response,
+            String error
+    ) {
+        public static final String DATA_FLOW_BATCH_RESULT_EXAMPLE = """
+                {
+                    "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                    "@type": "DataFlowBatchResult",
+                    "processId": "process-id",
+                    "error": "Failed to validate request"
+                }
+                """;
+    }
 }
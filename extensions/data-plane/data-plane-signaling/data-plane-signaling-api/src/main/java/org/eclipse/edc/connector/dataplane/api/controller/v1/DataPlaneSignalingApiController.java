@@ -15,7 +15,10 @@
 package org.eclipse.edc.connector.dataplane.api.controller.v1;
 
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
@@ -26,14 +29,26 @@ import jakarta.ws.rs.core.MediaType;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowSuspendMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 
+import java.util.List;
+import java.util.function.Function;
+
+import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_MESSAGES;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_PROCESS_ID;
+import static org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad.ACTIVE_FLOWS;
+import static org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad.BYTES_PER_SECOND;
+import static org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad.DATA_PLANE_LOAD_TYPE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad.FREE_CAPACITY;
 
 @Consumes({ MediaType.APPLICATION_JSON })
 @Produces({ MediaType.APPLICATION_JSON })
@@ -70,6 +85,13 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
                 .orElseThrow(f -> new EdcException(f.getFailureDetail()));
     }
 
+    @POST
+    @Path("/start-batch")
+    @Override
+    public JsonArray startBatch(JsonObject dataFlowStartMessageBatch) {
+        return processBatch(dataFlowStartMessageBatch, this::startBatchMessage);
+    }
+
     @GET
     @Path("/{id}/state")
     @Override
@@ -95,6 +117,13 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
         dataPlaneManager.terminate(dataFlowId, msg.getReason()).orElseThrow(InvalidRequestException::new);
     }
 
+    @POST
+    @Path("/terminate-batch")
+    @Override
+    public JsonArray terminateBatch(JsonObject dataFlowTerminateMessageBatch) {
+        return processBatch(dataFlowTerminateMessageBatch, this::terminateBatchMessage);
+    }
+
     @POST
     @Path("/{id}/suspend")
     @Override
@@ -109,7 +138,103 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
     @Override
     @Path("/check")
     @GET
-    public void checkAvailability() {
+    public JsonObject checkAvailability() {
+        var load = dataPlaneManager.getLoad();
+        if (load == null) {
+            return null;
+        }
+
+        return Json.createObjectBuilder()
+                .add(TYPE, DATA_PLANE_LOAD_TYPE)
+                .add(ACTIVE_FLOWS, load.activeFlows())
+                .add(BYTES_PER_SECOND, load.bytesPerSecond())
+                .add(FREE_CAPACITY, load.freeCapacity())
+                .build();
+    }
+
+    private JsonArray processBatch(JsonObject batch, Function<JsonObject, DataFlowBatchResult> handler) {
+        return batchMessages(batch).stream()
+                .map(message -> {
+                    try {
+                        return handler.apply(message);
+                    } catch (Exception e) {
+                        // a failing message must not prevent the others from being handled
+                        return batchFailure(processId(message), e.getMessage());
+                    }
+                })
+                .map(result -> typeTransformerRegistry.transform(result, JsonObject.class)
+                        .orElseThrow(f -> new EdcException(f.getFailureDetail())))
+                .collect(toJsonArray());
+    }
+
+    private DataFlowBatchResult startBatchMessage(JsonObject message) {
+        var transformResult = typeTransformerRegistry.transform(message, DataFlowStartMessage.class)
+                .onFailure(f -> monitor.warning("Error transforming %s: %s".formatted(DataFlowStartMessage.class, f.getFailureDetail())));
+        if (transformResult.failed()) {
+            return batchFailure(processId(message), transformResult.getFailureDetail());
+        }
+
+        var startMsg = transformResult.getContent();
+        var validation = dataPlaneManager.validate(startMsg)
+                .onFailure(f -> monitor.warning("Failed to validate request: %s".formatted(f.getFailureDetail())));
+        if (validation.failed()) {
+            return batchFailure(startMsg.getProcessId(), "Failed to validate request: %s".formatted(validation.getFailureDetail()));
+        }
+
+        var response = dataPlaneManager.start(startMsg);
+        if (response.failed()) {
+            return batchFailure(startMsg.getProcessId(), response.getFailureDetail());
+        }
+
+        return DataFlowBatchResult.Builder.newInstance()
+                .processId(startMsg.getProcessId())
+                .response(response.getContent())
+                .build();
+    }
+
+    private DataFlowBatchResult terminateBatchMessage(JsonObject message) {
+        var transformResult = typeTransformerRegistry.transform(message, DataFlowTerminateMessage.class)
+                .onFailure(f -> monitor.warning("Error transforming %s: %s".formatted(DataFlowTerminateMessage.class, f.getFailureDetail())));
+        if (transformResult.failed()) {
+            return batchFailure(processId(message), transformResult.getFailureDetail());
+        }
+
+        var msg = transformResult.getContent();
+        if (msg.getProcessId() == null) {
+            return batchFailure(null, "Missing process id");
+        }
+
+        var result = dataPlaneManager.terminate(msg.getProcessId(), msg.getReason());
+        if (result.failed()) {
+            return batchFailure(msg.getProcessId(), result.getFailureDetail());
+        }
+
+        return DataFlowBatchResult.Builder.newInstance().processId(msg.getProcessId()).build();
+    }
+
+    private List<JsonObject> batchMessages(JsonObject batch) {
+        var messages = batch.get(DATA_FLOW_BATCH_MESSAGES);
+        if (messages == null) {
+            // an empty array is dropped by the JSON-LD expansion
+            return List.of();
+        }
+        try {
+            return messages.asJsonArray().getValuesAs(JsonValue::asJsonObject);
+        } catch (ClassCastException e) {
+            throw new InvalidRequestException("The batch messages must be an array of objects");
+        }
+    }
+
+    private String processId(JsonObject message) {
+        var value = message.get(DATA_FLOW_BATCH_RESULT_PROCESS_ID);
+        if (value instanceof JsonArray array && !array.isEmpty() && array.get(0) instanceof JsonObject object
+                && object.get(VALUE) instanceof JsonString processId) {
+            return processId.getString();
+        }
+        return null;
+    }
 
+    private DataFlowBatchResult batchFailure(String processId, String error) {
+        return DataFlowBatchResult.Builder.newInstance().processId(processId).error(error).build();
     }
 }
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.api.controller.v1;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
@@ -26,10 +27,12 @@ import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowSuspendMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
 import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
@@ -42,13 +45,17 @@ import java.net.URI;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_MESSAGES;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_PROCESS_ID;
 import static org.eclipse.edc.spi.result.Result.failure;
 import static org.eclipse.edc.spi.result.Result.success;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -262,6 +269,121 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
 
     }
 
+    @Nested
+    class Batch {
+
+        @Test
+        void startBatch_shouldReturnResultForEveryMessage() {
+            var flowResponse = DataFlowResponseMessage.Builder.newInstance().build();
+            when(transformerRegistry.transform(isA(JsonObject.class), eq(DataFlowStartMessage.class)))
+                    .thenReturn(success(createFlowStartMessage()), failure("cannot transform"));
+            when(dataplaneManager.validate(any())).thenReturn(success(true));
+            when(dataplaneManager.start(any())).thenReturn(success(flowResponse));
+            mockBatchResultTransformation();
+
+            var results = baseRequest()
+                    .contentType(ContentType.JSON)
+                    .body(batch(message("processId"), message("anotherProcessId")))
+                    .post("/v1/dataflows/start-batch")
+                    .then()
+                    .statusCode(200)
+                    .extract().as(JsonArray.class);
+
+            assertThat(results).hasSize(2);
+            assertThat(results.getJsonObject(0).getString("processId")).isEqualTo("processId");
+            assertThat(results.getJsonObject(0).getBoolean("succeeded")).isTrue();
+            assertThat(results.getJsonObject(1).getString("processId")).isEqualTo("anotherProcessId");
+            assertThat(results.getJsonObject(1).getBoolean("succeeded")).isFalse();
+            verify(dataplaneManager).start(any());
+        }
+
+        @Test
+        void startBatch_shouldReportFailure_whenMessageIsInvalid() {
+            when(transformerRegistry.transform(isA(JsonObject.class), eq(DataFlowStartMessage.class)))
+                    .thenReturn(success(createFlowStartMessage()));
+            when(dataplaneManager.validate(any())).thenReturn(failure("invalid"));
+            mockBatchResultTransformation();
+
+            var results = baseRequest()
+                    .contentType(ContentType.JSON)
+                    .body(batch(message("processId")))
+                    .post("/v1/dataflows/start-batch")
+                    .then()
+                    .statusCode(200)
+                    .extract().as(JsonArray.class);
+
+            assertThat(results).hasSize(1);
+            assertThat(results.getJsonObject(0).getBoolean("succeeded")).isFalse();
+            verify(dataplaneManager, never()).start(any());
+        }
+
+        @Test
+        void terminateBatch_shouldReturnResultForEveryMessage() {
+            when(transformerRegistry.transform(isA(JsonObject.class), eq(DataFlowTerminateMessage.class)))
+                    .thenReturn(success(DataFlowTerminateMessage.Builder.newInstance().processId("processId").reason("reason").build()),
+                            success(DataFlowTerminateMessage.Builder.newInstance().processId("anotherProcessId").build()));
+            when(dataplaneManager.terminate(eq("processId"), any())).thenReturn(StatusResult.success());
+            when(dataplaneManager.terminate(eq("anotherProcessId"), any())).thenReturn(StatusResult.failure(ResponseStatus.FATAL_ERROR, "cannot terminate"));
+            mockBatchResultTransformation();
+
+            var results = baseRequest()
+                    .contentType(ContentType.JSON)
+                    .body(batch(message("processId"), message("anotherProcessId")))
+                    .post("/v1/dataflows/terminate-batch")
+                    .then()
+                    .statusCode(200)
+                    .extract().as(JsonArray.class);
+
+            assertThat(results).hasSize(2);
+            assertThat(results.getJsonObject(0).getBoolean("succeeded")).isTrue();
+            assertThat(results.getJsonObject(1).getBoolean("succeeded")).isFalse();
+            verify(dataplaneManager).terminate("processId", "reason");
+        }
+
+        @Test
+        void terminateBatch_shouldReportFailure_whenProcessIdIsMissing() {
+            when(transformerRegistry.transform(isA(JsonObject.class), eq(DataFlowTerminateMessage.class)))
+                    .thenReturn(success(DataFlowTerminateMessage.Builder.newInstance().build()));
+            when(transformerRegistry.transform(isA(DataFlowBatchResult.class), eq(JsonObject.class)))
+                    .thenAnswer(i -> success(Json.createObjectBuilder().add("error", i.getArgument(0, DataFlowBatchResult.class).getError()).build()));
+
+            var results = baseRequest()
+                    .contentType(ContentType.JSON)
+                    .body(batch(Json.createObjectBuilder().build()))
+                    .post("/v1/dataflows/terminate-batch")
+                    .then()
+                    .statusCode(200)
+                    .extract().as(JsonArray.class);
+
+            assertThat(results.getJsonObject(0).getString("error")).isEqualTo("Missing process id");
+            verify(dataplaneManager, never()).terminate(any(), any());
+        }
+
+        private void mockBatchResultTransformation() {
+            when(transformerRegistry.transform(isA(DataFlowBatchResult.class), eq(JsonObject.class))).thenAnswer(i -> {
+                var result = i.getArgument(0, DataFlowBatchResult.class);
+                return success(Json.createObjectBuilder()
+                        .add("processId", result.getProcessId())
+                        .add("succeeded", result.succeeded())
+                        .build());
+            });
+        }
+
+        private JsonObject batch(JsonObject... messages) {
+            var array = Json.createArrayBuilder();
+            for (var message : messages) {
+                array.add(message);
+            }
+            return Json.createObjectBuilder().add(DATA_FLOW_BATCH_MESSAGES, array).build();
+        }
+
+        private JsonObject message(String processId) {
+            return Json.createObjectBuilder()
+                    .add(DATA_FLOW_BATCH_RESULT_PROCESS_ID, Json.createArrayBuilder().add(Json.createObjectBuilder().add(VALUE, processId)))
+                    .build();
+        }
+    }
+
     @Nested
     class CheckAvailability {
         @Test
@@ -271,6 +393,21 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
                     .then()
                     .statusCode(204);
         }
+
+        @Test
+        void shouldReturnLoad_whenKnown() {
+            when(dataplaneManager.getLoad()).thenReturn(new DataPlaneLoad(3, 1024, 5));
+
+            var load = baseRequest()
+                    .get("/v1/dataflows/check")
+                    .then()
+                    .statusCode(200)
+                    .extract().as(JsonObject.class);
+
+            assertThat(load.getInt(EDC_NAMESPACE + "activeFlows")).isEqualTo(3);
+            assertThat(load.getJsonNumber(EDC_NAMESPACE + "bytesPerSecond").longValue()).isEqualTo(1024);
+            assertThat(load.getInt(EDC_NAMESPACE + "freeCapacity")).isEqualTo(5);
+        }
     }
 
     @Override
@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Groups the signals sent to the same data plane endpoint within a short window, so that they can be sent in a single
+ * batch request. A batch is sent when the window that started with its first signal elapses, or as soon as it reaches
+ * the maximum size.
+ * <p>
+ * The coalescer is shared by all the {@link DataPlaneSignalingClient}s, batches are identified by a key, usually the
+ * URL of the batch endpoint.
+ */
+public class DataPlaneSignalCoalescer {
+
+    public static final Duration DEFAULT_UNSUPPORTED_RETRY = Duration.ofMinutes(5);
+
+    private final ScheduledExecutorService scheduler;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Object lock = new Object();
+    private final Map<String, Batch<?, ?>> batches = new HashMap<>();
+    private final Map<String, Instant> unsupportedUntil = new ConcurrentHashMap<>();
+    private final Duration unsupportedRetry;
+    private final Clock clock;
+
+    public DataPlaneSignalCoalescer(ScheduledExecutorService scheduler, Duration window, int maxBatchSize) {
+        this(scheduler, window, maxBatchSize, DEFAULT_UNSUPPORTED_RETRY, Clock.systemUTC());
+    }
+
+    public DataPlaneSignalCoalescer(ScheduledExecutorService scheduler, Duration window, int maxBatchSize, Duration unsupportedRetry, Clock clock) {
+        this.scheduler = scheduler;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.unsupportedRetry = unsupportedRetry;
+        this.clock = clock;
+    }
+
+    /**
+     * Adds a signal to the batch identified by the key, or to a new one.
+     *
+     * @param key    the batch key.
+     * @param signal the signal.
+     * @param sender the function that sends a batch, its results must be in the same order of the signals. The sender
+     *               of the signal that opened the batch is used.
+     * @return the result of the signal, completed when the batch response is received.
+     */
+    @SuppressWarnings("unchecked")
+    public <S, R> CompletableFuture<R> submit(String key, S signal, Function<List<S>, CompletableFuture<List<R>>> sender) {
+        var future = new CompletableFuture<R>();
+        Batch<S, R> full = null;
+        synchronized (lock) {
+            var batch = (Batch<S, R>) batches.computeIfAbsent(key, k -> open(k, sender));
+            batch.add(signal, future);
+            if (batch.size() >= maxBatchSize) {
+                batches.remove(key);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            full.send();
+        }
+        return future;
+    }
+
+    /**
+     * Marks the batch endpoint identified by the key as not supported, e.g. because the data plane predates it, so that
+     * the clients send the signals one by one. The mark expires after the unsupported retry period, so a data plane
+     * that gets upgraded receives batches again.
+     *
+     * @param key the batch key.
+     */
+    public void markUnsupported(String key) {
+        unsupportedUntil.put(key, clock.instant().plus(unsupportedRetry));
+    }
+
+    public boolean isSupported(String key) {
+        var until = unsupportedUntil.get(key);
+        if (until == null) {
+            return true;
+        }
+        if (clock.instant().isBefore(until)) {
+            return false;
+        }
+        unsupportedUntil.remove(key, until);
+        return true;
+    }
+
+    private <S, R> Batch<S, R> open(String key, Function<List<S>, CompletableFuture<List<R>>> sender) {
+        var batch = new Batch<>(sender);
+        scheduler.schedule(() -> flush(key, batch), window.toMillis(), MILLISECONDS);
+        return batch;
+    }
+
+    private void flush(String key, Batch<?, ?> batch) {
+        synchronized (lock) {
+            if (!batches.remove(key, batch)) {
+                // already sent because it was full
+                return;
+            }
+        }
+        batch.send();
+    }
+
+    private static class Batch<S, R> {
+        private final Function<List<S>, CompletableFuture<List<R>>> sender;
+        private final List<S> signals = new ArrayList<>();
+        private final List<CompletableFuture<R>> futures = new ArrayList<>();
+
+        Batch(Function<List<S>, CompletableFuture<List<R>>> sender) {
+            this.sender = sender;
+        }
+
+        void add(S signal, CompletableFuture<R> future) {
+            signals.add(signal);
+            futures.add(future);
+        }
+
+        int size() {
+            return signals.size();
+        }
+
+        void send() {
+            CompletableFuture<List<R>> response;
+            try {
+                response = sender.apply(signals);
+            } catch (Exception e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.whenComplete((results, throwable) -> {
+                for (var i = 0; i < futures.size(); i++) {
+                    if (throwable != null) {
+                        futures.get(i).completeExceptionally(throwable);
+                    } else if (i < results.size()) {
+                        futures.get(i).complete(results.get(i));
+                    } else {
+                        futures.get(i).completeExceptionally(new IllegalStateException("No result for signal " + i));
+                    }
+                }
+            });
+        }
+    }
+}
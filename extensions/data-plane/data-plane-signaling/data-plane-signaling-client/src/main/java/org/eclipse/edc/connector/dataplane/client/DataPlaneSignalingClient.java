@@ -16,7 +16,11 @@ package org.eclipse.edc.connector.dataplane.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -29,22 +33,45 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceFailure;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowSuspendMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
+import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_MESSAGES;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_START_BATCH_TYPE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_TERMINATE_BATCH_TYPE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad.ACTIVE_FLOWS;
+import static org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad.BYTES_PER_SECOND;
+import static org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad.FREE_CAPACITY;
 
 /**
  * Implementation of a {@link DataPlaneClient} that uses a remote {@link DataPlaneManager} accessible from a REST API using
  * the data plane signaling protocol.
+ * <p>
+ * When a {@link DataPlaneSignalCoalescer} is provided, start and terminate signals sent to the same data plane within a
+ * short window are sent together to the batch endpoints of the signaling API. Data planes that do not expose them get
+ * the signals one by one.
  */
 public class DataPlaneSignalingClient implements DataPlaneClient {
     public static final MediaType TYPE_JSON = MediaType.parse("application/json");
@@ -56,9 +83,16 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
 
     private final String jsonLdScope;
     private final TypeManager typeManager;
+    private final DataPlaneSignalCoalescer coalescer;
 
     public DataPlaneSignalingClient(ControlApiHttpClient httpClient, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, String jsonLdScope,
                                     TypeManager typeManager, String typeContext, DataPlaneInstance dataPlane) {
+        this(httpClient, transformerRegistry, jsonLd, jsonLdScope, typeManager, typeContext, dataPlane, null);
+    }
+
+    public DataPlaneSignalingClient(ControlApiHttpClient httpClient, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, String jsonLdScope,
+                                    TypeManager typeManager, String typeContext, DataPlaneInstance dataPlane,
+                                    @Nullable DataPlaneSignalCoalescer coalescer) {
         this.httpClient = httpClient;
         this.transformerRegistry = transformerRegistry;
         this.jsonLd = jsonLd;
@@ -66,40 +100,60 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
         this.typeManager = typeManager;
         this.typeContext = typeContext;
         this.dataPlane = dataPlane;
+        this.coalescer = coalescer;
     }
 
     private static <T> @NotNull StatusResult<T> failedResult(String processId, ServiceFailure failure) {
-        return StatusResult.failure(FATAL_ERROR, format("Transfer request for process %s failed: %s", processId, failure.getFailureDetail()));
+        return failedResult(processId, failure.getFailureDetail());
+    }
+
+    private static <T> @NotNull StatusResult<T> failedResult(String processId, String failureDetail) {
+        return StatusResult.failure(FATAL_ERROR, format("Transfer request for process %s failed: %s", processId, failureDetail));
     }
 
     @WithSpan
     @Override
     public StatusResult<DataFlowResponseMessage> start(DataFlowStartMessage message) {
-        var url = dataPlane.getUrl().toString();
-        return createRequestBuilder(message, url)
-                .compose(builder -> httpClient.request(builder)
-                        .flatMap(result -> result.map(this::handleStartResponse)
-                                .orElse(failure -> failedResult(message.getProcessId(), failure))));
+        return startAsync(message).join();
     }
 
     @Override
     public StatusResult<Void> suspend(String transferProcessId) {
+        return suspendAsync(transferProcessId).join();
+    }
+
+    @Override
+    public StatusResult<Void> terminate(String transferProcessId) {
+        return terminateAsync(transferProcessId).join();
+    }
+
+    @WithSpan
+    @Override
+    public CompletableFuture<StatusResult<DataFlowResponseMessage>> startAsync(DataFlowStartMessage message) {
+        var batchUrl = dataPlane.getUrl() + "/start-batch";
+        if (coalescer == null || !coalescer.isSupported(batchUrl)) {
+            return sendStart(message);
+        }
+        return coalescer.submit(batchUrl, message, messages -> sendBatch(batchUrl, DATA_FLOW_START_BATCH_TYPE, messages,
+                DataFlowStartMessage::getProcessId, this::handleStartResult, this::sendStart));
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> suspendAsync(String transferProcessId) {
         var url = "%s/%s/suspend".formatted(dataPlane.getUrl(), transferProcessId);
         var message = DataFlowSuspendMessage.Builder.newInstance().build();
-        return createRequestBuilder(message, url)
-                .compose(builder -> httpClient.request(builder)
-                        .flatMap(result -> result.map(it -> StatusResult.success())
-                                .orElse(failure -> failedResult(transferProcessId, failure))));
+        return sendAsync(message, url, transferProcessId, body -> StatusResult.success());
     }
 
     @Override
-    public StatusResult<Void> terminate(String transferProcessId) {
-        var url = "%s/%s/terminate".formatted(dataPlane.getUrl(), transferProcessId);
-        var message = DataFlowTerminateMessage.Builder.newInstance().build();
-        return createRequestBuilder(message, url)
-                .compose(builder -> httpClient.request(builder)
-                        .flatMap(result -> result.map(it -> StatusResult.success())
-                                .orElse(failure -> failedResult(transferProcessId, failure))));
+    public CompletableFuture<StatusResult<Void>> terminateAsync(String transferProcessId) {
+        var batchUrl = dataPlane.getUrl() + "/terminate-batch";
+        if (coalescer == null || !coalescer.isSupported(batchUrl)) {
+            return sendTerminate(DataFlowTerminateMessage.Builder.newInstance().build(), transferProcessId);
+        }
+        var message = DataFlowTerminateMessage.Builder.newInstance().processId(transferProcessId).build();
+        return coalescer.submit(batchUrl, message, messages -> sendBatch(batchUrl, DATA_FLOW_TERMINATE_BATCH_TYPE, messages,
+                DataFlowTerminateMessage::getProcessId, this::handleTerminateResult, it -> sendTerminate(it, it.getProcessId())));
     }
 
     @Override
@@ -110,6 +164,133 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
                         .orElse(failure -> failedResult(null, failure)));
     }
 
+    @Override
+    public StatusResult<DataPlaneLoad> checkLoad() {
+        var requestBuilder = new Request.Builder().get().url(dataPlane.getUrl() + "/check");
+        return httpClient.request(requestBuilder)
+                .flatMap(result -> result.map(this::handleCheckResponse)
+                        .orElse(failure -> failedResult(null, failure)));
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<DataPlaneLoad>> checkLoadAsync(Executor executor) {
+        var requestBuilder = new Request.Builder().get().url(dataPlane.getUrl() + "/check");
+        var call = httpClient.requestAsync(requestBuilder);
+        var result = call.thenApply(response -> response.flatMap(it -> it.map(this::handleCheckResponse)
+                .orElse(failure -> failedResult(null, failure))));
+        result.whenComplete((r, throwable) -> call.cancel(true));
+        return result;
+    }
+
+    private CompletableFuture<StatusResult<DataFlowResponseMessage>> sendStart(DataFlowStartMessage message) {
+        var url = dataPlane.getUrl().toString();
+        return sendAsync(message, url, message.getProcessId(), this::handleStartResponse);
+    }
+
+    private CompletableFuture<StatusResult<Void>> sendTerminate(DataFlowTerminateMessage message, String transferProcessId) {
+        var url = "%s/%s/terminate".formatted(dataPlane.getUrl(), transferProcessId);
+        return sendAsync(message, url, transferProcessId, body -> StatusResult.success());
+    }
+
+    private <M, T> CompletableFuture<List<StatusResult<T>>> sendBatch(String batchUrl, String batchType, List<M> messages,
+                                                                      Function<M, String> processIdOf,
+                                                                      Function<DataFlowBatchResult, StatusResult<T>> resultHandler,
+                                                                      Function<M, CompletableFuture<StatusResult<T>>> singleSender) {
+        var jsonMessages = messages.stream().map(message -> transformerRegistry.transform(message, JsonObject.class)).toList();
+        if (jsonMessages.stream().anyMatch(Result::failed)) {
+            // the single requests will report the failure of the messages that cannot be transformed
+            return sendOneByOne(messages, singleSender);
+        }
+
+        var batch = Json.createObjectBuilder()
+                .add(TYPE, batchType)
+                .add(DATA_FLOW_BATCH_MESSAGES, jsonMessages.stream().map(Result::getContent).collect(toJsonArray()))
+                .build();
+        var requestBuilder = compact(batch)
+                .compose(this::serializeMessage)
+                .map(rawBody -> new Request.Builder().post(RequestBody.create(rawBody, TYPE_JSON)).url(batchUrl));
+        if (requestBuilder.failed()) {
+            return completedFuture(messages.stream()
+                    .map(message -> StatusResult.<T>failure(FATAL_ERROR, requestBuilder.getFailureDetail()))
+                    .toList());
+        }
+
+        return httpClient.requestAsync(requestBuilder.getContent())
+                .thenCompose(result -> {
+                    if (result.failed() && result.reason() == NOT_FOUND) {
+                        coalescer.markUnsupported(batchUrl);
+                        return sendOneByOne(messages, singleSender);
+                    }
+                    var results = result.map(body -> handleBatchResponse(body, messages, processIdOf, resultHandler))
+                            .orElse(failure -> messages.stream()
+                                    .map(message -> DataPlaneSignalingClient.<T>failedResult(processIdOf.apply(message), failure))
+                                    .toList());
+                    return completedFuture(results);
+                });
+    }
+
+    private <M, T> CompletableFuture<List<StatusResult<T>>> sendOneByOne(List<M> messages, Function<M, CompletableFuture<StatusResult<T>>> singleSender) {
+        var futures = messages.stream().map(singleSender).toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    private <M, T> List<StatusResult<T>> handleBatchResponse(String responseBody, List<M> messages, Function<M, String> processIdOf,
+                                                             Function<DataFlowBatchResult, StatusResult<T>> resultHandler) {
+        JsonArray jsonResults;
+        try {
+            jsonResults = typeManager.getMapper(typeContext).readValue(responseBody, JsonArray.class);
+        } catch (IOException | ClassCastException | IllegalArgumentException e) {
+            return messages.stream().map(message -> StatusResult.<T>failure(FATAL_ERROR, "Cannot read batch response: " + e.getMessage())).toList();
+        }
+        if (jsonResults.size() != messages.size()) {
+            var detail = "Batch response contains %s results for %s messages".formatted(jsonResults.size(), messages.size());
+            return messages.stream().map(message -> DataPlaneSignalingClient.<T>failedResult(processIdOf.apply(message), detail)).toList();
+        }
+
+        // the data plane answers with a result for every message, in the same order
+        var results = new ArrayList<StatusResult<T>>(messages.size());
+        for (var i = 0; i < messages.size(); i++) {
+            var processId = processIdOf.apply(messages.get(i));
+            var jsonResult = jsonResults.get(i);
+            var result = jsonResult.getValueType() == JsonValue.ValueType.OBJECT
+                    ? jsonLd.expand(jsonResult.asJsonObject()).compose(expanded -> transformerRegistry.transform(expanded, DataFlowBatchResult.class))
+                    : Result.<DataFlowBatchResult>failure("Result is not an object");
+            if (result.failed()) {
+                results.add(failedResult(processId, "Cannot read batch result: " + result.getFailureDetail()));
+            } else if (result.getContent().getProcessId() != null && !result.getContent().getProcessId().equals(processId)) {
+                results.add(failedResult(processId, "Batch result refers to process %s".formatted(result.getContent().getProcessId())));
+            } else {
+                results.add(resultHandler.apply(result.getContent()));
+            }
+        }
+        return results;
+    }
+
+    private StatusResult<DataFlowResponseMessage> handleStartResult(DataFlowBatchResult result) {
+        if (!result.succeeded()) {
+            return failedResult(result.getProcessId(), result.getError());
+        }
+        return Optional.ofNullable(result.getResponse())
+                .map(StatusResult::success)
+                .orElseGet(() -> StatusResult.failure(FATAL_ERROR, "Body missing"));
+    }
+
+    private StatusResult<Void> handleTerminateResult(DataFlowBatchResult result) {
+        return result.succeeded() ? StatusResult.success() : failedResult(result.getProcessId(), result.getError());
+    }
+
+    private <T> CompletableFuture<StatusResult<T>> sendAsync(Object message, String url, String processId,
+                                                            Function<String, StatusResult<T>> responseHandler) {
+        var requestBuilder = createRequestBuilder(message, url);
+        if (requestBuilder.failed()) {
+            return completedFuture(requestBuilder.mapFailure());
+        }
+        return httpClient.requestAsync(requestBuilder.getContent())
+                .thenApply(result -> result.map(responseHandler)
+                        .orElse(failure -> failedResult(processId, failure)));
+    }
+
     private StatusResult<Request.Builder> createRequestBuilder(Object message, String url) {
         return transformerRegistry.transform(message, JsonObject.class)
                 .compose(this::compact)
@@ -131,6 +312,38 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
                 .orElseGet(() -> StatusResult.failure(FATAL_ERROR, "Body missing"));
     }
 
+    private StatusResult<DataPlaneLoad> handleCheckResponse(String responseBody) {
+        if (responseBody == null || responseBody.isBlank()) {
+            return StatusResult.success(null);
+        }
+        try {
+            var jsonObject = typeManager.getMapper(typeContext).readValue(responseBody, JsonObject.class);
+            // the control api compacts the response, so it has to be expanded to read the properties by their full name
+            var expanded = jsonLd.expand(jsonObject);
+            if (expanded.failed()) {
+                return StatusResult.success(null);
+            }
+            var activeFlows = numberValue(expanded.getContent(), ACTIVE_FLOWS);
+            var bytesPerSecond = numberValue(expanded.getContent(), BYTES_PER_SECOND);
+            var freeCapacity = numberValue(expanded.getContent(), FREE_CAPACITY);
+            if (activeFlows == null || bytesPerSecond == null || freeCapacity == null) {
+                return StatusResult.success(null);
+            }
+            return StatusResult.success(new DataPlaneLoad(activeFlows.intValue(), bytesPerSecond.longValue(), freeCapacity.intValue()));
+        } catch (IOException | ClassCastException e) {
+            // the data plane answered, so it is available, even if its load cannot be read
+            return StatusResult.success(null);
+        }
+    }
+
+    private JsonNumber numberValue(JsonObject expanded, String property) {
+        var values = expanded.getJsonArray(property);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.getJsonObject(0).getJsonNumber(VALUE);
+    }
+
     private StatusResult<DataFlowResponseMessage> deserializeStartMessage(String responseBody) {
         try {
             var jsonObject = typeManager.getMapper(typeContext).readValue(responseBody, JsonObject.class);
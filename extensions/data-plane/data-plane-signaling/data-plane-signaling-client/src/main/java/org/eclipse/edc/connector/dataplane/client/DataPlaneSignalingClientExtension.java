@@ -22,12 +22,18 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_PREFIX;
@@ -44,6 +50,21 @@ import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 public class DataPlaneSignalingClientExtension implements ServiceExtension {
     public static final String NAME = "Data Plane Signaling Client";
     public static final String CONTROL_CLIENT_SCOPE = "CONTROL_CLIENT_SCOPE";
+    private static final long DEFAULT_BATCH_WINDOW = 0;
+    private static final int DEFAULT_BATCH_MAX_SIZE = 100;
+    private static final long DEFAULT_BATCH_UNSUPPORTED_RETRY = 300;
+
+    @Setting(description = "how long start and terminate signals to the same data plane are collected to be sent in a single batch request, in milliseconds. 0 sends every signal on its own",
+            defaultValue = DEFAULT_BATCH_WINDOW + "", key = "edc.data.plane.signaling.client.batch.window", min = 0)
+    private long batchWindow;
+
+    @Setting(description = "the maximum number of signals sent in a single batch request",
+            defaultValue = DEFAULT_BATCH_MAX_SIZE + "", key = "edc.data.plane.signaling.client.batch.max-size", min = 1)
+    private int batchMaxSize;
+
+    @Setting(description = "how long the signals to a data plane that does not support batch requests are sent one by one before trying a batch again, in seconds",
+            defaultValue = DEFAULT_BATCH_UNSUPPORTED_RETRY + "", key = "edc.data.plane.signaling.client.batch.unsupported-retry", min = 1)
+    private long batchUnsupportedRetry;
 
     @Inject(required = false)
     private ControlApiHttpClient httpClient;
@@ -55,6 +76,12 @@ public class DataPlaneSignalingClientExtension implements ServiceExtension {
     private JsonLd jsonLd;
     @Inject(required = false)
     private DataPlaneManager dataPlaneManager;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+    @Inject
+    private Clock clock;
+
+    private ScheduledExecutorService batchScheduler;
 
     @Override
     public String name() {
@@ -77,8 +104,25 @@ public class DataPlaneSignalingClientExtension implements ServiceExtension {
         context.getMonitor().debug(() -> "Using remote Data Plane client.");
         Objects.requireNonNull(httpClient, "To use remote Data Plane client, a ControlApiHttpClient instance must be registered");
         var signalingApiTypeTransformerRegistry = transformerRegistry.forContext("signaling-api");
+        var coalescer = createCoalescer();
         return instance -> new DataPlaneSignalingClient(httpClient, signalingApiTypeTransformerRegistry, jsonLd, CONTROL_CLIENT_SCOPE, typeManager, JSON_LD,
-                instance);
+                instance, coalescer);
+    }
+
+    @Override
+    public void shutdown() {
+        if (batchScheduler != null) {
+            // delayed flushes still run after shutdown, so that the pending signals are sent
+            batchScheduler.shutdown();
+        }
+    }
+
+    private DataPlaneSignalCoalescer createCoalescer() {
+        if (batchWindow == 0) {
+            return null;
+        }
+        batchScheduler = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Data plane signal batches");
+        return new DataPlaneSignalCoalescer(batchScheduler, Duration.ofMillis(batchWindow), batchMaxSize, Duration.ofSeconds(batchUnsupportedRetry), clock);
     }
 }
 
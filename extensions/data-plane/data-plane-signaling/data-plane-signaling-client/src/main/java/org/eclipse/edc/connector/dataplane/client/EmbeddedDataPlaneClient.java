@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
 
 import java.util.Objects;
 
@@ -64,4 +65,9 @@ public class EmbeddedDataPlaneClient implements DataPlaneClient {
     public StatusResult<Void> checkAvailability() {
         return StatusResult.success();
     }
+
+    @Override
+    public StatusResult<DataPlaneLoad> checkLoad() {
+        return StatusResult.success(dataPlaneManager.getLoad());
+    }
 }
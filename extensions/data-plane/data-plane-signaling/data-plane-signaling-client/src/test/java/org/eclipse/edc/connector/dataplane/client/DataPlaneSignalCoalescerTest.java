@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.client;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataPlaneSignalCoalescerTest {
+
+    private final ScheduledExecutorService scheduler = mock();
+    private final List<List<String>> sent = new ArrayList<>();
+    private final Function<List<String>, CompletableFuture<List<String>>> sender = signals -> {
+        sent.add(List.copyOf(signals));
+        return completedFuture(signals.stream().map(String::toUpperCase).toList());
+    };
+
+    @Test
+    void shouldSendSignalsOfTheSameKeyTogether_whenWindowElapses() {
+        var coalescer = new DataPlaneSignalCoalescer(scheduler, Duration.ofMillis(10), 10);
+
+        var first = coalescer.submit("key", "a", sender);
+        var second = coalescer.submit("key", "b", sender);
+        var other = coalescer.submit("other", "c", sender);
+
+        assertThat(sent).isEmpty();
+        var flushes = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(2)).schedule(flushes.capture(), eq(10L), eq(MILLISECONDS));
+        flushes.getAllValues().forEach(Runnable::run);
+
+        assertThat(sent).containsExactly(List.of("a", "b"), List.of("c"));
+        assertThat(first).isCompletedWithValue("A");
+        assertThat(second).isCompletedWithValue("B");
+        assertThat(other).isCompletedWithValue("C");
+    }
+
+    @Test
+    void shouldSendBatchRightAway_whenMaxSizeIsReached() {
+        var coalescer = new DataPlaneSignalCoalescer(scheduler, Duration.ofMillis(10), 2);
+
+        coalescer.submit("key", "a", sender);
+        var second = coalescer.submit("key", "b", sender);
+
+        assertThat(sent).containsExactly(List.of("a", "b"));
+        assertThat(second).isCompletedWithValue("B");
+
+        var flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flush.capture(), eq(10L), eq(MILLISECONDS));
+        flush.getValue().run();
+
+        assertThat(sent).hasSize(1);
+    }
+
+    @Test
+    void shouldFailAllSignals_whenSenderFails() {
+        var coalescer = new DataPlaneSignalCoalescer(scheduler, Duration.ofMillis(10), 1);
+
+        var future = coalescer.submit("key", "a", signals -> CompletableFuture.<List<String>>failedFuture(new RuntimeException("error")));
+
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldFailSignal_whenResultIsMissing() {
+        var coalescer = new DataPlaneSignalCoalescer(scheduler, Duration.ofMillis(10), 2);
+
+        var first = coalescer.submit("key", "a", signals -> completedFuture(List.of("A")));
+        var second = coalescer.submit("key", "b", sender);
+
+        assertThat(first).isCompletedWithValue("A");
+        assertThat(second).isCompletedExceptionally();
+    }
+
+    @Test
+    void markUnsupported() {
+        var coalescer = new DataPlaneSignalCoalescer(scheduler, Duration.ofMillis(10), 2);
+
+        coalescer.markUnsupported("key");
+
+        assertThat(coalescer.isSupported("key")).isFalse();
+        assertThat(coalescer.isSupported("other")).isTrue();
+    }
+
+    @Test
+    void markUnsupported_shouldExpire() {
+        var clock = mock(Clock.class);
+        var now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        var coalescer = new DataPlaneSignalCoalescer(scheduler, Duration.ofMillis(10), 2, Duration.ofMinutes(5), clock);
+
+        coalescer.markUnsupported("key");
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(5)).minusMillis(1));
+        assertThat(coalescer.isSupported("key")).isFalse();
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(5)));
+        assertThat(coalescer.isSupported("key")).isTrue();
+    }
+}
@@ -18,10 +18,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromDataFlowBatchResultTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromDataFlowResponseMessageTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromDataFlowStartMessageTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromDataFlowSuspendMessageTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromDataFlowTerminateMessageTransformer;
+import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowBatchResultTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowResponseMessageTransformer;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
@@ -36,8 +38,10 @@ import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
 import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import org.eclipse.edc.spi.types.domain.transfer.TransferType;
 import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
@@ -57,13 +61,20 @@ import org.mockserver.model.MediaType;
 import org.mockserver.verify.VerificationTimes;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.client.DataPlaneSignalingClientExtension.CONTROL_CLIENT_SCOPE;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_PREFIX;
 import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_SCHEMA;
@@ -81,6 +92,7 @@ import static org.mockserver.matchers.Times.once;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.model.HttpStatusCode.CONFLICT_409;
+import static org.mockserver.model.HttpStatusCode.NOT_FOUND_404;
 import static org.mockserver.model.HttpStatusCode.NO_CONTENT_204;
 import static org.mockserver.stop.Stop.stopQuietly;
 
@@ -116,6 +128,8 @@ class DataPlaneSignalingClientTest {
         TRANSFORMER_REGISTRY.register(new JsonObjectFromDataFlowStartMessageTransformer(factory, TYPE_MANAGER, "test"));
         TRANSFORMER_REGISTRY.register(new JsonObjectFromDataFlowResponseMessageTransformer(factory));
         TRANSFORMER_REGISTRY.register(new JsonObjectToDataFlowResponseMessageTransformer());
+        TRANSFORMER_REGISTRY.register(new JsonObjectFromDataFlowBatchResultTransformer(factory));
+        TRANSFORMER_REGISTRY.register(new JsonObjectToDataFlowBatchResultTransformer());
         TRANSFORMER_REGISTRY.register(new JsonObjectFromDataAddressDspaceTransformer(factory, TYPE_MANAGER, "test"));
         TRANSFORMER_REGISTRY.register(new JsonObjectToDataAddressDspaceTransformer());
         when(TYPE_MANAGER.getMapper("test")).thenReturn(MAPPER);
@@ -269,6 +283,24 @@ class DataPlaneSignalingClientTest {
         }
 
 
+        @Test
+        void startAsync_shouldNotBlock_andCompleteWithResponse() throws JsonProcessingException {
+            var flowRequest = createDataFlowRequest();
+            var flowResponse = DataFlowResponseMessage.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("type").build()).build();
+            var response = TRANSFORMER_REGISTRY.transform(flowResponse, JsonObject.class)
+                    .compose(JSON_LD::compact)
+                    .orElseThrow((e) -> new EdcException(e.getFailureDetail()));
+            var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH);
+            dataPlane.when(httpRequest, once()).respond(response().withBody(MAPPER.writeValueAsString(response))
+                    .withStatusCode(HttpStatusCode.OK_200.code()).withDelay(TimeUnit.MILLISECONDS, 500));
+
+            var future = dataPlaneClient.startAsync(flowRequest);
+
+            assertThat(future).isNotDone();
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS)
+                    .satisfies(result -> assertThat(result).isSucceeded().extracting(DataFlowResponseMessage::getDataAddress).isNotNull());
+        }
+
         private HttpResponse withResponse(String errorMsg) throws JsonProcessingException {
             return response().withStatusCode(HttpStatusCode.BAD_REQUEST_400.code())
                     .withBody(MAPPER.writeValueAsString(new TransferErrorResponse(List.of(errorMsg))), MediaType.APPLICATION_JSON);
@@ -333,6 +365,137 @@ class DataPlaneSignalingClientTest {
 
     }
 
+    @Nested
+    class Batch {
+
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final DataPlaneSignalCoalescer coalescer = new DataPlaneSignalCoalescer(scheduler, Duration.ofMillis(100), 10);
+        private final DataPlaneClient batchingClient = new DataPlaneSignalingClient(httpClient, TRANSFORMER_REGISTRY,
+                JSON_LD, CONTROL_CLIENT_SCOPE, TYPE_MANAGER, "test", instance, coalescer);
+
+        @AfterEach
+        void shutdown() {
+            scheduler.shutdownNow();
+        }
+
+        @Test
+        void startAsync_shouldSendMessagesInSingleBatch() throws JsonProcessingException {
+            var response = DataFlowResponseMessage.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("type").build()).build();
+            var httpRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/start-batch");
+            dataPlane.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.OK_200.code()).withBody(batchResponse(
+                    DataFlowBatchResult.Builder.newInstance().processId("process1").response(response).build(),
+                    DataFlowBatchResult.Builder.newInstance().processId("process2").error("invalid").build())));
+
+            var first = batchingClient.startAsync(createDataFlowRequest("process1"));
+            var second = batchingClient.startAsync(createDataFlowRequest("process2"));
+
+            assertThat(first).succeedsWithin(5, TimeUnit.SECONDS)
+                    .satisfies(result -> assertThat(result).isSucceeded().extracting(DataFlowResponseMessage::getDataAddress).isNotNull());
+            assertThat(second).succeedsWithin(5, TimeUnit.SECONDS)
+                    .satisfies(result -> assertThat(result).isFailed().detail().contains("invalid"));
+            dataPlane.verify(httpRequest, VerificationTimes.once());
+        }
+
+        @Test
+        void startAsync_shouldFail_whenResultIsMissing() throws JsonProcessingException {
+            var httpRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/start-batch");
+            dataPlane.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.OK_200.code()).withBody(batchResponse()));
+
+            var future = batchingClient.startAsync(createDataFlowRequest("process1"));
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS)
+                    .satisfies(result -> assertThat(result).isFailed().detail().contains("0 results for 1 messages"));
+        }
+
+        @Test
+        void startAsync_shouldMatchResultsByPosition_whenProcessIdIsRepeated() throws JsonProcessingException {
+            var response = DataFlowResponseMessage.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("type").build()).build();
+            var httpRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/start-batch");
+            dataPlane.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.OK_200.code()).withBody(batchResponse(
+                    DataFlowBatchResult.Builder.newInstance().processId("process1").response(response).build(),
+                    DataFlowBatchResult.Builder.newInstance().processId("process1").error("already started").build())));
+
+            var first = batchingClient.startAsync(createDataFlowRequest("process1"));
+            var second = batchingClient.startAsync(createDataFlowRequest("process1"));
+
+            assertThat(first).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+            assertThat(second).succeedsWithin(5, TimeUnit.SECONDS)
+                    .satisfies(result -> assertThat(result).isFailed().detail().contains("already started"));
+        }
+
+        @Test
+        void startAsync_shouldFail_whenResultRefersToAnotherProcess() throws JsonProcessingException {
+            var httpRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/start-batch");
+            dataPlane.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.OK_200.code()).withBody(batchResponse(
+                    DataFlowBatchResult.Builder.newInstance().processId("other").error("any").build())));
+
+            var future = batchingClient.startAsync(createDataFlowRequest("process1"));
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS)
+                    .satisfies(result -> assertThat(result).isFailed().detail().contains("refers to process other"));
+        }
+
+        @Test
+        void startAsync_shouldFallbackToSingleRequests_whenBatchEndpointIsNotFound() throws JsonProcessingException {
+            var response = TRANSFORMER_REGISTRY.transform(DataFlowResponseMessage.Builder.newInstance().build(), JsonObject.class)
+                    .compose(JSON_LD::compact)
+                    .orElseThrow((e) -> new EdcException(e.getFailureDetail()));
+            var batchRequest = request().withPath(DATA_PLANE_PATH + "/start-batch");
+            dataPlane.when(batchRequest).respond(response().withStatusCode(NOT_FOUND_404.code()));
+            var singleRequest = request().withMethod("POST").withPath(DATA_PLANE_PATH);
+            dataPlane.when(singleRequest).respond(response().withStatusCode(HttpStatusCode.OK_200.code()).withBody(MAPPER.writeValueAsString(response)));
+
+            var future = batchingClient.startAsync(createDataFlowRequest("process1"));
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+            assertThat(coalescer.isSupported(DATA_PLANE_API_URI + "/start-batch")).isFalse();
+            var batchRequests = dataPlane.retrieveRecordedRequests(batchRequest).length;
+
+            var next = batchingClient.startAsync(createDataFlowRequest("process2"));
+
+            assertThat(next).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+            assertThat(dataPlane.retrieveRecordedRequests(batchRequest)).hasSize(batchRequests);
+            dataPlane.verify(singleRequest, VerificationTimes.exactly(2));
+        }
+
+        @Test
+        void terminateAsync_shouldSendMessagesInSingleBatch() throws JsonProcessingException {
+            var httpRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/terminate-batch");
+            dataPlane.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.OK_200.code()).withBody(batchResponse(
+                    DataFlowBatchResult.Builder.newInstance().processId("process1").build(),
+                    DataFlowBatchResult.Builder.newInstance().processId("process2").error("not found").build())));
+
+            var first = batchingClient.terminateAsync("process1");
+            var second = batchingClient.terminateAsync("process2");
+
+            assertThat(first).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+            assertThat(second).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isFailed());
+            dataPlane.verify(httpRequest, VerificationTimes.once());
+        }
+
+        private String batchResponse(DataFlowBatchResult... results) throws JsonProcessingException {
+            var array = Stream.of(results)
+                    .map(result -> TRANSFORMER_REGISTRY.transform(result, JsonObject.class)
+                            .compose(JSON_LD::compact)
+                            .orElseThrow((e) -> new EdcException(e.getFailureDetail())))
+                    .collect(toJsonArray());
+            return MAPPER.writeValueAsString(array);
+        }
+
+        private DataFlowStartMessage createDataFlowRequest(String processId) {
+            return DataFlowStartMessage.Builder.newInstance()
+                    .id(UUID.randomUUID().toString())
+                    .processId(processId)
+                    .transferType(new TransferType("DestinationType", FlowType.PULL))
+                    .assetId("assetId")
+                    .agreementId("agreementId")
+                    .participantId("participantId")
+                    .callbackAddress(URI.create("http://void"))
+                    .sourceDataAddress(DataAddress.Builder.newInstance().type("test").build())
+                    .build();
+        }
+    }
+
     @Nested
     class Suspend {
 
@@ -394,5 +557,79 @@ class DataPlaneSignalingClientTest {
 
             assertThat(result).isFailed();
         }
+
+        @Test
+        void checkLoad_shouldReturnLoad_whenReported() {
+            var body = Json.createObjectBuilder()
+                    .add(DataPlaneLoad.ACTIVE_FLOWS, 3)
+                    .add(DataPlaneLoad.BYTES_PER_SECOND, 1024)
+                    .add(DataPlaneLoad.FREE_CAPACITY, 5)
+                    .build();
+            dataPlane.when(request().withPath(DATA_PLANE_PATH + "/check").withMethod("GET"))
+                    .respond(response().withStatusCode(200).withBody(body.toString(), MediaType.APPLICATION_JSON));
+
+            var result = dataPlaneClient.checkLoad();
+
+            assertThat(result).isSucceeded().isEqualTo(new DataPlaneLoad(3, 1024, 5));
+        }
+
+        @Test
+        void checkLoad_shouldReturnLoad_whenReportedInCompactedForm() {
+            var body = Json.createObjectBuilder()
+                    .add(CONTEXT, Json.createObjectBuilder().add(VOCAB, EDC_NAMESPACE))
+                    .add("activeFlows", 3)
+                    .add("bytesPerSecond", 1024)
+                    .add("freeCapacity", 5)
+                    .build();
+            dataPlane.when(request().withPath(DATA_PLANE_PATH + "/check").withMethod("GET"))
+                    .respond(response().withStatusCode(200).withBody(body.toString(), MediaType.APPLICATION_JSON));
+
+            var result = dataPlaneClient.checkLoad();
+
+            assertThat(result).isSucceeded().isEqualTo(new DataPlaneLoad(3, 1024, 5));
+        }
+
+        @Test
+        void checkLoad_shouldSucceedWithoutLoad_whenNotReported() {
+            dataPlane.when(request().withPath(DATA_PLANE_PATH + "/check").withMethod("GET")).respond(response().withStatusCode(204));
+
+            var result = dataPlaneClient.checkLoad();
+
+            assertThat(result).isSucceeded().isNull();
+        }
+
+        @Test
+        void checkLoad_shouldFail_whenDataPlaneIsNotAvailable() {
+            dataPlane.when(request()).respond(response().withStatusCode(404));
+
+            var result = dataPlaneClient.checkLoad();
+
+            assertThat(result).isFailed();
+        }
+
+        @Test
+        void checkLoadAsync_shouldReturnLoad_whenReported() {
+            var body = Json.createObjectBuilder()
+                    .add(DataPlaneLoad.ACTIVE_FLOWS, 3)
+                    .add(DataPlaneLoad.BYTES_PER_SECOND, 1024)
+                    .add(DataPlaneLoad.FREE_CAPACITY, 5)
+                    .build();
+            dataPlane.when(request().withPath(DATA_PLANE_PATH + "/check").withMethod("GET"))
+                    .respond(response().withStatusCode(200).withBody(body.toString(), MediaType.APPLICATION_JSON));
+
+            var future = dataPlaneClient.checkLoadAsync(Runnable::run);
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS)
+                    .satisfies(result -> assertThat(result).isSucceeded().isEqualTo(new DataPlaneLoad(3, 1024, 5)));
+        }
+
+        @Test
+        void checkLoadAsync_shouldFail_whenDataPlaneIsNotAvailable() {
+            dataPlane.when(request()).respond(response().withStatusCode(404));
+
+            var future = dataPlaneClient.checkLoadAsync(Runnable::run);
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isFailed());
+        }
     }
 }
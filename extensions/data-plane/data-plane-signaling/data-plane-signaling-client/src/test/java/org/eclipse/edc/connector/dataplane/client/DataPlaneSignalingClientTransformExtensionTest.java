@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.client;
 import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromDataFlowStartMessageTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromDataFlowSuspendMessageTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromDataFlowTerminateMessageTransformer;
+import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowBatchResultTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowResponseMessageTransformer;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -50,6 +51,7 @@ class DataPlaneSignalingClientTransformExtensionTest {
         verify(signalingRegistry).register(isA(JsonObjectFromDataFlowTerminateMessageTransformer.class));
         verify(signalingRegistry).register(isA(JsonObjectFromDataFlowStartMessageTransformer.class));
         verify(signalingRegistry).register(isA(JsonObjectToDataFlowResponseMessageTransformer.class));
+        verify(signalingRegistry).register(isA(JsonObjectToDataFlowBatchResultTransformer.class));
     }
 
 }
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.api.signaling.transform.from;
+
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_ERROR;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_PROCESS_ID;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_RESPONSE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_TYPE;
+
+/**
+ * Converts from a {@link DataFlowBatchResult} to a {@link JsonObject} in JSON-LD expanded form .
+ */
+public class JsonObjectFromDataFlowBatchResultTransformer extends AbstractJsonLdTransformer<DataFlowBatchResult, JsonObject> {
+    private final JsonBuilderFactory jsonFactory;
+
+    public JsonObjectFromDataFlowBatchResultTransformer(JsonBuilderFactory jsonFactory) {
+        super(DataFlowBatchResult.class, JsonObject.class);
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public @Nullable JsonObject transform(@NotNull DataFlowBatchResult result, @NotNull TransformerContext context) {
+        var builder = jsonFactory.createObjectBuilder()
+                .add(TYPE, DATA_FLOW_BATCH_RESULT_TYPE);
+
+        Optional.ofNullable(result.getProcessId()).ifPresent(processId -> builder.add(DATA_FLOW_BATCH_RESULT_PROCESS_ID, processId));
+        Optional.ofNullable(result.getResponse())
+                .ifPresent(response -> builder.add(DATA_FLOW_BATCH_RESULT_RESPONSE, context.transform(response, JsonObject.class)));
+        Optional.ofNullable(result.getError()).ifPresent(error -> builder.add(DATA_FLOW_BATCH_RESULT_ERROR, error));
+        return builder.build();
+    }
+}
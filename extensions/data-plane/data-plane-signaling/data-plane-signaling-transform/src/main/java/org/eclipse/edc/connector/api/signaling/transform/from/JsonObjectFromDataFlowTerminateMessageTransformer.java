@@ -25,6 +25,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Optional;
 
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage.DATA_FLOW_TERMINATE_MESSAGE_PROCESS_ID;
 import static org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage.DATA_FLOW_TERMINATE_MESSAGE_REASON;
 import static org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage.DATA_FLOW_TERMINATE_MESSAGE_TYPE;
 
@@ -46,6 +47,7 @@ public class JsonObjectFromDataFlowTerminateMessageTransformer extends AbstractJ
                 .add(TYPE, DATA_FLOW_TERMINATE_MESSAGE_TYPE);
 
         Optional.ofNullable(message.getReason()).ifPresent(reason -> builder.add(DATA_FLOW_TERMINATE_MESSAGE_REASON, reason));
+        Optional.ofNullable(message.getProcessId()).ifPresent(processId -> builder.add(DATA_FLOW_TERMINATE_MESSAGE_PROCESS_ID, processId));
 
         return builder.build();
     }
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.api.signaling.transform.to;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_ERROR;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_PROCESS_ID;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_RESPONSE;
+
+/**
+ * Converts from a {@link JsonObject} in JSON-LD expanded form to a {@link DataFlowBatchResult}.
+ */
+public class JsonObjectToDataFlowBatchResultTransformer extends AbstractJsonLdTransformer<JsonObject, DataFlowBatchResult> {
+
+    public JsonObjectToDataFlowBatchResultTransformer() {
+        super(JsonObject.class, DataFlowBatchResult.class);
+    }
+
+    @Override
+    public @Nullable DataFlowBatchResult transform(@NotNull JsonObject object, @NotNull TransformerContext context) {
+        var builder = DataFlowBatchResult.Builder.newInstance();
+
+        transformString(object.get(DATA_FLOW_BATCH_RESULT_PROCESS_ID), builder::processId, context);
+        Optional.ofNullable(object.get(DATA_FLOW_BATCH_RESULT_RESPONSE))
+                .ifPresent(jsonValue -> builder.response(transformObject(jsonValue, DataFlowResponseMessage.class, context)));
+        transformString(object.get(DATA_FLOW_BATCH_RESULT_ERROR), builder::error, context);
+
+        return builder.build();
+    }
+}
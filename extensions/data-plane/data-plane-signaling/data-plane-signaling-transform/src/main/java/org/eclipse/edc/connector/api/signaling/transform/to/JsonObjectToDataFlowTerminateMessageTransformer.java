@@ -22,6 +22,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage.Builder;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage.DATA_FLOW_TERMINATE_MESSAGE_PROCESS_ID;
 import static org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage.DATA_FLOW_TERMINATE_MESSAGE_REASON;
 
 /**
@@ -37,6 +38,7 @@ public class JsonObjectToDataFlowTerminateMessageTransformer extends AbstractJso
     public @Nullable DataFlowTerminateMessage transform(@NotNull JsonObject object, @NotNull TransformerContext context) {
         var builder = Builder.newInstance();
         transformString(object.get(DATA_FLOW_TERMINATE_MESSAGE_REASON), builder::reason, context);
+        transformString(object.get(DATA_FLOW_TERMINATE_MESSAGE_PROCESS_ID), builder::processId, context);
         return builder.build();
     }
 
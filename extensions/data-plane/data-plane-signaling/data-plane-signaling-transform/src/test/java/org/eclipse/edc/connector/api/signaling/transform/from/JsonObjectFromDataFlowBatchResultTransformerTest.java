@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.api.signaling.transform.from;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_ERROR;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_PROCESS_ID;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_RESPONSE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JsonObjectFromDataFlowBatchResultTransformerTest {
+
+    private final TransformerContext context = mock();
+    private final JsonObjectFromDataFlowBatchResultTransformer transformer = new JsonObjectFromDataFlowBatchResultTransformer(Json.createBuilderFactory(Map.of()));
+
+    @Test
+    void transform() {
+        var responseJson = Json.createObjectBuilder().add("foo", "bar").build();
+        when(context.transform(any(DataFlowResponseMessage.class), eq(JsonObject.class))).thenReturn(responseJson);
+        var result = DataFlowBatchResult.Builder.newInstance()
+                .processId("processId")
+                .response(DataFlowResponseMessage.Builder.newInstance().build())
+                .build();
+
+        var jsonObject = transformer.transform(result, context);
+
+        assertThat(jsonObject).isNotNull();
+        assertThat(jsonObject.getJsonString(TYPE).getString()).isEqualTo(DATA_FLOW_BATCH_RESULT_TYPE);
+        assertThat(jsonObject.getJsonString(DATA_FLOW_BATCH_RESULT_PROCESS_ID).getString()).isEqualTo("processId");
+        assertThat(jsonObject.getJsonObject(DATA_FLOW_BATCH_RESULT_RESPONSE)).isEqualTo(responseJson);
+        assertThat(jsonObject.containsKey(DATA_FLOW_BATCH_RESULT_ERROR)).isFalse();
+    }
+
+    @Test
+    void transform_withError() {
+        var result = DataFlowBatchResult.Builder.newInstance().processId("processId").error("error").build();
+
+        var jsonObject = transformer.transform(result, context);
+
+        assertThat(jsonObject).isNotNull();
+        assertThat(jsonObject.getJsonString(DATA_FLOW_BATCH_RESULT_ERROR).getString()).isEqualTo("error");
+        assertThat(jsonObject.containsKey(DATA_FLOW_BATCH_RESULT_RESPONSE)).isFalse();
+    }
+
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage.DATA_FLOW_TERMINATE_MESSAGE_PROCESS_ID;
 import static org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage.DATA_FLOW_TERMINATE_MESSAGE_REASON;
 import static org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage.DATA_FLOW_TERMINATE_MESSAGE_TYPE;
 import static org.mockito.Mockito.mock;
@@ -42,7 +43,7 @@ class JsonObjectFromDataFlowTerminateMessageTransformerTest {
     @Test
     void transform() {
 
-        var message = DataFlowTerminateMessage.Builder.newInstance().reason("reason").build();
+        var message = DataFlowTerminateMessage.Builder.newInstance().reason("reason").processId("processId").build();
 
         var jsonObject = transformer.transform(message, context);
 
@@ -50,6 +51,7 @@ class JsonObjectFromDataFlowTerminateMessageTransformerTest {
 
         assertThat(jsonObject.getJsonString(TYPE).getString()).isEqualTo(DATA_FLOW_TERMINATE_MESSAGE_TYPE);
         assertThat(jsonObject.getJsonString(DATA_FLOW_TERMINATE_MESSAGE_REASON).getString()).isEqualTo("reason");
+        assertThat(jsonObject.getJsonString(DATA_FLOW_TERMINATE_MESSAGE_PROCESS_ID).getString()).isEqualTo("processId");
 
     }
 
@@ -64,6 +66,7 @@ class JsonObjectFromDataFlowTerminateMessageTransformerTest {
 
         assertThat(jsonObject.getJsonString(TYPE).getString()).isEqualTo(DATA_FLOW_TERMINATE_MESSAGE_TYPE);
         assertThat(jsonObject.containsKey(DATA_FLOW_TERMINATE_MESSAGE_REASON)).isFalse();
+        assertThat(jsonObject.containsKey(DATA_FLOW_TERMINATE_MESSAGE_PROCESS_ID)).isFalse();
 
     }
 
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.api.signaling.transform.to;
+
+import jakarta.json.Json;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.api.signaling.transform.TestFunctions.getExpanded;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_PREFIX;
+import static org.eclipse.edc.spi.types.domain.transfer.DataFlowBatchResult.DATA_FLOW_BATCH_RESULT_SIMPLE_TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JsonObjectToDataFlowBatchResultTransformerTest {
+
+    private final JsonBuilderFactory jsonFactory = Json.createBuilderFactory(Map.of());
+    private final TransformerContext context = mock();
+    private final JsonObjectToDataFlowBatchResultTransformer transformer = new JsonObjectToDataFlowBatchResultTransformer();
+
+    @Test
+    void transform() {
+        when(context.transform(any(JsonObject.class), eq(DataFlowResponseMessage.class))).thenReturn(DataFlowResponseMessage.Builder.newInstance().build());
+        var jsonObj = jsonFactory.createObjectBuilder()
+                .add(CONTEXT, createContextBuilder().build())
+                .add(TYPE, DATA_FLOW_BATCH_RESULT_SIMPLE_TYPE)
+                .add("processId", "processId")
+                .add("response", jsonFactory.createObjectBuilder().add("foo", "bar").build())
+                .build();
+
+        var result = transformer.transform(getExpanded(jsonObj), context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getProcessId()).isEqualTo("processId");
+        assertThat(result.getResponse()).isNotNull();
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    void transform_withError() {
+        var jsonObj = jsonFactory.createObjectBuilder()
+                .add(CONTEXT, createContextBuilder().build())
+                .add(TYPE, DATA_FLOW_BATCH_RESULT_SIMPLE_TYPE)
+                .add("processId", "processId")
+                .add("error", "error")
+                .build();
+
+        var result = transformer.transform(getExpanded(jsonObj), context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getResponse()).isNull();
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.getError()).isEqualTo("error");
+    }
+
+    private JsonObjectBuilder createContextBuilder() {
+        return jsonFactory.createObjectBuilder()
+                .add(VOCAB, EDC_NAMESPACE)
+                .add(EDC_PREFIX, EDC_NAMESPACE);
+    }
+
+}
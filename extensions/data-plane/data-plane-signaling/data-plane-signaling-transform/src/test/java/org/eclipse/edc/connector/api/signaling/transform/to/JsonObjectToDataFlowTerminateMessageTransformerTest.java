@@ -52,6 +52,7 @@ class JsonObjectToDataFlowTerminateMessageTransformerTest {
                 .add(CONTEXT, createContextBuilder().build())
                 .add(TYPE, DATA_FLOW_TERMINATE_MESSAGE_TYPE)
                 .add("reason", "reason")
+                .add("processId", "processId")
                 .build();
 
         var message = transformer.transform(getExpanded(jsonObj), context);
@@ -59,6 +60,7 @@ class JsonObjectToDataFlowTerminateMessageTransformerTest {
         assertThat(message).isNotNull();
 
         assertThat(message.getReason()).isEqualTo("reason");
+        assertThat(message.getProcessId()).isEqualTo("processId");
     }
 
     @Test
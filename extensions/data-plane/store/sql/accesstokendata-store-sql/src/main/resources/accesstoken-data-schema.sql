@@ -25,3 +25,6 @@ CREATE TABLE IF NOT EXISTS edc_accesstokendata
 COMMENT ON COLUMN edc_accesstokendata.claim_token IS 'ClaimToken serialized as JSON map';
 COMMENT ON COLUMN edc_accesstokendata.data_address IS 'DataAddress serialized as JSON map';
 COMMENT ON COLUMN edc_accesstokendata.additional_properties IS 'Optional Additional properties serialized as JSON map';
+
+-- This will help to find the tokens issued for a transfer process when they need to be revoked
+CREATE INDEX IF NOT EXISTS accesstokendata_process_id_index ON edc_accesstokendata ((additional_properties ->> 'process_id'));
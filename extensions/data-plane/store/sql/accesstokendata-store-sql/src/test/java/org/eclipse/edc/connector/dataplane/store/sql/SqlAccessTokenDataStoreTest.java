@@ -23,14 +23,20 @@ import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlIndexAdvisor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class SqlAccessTokenDataStoreTest extends AccessTokenDataTestBase {
@@ -55,6 +61,24 @@ class SqlAccessTokenDataStoreTest extends AccessTokenDataTestBase {
         setupExtension.runQuery("DROP TABLE " + sqlStatements.getTableName() + " CASCADE");
     }
 
+    @Nested
+    class IndexUsage {
+
+        private PostgresqlIndexAdvisor indexAdvisor;
+
+        @BeforeEach
+        void setUp(PostgresqlStoreSetupExtension extension) {
+            indexAdvisor = new PostgresqlIndexAdvisor(extension::getConnection);
+        }
+
+        @Test
+        void findForProcessId() {
+            var querySpec = QuerySpec.Builder.newInstance().filter(criterion("additionalProperties.process_id", "=", "process-id")).build();
+
+            indexAdvisor.assertIndexed(sqlStatements.createQuery(querySpec));
+        }
+    }
+
     @Override
     protected AccessTokenDataStore getStore() {
         return sqlStore;
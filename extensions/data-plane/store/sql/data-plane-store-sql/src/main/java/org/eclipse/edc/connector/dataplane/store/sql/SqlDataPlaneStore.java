@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.store.sql;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferSummary;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.DataFlowStatements;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
@@ -45,6 +46,7 @@ import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
@@ -135,6 +137,18 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         });
     }
 
+    @Override
+    public int renewFlowLeases(String runtimeId) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.execute(connection, statements.getRenewFlowLeasesTemplate(),
+                        clock.millis(), STARTED.code(), runtimeId);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private void insert(Connection connection, DataFlow dataFlow) {
         var sql = statements.getInsertTemplate();
         queryExecutor.execute(connection, sql,
@@ -152,7 +166,10 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getProperties()),
                 dataFlow.getTransferType().flowType().toString(),
                 dataFlow.getTransferType().destinationType(),
-                dataFlow.getRuntimeId()
+                dataFlow.getRuntimeId(),
+                dataFlow.getParticipantId(),
+                dataFlow.getCheckpoint(),
+                toJson(dataFlow.getTransferSummary())
         );
     }
 
@@ -172,6 +189,9 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 dataFlow.getTransferType().flowType().toString(),
                 dataFlow.getTransferType().destinationType(),
                 dataFlow.getRuntimeId(),
+                dataFlow.getParticipantId(),
+                dataFlow.getCheckpoint(),
+                toJson(dataFlow.getTransferSummary()),
                 dataFlow.getId());
     }
 
@@ -194,6 +214,9 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                         FlowType.valueOf(resultSet.getString(statements.getFlowTypeColumn()))
                 ))
                 .runtimeId(resultSet.getString(statements.getRuntimeIdColumn()))
+                .participantId(resultSet.getString(statements.getParticipantIdColumn()))
+                .checkpoint(resultSet.getLong(statements.getCheckpointColumn()))
+                .transferSummary(fromJson(resultSet.getString(statements.getTransferSummaryColumn()), TransferSummary.class))
                 .build();
     }
 
@@ -47,6 +47,9 @@ public class BaseSqlDataFlowStatements implements DataFlowStatements {
                 .column(getFlowTypeColumn())
                 .column(getTransferTypeDestinationColumn())
                 .column(getRuntimeIdColumn())
+                .column(getParticipantIdColumn())
+                .column(getCheckpointColumn())
+                .jsonColumn(getTransferSummaryColumn())
                 .insertInto(getDataPlaneTable());
     }
 
@@ -66,9 +69,18 @@ public class BaseSqlDataFlowStatements implements DataFlowStatements {
                 .column(getFlowTypeColumn())
                 .column(getTransferTypeDestinationColumn())
                 .column(getRuntimeIdColumn())
+                .column(getParticipantIdColumn())
+                .column(getCheckpointColumn())
+                .jsonColumn(getTransferSummaryColumn())
                 .update(getDataPlaneTable(), getIdColumn());
     }
 
+    @Override
+    public String getRenewFlowLeasesTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ? AND %s = ?",
+                getDataPlaneTable(), getUpdatedAtColumn(), getStateColumn(), getRuntimeIdColumn());
+    }
+
     @Override
     public String getSelectTemplate() {
         return "SELECT * FROM %s".formatted(getDataPlaneTable());
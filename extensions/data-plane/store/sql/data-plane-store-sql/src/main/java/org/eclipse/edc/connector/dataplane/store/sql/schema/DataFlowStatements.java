@@ -60,12 +60,29 @@ public interface DataFlowStatements extends StatefulEntityStatements, LeaseState
         return "runtime_id";
     }
 
+    default String getParticipantIdColumn() {
+        return "participant_id";
+    }
+
+    default String getCheckpointColumn() {
+        return "checkpoint";
+    }
+
+    default String getTransferSummaryColumn() {
+        return "transfer_summary";
+    }
+
     String getInsertTemplate();
 
     String getUpdateTemplate();
 
     String getSelectTemplate();
 
+    /**
+     * Statement that sets the updated_at column of all the flows in a specific state owned by a specific runtime.
+     */
+    String getRenewFlowLeasesTemplate();
+
     SqlQueryStatement createQuery(QuerySpec querySpec);
 }
 
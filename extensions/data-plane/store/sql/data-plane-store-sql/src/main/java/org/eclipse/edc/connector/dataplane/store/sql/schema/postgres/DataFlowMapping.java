@@ -30,6 +30,7 @@ public class DataFlowMapping extends StatefulEntityMapping {
         super(statements, state -> DataFlowStates.valueOf(state).code());
         add("transferType", new TransferTypeMapping(statements));
         add("runtimeId", statements.getRuntimeIdColumn());
+        add("participantId", statements.getParticipantIdColumn());
     }
 
     private static class TransferTypeMapping extends TranslationMapping {
@@ -33,13 +33,24 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
     properties           JSON,
     flow_type            VARCHAR,
     transfer_type_destination VARCHAR,
-    runtime_id           VARCHAR
+    runtime_id           VARCHAR,
+    participant_id       VARCHAR,
+    checkpoint           BIGINT  DEFAULT 0 NOT NULL,
+    transfer_summary     JSON
 );
 
 COMMENT ON COLUMN edc_data_plane.trace_context IS 'Java Map serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.source IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.destination IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.properties IS 'Java Map serialized as JSON';
+COMMENT ON COLUMN edc_data_plane.checkpoint IS 'number of bytes committed to the destination, a restarted transfer resumes from here';
+COMMENT ON COLUMN edc_data_plane.transfer_summary IS 'TransferSummary serialized as JSON';
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
 CREATE INDEX IF NOT EXISTS data_plane_state ON edc_data_plane (state,state_time_stamp);
+
+-- This will help to renew the flow leases of a runtime with a single statement
+CREATE INDEX IF NOT EXISTS data_plane_runtime_id_state ON edc_data_plane (runtime_id,state);
+
+-- This will avoid a table scan when a lease gets deleted, because of the ON DELETE SET NULL constraint
+CREATE INDEX IF NOT EXISTS data_plane_lease_id_index ON edc_data_plane (lease_id);
@@ -21,17 +21,25 @@ import org.eclipse.edc.connector.dataplane.store.sql.schema.postgres.PostgresDat
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.LeaseUtil;
+import org.eclipse.edc.sql.testfixtures.PostgresqlIndexAdvisor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
 
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -60,6 +68,33 @@ public class PostgresDataPlaneStoreTest extends DataPlaneStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getDataPlaneTable() + " CASCADE");
     }
 
+    @Nested
+    class IndexUsage {
+
+        private PostgresqlIndexAdvisor indexAdvisor;
+
+        @BeforeEach
+        void setUp(PostgresqlStoreSetupExtension extension) {
+            indexAdvisor = new PostgresqlIndexAdvisor(extension::getConnection);
+        }
+
+        @Test
+        void renewFlowLeases() {
+            indexAdvisor.assertIndexed(statements.getRenewFlowLeasesTemplate(), 1L, STARTED.code(), "runtime-id");
+        }
+
+        @Test
+        void nextNotLeased() {
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(List.of(hasState(STARTED.code()), new Criterion("runtimeId", "!=", "runtime-id"), new Criterion("updatedAt", "<", 1L)))
+                    .sortField("stateTimestamp").limit(5).build();
+            var statement = statements.createQuery(querySpec).addWhereClause(statements.getNotLeasedFilter(), 1L);
+
+            // the lease table only contains the in-flight leases, so it doesn't need to be indexed on the expiration
+            indexAdvisor.ignoreTable(statements.getLeaseTableName()).assertIndexed(statement);
+        }
+    }
+
     @Override
     protected DataPlaneStore getStore() {
         return store;
@@ -33,4 +33,7 @@ CREATE TABLE IF NOT EXISTS edc_policy_monitor
 
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS policy_monitor_state ON edc_policy_monitor (state,state_time_stamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS policy_monitor_state ON edc_policy_monitor (state,state_time_stamp);
+
+-- This will avoid a table scan when a lease gets deleted, because of the ON DELETE SET NULL constraint
+CREATE INDEX IF NOT EXISTS policy_monitor_lease_id_index ON edc_policy_monitor (lease_id);
@@ -21,16 +21,24 @@ import org.eclipse.edc.connector.policy.monitor.store.sql.schema.PostgresPolicyM
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.LeaseUtil;
+import org.eclipse.edc.sql.testfixtures.PostgresqlIndexAdvisor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
+
+import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 
 
 @ComponentTest
@@ -60,6 +68,34 @@ public class PostgresPolicyMonitorStoreTest extends PolicyMonitorStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getPolicyMonitorTable() + " CASCADE");
     }
 
+    @Nested
+    class IndexUsage {
+
+        private PostgresqlIndexAdvisor indexAdvisor;
+
+        @BeforeEach
+        void setUp(PostgresqlStoreSetupExtension extension) {
+            indexAdvisor = new PostgresqlIndexAdvisor(extension::getConnection);
+        }
+
+        @Test
+        void nextNotLeased() {
+            var querySpec = QuerySpec.Builder.newInstance().filter(List.of(hasState(STARTED.code())))
+                    .sortField("stateTimestamp").limit(5).build();
+            var statement = statements.createQuery(querySpec).addWhereClause(statements.getNotLeasedFilter(), 1L);
+
+            // the lease table only contains the in-flight leases, so it doesn't need to be indexed on the expiration
+            indexAdvisor.ignoreTable(statements.getLeaseTableName()).assertIndexed(statement);
+        }
+
+        @Test
+        void deleteLease() {
+            var sql = "SELECT * FROM %s WHERE %s = ?".formatted(statements.getPolicyMonitorTable(), statements.getLeaseIdColumn());
+
+            indexAdvisor.assertIndexed(sql, "lease-id");
+        }
+    }
+
     @Override
     protected PolicyMonitorStore getStore() {
         return store;
@@ -214,6 +214,8 @@ include(":extensions:data-plane:data-plane-integration-tests")
 include(":extensions:data-plane:store:sql:data-plane-store-sql")
 include(":extensions:data-plane:store:sql:accesstokendata-store-sql")
 include(":extensions:data-plane:data-plane-kafka")
+include(":extensions:data-plane:data-plane-file")
+include(":extensions:data-plane:data-plane-micrometer")
 
 include(":extensions:data-plane-selector:data-plane-selector-api")
 include(":extensions:data-plane-selector:data-plane-selector-client")
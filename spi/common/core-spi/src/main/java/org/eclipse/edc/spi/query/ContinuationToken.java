@@ -0,0 +1,257 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Keyset pagination position: it contains the sort field value and the id of the last entity of a page, the next page
+ * starts strictly after this position, considering the entities ordered by sort field and then by id.
+ * Entities with a null sort field value come last, regardless of the sort order.
+ * The token also records the sort field and order of the query that issued it, because the position is meaningless
+ * for a different ordering.
+ * It is exchanged with clients in its opaque, encoded form (see {@link #encode()} and {@link #decode(String)}).
+ * Supported sort field values are {@link String}, {@link Integer}, {@link Long} and {@code null}.
+ */
+public final class ContinuationToken {
+
+    /**
+     * HTTP response header through which the APIs return the token of the next page.
+     */
+    public static final String HTTP_HEADER = "Edc-Continuation-Token";
+
+    private static final String SEPARATOR = "\u0000";
+    private static final char STRING = 'S';
+    private static final char INTEGER = 'I';
+    private static final char LONG = 'L';
+    private static final char NONE = 'N';
+
+    private final String sortField;
+    private final SortOrder sortOrder;
+    private final Object sortValue;
+    private final String id;
+
+    private ContinuationToken(@Nullable String sortField, @NotNull SortOrder sortOrder, @Nullable Object sortValue, @NotNull String id) {
+        this.sortField = sortField;
+        this.sortOrder = sortOrder;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    /**
+     * Create a token.
+     *
+     * @param sortField the sort field of the query, null if the query has no sort field.
+     * @param sortOrder the sort order of the query.
+     * @param sortValue the sort field value of the last entity, null if the query has no sort field or the value is null.
+     * @param id        the id of the last entity.
+     * @return the token.
+     * @throws IllegalArgumentException if the sort field value is not supported.
+     */
+    public static ContinuationToken of(@Nullable String sortField, @NotNull SortOrder sortOrder, @Nullable Object sortValue, @NotNull String id) {
+        Objects.requireNonNull(sortOrder, "sortOrder");
+        Objects.requireNonNull(id, "id");
+        if (sortValue != null && !(sortValue instanceof String || sortValue instanceof Integer || sortValue instanceof Long)) {
+            throw new IllegalArgumentException("Sort value of type %s cannot be used for keyset pagination".formatted(sortValue.getClass().getSimpleName()));
+        }
+        return new ContinuationToken(sortField, sortOrder, sortField == null ? null : sortValue, id);
+    }
+
+    /**
+     * Decode a token that was previously encoded with {@link #encode()}.
+     *
+     * @param token the encoded token.
+     * @return the token.
+     * @throws IllegalArgumentException if the token is not valid.
+     */
+    public static ContinuationToken decode(@NotNull String token) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token", e);
+        }
+
+        var parts = decoded.split(SEPARATOR, -1);
+        if (parts.length != 4 || parts[0].isEmpty() || parts[1].isEmpty()) {
+            throw new IllegalArgumentException("Invalid continuation token");
+        }
+
+        var value = parts[0].substring(1);
+        try {
+            Object sortValue = switch (parts[0].charAt(0)) {
+                case STRING -> value;
+                case INTEGER -> Integer.valueOf(value);
+                case LONG -> Long.valueOf(value);
+                case NONE -> null;
+                default -> throw new IllegalArgumentException("Invalid continuation token");
+            };
+            var sortField = parts[3].isEmpty() ? null : parts[3];
+            return new ContinuationToken(sortField, SortOrder.valueOf(parts[2]), sortValue, parts[1]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token", e);
+        }
+    }
+
+    /**
+     * Create the token that points to the page that follows the passed one. Returns null if the page is the last one,
+     * meaning that it contains fewer entities than the query limit.
+     *
+     * @param querySpec          the query that returned the page.
+     * @param page               the page.
+     * @param idExtractor        extracts the id from an entity.
+     * @param sortValueExtractor extracts the sort field value from an entity, not called if the query has no sort field.
+     *                           Values of unsupported types are converted to {@link String}.
+     * @param <T>                the entity type.
+     * @return the encoded token, null if there's no next page.
+     */
+    public static <T> @Nullable String next(QuerySpec querySpec, List<T> page, Function<T, String> idExtractor, Function<T, Object> sortValueExtractor) {
+        if (page.isEmpty() || page.size() < querySpec.getLimit()) {
+            return null;
+        }
+
+        var last = page.get(page.size() - 1);
+        var sortValue = querySpec.getSortField() == null ? null : normalize(sortValueExtractor.apply(last));
+        return of(querySpec.getSortField(), querySpec.getSortOrder(), sortValue, idExtractor.apply(last)).encode();
+    }
+
+    /**
+     * Compare two keyset positions, following the keyset pagination ordering: by sort value and then by id, in the
+     * passed order, with null sort values last.
+     * Sort values are compared in the same form they take in a token: integral numbers by value, everything else as
+     * {@link String}, numbers before strings. Stores can use it to order entities and to compare them to a token.
+     *
+     * @param sortOrder  the sort order.
+     * @param sortValue1 the first sort value.
+     * @param id1        the first id.
+     * @param sortValue2 the second sort value.
+     * @param id2        the second id.
+     * @return a negative integer, zero, or a positive integer as the first position comes before, is equal to, or comes
+     *         after the second one.
+     */
+    public static int compare(SortOrder sortOrder, @Nullable Object sortValue1, String id1, @Nullable Object sortValue2, String id2) {
+        var value1 = normalize(sortValue1);
+        var value2 = normalize(sortValue2);
+
+        if (value1 == null && value2 != null) {
+            return 1;
+        }
+        if (value1 != null && value2 == null) {
+            return -1;
+        }
+
+        var result = 0;
+        if (value1 != null) {
+            if (value1 instanceof Long long1 && value2 instanceof Long long2) {
+                result = Long.compare(long1, long2);
+            } else if (value1 instanceof String string1 && value2 instanceof String string2) {
+                result = string1.compareTo(string2);
+            } else {
+                result = value1 instanceof Long ? -1 : 1;
+            }
+        }
+        if (result == 0) {
+            result = id1.compareTo(id2);
+        }
+        return sortOrder == SortOrder.ASC ? result : -result;
+    }
+
+    private static Object normalize(Object sortValue) {
+        if (sortValue == null || sortValue instanceof String) {
+            return sortValue;
+        }
+        if (sortValue instanceof Integer || sortValue instanceof Long) {
+            return ((Number) sortValue).longValue();
+        }
+        return sortValue.toString();
+    }
+
+    /**
+     * Encode the token to its opaque form.
+     *
+     * @return the encoded token.
+     */
+    public String encode() {
+        char tag;
+        if (sortValue == null) {
+            tag = NONE;
+        } else if (sortValue instanceof String) {
+            tag = STRING;
+        } else if (sortValue instanceof Integer) {
+            tag = INTEGER;
+        } else {
+            tag = LONG;
+        }
+        var value = sortValue == null ? "" : sortValue.toString();
+        var plain = String.join(SEPARATOR, tag + value, id, sortOrder.name(), sortField == null ? "" : sortField);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(UTF_8));
+    }
+
+    /**
+     * Whether the token was issued for a query with the same sort field and order as the passed one.
+     *
+     * @param querySpec the query.
+     * @return true if the token can be used with the query.
+     */
+    public boolean matches(QuerySpec querySpec) {
+        return Objects.equals(sortField, querySpec.getSortField()) && sortOrder == querySpec.getSortOrder();
+    }
+
+    @Nullable
+    public String getSortField() {
+        return sortField;
+    }
+
+    @NotNull
+    public SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    @Nullable
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    @NotNull
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (ContinuationToken) o;
+        return Objects.equals(sortField, that.sortField) && sortOrder == that.sortOrder &&
+                Objects.equals(sortValue, that.sortValue) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortField, sortOrder, sortValue, id);
+    }
+}
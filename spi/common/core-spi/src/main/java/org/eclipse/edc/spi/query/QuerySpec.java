@@ -35,12 +35,14 @@ public class QuerySpec {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
+    public static final String EDC_QUERY_SPEC_CONTINUATION_TOKEN = EDC_NAMESPACE + "continuationToken";
 
     private int offset = 0;
     private int limit = 50;
     private final List<Criterion> filterExpression = new ArrayList<>();
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private String continuationToken;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -57,6 +59,40 @@ public class QuerySpec {
         return sortField;
     }
 
+    /**
+     * The continuation token, see {@link ContinuationToken}. When present, the query uses keyset pagination: entities
+     * are ordered by sort field and then by id, and the page starts right after the position described by the token
+     * instead of using the offset. An empty token requests the first page.
+     *
+     * @return the encoded continuation token, null if the query uses offset pagination.
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * Whether the query uses keyset pagination, see {@link #getContinuationToken()}.
+     *
+     * @return true if keyset pagination is used.
+     */
+    @JsonIgnore
+    public boolean isKeysetPagination() {
+        return continuationToken != null;
+    }
+
+    /**
+     * The position after which the page starts, null if the query requests the first page or uses offset pagination.
+     *
+     * @return the decoded continuation token.
+     */
+    @JsonIgnore
+    public ContinuationToken getContinuationPosition() {
+        if (continuationToken == null || continuationToken.isEmpty()) {
+            return null;
+        }
+        return ContinuationToken.decode(continuationToken);
+    }
+
     public int getOffset() {
         return offset;
     }
@@ -91,12 +127,13 @@ public class QuerySpec {
                 .limit(limit)
                 .filter(filterExpression)
                 .sortOrder(sortOrder)
-                .sortField(sortField);
+                .sortField(sortField)
+                .continuationToken(continuationToken);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, continuationToken);
     }
 
     @Override
@@ -108,7 +145,7 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) && Objects.equals(continuationToken, querySpec.continuationToken);
     }
 
     @Override
@@ -119,6 +156,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", continuationToken=" + continuationToken +
                 '}';
     }
 
@@ -164,6 +202,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder continuationToken(String continuationToken) {
+            querySpec.continuationToken = continuationToken;
+            return this;
+        }
+
         public Builder filter(Criterion criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
@@ -183,6 +226,15 @@ public class QuerySpec {
             if (querySpec.limit <= 0) {
                 throw new IllegalArgumentException("limit");
             }
+            if (querySpec.continuationToken != null) {
+                if (querySpec.offset != 0) {
+                    throw new IllegalArgumentException("offset cannot be used together with continuationToken");
+                }
+                var position = querySpec.getContinuationPosition();
+                if (position != null && !position.matches(querySpec)) {
+                    throw new IllegalArgumentException("continuationToken was issued for a different sort field or sort order");
+                }
+            }
             return querySpec;
         }
 
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.types.domain.transfer;
+
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * The result of a single message of a batch sent to the data plane, e.g. a {@link DataFlowStartMessage} of a start batch.
+ * Batches are JSON-LD objects of type {@link #DATA_FLOW_START_BATCH_TYPE} or {@link #DATA_FLOW_TERMINATE_BATCH_TYPE}
+ * that carry the messages in the {@link #DATA_FLOW_BATCH_MESSAGES} property, the data plane answers with one result per
+ * message, correlated by process id.
+ */
+public class DataFlowBatchResult {
+
+    public static final String DATA_FLOW_START_BATCH_TYPE = EDC_NAMESPACE + "DataFlowStartMessageBatch";
+    public static final String DATA_FLOW_TERMINATE_BATCH_TYPE = EDC_NAMESPACE + "DataFlowTerminateMessageBatch";
+    public static final String DATA_FLOW_BATCH_MESSAGES = EDC_NAMESPACE + "messages";
+
+    public static final String DATA_FLOW_BATCH_RESULT_SIMPLE_TYPE = "DataFlowBatchResult";
+    public static final String DATA_FLOW_BATCH_RESULT_TYPE = EDC_NAMESPACE + DATA_FLOW_BATCH_RESULT_SIMPLE_TYPE;
+    public static final String DATA_FLOW_BATCH_RESULT_PROCESS_ID = EDC_NAMESPACE + "processId";
+    public static final String DATA_FLOW_BATCH_RESULT_RESPONSE = EDC_NAMESPACE + "response";
+    public static final String DATA_FLOW_BATCH_RESULT_ERROR = EDC_NAMESPACE + "error";
+
+    private String processId;
+    private DataFlowResponseMessage response;
+    private String error;
+
+    private DataFlowBatchResult() {
+    }
+
+    /**
+     * The id of the process the message refers to, null if it could not be read from the message.
+     */
+    @Nullable
+    public String getProcessId() {
+        return processId;
+    }
+
+    /**
+     * The response to a {@link DataFlowStartMessage}, null for other messages or if the message failed.
+     */
+    @Nullable
+    public DataFlowResponseMessage getResponse() {
+        return response;
+    }
+
+    /**
+     * The reason why the message failed, null if it succeeded.
+     */
+    @Nullable
+    public String getError() {
+        return error;
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+
+    public static class Builder {
+
+        private final DataFlowBatchResult result;
+
+        private Builder() {
+            result = new DataFlowBatchResult();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder processId(String processId) {
+            result.processId = processId;
+            return this;
+        }
+
+        public Builder response(DataFlowResponseMessage response) {
+            result.response = response;
+            return this;
+        }
+
+        public Builder error(String error) {
+            result.error = error;
+            return this;
+        }
+
+        public DataFlowBatchResult build() {
+            return result;
+        }
+    }
+}
@@ -27,7 +27,9 @@ public class DataFlowTerminateMessage {
     public static final String DATA_FLOW_TERMINATE_MESSAGE_SIMPLE_TYPE = "DataFlowTerminateMessage";
     public static final String DATA_FLOW_TERMINATE_MESSAGE_TYPE = EDC_NAMESPACE + DATA_FLOW_TERMINATE_MESSAGE_SIMPLE_TYPE;
     public static final String DATA_FLOW_TERMINATE_MESSAGE_REASON = EDC_NAMESPACE + "reason";
+    public static final String DATA_FLOW_TERMINATE_MESSAGE_PROCESS_ID = EDC_NAMESPACE + "processId";
     private String reason;
+    private String processId;
 
     private DataFlowTerminateMessage() {
 
@@ -37,6 +39,14 @@ public class DataFlowTerminateMessage {
         return reason;
     }
 
+    /**
+     * The id of the process to be terminated, only needed when the message is sent in a batch, otherwise the process is
+     * identified by the request path.
+     */
+    public String getProcessId() {
+        return processId;
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
         private final DataFlowTerminateMessage message;
@@ -59,6 +69,11 @@ public class DataFlowTerminateMessage {
             return this;
         }
 
+        public DataFlowTerminateMessage.Builder processId(String processId) {
+            message.processId = processId;
+            return this;
+        }
+
         public DataFlowTerminateMessage build() {
 
             return message;
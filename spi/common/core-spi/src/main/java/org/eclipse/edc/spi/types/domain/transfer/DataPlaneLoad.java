@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.types.domain.transfer;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Load of a data plane, as reported by its availability check and used by the control plane to select the data plane
+ * of a new transfer.
+ *
+ * @param activeFlows    the number of data flows that are currently being transferred.
+ * @param bytesPerSecond the recent throughput of the data plane.
+ * @param freeCapacity   the number of transfer tasks that can be started right away without being queued.
+ */
+public record DataPlaneLoad(int activeFlows, long bytesPerSecond, int freeCapacity) {
+
+    public static final String DATA_PLANE_LOAD_TYPE = EDC_NAMESPACE + "DataPlaneLoad";
+    public static final String ACTIVE_FLOWS = EDC_NAMESPACE + "activeFlows";
+    public static final String BYTES_PER_SECOND = EDC_NAMESPACE + "bytesPerSecond";
+    public static final String FREE_CAPACITY = EDC_NAMESPACE + "freeCapacity";
+
+}
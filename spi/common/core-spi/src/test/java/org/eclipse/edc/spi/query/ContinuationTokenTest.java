@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContinuationTokenTest {
+
+    @Test
+    void shouldEncodeAndDecode() {
+        var tokens = List.of(ContinuationToken.of("field", SortOrder.ASC, "value", "id"), ContinuationToken.of("field", SortOrder.DESC, 3, "id"),
+                ContinuationToken.of("field", SortOrder.ASC, 4L, "id"), ContinuationToken.of("field", SortOrder.ASC, null, "id"),
+                ContinuationToken.of(null, SortOrder.DESC, null, "id"));
+
+        assertThat(tokens).allSatisfy(token -> assertThat(ContinuationToken.decode(token.encode())).isEqualTo(token));
+    }
+
+    @Test
+    void shouldNotAcceptUnsupportedSortValue() {
+        assertThatThrownBy(() -> ContinuationToken.of("field", SortOrder.ASC, 1.5d, "id")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "not base 64 !", "dGVzdA", "WDEAaWQ", "TGFiYwBpZA" })
+    void shouldNotDecodeInvalidToken(String token) {
+        assertThatThrownBy(() -> ContinuationToken.decode(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void next_shouldReturnNull_whenPageIsNotFull() {
+        var querySpec = QuerySpec.Builder.newInstance().limit(3).continuationToken("").build();
+
+        var next = ContinuationToken.next(querySpec, List.of("a", "b"), Function.identity(), Function.identity());
+
+        assertThat(next).isNull();
+    }
+
+    @Test
+    void next_shouldPointToLastEntity() {
+        var querySpec = QuerySpec.Builder.newInstance().limit(2).sortField("field").continuationToken("").build();
+
+        var next = ContinuationToken.next(querySpec, List.of("a", "b"), Function.identity(), it -> it + "-value");
+
+        assertThat(ContinuationToken.decode(next)).isEqualTo(ContinuationToken.of("field", SortOrder.ASC, "b-value", "b"));
+    }
+
+    @Test
+    void matches_shouldVerifySortFieldAndOrder() {
+        var token = ContinuationToken.of("field", SortOrder.DESC, "value", "id");
+
+        assertThat(token.matches(QuerySpec.Builder.newInstance().sortField("field").sortOrder(SortOrder.DESC).build())).isTrue();
+        assertThat(token.matches(QuerySpec.Builder.newInstance().sortField("field").sortOrder(SortOrder.ASC).build())).isFalse();
+        assertThat(token.matches(QuerySpec.Builder.newInstance().sortField("other").sortOrder(SortOrder.DESC).build())).isFalse();
+    }
+
+    @Test
+    void compare_shouldPutNullSortValuesLast() {
+        assertThat(ContinuationToken.compare(SortOrder.ASC, null, "a", "value", "b")).isPositive();
+        assertThat(ContinuationToken.compare(SortOrder.DESC, null, "a", "value", "b")).isPositive();
+        assertThat(ContinuationToken.compare(SortOrder.ASC, null, "a", null, "b")).isNegative();
+        assertThat(ContinuationToken.compare(SortOrder.DESC, null, "a", null, "b")).isPositive();
+    }
+
+    @Test
+    void compare_shouldNotFail_whenSortValuesHaveDifferentTypes() {
+        assertThat(ContinuationToken.compare(SortOrder.ASC, 3, "a", 4L, "b")).isNegative();
+        assertThat(ContinuationToken.compare(SortOrder.ASC, 10, "a", "9", "b")).isNegative();
+        assertThat(ContinuationToken.compare(SortOrder.ASC, "value", "a", 1L, "b")).isPositive();
+        assertThat(ContinuationToken.compare(SortOrder.ASC, 1.5d, "a", "1.5", "b")).isNegative();
+    }
+}
@@ -29,6 +29,23 @@ class QuerySpecTest {
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(-10).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(0).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(-10).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(10).continuationToken("").build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().continuationToken("invalid").build()).isInstanceOf(IllegalArgumentException.class);
+        var token = ContinuationToken.of("field", SortOrder.ASC, "value", "id").encode();
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().sortField("other").continuationToken(token).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().sortField("field").sortOrder(SortOrder.DESC).continuationToken(token).build()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifyKeysetPagination() {
+        var token = ContinuationToken.of("field", SortOrder.ASC, 5L, "id").encode();
+
+        var spec = QuerySpec.Builder.newInstance().sortField("field").continuationToken(token).build();
+
+        assertThat(spec.isKeysetPagination()).isTrue();
+        assertThat(spec.getContinuationPosition()).isEqualTo(ContinuationToken.of("field", SortOrder.ASC, 5L, "id"));
+        assertThat(QuerySpec.Builder.newInstance().continuationToken("").build().getContinuationPosition()).isNull();
+        assertThat(QuerySpec.none().isKeysetPagination()).isFalse();
     }
 
     @Test
@@ -31,4 +31,14 @@ public interface HttpDataAddressSchema {
      */
     String BASE_URL = EDC_NAMESPACE + "baseUrl";
 
+    /**
+     * Size in bytes of the parts of a ranged download
+     */
+    String RANGE_PART_SIZE = EDC_NAMESPACE + "rangePartSize";
+
+    /**
+     * Maximum number of parts of a ranged download fetched concurrently
+     */
+    String RANGE_CONCURRENCY = EDC_NAMESPACE + "rangeConcurrency";
+
 }
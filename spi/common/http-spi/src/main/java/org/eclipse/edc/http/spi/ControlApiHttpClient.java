@@ -17,6 +17,8 @@ package org.eclipse.edc.http.spi;
 import okhttp3.Request;
 import org.eclipse.edc.spi.result.ServiceResult;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Http client that provides a way to communicate over the "control" api
  */
@@ -38,4 +40,15 @@ public interface ControlApiHttpClient {
      */
     ServiceResult<String> request(Request.Builder requestBuilder);
 
+    /**
+     * Execute a http request asynchronously and return the response body, without blocking the calling thread.
+     * Cancelling the returned future cancels the http call.
+     *
+     * @param requestBuilder the request builder.
+     * @return a future that completes with the service result.
+     */
+    default CompletableFuture<ServiceResult<String>> requestAsync(Request.Builder requestBuilder) {
+        return CompletableFuture.completedFuture(request(requestBuilder));
+    }
+
 }
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.spi.stream;
+
+import jakarta.json.JsonObject;
+
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Response entity that gets written as newline delimited JSON (NDJSON), one object at a time, without collecting all
+ * the objects in memory.
+ * The source pushes the objects to the consumer it receives, this way it can keep the resources it needs (e.g. a
+ * database transaction) open until the whole response has been written.
+ */
+public class JsonObjectStream {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private final Consumer<Consumer<JsonObject>> source;
+
+    public JsonObjectStream(Consumer<Consumer<JsonObject>> source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns a new stream that applies the mapper to every object.
+     *
+     * @param mapper the mapper.
+     * @return the mapped stream.
+     */
+    public JsonObjectStream map(UnaryOperator<JsonObject> mapper) {
+        return new JsonObjectStream(consumer -> source.accept(object -> consumer.accept(mapper.apply(object))));
+    }
+
+    /**
+     * Pull all the objects from the source and pass them to the consumer.
+     *
+     * @param consumer the consumer.
+     */
+    public void forEach(Consumer<JsonObject> consumer) {
+        source.accept(consumer);
+    }
+}
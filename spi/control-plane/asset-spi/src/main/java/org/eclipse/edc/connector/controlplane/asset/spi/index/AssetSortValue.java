@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.asset.spi.index;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the value an {@link AssetIndex} sorts an {@link Asset} by, so that the sort value stored in a
+ * continuation token matches the one the index compares against. Mirrors the field translation of the asset
+ * stores: {@code id} and {@code createdAt} map to the entity fields, {@code properties.<path>} and
+ * {@code privateProperties.<path>} walk the (nested) property maps, and any other field is looked up as a
+ * property key, falling back to the private properties.
+ */
+public final class AssetSortValue {
+
+    private static final String PROPERTIES = "properties";
+    private static final String PRIVATE_PROPERTIES = "privateProperties";
+
+    private AssetSortValue() {
+    }
+
+    /**
+     * Returns the sort value of the asset for the given sort field.
+     *
+     * @param asset     the asset.
+     * @param sortField the sort field, may be null.
+     * @return the sort value, null if the field is null or the asset has no value for it.
+     */
+    public static Object of(Asset asset, String sortField) {
+        if (sortField == null) {
+            return null;
+        }
+        switch (sortField) {
+            case "id":
+                return asset.getId();
+            case "createdAt":
+                return asset.getCreatedAt();
+            default:
+                break;
+        }
+
+        var path = split(sortField);
+        if (path.size() > 1 && PROPERTIES.equals(path.get(0))) {
+            return walk(asset.getProperties(), path.subList(1, path.size()));
+        }
+        if (path.size() > 1 && PRIVATE_PROPERTIES.equals(path.get(0))) {
+            return walk(asset.getPrivateProperties(), path.subList(1, path.size()));
+        }
+        if (sortField.contains("'")) {
+            return walk(asset.getProperties(), path);
+        }
+        return asset.getPropertyOrPrivate(sortField);
+    }
+
+    private static Object walk(Map<String, Object> map, List<String> path) {
+        Object current = map;
+        for (var segment : path) {
+            if (!(current instanceof Map<?, ?> nested)) {
+                return null;
+            }
+            current = nested.get(segment);
+        }
+        return current;
+    }
+
+    /**
+     * Splits the field on the dots that are not enclosed in single quotes, and removes the quotes.
+     */
+    private static List<String> split(String field) {
+        var segments = new ArrayList<String>();
+        var current = new StringBuilder();
+        var quoted = false;
+        for (var c : field.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == '.' && !quoted) {
+                segments.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        segments.add(current.toString());
+        return segments;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.asset.spi.index;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetSortValueTest {
+
+    private final Asset asset = Asset.Builder.newInstance()
+            .id("asset-id")
+            .createdAt(1234L)
+            .property("key", "value")
+            .property("https://w3id.org/edc/v0.0.1/ns/name", "name")
+            .property("nested", Map.of("inner", "nested-value"))
+            .privateProperty("private", "private-value")
+            .build();
+
+    @Test
+    void shouldReturnEntityFields() {
+        assertThat(AssetSortValue.of(asset, "id")).isEqualTo("asset-id");
+        assertThat(AssetSortValue.of(asset, "createdAt")).isEqualTo(1234L);
+    }
+
+    @Test
+    void shouldWalkPropertyPaths() {
+        assertThat(AssetSortValue.of(asset, "properties.key")).isEqualTo("value");
+        assertThat(AssetSortValue.of(asset, "properties.nested.inner")).isEqualTo("nested-value");
+        assertThat(AssetSortValue.of(asset, "properties.'https://w3id.org/edc/v0.0.1/ns/name'")).isEqualTo("name");
+        assertThat(AssetSortValue.of(asset, "privateProperties.private")).isEqualTo("private-value");
+        assertThat(AssetSortValue.of(asset, "properties.key.missing")).isNull();
+    }
+
+    @Test
+    void shouldLookUpBareFieldInPropertiesThenPrivateProperties() {
+        assertThat(AssetSortValue.of(asset, "key")).isEqualTo("value");
+        assertThat(AssetSortValue.of(asset, "https://w3id.org/edc/v0.0.1/ns/name")).isEqualTo("name");
+        assertThat(AssetSortValue.of(asset, "private")).isEqualTo("private-value");
+        assertThat(AssetSortValue.of(asset, null)).isNull();
+    }
+}
@@ -19,6 +19,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.assertj.core.api.Assertions;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetSortValue;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -28,8 +30,11 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -415,6 +420,59 @@ public abstract class AssetIndexTestBase {
             assertThat(result).usingRecursiveFieldByFieldElementComparator().containsAll(assets);
         }
 
+        @Test
+        void withKeysetPagination() {
+            range(0, 10)
+                    .mapToObj(i -> createAsset(i % 2 == 0 ? "even" : "odd", "id" + i))
+                    .forEach(a -> getAssetIndex().create(a));
+
+            var result = new ArrayList<Asset>();
+            var token = "";
+            while (token != null) {
+                var spec = QuerySpec.Builder.newInstance()
+                        .sortField(Asset.PROPERTY_NAME)
+                        .sortOrder(SortOrder.DESC)
+                        .continuationToken(token)
+                        .limit(3)
+                        .build();
+                var page = getAssetIndex().queryAssets(spec).toList();
+                result.addAll(page);
+                token = ContinuationToken.next(spec, page, Asset::getId, Asset::getName);
+            }
+
+            assertThat(result).extracting(Asset::getId)
+                    .containsExactly("id9", "id7", "id5", "id3", "id1", "id8", "id6", "id4", "id2", "id0");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "id", "createdAt", "properties.rank", "privateProperties.rank", "rank" })
+        void withKeysetPagination_shouldPageThroughAllAssets(String sortField) {
+            range(0, 10)
+                    .mapToObj(i -> createAssetBuilder("id" + i)
+                            .createdAt(1000L + i)
+                            .property("rank", "rank" + i)
+                            .privateProperty("rank", "rank" + i)
+                            .build())
+                    .forEach(a -> getAssetIndex().create(a));
+
+            var result = new ArrayList<Asset>();
+            var token = "";
+            while (token != null) {
+                var spec = QuerySpec.Builder.newInstance()
+                        .sortField(sortField)
+                        .sortOrder(SortOrder.DESC)
+                        .continuationToken(token)
+                        .limit(3)
+                        .build();
+                var page = getAssetIndex().queryAssets(spec).toList();
+                result.addAll(page);
+                token = ContinuationToken.next(spec, page, Asset::getId, asset -> AssetSortValue.of(asset, sortField));
+            }
+
+            assertThat(result).extracting(Asset::getId)
+                    .containsExactly("id9", "id8", "id7", "id6", "id5", "id4", "id3", "id2", "id1", "id0");
+        }
+
         @Test
         void shouldFilter_whenLikeOperator() {
             var asset1 = getAsset("id1");
@@ -19,6 +19,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface AssetService {
 
@@ -38,6 +39,25 @@ public interface AssetService {
      */
     ServiceResult<List<Asset>> search(QuerySpec query);
 
+    /**
+     * Validate the query the same way {@link #search(QuerySpec)} and {@link #forEach(QuerySpec, Consumer)} do, so that
+     * an invalid query can be reported before starting to stream the results.
+     *
+     * @param query the query
+     * @return successful result if the query is valid, failure otherwise
+     */
+    ServiceResult<Void> validateQuery(QuerySpec query);
+
+    /**
+     * Pass the assets that match the query to the consumer one by one, as they are read from the store, without
+     * collecting them in memory. The consumer is called within a single transaction.
+     *
+     * @param query    the query
+     * @param consumer the consumer
+     * @return successful result if the query is valid, failure otherwise
+     */
+    ServiceResult<Void> forEach(QuerySpec query, Consumer<Asset> consumer);
+
     /**
      * Create an asset
      *
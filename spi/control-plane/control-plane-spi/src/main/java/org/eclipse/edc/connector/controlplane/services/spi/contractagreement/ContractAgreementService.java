@@ -20,6 +20,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service that permits actions and queries on ContractAgreement entity.
@@ -42,6 +43,25 @@ public interface ContractAgreementService {
      */
     ServiceResult<List<ContractAgreement>> search(QuerySpec query);
 
+    /**
+     * Validate the query the same way {@link #search(QuerySpec)} and {@link #forEach(QuerySpec, Consumer)} do, so that
+     * an invalid query can be reported before starting to stream the results.
+     *
+     * @param query the query
+     * @return successful result if the query is valid, failure otherwise
+     */
+    ServiceResult<Void> validateQuery(QuerySpec query);
+
+    /**
+     * Pass the contract agreements that match the query to the consumer one by one, as they are read from the store, without
+     * collecting them in memory. The consumer is called within a single transaction.
+     *
+     * @param query    the query
+     * @param consumer the consumer
+     * @return successful result if the query is valid, failure otherwise
+     */
+    ServiceResult<Void> forEach(QuerySpec query, Consumer<ContractAgreement> consumer);
+
     /**
      * Returns a contract negotiation by the agreement id.
      *
@@ -28,6 +28,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Mediates access to and modification of {@link TransferProcess}es.
@@ -51,6 +52,25 @@ public interface TransferProcessService {
      */
     ServiceResult<List<TransferProcess>> search(QuerySpec query);
 
+    /**
+     * Validate the query the same way {@link #search(QuerySpec)} and {@link #forEach(QuerySpec, Consumer)} do, so that
+     * an invalid query can be reported before starting to stream the results.
+     *
+     * @param query the query
+     * @return successful result if the query is valid, failure otherwise
+     */
+    ServiceResult<Void> validateQuery(QuerySpec query);
+
+    /**
+     * Pass the transfer processes that match the query to the consumer one by one, as they are read from the store, without
+     * collecting them in memory. The consumer is called within a single transaction.
+     *
+     * @param query    the query
+     * @param consumer the consumer
+     * @return successful result if the query is valid, failure otherwise
+     */
+    ServiceResult<Void> forEach(QuerySpec query, Consumer<TransferProcess> consumer);
+
     /**
      * Returns the state of a transferProcess by its id.
      *
@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Handles a data flow.
@@ -65,6 +66,37 @@ public interface DataFlowController {
      */
     StatusResult<Void> terminate(TransferProcess transferProcess);
 
+    /**
+     * Initiate a data flow without blocking the calling thread, see {@link #start(TransferProcess, Policy)}.
+     *
+     * @param transferProcess the transfer process
+     * @param policy          the contract agreement usage policy for the asset being transferred
+     * @return a future that completes with the start result.
+     */
+    default CompletableFuture<StatusResult<DataFlowResponse>> startAsync(TransferProcess transferProcess, Policy policy) {
+        return CompletableFuture.completedFuture(start(transferProcess, policy));
+    }
+
+    /**
+     * Suspend a data flow without blocking the calling thread.
+     *
+     * @param transferProcess the transfer process.
+     * @return a future that completes with success if the flow is suspended correctly, failure otherwise;
+     */
+    default CompletableFuture<StatusResult<Void>> suspendAsync(TransferProcess transferProcess) {
+        return CompletableFuture.completedFuture(suspend(transferProcess));
+    }
+
+    /**
+     * Terminate a data flow without blocking the calling thread.
+     *
+     * @param transferProcess the transfer process.
+     * @return a future that completes with success if the flow is terminated correctly, failure otherwise;
+     */
+    default CompletableFuture<StatusResult<Void>> terminateAsync(TransferProcess transferProcess) {
+        return CompletableFuture.completedFuture(terminate(transferProcess));
+    }
+
     /**
      * Returns transfer types that the controller can handle for the specified Asset.
      *
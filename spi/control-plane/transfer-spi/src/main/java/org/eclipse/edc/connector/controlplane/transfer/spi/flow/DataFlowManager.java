@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manages data flows and dispatches to {@link DataFlowController}s.
@@ -73,6 +74,37 @@ public interface DataFlowManager {
     @NotNull
     StatusResult<Void> suspend(TransferProcess transferProcess);
 
+    /**
+     * Initiates a data flow without blocking the calling thread.
+     *
+     * @param transferProcess the transfer process
+     * @param policy          the contract agreement usage policy for the asset being transferred
+     * @return a future that completes with a succeeded StatusResult if flow has been initiated correctly, failed one otherwise.
+     */
+    default CompletableFuture<StatusResult<DataFlowResponse>> startAsync(TransferProcess transferProcess, Policy policy) {
+        return CompletableFuture.completedFuture(start(transferProcess, policy));
+    }
+
+    /**
+     * Terminates a data flow without blocking the calling thread.
+     *
+     * @param transferProcess the transfer process.
+     * @return a future that completes with success if the flow has been stopped correctly, failed otherwise.
+     */
+    default CompletableFuture<StatusResult<Void>> terminateAsync(TransferProcess transferProcess) {
+        return CompletableFuture.completedFuture(terminate(transferProcess));
+    }
+
+    /**
+     * Suspend a transfer without blocking the calling thread.
+     *
+     * @param transferProcess the transfer process.
+     * @return a future that completes with success if the transfer has been suspended correctly, failed otherwise.
+     */
+    default CompletableFuture<StatusResult<Void>> suspendAsync(TransferProcess transferProcess) {
+        return CompletableFuture.completedFuture(suspend(transferProcess));
+    }
+
     /**
      * Returns the transfer types available for a specific asset.
      *
@@ -22,6 +22,8 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Main interaction interface for an EDC runtime (=control plane) to communicate with the DPF selector.
@@ -46,6 +48,21 @@ public interface DataPlaneSelectorService {
      */
     ServiceResult<DataPlaneInstance> select(DataAddress source, String transferType, @Nullable String selectionStrategy);
 
+    /**
+     * Select the {@link DataPlaneInstance} that can handle the source and the transferType using the passed strategy,
+     * without blocking the calling thread. The default implementation runs {@link #select} on the given executor.
+     *
+     * @param source            the source.
+     * @param transferType      the transfer type.
+     * @param selectionStrategy the selection strategy.
+     * @param executor          the executor on which blocking work can be run.
+     * @return a future that completes with the DataPlaneInstance.
+     */
+    default CompletableFuture<ServiceResult<DataPlaneInstance>> selectAsync(DataAddress source, String transferType, @Nullable String selectionStrategy,
+                                                                            Executor executor) {
+        return CompletableFuture.supplyAsync(() -> select(source, transferType, selectionStrategy), executor);
+    }
+
     /**
      * Add a data plane instance
      */
@@ -75,4 +92,16 @@ public interface DataPlaneSelectorService {
      */
     ServiceResult<DataPlaneInstance> findById(String id);
 
+    /**
+     * Find a Data Plane instance by id, without blocking the calling thread. The default implementation runs
+     * {@link #findById} on the given executor.
+     *
+     * @param id       the id.
+     * @param executor the executor on which blocking work can be run.
+     * @return a future that completes with the {@link DataPlaneInstance} if operation is successful, failure otherwise.
+     */
+    default CompletableFuture<ServiceResult<DataPlaneInstance>> findByIdAsync(String id, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> findById(id), executor);
+    }
+
 }
@@ -18,6 +18,10 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Main interaction interface for an EDC runtime (=control plane) to communicate with the DPF.
@@ -52,4 +56,58 @@ public interface DataPlaneClient {
      * @return success if available, failure if not available.
      */
     StatusResult<Void> checkAvailability();
+
+    /**
+     * Check Data Plane availability to accept new transfer flows, and get its current load.
+     *
+     * @return success if available, containing the load or null if the data plane doesn't report it, failure if not available.
+     */
+    default StatusResult<DataPlaneLoad> checkLoad() {
+        var availability = checkAvailability();
+        if (availability.failed()) {
+            return availability.mapFailure();
+        }
+        return StatusResult.success(null);
+    }
+
+    /**
+     * Check Data Plane availability and load, without blocking the calling thread. Cancelling the returned future stops
+     * the check if it is still running. The default implementation runs {@link #checkLoad()} on the given executor.
+     *
+     * @param executor the executor on which blocking work can be run.
+     * @return a future that completes with the result of the check.
+     */
+    default CompletableFuture<StatusResult<DataPlaneLoad>> checkLoadAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::checkLoad, executor);
+    }
+
+    /**
+     * Delegates data transfer to the Data Plane, without blocking the calling thread.
+     *
+     * @param request the start message.
+     * @return a future that completes with the start result.
+     */
+    default CompletableFuture<StatusResult<DataFlowResponseMessage>> startAsync(DataFlowStartMessage request) {
+        return CompletableFuture.completedFuture(start(request));
+    }
+
+    /**
+     * Suspend the transfer, without blocking the calling thread.
+     *
+     * @param transferProcessId the transfer process id.
+     * @return a future that completes with success if the transfer has been suspended, failure otherwise.
+     */
+    default CompletableFuture<StatusResult<Void>> suspendAsync(String transferProcessId) {
+        return CompletableFuture.completedFuture(suspend(transferProcessId));
+    }
+
+    /**
+     * Terminate the transfer, without blocking the calling thread.
+     *
+     * @param transferProcessId the transfer process id.
+     * @return a future that completes with success if the transfer has been terminated, failure otherwise.
+     */
+    default CompletableFuture<StatusResult<Void>> terminateAsync(String transferProcessId) {
+        return CompletableFuture.completedFuture(terminate(transferProcessId));
+    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstan
 import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.result.StoreResult;
 
+import java.util.Collection;
 import java.util.stream.Stream;
 
 /**
@@ -36,4 +37,14 @@ public interface DataPlaneInstanceStore extends StateEntityStore<DataPlaneInstan
 
     Stream<DataPlaneInstance> getAll();
 
+    /**
+     * Save a group of data plane instances, releasing their leases. Implementations can override it to save them in a
+     * single round-trip.
+     *
+     * @param instances the data plane instances.
+     */
+    default void saveAll(Collection<DataPlaneInstance> instances) {
+        instances.forEach(this::save);
+    }
+
 }
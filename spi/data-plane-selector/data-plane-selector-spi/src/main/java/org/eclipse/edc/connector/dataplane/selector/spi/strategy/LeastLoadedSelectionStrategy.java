@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the {@link DataPlaneInstance} with the lowest load reported at its last availability check: fewest active
+ * flows first, then most free capacity, then lowest throughput.
+ * Ties are resolved at random, and instances that don't report their load are considered as good as the least loaded
+ * one.
+ */
+public class LeastLoadedSelectionStrategy implements SelectionStrategy {
+
+    /**
+     * Orders loads from the lowest to the highest.
+     */
+    public static final Comparator<DataPlaneLoad> LOAD_ORDER = Comparator.comparingInt(DataPlaneLoad::activeFlows)
+            .thenComparing(Comparator.comparingInt(DataPlaneLoad::freeCapacity).reversed())
+            .thenComparingLong(DataPlaneLoad::bytesPerSecond);
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        DataPlaneLoad lowest = null;
+        for (var instance : instances) {
+            var load = instance.getLoad();
+            if (load != null && (lowest == null || LOAD_ORDER.compare(load, lowest) < 0)) {
+                lowest = load;
+            }
+        }
+
+        var best = lowest;
+        var candidates = instances.stream()
+                .filter(it -> it.getLoad() == null || LOAD_ORDER.compare(it.getLoad(), best) == 0)
+                .toList();
+        return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+    }
+
+    @Override
+    public String getName() {
+        return "least-loaded";
+    }
+}
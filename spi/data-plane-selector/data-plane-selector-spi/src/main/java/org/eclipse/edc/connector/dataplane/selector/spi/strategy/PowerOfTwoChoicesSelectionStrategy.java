@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.eclipse.edc.connector.dataplane.selector.spi.strategy.LeastLoadedSelectionStrategy.LOAD_ORDER;
+
+/**
+ * Picks two {@link DataPlaneInstance}s at random and selects the less loaded of them, see
+ * {@link LeastLoadedSelectionStrategy#LOAD_ORDER}. Compared to always selecting the least loaded instance, it doesn't
+ * send all the transfers to the same instance until the next availability check updates the reported loads.
+ * If any of the two instances doesn't report its load, the first one is selected.
+ */
+public class PowerOfTwoChoicesSelectionStrategy implements SelectionStrategy {
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+        if (instances.size() == 1) {
+            return instances.get(0);
+        }
+
+        var random = ThreadLocalRandom.current();
+        var firstIndex = random.nextInt(instances.size());
+        var secondIndex = random.nextInt(instances.size() - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+
+        var first = instances.get(firstIndex);
+        var second = instances.get(secondIndex);
+        if (first.getLoad() == null || second.getLoad() == null) {
+            return first;
+        }
+        return LOAD_ORDER.compare(second.getLoad(), first.getLoad()) < 0 ? second : first;
+    }
+
+    @Override
+    public String getName() {
+        return "power-of-two-choices";
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeastLoadedSelectionStrategyTest {
+
+    private final LeastLoadedSelectionStrategy strategy = new LeastLoadedSelectionStrategy();
+
+    @Test
+    void shouldReturnNull_whenNoInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void shouldSelectInstanceWithFewestActiveFlows() {
+        var busy = instance(new DataPlaneLoad(10, 0, 10));
+        var idle = instance(new DataPlaneLoad(1, 0, 0));
+
+        assertThat(strategy.apply(List.of(busy, idle))).isSameAs(idle);
+    }
+
+    @Test
+    void shouldSelectInstanceWithMoreFreeCapacity_whenActiveFlowsAreEqual() {
+        var saturated = instance(new DataPlaneLoad(2, 0, 0));
+        var free = instance(new DataPlaneLoad(2, 0, 5));
+
+        assertThat(strategy.apply(List.of(saturated, free))).isSameAs(free);
+    }
+
+    @Test
+    void shouldSelectInstanceWithLowerThroughput_whenFlowsAndCapacityAreEqual() {
+        var fast = instance(new DataPlaneLoad(2, 1000, 5));
+        var slow = instance(new DataPlaneLoad(2, 10, 5));
+
+        assertThat(strategy.apply(List.of(fast, slow))).isSameAs(slow);
+    }
+
+    @RepeatedTest(100)
+    void shouldConsiderInstancesWithoutLoad_asGoodAsLeastLoaded() {
+        var busy = instance(new DataPlaneLoad(10, 0, 0));
+        var idle = instance(new DataPlaneLoad(0, 0, 5));
+        var unknown = instance(null);
+
+        assertThat(strategy.apply(List.of(busy, idle, unknown))).isIn(idle, unknown);
+    }
+
+    private DataPlaneInstance instance(DataPlaneLoad load) {
+        return DataPlaneInstance.Builder.newInstance().url("http://any").load(load).build();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PowerOfTwoChoicesSelectionStrategyTest {
+
+    private final PowerOfTwoChoicesSelectionStrategy strategy = new PowerOfTwoChoicesSelectionStrategy();
+
+    @Test
+    void shouldReturnNull_whenNoInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void shouldReturnSingleInstance() {
+        var instance = instance(new DataPlaneLoad(10, 0, 0));
+
+        assertThat(strategy.apply(List.of(instance))).isSameAs(instance);
+    }
+
+    @RepeatedTest(100)
+    void shouldSelectLessLoadedOfTwo() {
+        var busy = instance(new DataPlaneLoad(10, 0, 0));
+        var idle = instance(new DataPlaneLoad(0, 0, 5));
+
+        assertThat(strategy.apply(List.of(busy, idle))).isSameAs(idle);
+    }
+
+    @RepeatedTest(100)
+    void shouldNeverSelectMostLoaded() {
+        var instances = List.of(
+                instance(new DataPlaneLoad(0, 0, 5)),
+                instance(new DataPlaneLoad(1, 0, 5)),
+                instance(new DataPlaneLoad(2, 0, 5)),
+                instance(new DataPlaneLoad(3, 0, 5)));
+
+        assertThat(strategy.apply(instances)).isNotSameAs(instances.get(3));
+    }
+
+    private DataPlaneInstance instance(DataPlaneLoad load) {
+        return DataPlaneInstance.Builder.newInstance().url("http://any").load(load).build();
+    }
+}
@@ -139,6 +139,24 @@ public abstract class DataPlaneInstanceStoreTestBase {
         }
     }
 
+    @Nested
+    class SaveAll {
+
+        @Test
+        void shouldUpdateEntities_andReleaseLeases() {
+            range(0, 3)
+                    .mapToObj(i -> createInstanceBuilder("id-" + i).state(REGISTERED.code()).build())
+                    .forEach(getStore()::save);
+            var leased = getStore().nextNotLeased(3, hasState(REGISTERED.code()));
+            leased.forEach(DataPlaneInstance::transitionToAvailable);
+
+            getStore().saveAll(leased);
+
+            assertThat(leased).extracting(Entity::getId).noneMatch(id -> isLeasedBy(id, CONNECTOR_NAME));
+            assertThat(getStore().nextNotLeased(3, hasState(AVAILABLE.code()))).hasSize(3);
+        }
+    }
+
     @Nested
     class NextNotLeased {
         @Test
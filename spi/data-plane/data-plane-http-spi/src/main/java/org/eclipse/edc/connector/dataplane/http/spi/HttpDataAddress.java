@@ -54,10 +54,15 @@ public class HttpDataAddress extends DataAddress {
     private static final String PROXY_QUERY_PARAMS = "proxyQueryParams";
     @Deprecated(since = "0.12.0")
     private static final String PROXY_METHOD = "proxyMethod";
+    public static final String PROXY_CONDITIONAL_HEADERS = "proxyConditionalHeaders";
     public static final String ADDITIONAL_HEADER = "header:";
     public static final String CONTENT_TYPE = "contentType";
     public static final String OCTET_STREAM = "application/octet-stream";
     public static final String NON_CHUNKED_TRANSFER = "nonChunkedTransfer";
+    public static final String RANGE_PART_SIZE = "rangePartSize";
+    public static final String RANGE_CONCURRENCY = "rangeConcurrency";
+    public static final String RANGE_UPLOAD = "rangeUpload";
+    public static final int DEFAULT_RANGE_CONCURRENCY = 4;
     public static final Set<String> ADDITIONAL_HEADERS_TO_IGNORE = Set.of("content-type");
 
     private HttpDataAddress() {
@@ -129,6 +134,19 @@ public class HttpDataAddress extends DataAddress {
         return getStringProperty(PROXY_METHOD);
     }
 
+    /**
+     * Whether the range and conditional headers of a proxied request ({@code Range}, {@code If-Range},
+     * {@code If-Match}, {@code If-None-Match}, {@code If-Modified-Since}, {@code If-Unmodified-Since}) are passed on to
+     * the source. This requires the asynchronous proxy of the public API, that relays the source response status and
+     * headers: requests for sources that set it are rejected when it is not enabled.
+     *
+     * @return the property value.
+     */
+    @JsonIgnore
+    public String getProxyConditionalHeaders() {
+        return getStringProperty(PROXY_CONDITIONAL_HEADERS);
+    }
+
     @JsonIgnore
     public String getContentType() {
         return getStringProperty(CONTENT_TYPE, OCTET_STREAM);
@@ -149,6 +167,44 @@ public class HttpDataAddress extends DataAddress {
                 .orElse(false);
     }
 
+    /**
+     * Size in bytes of the parts in which a source is downloaded through HTTP Range requests, 0 (default) means that
+     * the source is downloaded with a single request.
+     *
+     * @return the part size.
+     */
+    @JsonIgnore
+    public long getRangePartSize() {
+        return Optional.ofNullable(getStringProperty(RANGE_PART_SIZE))
+                .map(Long::parseLong)
+                .orElse(0L);
+    }
+
+    /**
+     * Maximum number of parts of a source downloaded concurrently through HTTP Range requests.
+     *
+     * @return the concurrency.
+     */
+    @JsonIgnore
+    public int getRangeConcurrency() {
+        return Optional.ofNullable(getStringProperty(RANGE_CONCURRENCY))
+                .map(Integer::parseInt)
+                .orElse(DEFAULT_RANGE_CONCURRENCY);
+    }
+
+    /**
+     * Whether the destination accepts the single parts of a ranged download, identified by the Content-Range header.
+     * If false (default), the parts are reassembled in order and sent with a single request.
+     *
+     * @return true if the destination accepts ranged uploads.
+     */
+    @JsonIgnore
+    public boolean getRangeUpload() {
+        return Optional.ofNullable(getStringProperty(RANGE_UPLOAD))
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public static final class Builder extends DataAddress.Builder<HttpDataAddress, Builder> {
 
@@ -225,6 +281,11 @@ public class HttpDataAddress extends DataAddress {
             return this;
         }
 
+        public Builder proxyConditionalHeaders(String proxyConditionalHeaders) {
+            this.property(PROXY_CONDITIONAL_HEADERS, proxyConditionalHeaders);
+            return this;
+        }
+
         public Builder addAdditionalHeader(String additionalHeaderName, String additionalHeaderValue) {
             if (ADDITIONAL_HEADERS_TO_IGNORE.contains(additionalHeaderName.toLowerCase())) {
                 return this;
@@ -244,6 +305,21 @@ public class HttpDataAddress extends DataAddress {
             return this;
         }
 
+        public Builder rangePartSize(long rangePartSize) {
+            this.property(RANGE_PART_SIZE, String.valueOf(rangePartSize));
+            return this;
+        }
+
+        public Builder rangeConcurrency(int rangeConcurrency) {
+            this.property(RANGE_CONCURRENCY, String.valueOf(rangeConcurrency));
+            return this;
+        }
+
+        public Builder rangeUpload(boolean rangeUpload) {
+            this.property(RANGE_UPLOAD, String.valueOf(rangeUpload));
+            return this;
+        }
+
         public Builder copyFrom(DataAddress other) {
             Optional.ofNullable(other).map(DataAddress::getProperties).orElse(emptyMap()).forEach(this::property);
             return this;
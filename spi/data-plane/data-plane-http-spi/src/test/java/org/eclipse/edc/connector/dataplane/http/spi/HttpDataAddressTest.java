@@ -41,6 +41,7 @@ class HttpDataAddressTest {
                 .nonChunkedTransfer(true)
                 .method("GET")
                 .proxyQueryParams("proxyQueryParams1")
+                .proxyConditionalHeaders("proxyConditionalHeaders1")
                 .build();
 
         assertThat(dataAddress.getType()).isEqualTo("HttpData");
@@ -52,6 +53,7 @@ class HttpDataAddressTest {
         assertThat(dataAddress.getProxyMethod()).isEqualTo("proxyMethod1");
         assertThat(dataAddress.getProxyPath()).isEqualTo("proxyPath1");
         assertThat(dataAddress.getProxyQueryParams()).isEqualTo("proxyQueryParams1");
+        assertThat(dataAddress.getProxyConditionalHeaders()).isEqualTo("proxyConditionalHeaders1");
         assertThat(dataAddress.getSecretName()).isEqualTo("mysecret");
         assertThat(dataAddress.getContentType()).isEqualTo("application/octet-stream");
         assertThat(dataAddress.getMethod()).isEqualTo("GET");
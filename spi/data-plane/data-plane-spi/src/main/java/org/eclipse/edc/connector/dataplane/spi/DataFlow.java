@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.spi;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferSummary;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
@@ -49,6 +50,9 @@ public class DataFlow extends StatefulEntity<DataFlow> {
     private Map<String, String> properties = new HashMap<>();
     private TransferType transferType;
     private String runtimeId;
+    private String participantId;
+    private long checkpoint;
+    private TransferSummary transferSummary;
 
     @Override
     public DataFlow copy() {
@@ -58,7 +62,10 @@ public class DataFlow extends StatefulEntity<DataFlow> {
                 .callbackAddress(callbackAddress)
                 .properties(properties)
                 .transferType(getTransferType())
-                .runtimeId(runtimeId);
+                .runtimeId(runtimeId)
+                .participantId(participantId)
+                .checkpoint(checkpoint)
+                .transferSummary(transferSummary);
 
         return copy(builder);
     }
@@ -92,12 +99,54 @@ public class DataFlow extends StatefulEntity<DataFlow> {
         return runtimeId;
     }
 
+    /**
+     * The id of the participant the data is transferred for, used to share bandwidth between the flows of the same
+     * participant.
+     *
+     * @return the participant id, null if not known.
+     */
+    @Nullable
+    public String getParticipantId() {
+        return participantId;
+    }
+
+    /**
+     * The number of bytes, counted from the beginning of the source, already committed to the destination. A restarted
+     * transfer resumes from here if its source and sink support offsets.
+     *
+     * @return the checkpoint.
+     */
+    public long getCheckpoint() {
+        return checkpoint;
+    }
+
+    public void updateCheckpoint(long checkpoint) {
+        this.checkpoint = checkpoint;
+        setModified();
+    }
+
+    /**
+     * The summary of the data moved by the transfer, available once the transfer ended.
+     *
+     * @return the transfer summary, null if not available.
+     */
+    @Nullable
+    public TransferSummary getTransferSummary() {
+        return transferSummary;
+    }
+
+    public void updateTransferSummary(TransferSummary transferSummary) {
+        this.transferSummary = transferSummary;
+        setModified();
+    }
+
     public DataFlowStartMessage toRequest() {
         return DataFlowStartMessage.Builder.newInstance()
                 .id(getId())
                 .sourceDataAddress(getSource())
                 .destinationDataAddress(getDestination())
                 .processId(getId())
+                .participantId(getParticipantId())
                 .callbackAddress(getCallbackAddress())
                 .traceContext(traceContext)
                 .properties(getProperties())
@@ -195,5 +244,20 @@ public class DataFlow extends StatefulEntity<DataFlow> {
             entity.runtimeId = runtimeId;
             return this;
         }
+
+        public Builder participantId(String participantId) {
+            entity.participantId = participantId;
+            return this;
+        }
+
+        public Builder checkpoint(long checkpoint) {
+            entity.checkpoint = checkpoint;
+            return this;
+        }
+
+        public Builder transferSummary(TransferSummary transferSummary) {
+            entity.transferSummary = transferSummary;
+            return this;
+        }
     }
 }
@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.spi.types.domain.transfer.DataPlaneLoad;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -31,6 +32,7 @@ public interface DataPlaneManager extends StateEntityManager {
 
     long DEFAULT_FLOW_LEASE_TIME = 500;
     int DEFAULT_FLOW_LEASE_FACTOR = 5;
+    long DEFAULT_CHECKPOINT_INTERVAL = 10_000;
 
     /**
      * Determines if the data flow request is valid and can be processed by this runtime.
@@ -83,4 +85,14 @@ public interface DataPlaneManager extends StateEntityManager {
      * @return success if succeeded, failure otherwise.
      */
     StatusResult<Void> restartFlows();
+
+    /**
+     * Returns the current load of this runtime, reported to the control plane by the availability check.
+     *
+     * @return the load, null if it is not known.
+     */
+    @Nullable
+    default DataPlaneLoad getLoad() {
+        return null;
+    }
 }
@@ -27,4 +27,16 @@ public interface DataSink {
      */
     CompletableFuture<StreamResult<Object>> transfer(DataSource source);
 
+    /**
+     * Transfers the data to the sink reporting the committed {@link OffsetPart}s to the checkpoint. Sinks that cannot
+     * report progress ignore it.
+     *
+     * @param source     the source.
+     * @param checkpoint the checkpoint.
+     * @return a future to obtain the result.
+     */
+    default CompletableFuture<StreamResult<Object>> transfer(DataSource source, TransferCheckpoint checkpoint) {
+        return transfer(source);
+    }
+
 }
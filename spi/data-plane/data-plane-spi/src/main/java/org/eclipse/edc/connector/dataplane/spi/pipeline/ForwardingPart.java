@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link DataSource.Part} that wraps another part to observe its content while it is transferred, e.g. to meter or
+ * to throttle it.
+ * <p>
+ * Sinks that need the original part, to read metadata of a specific part type or to use an optimized transfer path,
+ * get it with {@link #unwrap(DataSource.Part)}. The content is still read through {@link #openStream()}, or, when the
+ * sink moves it without reading it, e.g. with a zero-copy transfer, reported chunk by chunk with
+ * {@link #transferring(DataSource.Part, long)}.
+ */
+public abstract class ForwardingPart implements DataSource.Part {
+
+    protected final DataSource.Part part;
+
+    protected ForwardingPart(DataSource.Part part) {
+        this.part = part;
+    }
+
+    /**
+     * Returns the original part, removing all the {@link ForwardingPart}s that wrap it.
+     *
+     * @param part the part.
+     * @return the original part.
+     */
+    public static DataSource.Part unwrap(DataSource.Part part) {
+        var current = part;
+        while (current instanceof ForwardingPart forwarding) {
+            current = forwarding.part;
+        }
+        return current;
+    }
+
+    /**
+     * Reports content of the part that is about to be moved without being read from {@link #openStream()} to all the
+     * {@link ForwardingPart}s that wrap it. It may block, e.g. until the bandwidth allows the transfer.
+     *
+     * @param part  the part.
+     * @param bytes the number of bytes about to be moved.
+     * @throws IOException if the transfer must not go on.
+     */
+    public static void transferring(DataSource.Part part, long bytes) throws IOException {
+        var current = part;
+        while (current instanceof ForwardingPart forwarding) {
+            forwarding.transferring(bytes);
+            current = forwarding.part;
+        }
+    }
+
+    @Override
+    public String name() {
+        return part.name();
+    }
+
+    @Override
+    public long size() {
+        return part.size();
+    }
+
+    @Override
+    public String mediaType() {
+        return part.mediaType();
+    }
+
+    @Override
+    public InputStream openStream() {
+        return decorate(part.openStream());
+    }
+
+    @Override
+    public void close() throws Exception {
+        part.close();
+    }
+
+    /**
+     * Wraps the stream of the forwarded part.
+     *
+     * @param stream the stream.
+     * @return the wrapped stream.
+     */
+    protected abstract InputStream decorate(InputStream stream);
+
+    /**
+     * Observes content of the part moved without being read from {@link #openStream()}.
+     *
+     * @param bytes the number of bytes about to be moved.
+     * @throws IOException if the transfer must not go on.
+     */
+    protected abstract void transferring(long bytes) throws IOException;
+
+}
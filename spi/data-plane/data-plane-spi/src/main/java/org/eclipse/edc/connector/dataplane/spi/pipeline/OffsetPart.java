@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+/**
+ * A {@link DataSource.Part} that contains a slice of a bigger resource, starting at a known offset.
+ * Transfers of sources whose parts have offsets can be resumed from a {@link TransferCheckpoint}. Since the checkpoint
+ * is a single offset, a source must provide offset parts only when all its parts are slices of the same resource.
+ */
+public interface OffsetPart extends DataSource.Part {
+
+    /**
+     * The position of the first byte of the part in the whole resource.
+     *
+     * @return the offset.
+     */
+    long offset();
+
+    /**
+     * The size of the whole resource the part is a slice of, or {@link #SIZE_UNKNOWN} if it cannot be determined.
+     *
+     * @return the total length.
+     */
+    default long totalLength() {
+        return SIZE_UNKNOWN;
+    }
+
+}
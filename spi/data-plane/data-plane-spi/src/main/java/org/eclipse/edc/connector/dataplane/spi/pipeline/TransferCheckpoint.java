@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+/**
+ * Tracks the progress of a transfer: the sink reports the {@link OffsetPart}s it committed to the destination, and a
+ * resumed transfer starts from the recorded offset instead of from the beginning. At the end of the transfer the
+ * pipeline reports the {@link TransferSummary}.
+ */
+public interface TransferCheckpoint {
+
+    /**
+     * Checkpoint of a transfer that has no progress to resume and that doesn't need to be tracked.
+     */
+    TransferCheckpoint NONE = new TransferCheckpoint() {
+        @Override
+        public long offset() {
+            return 0;
+        }
+
+        @Override
+        public void committed(long offset, long length) {
+            // no-op
+        }
+    };
+
+    /**
+     * The number of bytes, counted from the beginning of the resource, that are already committed to the destination.
+     * Parts that end before this offset don't need to be transferred again.
+     *
+     * @return the offset.
+     */
+    long offset();
+
+    /**
+     * Called by the sink when a part has been committed to the destination.
+     *
+     * @param offset the part offset.
+     * @param length the part length.
+     */
+    void committed(long offset, long length);
+
+    /**
+     * Called when the transfer ends, with the summary of the data moved.
+     *
+     * @param summary the transfer summary.
+     */
+    default void completed(TransferSummary summary) {
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Receives the measurements of the transfers executed by the {@link PipelineService}, tagged with the source and the
+ * sink types, e.g. to expose them as metrics.
+ * <p>
+ * The default implementation does not record anything.
+ */
+@ExtensionPoint
+public interface TransferMetrics {
+
+    /**
+     * Implementation that does not record anything.
+     *
+     * @return the {@link TransferMetrics}.
+     */
+    static TransferMetrics noop() {
+        return NoopTransferMetrics.INSTANCE;
+    }
+
+    /**
+     * Called when the content of a part has been read entirely.
+     *
+     * @param sourceType   the source type.
+     * @param sinkType     the sink type.
+     * @param bytes        the part bytes.
+     * @param latencyNanos the nanoseconds elapsed from the part opening to its closing.
+     */
+    default void partTransferred(String sourceType, String sinkType, long bytes, long latencyNanos) {
+    }
+
+    /**
+     * Called when a transfer ends.
+     *
+     * @param sourceType the source type.
+     * @param sinkType   the sink type.
+     * @param summary    the transfer summary.
+     * @param succeeded  whether the transfer succeeded.
+     */
+    default void transferCompleted(String sourceType, String sinkType, TransferSummary summary, boolean succeeded) {
+    }
+
+    final class NoopTransferMetrics implements TransferMetrics {
+        private static final TransferMetrics INSTANCE = new NoopTransferMetrics();
+
+        private NoopTransferMetrics() {
+        }
+    }
+}
@@ -44,6 +44,18 @@ public interface TransferService {
      */
     CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request);
 
+    /**
+     * Transfers data from a source to a destination using the provided data flow request, resuming from the passed
+     * checkpoint and reporting the progress to it. Services that cannot resume transfers ignore it.
+     *
+     * @param request    The data flow request containing the necessary information for the transfer.
+     * @param checkpoint The checkpoint of the transfer.
+     * @return A CompletableFuture wrapping a StreamResult indicating the success or failure of the transfer.
+     */
+    default CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, TransferCheckpoint checkpoint) {
+        return transfer(request);
+    }
+
     /**
      * Transfers data from a source to a destination using the provided data flow request and data sink.
      *
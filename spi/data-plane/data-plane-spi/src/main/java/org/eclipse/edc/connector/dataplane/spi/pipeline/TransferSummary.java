@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+/**
+ * Summary of the data moved by a transfer.
+ *
+ * @param bytes           the number of bytes transferred.
+ * @param parts           the number of parts transferred.
+ * @param timeToFirstByte the milliseconds elapsed from the start of the transfer to the first byte read from the source,
+ *                        -1 if no byte has been read.
+ * @param duration        the duration of the transfer in milliseconds.
+ */
+public record TransferSummary(long bytes, long parts, long timeToFirstByte, long duration) {
+
+    /**
+     * The average throughput of the transfer.
+     *
+     * @return the throughput in bytes per second.
+     */
+    public long throughput() {
+        return duration <= 0 ? bytes * 1000 : bytes * 1000 / duration;
+    }
+}
@@ -45,4 +45,10 @@ public interface DataFlowRequestSchema {
      * The request body.
      */
     String BODY = "body";
+
+    /**
+     * Prefix of the properties that carry the range and conditional headers of the request (e.g. {@code Range},
+     * {@code If-None-Match}), the header name follows the prefix.
+     */
+    String CONDITIONAL_HEADER_PREFIX = "conditionalHeader:";
 }
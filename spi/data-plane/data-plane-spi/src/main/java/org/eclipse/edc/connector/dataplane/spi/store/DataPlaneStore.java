@@ -22,4 +22,14 @@ import org.eclipse.edc.spi.persistence.StateEntityStore;
  */
 public interface DataPlaneStore extends StateEntityStore<DataFlow> {
 
+    /**
+     * Renew the flow lease of all the {@link DataFlow}s in STARTED state that are owned by the passed runtime, by
+     * setting their {@code updatedAt} to the current time. This is a bulk operation, its cost must not depend on the
+     * number of data flows involved.
+     *
+     * @param runtimeId the id of the runtime that owns the flows.
+     * @return the number of renewed flows.
+     */
+    int renewFlowLeases(String runtimeId);
+
 }
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForwardingPartTest {
+
+    private final InputStreamDataSource original = new InputStreamDataSource("part", new ByteArrayInputStream("content".getBytes()));
+
+    @Test
+    void unwrap_shouldReturnOriginalPart() {
+        var wrapped = new RecordingPart(new RecordingPart(original, new ArrayList<>()), new ArrayList<>());
+
+        assertThat(ForwardingPart.unwrap(wrapped)).isSameAs(original);
+        assertThat(ForwardingPart.unwrap(original)).isSameAs(original);
+    }
+
+    @Test
+    void transferring_shouldReportToAllWrappers() throws IOException {
+        var inner = new ArrayList<Long>();
+        var outer = new ArrayList<Long>();
+        var wrapped = new RecordingPart(new RecordingPart(original, inner), outer);
+
+        ForwardingPart.transferring(wrapped, 5);
+        ForwardingPart.transferring(original, 3);
+
+        assertThat(inner).containsExactly(5L);
+        assertThat(outer).containsExactly(5L);
+    }
+
+    @Test
+    void openStream_shouldDecorateStream() throws IOException {
+        var wrapped = new RecordingPart(original, new ArrayList<>());
+
+        try (var stream = wrapped.openStream()) {
+            assertThat(stream.readAllBytes()).isEqualTo("CONTENT".getBytes());
+        }
+    }
+
+    private static class RecordingPart extends ForwardingPart {
+
+        private final List<Long> reported;
+
+        RecordingPart(DataSource.Part part, List<Long> reported) {
+            super(part);
+            this.reported = reported;
+        }
+
+        @Override
+        protected InputStream decorate(InputStream stream) {
+            try (stream) {
+                return new ByteArrayInputStream(new String(stream.readAllBytes()).toUpperCase().getBytes());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        protected void transferring(long bytes) {
+            reported.add(bytes);
+        }
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.spi.testfixtures.store;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferSummary;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.entity.Entity;
 import org.eclipse.edc.spi.entity.MutableEntity;
@@ -95,6 +96,46 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(result).isNotNull();
             assertThat(result.getState()).isEqualTo(COMPLETED.code());
         }
+
+        @Test
+        void shouldUpdateCheckpoint() {
+            var dataFlow = createDataFlow(UUID.randomUUID().toString(), STARTED);
+            getStore().save(dataFlow);
+
+            dataFlow.updateCheckpoint(1024);
+            getStore().save(dataFlow);
+
+            var result = getStore().findById(dataFlow.getId());
+
+            assertThat(result).isNotNull();
+            assertThat(result.getCheckpoint()).isEqualTo(1024);
+        }
+
+        @Test
+        void shouldUpdateTransferSummary() {
+            var dataFlow = createDataFlow(UUID.randomUUID().toString(), STARTED);
+            getStore().save(dataFlow);
+
+            var summary = new TransferSummary(1024, 2, 10, 100);
+            dataFlow.updateTransferSummary(summary);
+            getStore().save(dataFlow);
+
+            var result = getStore().findById(dataFlow.getId());
+
+            assertThat(result).isNotNull();
+            assertThat(result.getTransferSummary()).isEqualTo(summary);
+        }
+
+        @Test
+        void shouldStoreParticipantId() {
+            var dataFlow = createDataFlowBuilder().participantId("participant-id").build();
+            getStore().save(dataFlow);
+
+            var result = getStore().findById(dataFlow.getId());
+
+            assertThat(result).isNotNull();
+            assertThat(result.getParticipantId()).isEqualTo("participant-id");
+        }
     }
 
     @Nested
@@ -257,6 +298,37 @@ public abstract class DataPlaneStoreTestBase {
         }
     }
 
+    @Nested
+    class RenewFlowLeases {
+        @Test
+        void shouldUpdateStartedFlowsOwnedByRuntime() {
+            var owned = createDataFlowBuilder().state(STARTED.code()).runtimeId("runtime").updatedAt(1L).build();
+            var notStarted = createDataFlowBuilder().state(RECEIVED.code()).runtimeId("runtime").updatedAt(1L).build();
+            var ownedByAnother = createDataFlowBuilder().state(STARTED.code()).runtimeId("another").updatedAt(1L).build();
+            getStore().save(owned);
+            getStore().save(notStarted);
+            getStore().save(ownedByAnother);
+
+            var renewed = getStore().renewFlowLeases("runtime");
+
+            assertThat(renewed).isEqualTo(1);
+            assertThat(getStore().findById(owned.getId())).extracting(DataFlow::getUpdatedAt).isNotEqualTo(1L);
+            assertThat(getStore().findById(notStarted.getId())).extracting(DataFlow::getUpdatedAt).isEqualTo(1L);
+            assertThat(getStore().findById(ownedByAnother.getId())).extracting(DataFlow::getUpdatedAt).isEqualTo(1L);
+        }
+
+        @Test
+        void shouldNotChangeLease() {
+            var dataFlow = createDataFlowBuilder().state(STARTED.code()).runtimeId("runtime").build();
+            getStore().save(dataFlow);
+            leaseEntity(dataFlow.getId(), "other owner");
+
+            getStore().renewFlowLeases("runtime");
+
+            assertThat(isLeasedBy(dataFlow.getId(), "other owner")).isTrue();
+        }
+    }
+
     private DataFlow createDataFlow(String id, DataFlowStates state) {
         return createDataFlowBuilder()
                 .id(id).state(state.code())